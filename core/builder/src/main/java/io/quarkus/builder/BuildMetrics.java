@@ -17,6 +17,7 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.jboss.logging.Logger;
 
@@ -33,6 +34,7 @@ public class BuildMetrics {
     private final String buildTargetName;
     private final ConcurrentMap<String, BuildStepRecord> records = new ConcurrentHashMap<>();
     private final ConcurrentMap<String, Integer> buildItems = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> counters = new ConcurrentHashMap<>();
     private final AtomicInteger idGenerator;
 
     public BuildMetrics(String buildTargetName) {
@@ -61,6 +63,23 @@ public void buildItemProduced(BuildItem buildItem) {
         buildItems.compute(buildItem.getClass().getName(), this::itemProduced);
     }
 
+    /**
+     * Adds the given value to a named counter, e.g. the number of cache hits of a build step or the time it saved.
+     * <p>
+     * The counters are dumped together with the build steps and build items.
+     *
+     * @param name the name of the counter
+     * @param value the value to add
+     */
+    public void addToCounter(String name, long value) {
+        counters.computeIfAbsent(name, k -> new LongAdder()).add(value);
+    }
+
+    public long getCounter(String name) {
+        LongAdder counter = counters.get(name);
+        return counter != null ? counter.sum() : 0;
+    }
+
     private Integer itemProduced(String key, Integer val) {
         if (val == null) {
             return 1;
@@ -126,6 +145,14 @@ public int compare(Entry<String, Integer> o1, Entry<String, Integer> o2) {
         }
         json.put("itemsCount", itemsCount);
 
+        List<String> counterNames = new ArrayList<>(counters.keySet());
+        counterNames.sort(null);
+        JsonObjectBuilder countersObject = Json.object();
+        for (String name : counterNames) {
+            countersObject.put(name, counters.get(name).sum());
+        }
+        json.put("counters", countersObject);
+
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(file.toFile(), StandardCharsets.UTF_8))) {
             json.appendTo(writer);
         }
@@ -5,21 +5,28 @@
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.Function;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.jboss.jandex.Index;
-import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Indexer;
 import org.jboss.logging.Logger;
 
 import io.quarkus.bootstrap.classloading.ClassPathElement;
 import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
+import io.quarkus.builder.BuildMetrics;
 import io.quarkus.deployment.ApplicationArchive;
 import io.quarkus.deployment.ApplicationArchiveImpl;
 import io.quarkus.deployment.annotations.BuildProducer;
@@ -30,6 +37,7 @@
 import io.quarkus.deployment.builditem.ApplicationIndexBuildItem;
 import io.quarkus.deployment.builditem.ArchiveRootBuildItem;
 import io.quarkus.deployment.builditem.IndexDependencyBuildItem;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 import io.quarkus.deployment.builditem.QuarkusBuildCloseablesBuildItem;
 import io.quarkus.deployment.configuration.ClassLoadingConfig;
@@ -44,6 +52,7 @@
 import io.quarkus.paths.PathTree;
 import io.quarkus.paths.PathVisit;
 import io.quarkus.paths.PathVisitor;
+import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigDocSection;
 import io.quarkus.runtime.annotations.ConfigItem;
@@ -86,13 +95,23 @@ ApplicationArchivesBuildItem build(
             List<IndexDependencyBuildItem> indexDependencyBuildItems,
             LiveReloadBuildItem liveReloadContext,
             CurateOutcomeBuildItem curateOutcomeBuildItem,
-            ClassLoadingConfig classLoadingConfig) throws IOException {
+            ClassLoadingConfig classLoadingConfig,
+            IndexCacheConfig indexCacheConfig,
+            LaunchModeBuildItem launchMode,
+            ExecutorService buildExecutor,
+            BuildMetrics buildMetrics) throws IOException {
 
         IndexCache indexCache = liveReloadContext.getContextObject(IndexCache.class);
         if (indexCache == null) {
             indexCache = new IndexCache();
             liveReloadContext.setContextObject(IndexCache.class, indexCache);
         }
+        // only for the production builds, the dev mode keeps the indexes of the jars in memory across restarts
+        indexCache.persistentCache = indexCacheConfig.enabled() && launchMode.getLaunchMode() == LaunchMode.NORMAL
+                ? new JarIndexCache(indexCacheConfig.directory()
+                        .orElseGet(() -> Paths.get(System.getProperty("user.home")).resolve(".quarkus/index-cache")),
+                        indexCacheConfig.maxSize().asLongValue(), buildMetrics)
+                : null;
 
         Map<ArtifactKey, Set<String>> removedResources = new HashMap<>();
         for (Map.Entry<String, Set<String>> entry : classLoadingConfig.removedResources.entrySet()) {
@@ -102,9 +121,13 @@ ApplicationArchivesBuildItem build(
         // Add resources removed from the classpath by extensions
         removedResources.putAll(curateOutcomeBuildItem.getApplicationModel().getRemovedResources());
 
-        List<ApplicationArchive> applicationArchives = scanForOtherIndexes(buildCloseables,
-                appMarkers, root, additionalApplicationArchiveBuildItem, indexDependencyBuildItems, indexCache,
-                curateOutcomeBuildItem, removedResources);
+        ApplicationArchives archives = new ApplicationArchives(buildExecutor);
+        scanForOtherIndexes(buildCloseables, appMarkers, root, additionalApplicationArchiveBuildItem,
+                indexDependencyBuildItems, indexCache, archives, curateOutcomeBuildItem, removedResources);
+        List<ApplicationArchive> applicationArchives = archives.get();
+        if (indexCache.persistentCache != null) {
+            indexCache.persistentCache.evict();
+        }
 
         final OpenPathTree tree;
         if (root.getRootDirectories().size() == 1) {
@@ -124,14 +147,13 @@ ApplicationArchivesBuildItem build(
                 applicationArchives);
     }
 
-    private List<ApplicationArchive> scanForOtherIndexes(QuarkusBuildCloseablesBuildItem buildCloseables,
+    private void scanForOtherIndexes(QuarkusBuildCloseablesBuildItem buildCloseables,
             List<AdditionalApplicationArchiveMarkerBuildItem> appMarkers,
             ArchiveRootBuildItem root, List<AdditionalApplicationArchiveBuildItem> additionalApplicationArchives,
-            List<IndexDependencyBuildItem> indexDependencyBuildItem, IndexCache indexCache,
+            List<IndexDependencyBuildItem> indexDependencyBuildItem, IndexCache indexCache, ApplicationArchives appArchives,
             CurateOutcomeBuildItem curateOutcomeBuildItem, Map<ArtifactKey, Set<String>> removedResources)
             throws IOException {
 
-        List<ApplicationArchive> appArchives = new ArrayList<>();
         Set<Path> indexedPaths = new HashSet<>();
 
         //get paths that are included via marker files
@@ -150,17 +172,14 @@ private List<ApplicationArchive> scanForOtherIndexes(QuarkusBuildCloseablesBuild
         for (AdditionalApplicationArchiveBuildItem i : additionalApplicationArchives) {
             for (Path apPath : i.getResolvedPaths()) {
                 if (!root.getResolvedPaths().contains(apPath) && indexedPaths.add(apPath)) {
-                    appArchives.add(createApplicationArchive(buildCloseables, indexCache, apPath, null,
-                            removedResources));
+                    createApplicationArchive(buildCloseables, indexCache, appArchives, apPath, null, removedResources);
                 }
             }
         }
-
-        return appArchives;
     }
 
     private void addIndexDependencyPaths(List<IndexDependencyBuildItem> indexDependencyBuildItems, ArchiveRootBuildItem root,
-            Set<Path> indexedDeps, List<ApplicationArchive> appArchives,
+            Set<Path> indexedDeps, ApplicationArchives appArchives,
             QuarkusBuildCloseablesBuildItem buildCloseables, IndexCache indexCache,
             CurateOutcomeBuildItem curateOutcomeBuildItem,
             Map<ArtifactKey, Set<String>> removedResources) {
@@ -187,8 +206,8 @@ private void addIndexDependencyPaths(List<IndexDependencyBuildItem> indexDepende
                             && !root.getResolvedPaths().contains(path)
                             && indexedDeps.add(path)) {
                         try {
-                            appArchives.add(createApplicationArchive(buildCloseables, indexCache, path, dep,
-                                    removedResources));
+                            createApplicationArchive(buildCloseables, indexCache, appArchives, path, dep,
+                                    removedResources);
                         } catch (IOException e) {
                             throw new UncheckedIOException(e);
                         }
@@ -198,26 +217,25 @@ private void addIndexDependencyPaths(List<IndexDependencyBuildItem> indexDepende
         }
     }
 
-    private static ApplicationArchive createApplicationArchive(QuarkusBuildCloseablesBuildItem buildCloseables,
-            IndexCache indexCache, Path dep, ResolvedDependency resolvedDependency,
+    private static void createApplicationArchive(QuarkusBuildCloseablesBuildItem buildCloseables,
+            IndexCache indexCache, ApplicationArchives appArchives, Path dep, ResolvedDependency resolvedDependency,
             Map<ArtifactKey, Set<String>> removedResources)
             throws IOException {
         LOGGER.debugf("Indexing dependency: %s", dep);
         final Set<String> removed = resolvedDependency != null ? removedResources.get(resolvedDependency.getKey()) : null;
-        final OpenPathTree openTree;
-        final IndexView index;
         if (Files.isDirectory(dep)) {
-            openTree = new DirectoryPathTree(dep);
-            index = indexPathTree(openTree, removed);
+            final OpenPathTree openTree = new DirectoryPathTree(dep);
+            appArchives.submit(
+                    () -> new ApplicationArchiveImpl(indexPathTree(openTree, removed), openTree, resolvedDependency));
         } else {
-            openTree = buildCloseables.add(PathTree.ofArchive(dep).open());
-            index = handleJarPath(dep, indexCache, removed);
+            final OpenPathTree openTree = buildCloseables.add(PathTree.ofArchive(dep).open());
+            appArchives.submit(() -> new ApplicationArchiveImpl(handleJarPath(dep, openTree, indexCache, removed),
+                    openTree, resolvedDependency));
         }
-        return new ApplicationArchiveImpl(index, openTree, resolvedDependency);
     }
 
     private static void addMarkerFilePaths(Set<String> applicationArchiveMarkers,
-            ArchiveRootBuildItem root, Set<Path> indexedPaths, List<ApplicationArchive> appArchives,
+            ArchiveRootBuildItem root, Set<Path> indexedPaths, ApplicationArchives appArchives,
             IndexCache indexCache, Map<ArtifactKey, Set<String>> removed)
             throws IOException {
         final QuarkusClassLoader cl = ((QuarkusClassLoader) Thread.currentThread().getContextClassLoader());
@@ -245,16 +263,13 @@ private static void addMarkerFilePaths(Set<String> applicationArchiveMarkers,
                         if (root.isExcludedFromIndexing(rootPath)) {
                             return null;
                         }
-                        Index index = indexCache.cache.get(rootPath);
-                        if (index == null) {
-                            try {
-                                index = IndexingUtil.indexTree(tree, removed.get(dependencyKey));
-                            } catch (IOException ioe) {
-                                throw new UncheckedIOException(ioe);
-                            }
-                            indexCache.cache.put(rootPath, index);
-                        }
-                        appArchives.add(new ApplicationArchiveImpl(index, tree, cpe.getResolvedDependency()));
+                        final Set<String> removedFromJar = removed.get(dependencyKey);
+                        final boolean providesIndex = tree.contains(IndexingUtil.JANDEX_INDEX);
+                        // the tree may be closed once this function returns, the jar is read directly by the indexing task
+                        appArchives.submit(() -> new ApplicationArchiveImpl(
+                                indexCache.index(rootPath, removedFromJar, providesIndex,
+                                        () -> IndexingUtil.indexJar(rootPath, removedFromJar)),
+                                tree, cpe.getResolvedDependency()));
                         return null;
                     }
 
@@ -302,24 +317,95 @@ public void visitPath(PathVisit visit) {
         return indexer.complete();
     }
 
-    private static Index handleJarPath(Path path, IndexCache indexCache, Set<String> removed) {
-        return indexCache.cache.computeIfAbsent(path, new Function<Path, Index>() {
-            @Override
-            public Index apply(Path path) {
-                try {
-                    return IndexingUtil.indexJar(path, removed);
-                } catch (IOException e) {
-                    throw new RuntimeException("Failed to process " + path, e);
-                }
-            }
-        });
+    private static Index handleJarPath(Path path, OpenPathTree tree, IndexCache indexCache, Set<String> removed) {
+        try {
+            return indexCache.index(path, removed, tree.contains(IndexingUtil.JANDEX_INDEX),
+                    () -> IndexingUtil.indexJar(path, removed));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to process " + path, e);
+        }
     }
 
     /**
      * When running in hot deployment mode we know that java archives will never change, there is no need
      * to re-index them each time. We cache them here to reduce the hot reload time.
+     * <p>
+     * The indexes of the jars are also stored in the persistent cache, if enabled, to reduce the time of the next builds.
      */
     private static final class IndexCache {
-        final Map<Path, Index> cache = new HashMap<>();
+        final Map<Path, Index> cache = new ConcurrentHashMap<>();
+        // replaced for each build, before the jars are indexed
+        volatile JarIndexCache persistentCache;
+
+        Index index(Path jar, Set<String> removed, boolean providesIndex, JarIndexCache.JarIndexer indexer)
+                throws IOException {
+            Index index = cache.get(jar);
+            if (index != null) {
+                return index;
+            }
+            final JarIndexCache persistentCache = this.persistentCache;
+            // the index provided by a jar is read as fast as a cached one
+            if (persistentCache == null || providesIndex && removed == null) {
+                index = indexer.index();
+            } else {
+                index = persistentCache.index(jar, removed, indexer);
+            }
+            final Index existing = cache.putIfAbsent(jar, index);
+            return existing != null ? existing : index;
+        }
+    }
+
+    /**
+     * The application archives, in the order they were found. The archives are indexed in parallel on the build executor
+     * and in the current thread, which runs the tasks that are still queued when their result is needed.
+     */
+    private static final class ApplicationArchives {
+        final Executor executor;
+        final List<FutureTask<ApplicationArchive>> tasks = new ArrayList<>();
+
+        ApplicationArchives(Executor executor) {
+            this.executor = executor;
+        }
+
+        void add(ApplicationArchive archive) {
+            final FutureTask<ApplicationArchive> futureTask = new FutureTask<>(() -> archive);
+            futureTask.run();
+            tasks.add(futureTask);
+        }
+
+        void submit(Callable<ApplicationArchive> task) {
+            final FutureTask<ApplicationArchive> futureTask = new FutureTask<>(task);
+            tasks.add(futureTask);
+            try {
+                executor.execute(futureTask);
+            } catch (RejectedExecutionException e) {
+                // run by the current thread in get()
+            }
+        }
+
+        List<ApplicationArchive> get() {
+            final List<ApplicationArchive> archives = new ArrayList<>(tasks.size());
+            for (FutureTask<ApplicationArchive> task : tasks) {
+                // no-op if the task was already started by the executor
+                task.run();
+                try {
+                    archives.add(task.get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                } catch (ExecutionException e) {
+                    final Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    } else if (cause instanceof Error) {
+                        throw (Error) cause;
+                    } else if (cause instanceof IOException) {
+                        throw new UncheckedIOException((IOException) cause);
+                    }
+                    throw new RuntimeException(cause);
+                }
+            }
+            return archives;
+        }
     }
 }
@@ -0,0 +1,43 @@
+package io.quarkus.deployment.index;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * The persistent cache of the indexes of the dependency jars.
+ */
+@ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+@ConfigMapping(prefix = "quarkus.index-cache")
+public interface IndexCacheConfig {
+
+    /**
+     * Whether the indexes of the dependency jars are stored in a persistent cache, so that the subsequent builds of this
+     * application and of the other applications using the same jars do not need to index them again.
+     * <p>
+     * The indexes are looked up by a hash of the content of the jars, a jar that is modified is thus indexed again.
+     * <p>
+     * The cache is only used by the production builds. The dev mode keeps the indexes of the jars in memory across
+     * restarts.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * The directory of the cache.
+     * <p>
+     * Defaults to {@code .quarkus/index-cache} in the home directory of the user.
+     */
+    Optional<Path> directory();
+
+    /**
+     * The maximum size of the cache. The least recently used indexes are evicted once this size is exceeded.
+     */
+    @WithDefault("256M")
+    MemorySize maxSize();
+}
@@ -42,7 +42,7 @@ public class IndexingUtil {
 
     private static final String META_INF_VERSIONS = "META-INF/versions/";
 
-    private static final int JAVA_VERSION;
+    static final int JAVA_VERSION;
 
     // At least Jandex 2.1 is needed
     private static final int REQUIRED_INDEX_VERSION = 8;
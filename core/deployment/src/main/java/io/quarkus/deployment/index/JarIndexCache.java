@@ -0,0 +1,250 @@
+package io.quarkus.deployment.index;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+import org.jboss.logging.Logger;
+
+import io.quarkus.builder.BuildMetrics;
+
+/**
+ * A persistent cache of the indexes of the dependency jars, shared by all the builds run by the current user.
+ * <p>
+ * The indexes are stored in files named after a hash of the content of the jar, of the resources removed from the jar
+ * and of the Java version the multi-release jars are indexed for. A jar that is modified is thus indexed again, while a
+ * jar used by several applications is indexed only once. Each file also records the time it took to index the jar, so
+ * that the time saved by the cache can be reported in the {@link BuildMetrics}.
+ * <p>
+ * The least recently used indexes are evicted once the size of the cache exceeds its maximum size. The files are
+ * written atomically so that several builds can use the same cache concurrently.
+ */
+final class JarIndexCache {
+
+    private static final Logger LOGGER = Logger.getLogger(JarIndexCache.class);
+
+    static final String HITS = "index-cache.hits";
+    static final String MISSES = "index-cache.misses";
+    static final String INDEXING_TIME = "index-cache.indexing-ms";
+    static final String SAVED_TIME = "index-cache.saved-ms";
+
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path directory;
+    private final long maxSize;
+    private final BuildMetrics metrics;
+    private final AtomicBoolean written = new AtomicBoolean();
+
+    JarIndexCache(Path directory, long maxSize, BuildMetrics metrics) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the index of the given jar, from the cache if possible, otherwise from the given indexer.
+     */
+    Index index(Path jar, Set<String> removed, JarIndexer indexer) throws IOException {
+        String key = key(jar, removed);
+        Path file = directory.resolve(key + INDEX_SUFFIX);
+        long start = System.nanoTime();
+        CachedIndex cached = read(file);
+        if (cached != null) {
+            metrics.addToCounter(HITS, 1);
+            metrics.addToCounter(SAVED_TIME, toMillis(cached.indexingNanos - (System.nanoTime() - start)));
+            return cached.index;
+        }
+        start = System.nanoTime();
+        Index index = indexer.index();
+        long indexingNanos = System.nanoTime() - start;
+        metrics.addToCounter(MISSES, 1);
+        metrics.addToCounter(INDEXING_TIME, toMillis(indexingNanos));
+        write(file, index, indexingNanos);
+        return index;
+    }
+
+    /**
+     * Deletes the least recently used indexes until the size of the cache does not exceed its maximum size.
+     */
+    void evict() {
+        if (!written.get()) {
+            // the cache did not grow during this build
+            return;
+        }
+        List<Entry> entries = new ArrayList<>();
+        long size = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + INDEX_SUFFIX)) {
+            for (Path file : stream) {
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                    entries.add(new Entry(file, attributes.size(), attributes.lastModifiedTime()));
+                    size += attributes.size();
+                } catch (NoSuchFileException e) {
+                    // evicted by a concurrent build
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Unable to list the index cache %s", directory);
+            return;
+        }
+        if (size <= maxSize) {
+            return;
+        }
+        entries.sort(new Comparator<Entry>() {
+            @Override
+            public int compare(Entry e1, Entry e2) {
+                return e1.lastModified.compareTo(e2.lastModified);
+            }
+        });
+        for (Entry entry : entries) {
+            if (size <= maxSize) {
+                break;
+            }
+            try {
+                Files.deleteIfExists(entry.file);
+            } catch (IOException e) {
+                LOGGER.debugf(e, "Unable to evict %s from the index cache", entry.file);
+            }
+            size -= entry.size;
+        }
+    }
+
+    private CachedIndex read(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE))) {
+            long indexingNanos = in.readLong();
+            Index index = new IndexReader(in).read();
+            // the last modification time tracks the last use of the index
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return new CachedIndex(index, indexingNanos);
+        } catch (IOException | RuntimeException e) {
+            // truncated, written by an incompatible version of Jandex or evicted concurrently
+            LOGGER.debugf(e, "Ignoring the cached index %s", file);
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+            }
+            return null;
+        }
+    }
+
+    private void write(Path file, Index index, long indexingNanos) {
+        Path tmp = null;
+        try {
+            Files.createDirectories(directory);
+            tmp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tmp), BUFFER_SIZE))) {
+                out.writeLong(indexingNanos);
+                new IndexWriter(out).write(index);
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            written.set(true);
+        } catch (IOException e) {
+            // the cache is an optimization, the build must not fail if it cannot be written
+            LOGGER.debugf(e, "Unable to write %s to the index cache", file);
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    static String key(Path jar, Set<String> removed) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(jar)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        // the content of the index depends on the version of Jandex and on the Java version for multi-release jars
+        digest.update(("jandex=" + Indexer.class.getPackage().getImplementationVersion())
+                .getBytes(StandardCharsets.UTF_8));
+        digest.update(("java=" + IndexingUtil.JAVA_VERSION).getBytes(StandardCharsets.UTF_8));
+        if (removed != null) {
+            digest.update("removed".getBytes(StandardCharsets.UTF_8));
+            for (String resource : new TreeSet<>(removed)) {
+                digest.update((byte) 0);
+                digest.update(resource.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(Math.max(0, nanos));
+    }
+
+    @FunctionalInterface
+    interface JarIndexer {
+
+        Index index() throws IOException;
+
+    }
+
+    private static final class CachedIndex {
+
+        final Index index;
+        final long indexingNanos;
+
+        CachedIndex(Index index, long indexingNanos) {
+            this.index = index;
+            this.indexingNanos = indexingNanos;
+        }
+    }
+
+    private static final class Entry {
+
+        final Path file;
+        final long size;
+        final FileTime lastModified;
+
+        Entry(Path file, long size, FileTime lastModified) {
+            this.file = file;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package io.quarkus.deployment.pkg;
 
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -99,6 +100,18 @@ interface JarConfig {
         @WithDefault("true")
         boolean compress();
 
+        /**
+         * Whether the application jars and the dependency jars of the fast-jar are stored uncompressed, so that the
+         * runner memory maps them and reads the classes and resources directly from the mapped files, without inflating
+         * them.
+         * This trades disk space for startup time. The mapped pages are counted in the resident set size of the
+         * application, they are backed by the jar files though, and can be reclaimed by the OS.
+         * The dependencies in {@code lib/boot} are not affected.
+         * This setting only applies to the fast-jar and mutable-jar types.
+         */
+        @WithDefault("false")
+        boolean memoryMapped();
+
         /**
          * The JAR's manifest sub-configuration.
          */
@@ -203,6 +216,39 @@ interface AppcdsConfig {
             boolean useContainer();
         }
 
+        /**
+         * Class loading profile sub-configuration.
+         * This configuration only applies to the {@code fast-jar} and {@code mutable-jar} types.
+         */
+        ClassLoadingProfileConfig classLoadingProfile();
+
+        /**
+         * Configuration for the class loading profile generation.
+         */
+        @ConfigGroup
+        interface ClassLoadingProfileConfig {
+            /**
+             * Whether to record the classes loaded until the application is started, by running the application once
+             * during the packaging, and store them in the jar distribution.
+             * <p>
+             * When the application is started, these classes are then preloaded in parallel by background threads.
+             * The number of threads can be set with the {@code quarkus.class-loading-profile.preload-threads} system
+             * property, {@code 0} disabling the preloading.
+             * <p>
+             * Care must be taken that the application can start in the build environment, e.g. that the services it
+             * connects to at startup are available.
+             */
+            @WithDefault("false")
+            boolean enabled();
+
+            /**
+             * The maximum time the application may take to start when the profile is recorded. The application is
+             * stopped and the profile is not recorded if it takes longer.
+             */
+            @WithDefault("5m")
+            Duration timeout();
+        }
+
         /**
          * This is an advanced option that only takes effect for development mode.
          * <p>
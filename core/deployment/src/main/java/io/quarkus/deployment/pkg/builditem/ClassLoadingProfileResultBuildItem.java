@@ -0,0 +1,24 @@
+package io.quarkus.deployment.pkg.builditem;
+
+import java.nio.file.Path;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * A build item containing the result of the class loading profile recording
+ */
+public final class ClassLoadingProfileResultBuildItem extends SimpleBuildItem {
+
+    /**
+     * The file containing the recorded class loading profile, stored in the fast-jar layout
+     */
+    private final Path classLoadingProfile;
+
+    public ClassLoadingProfileResultBuildItem(Path classLoadingProfile) {
+        this.classLoadingProfile = classLoadingProfile;
+    }
+
+    public Path getClassLoadingProfile() {
+        return classLoadingProfile;
+    }
+}
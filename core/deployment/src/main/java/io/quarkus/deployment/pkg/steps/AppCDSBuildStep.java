@@ -25,6 +25,7 @@
 import io.quarkus.deployment.pkg.builditem.AppCDSRequestedBuildItem;
 import io.quarkus.deployment.pkg.builditem.AppCDSResultBuildItem;
 import io.quarkus.deployment.pkg.builditem.ArtifactResultBuildItem;
+import io.quarkus.deployment.pkg.builditem.ClassLoadingProfileResultBuildItem;
 import io.quarkus.deployment.pkg.builditem.CompiledJavaVersionBuildItem;
 import io.quarkus.deployment.pkg.builditem.JarBuildItem;
 import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
@@ -55,6 +56,8 @@ public void build(Optional<AppCDSRequestedBuildItem> appCDsRequested,
             JarBuildItem jarResult, OutputTargetBuildItem outputTarget, PackageConfig packageConfig,
             CompiledJavaVersionBuildItem compiledJavaVersion,
             Optional<AppCDSContainerImageBuildItem> appCDSContainerImage,
+            // ensure the application is not run concurrently by the class loading profile recording
+            @SuppressWarnings("unused") Optional<ClassLoadingProfileResultBuildItem> classLoadingProfile,
             BuildProducer<AppCDSResultBuildItem> appCDS,
             BuildProducer<ArtifactResultBuildItem> artifactResult) throws Exception {
         if (appCDsRequested.isEmpty()) {
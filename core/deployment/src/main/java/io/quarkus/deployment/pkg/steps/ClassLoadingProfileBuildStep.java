@@ -0,0 +1,141 @@
+package io.quarkus.deployment.pkg.steps;
+
+import static io.quarkus.deployment.pkg.PackageConfig.JarConfig.JarType.FAST_JAR;
+import static io.quarkus.deployment.pkg.PackageConfig.JarConfig.JarType.MUTABLE_JAR;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.bootstrap.runner.ClassLoadingProfile;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.pkg.PackageConfig;
+import io.quarkus.deployment.pkg.builditem.ArtifactResultBuildItem;
+import io.quarkus.deployment.pkg.builditem.ClassLoadingProfileResultBuildItem;
+import io.quarkus.deployment.pkg.builditem.JarBuildItem;
+import io.quarkus.runtime.LaunchMode;
+import io.quarkus.utilities.JavaBinFinder;
+
+/**
+ * Records the classes loaded by the application until it is started, by running the packaged application once.
+ * The profile is stored in the fast-jar layout and used to preload these classes in parallel on the next starts.
+ */
+public class ClassLoadingProfileBuildStep {
+
+    private static final Logger log = Logger.getLogger(ClassLoadingProfileBuildStep.class);
+
+    @BuildStep(onlyIf = ClassLoadingProfileRequired.class, onlyIfNot = NativeOrNativeSourcesBuild.class)
+    public void record(JarBuildItem jarResult, PackageConfig packageConfig,
+            BuildProducer<ClassLoadingProfileResultBuildItem> classLoadingProfile,
+            BuildProducer<ArtifactResultBuildItem> artifactResult) {
+        if (packageConfig.jar().type() != FAST_JAR && packageConfig.jar().type() != MUTABLE_JAR) {
+            log.warnf("The class loading profile is only supported by the fast-jar and mutable-jar types, not by %s.",
+                    packageConfig.jar().type());
+            return;
+        }
+        String javaBinPath = System.getProperty("java.home") + File.separator + "bin" + File.separator
+                + JavaBinFinder.simpleBinaryName();
+        if (!new File(javaBinPath).canExecute()) {
+            log.warnf(
+                    "In order to record the class loading profile the JDK used to build the Quarkus application must "
+                            + "contain an executable named '%s' in its 'bin' directory.",
+                    javaBinPath);
+            return;
+        }
+
+        Path workingDirectory = jarResult.getLibraryDir().getParent();
+        Path profile = workingDirectory.resolve(ClassLoadingProfile.CLASS_LOADING_PROFILE);
+        try {
+            // the training run must not be influenced by the profile of a previous build
+            Files.deleteIfExists(profile);
+        } catch (IOException e) {
+            log.warnf(e, "Unable to delete the existing class loading profile %s.", profile);
+            return;
+        }
+
+        List<String> command = new ArrayList<>(4);
+        command.add(javaBinPath);
+        command.add(String.format("-D%s=true", ClassLoadingProfile.RECORD_SYSTEM_PROPERTY));
+        command.add("-jar");
+        command.add(JarResultBuildStep.QUARKUS_RUN_JAR);
+
+        log.info("Launching the application to record its class loading profile.");
+        if (log.isDebugEnabled()) {
+            log.debugf("Launching command: '%s' to record the class loading profile.", String.join(" ", command));
+        }
+        Duration timeout = packageConfig.jar().classLoadingProfile().timeout();
+        Process process = null;
+        int exitCode;
+        try {
+            ProcessBuilder processBuilder = new ProcessBuilder(command)
+                    .directory(workingDirectory.toFile());
+            if (log.isDebugEnabled()) {
+                processBuilder.inheritIO();
+            } else {
+                processBuilder.redirectError(ProcessBuilder.Redirect.DISCARD).redirectOutput(ProcessBuilder.Redirect.DISCARD);
+            }
+            process = processBuilder.start();
+            if (!process.waitFor(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warnf("Unable to record the class loading profile, the application did not start within %s. "
+                        + "The timeout can be set with quarkus.package.jar.class-loading-profile.timeout.", timeout);
+                destroy(process);
+                // the profile may have been partially written when the application was stopped
+                Files.deleteIfExists(profile);
+                return;
+            }
+            exitCode = process.exitValue();
+        } catch (Exception e) {
+            log.warn("Failed to launch the process used to record the class loading profile.", e);
+            if (process != null) {
+                process.destroyForcibly();
+            }
+            return;
+        }
+        if (exitCode != 0 || !Files.exists(profile)) {
+            log.warnf("Unable to record the class loading profile, the application exited with error code: %d. "
+                    + "Check the logs of the build with the debug level enabled for details.", exitCode);
+            return;
+        }
+
+        log.infof("Class loading profile successfully recorded at: '%s'.", profile.toAbsolutePath().toString());
+        classLoadingProfile.produce(new ClassLoadingProfileResultBuildItem(profile));
+        artifactResult.produce(new ArtifactResultBuildItem(profile, "classLoadingProfile", Collections.emptyMap()));
+    }
+
+    private static void destroy(Process process) throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(10, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+
+    static class ClassLoadingProfileRequired implements BooleanSupplier {
+
+        private final PackageConfig packageConfig;
+        private final LaunchMode launchMode;
+
+        ClassLoadingProfileRequired(PackageConfig packageConfig, LaunchMode launchMode) {
+            this.packageConfig = packageConfig;
+            this.launchMode = launchMode;
+        }
+
+        @Override
+        public boolean getAsBoolean() {
+            if (launchMode != LaunchMode.NORMAL) {
+                return false;
+            }
+
+            return packageConfig.jar().classLoadingProfile().enabled() && packageConfig.jar().enabled();
+        }
+    }
+}
@@ -48,6 +48,10 @@
 import java.util.jar.Manifest;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
 
 import org.jboss.logging.Logger;
 
@@ -745,7 +749,7 @@ private JarBuildItem buildThinJar(CurateOutcomeBuildItem curateOutcomeBuildItem,
             List<String> sortedNonExistentResources = new ArrayList<>(nonExistentResources);
             Collections.sort(sortedNonExistentResources);
             SerializedApplication.write(out, mainClassBuildItem.getClassName(), buildDir, allJars, sortedParentFirst,
-                    sortedNonExistentResources);
+                    sortedNonExistentResources, isMemoryMapped(packageConfig));
         }
 
         runnerJar.toFile().setReadable(true, false);
@@ -897,13 +901,17 @@ private void copyDependency(Set<ArtifactKey> parentFirstArtifacts, OutputTargetB
         for (Path resolvedDep : appDep.getResolvedPaths()) {
             final String fileName = appDep.getGroupId() + "." + resolvedDep.getFileName();
             final Path targetPath;
+            // only the jars loaded by the RunnerClassLoader are memory mapped
+            final boolean storeUncompressed;
 
             if (allowParentFirst && parentFirstArtifacts.contains(appDep.getKey())) {
                 targetPath = baseLib.resolve(fileName);
                 classPath.append(" ").append(LIB).append("/").append(BOOT_LIB).append("/").append(fileName);
+                storeUncompressed = false;
             } else {
                 targetPath = libDir.resolve(fileName);
                 targetPathConsumer.accept(targetPath);
+                storeUncompressed = allowParentFirst && isMemoryMapped(packageConfig);
             }
             runtimeArtifacts.computeIfAbsent(appDep.getKey(), (s) -> new ArrayList<>(1)).add(targetPath);
 
@@ -924,12 +932,19 @@ private void copyDependency(Set<ArtifactKey> parentFirstArtifacts, OutputTargetB
                     }
                 }
                 if (removedFromThisArchive.isEmpty()) {
-                    Files.copy(resolvedDep, targetPath, StandardCopyOption.REPLACE_EXISTING,
-                            StandardCopyOption.COPY_ATTRIBUTES);
+                    if (storeUncompressed) {
+                        storeJarFile(resolvedDep, targetPath);
+                    } else {
+                        Files.copy(resolvedDep, targetPath, StandardCopyOption.REPLACE_EXISTING,
+                                StandardCopyOption.COPY_ATTRIBUTES);
+                    }
                 } else {
                     // we copy jars for which we remove entries to the same directory
                     // which seems a bit odd to me
                     filterJarFile(resolvedDep, targetPath, removedFromThisArchive);
+                    if (storeUncompressed) {
+                        storeJarFile(targetPath, targetPath);
+                    }
                 }
             }
         }
@@ -1278,6 +1293,44 @@ static void filterJarFile(Path resolvedDep, Path targetPath, Set<String> transfo
         }
     }
 
+    /**
+     * Copies the given jar with all its entries stored uncompressed, so that it can be memory mapped by the runner.
+     * The source and the target can be the same file.
+     */
+    static void storeJarFile(Path resolvedDep, Path targetPath) {
+        try {
+            Path tmpPath = targetPath.resolveSibling(targetPath.getFileName() + ".tmp");
+            try (ZipFile in = new ZipFile(resolvedDep.toFile());
+                    ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(tmpPath))) {
+                CRC32 crc = new CRC32();
+                Enumeration<? extends ZipEntry> entries = in.entries();
+                while (entries.hasMoreElements()) {
+                    ZipEntry entry = entries.nextElement();
+                    byte[] data;
+                    try (InputStream inStream = in.getInputStream(entry)) {
+                        data = inStream.readAllBytes();
+                    }
+                    ZipEntry stored = new ZipEntry(entry.getName());
+                    stored.setMethod(ZipEntry.STORED);
+                    stored.setTime(entry.getTime());
+                    stored.setSize(data.length);
+                    stored.setCompressedSize(data.length);
+                    crc.reset();
+                    crc.update(data);
+                    stored.setCrc(crc.getValue());
+                    out.putNextEntry(stored);
+                    out.write(data);
+                    out.closeEntry();
+                }
+            }
+            // let's make sure we keep the original timestamp
+            Files.setLastModifiedTime(tmpPath, Files.getLastModifiedTime(resolvedDep));
+            Files.move(tmpPath, targetPath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private static boolean isSignatureFile(String entry) {
         entry = entry.toUpperCase();
         if (entry.startsWith("META-INF/") && entry.indexOf('/', "META-INF/".length()) == -1) {
@@ -1660,8 +1713,12 @@ public boolean decompile(Path jarToDecompile) {
         }
     }
 
+    private static boolean isMemoryMapped(PackageConfig config) {
+        return config.jar().memoryMapped() && (config.jar().type() == FAST_JAR || config.jar().type() == MUTABLE_JAR);
+    }
+
     private static FileSystem createNewZip(Path runnerJar, PackageConfig config) throws IOException {
-        boolean useUncompressedJar = !config.jar().compress();
+        boolean useUncompressedJar = !config.jar().compress() || isMemoryMapped(config);
         if (useUncompressedJar) {
             return ZipUtils.newZip(runnerJar, Map.of("compressionMethod", "STORED"));
         }
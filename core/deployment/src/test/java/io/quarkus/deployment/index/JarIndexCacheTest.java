@@ -0,0 +1,126 @@
+package io.quarkus.deployment.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.builder.BuildMetrics;
+
+public class JarIndexCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testHitsAndMisses() throws IOException {
+        Path jar = createJar("a.jar", JarIndexCacheTest.class);
+        Path directory = tempDir.resolve("cache");
+        AtomicInteger indexed = new AtomicInteger();
+
+        BuildMetrics metrics = new BuildMetrics("test");
+        JarIndexCache cache = new JarIndexCache(directory, Long.MAX_VALUE, metrics);
+        assertIndexed(cache.index(jar, null, () -> index(jar, indexed)));
+        assertEquals(1, indexed.get());
+        assertEquals(1, metrics.getCounter(JarIndexCache.MISSES));
+
+        // another build reads the index from the cache
+        metrics = new BuildMetrics("test");
+        cache = new JarIndexCache(directory, Long.MAX_VALUE, metrics);
+        assertIndexed(cache.index(jar, null, () -> index(jar, indexed)));
+        assertEquals(1, indexed.get());
+        assertEquals(1, metrics.getCounter(JarIndexCache.HITS));
+        assertEquals(0, metrics.getCounter(JarIndexCache.MISSES));
+
+        // the removed resources are part of the key
+        assertIndexed(cache.index(jar, Set.of("foo.txt"), () -> index(jar, indexed)));
+        assertEquals(2, indexed.get());
+
+        // the same content at another location is a hit
+        Path copy = Files.copy(jar, tempDir.resolve("copy.jar"));
+        assertIndexed(cache.index(copy, null, () -> index(copy, indexed)));
+        assertEquals(2, indexed.get());
+
+        // a corrupted index is ignored
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.write(file, new byte[] { 1, 2, 3 });
+            }
+        }
+        assertIndexed(cache.index(jar, null, () -> index(jar, indexed)));
+        assertEquals(3, indexed.get());
+    }
+
+    @Test
+    public void testEviction() throws IOException {
+        Path directory = tempDir.resolve("cache");
+        Path first = createJar("first.jar", JarIndexCacheTest.class);
+        Path second = createJar("second.jar", JarIndexCache.class);
+        JarIndexCache cache = new JarIndexCache(directory, Long.MAX_VALUE, new BuildMetrics("test"));
+        cache.index(first, null, () -> IndexingUtil.indexJar(first));
+        cache.index(second, null, () -> IndexingUtil.indexJar(second));
+        List<Path> files = list(directory);
+        assertEquals(2, files.size());
+
+        // the least recently used index is evicted first
+        Path firstIndex = directory.resolve(JarIndexCache.key(first, null) + ".idx");
+        Files.setLastModifiedTime(firstIndex, FileTime.fromMillis(System.currentTimeMillis() - 60_000));
+        Path third = createJar("third.jar", IndexingUtil.class);
+        Path otherDirectory = tempDir.resolve("other");
+        new JarIndexCache(otherDirectory, Long.MAX_VALUE, new BuildMetrics("test"))
+                .index(third, null, () -> IndexingUtil.indexJar(third));
+        long maxSize = Files.size(directory.resolve(JarIndexCache.key(second, null) + ".idx"))
+                + Files.size(otherDirectory.resolve(JarIndexCache.key(third, null) + ".idx"));
+        cache = new JarIndexCache(directory, maxSize, new BuildMetrics("test"));
+        cache.index(third, null, () -> IndexingUtil.indexJar(third));
+        cache.evict();
+        files = list(directory);
+        assertEquals(2, files.size());
+        assertFalse(files.contains(firstIndex));
+    }
+
+    private static Index index(Path jar, AtomicInteger indexed) throws IOException {
+        indexed.incrementAndGet();
+        return IndexingUtil.indexJar(jar);
+    }
+
+    private static void assertIndexed(Index index) {
+        assertNotNull(index.getClassByName(DotName.createSimple(JarIndexCacheTest.class.getName())));
+    }
+
+    private Path createJar(String name, Class<?> clazz) throws IOException {
+        Path jar = tempDir.resolve(name);
+        String entry = clazz.getName().replace('.', '/') + ".class";
+        try (OutputStream out = Files.newOutputStream(jar);
+                JarOutputStream jarOut = new JarOutputStream(out);
+                InputStream in = clazz.getClassLoader().getResourceAsStream(entry)) {
+            jarOut.putNextEntry(new JarEntry(entry));
+            in.transferTo(jarOut);
+            jarOut.closeEntry();
+        }
+        return jar;
+    }
+
+    private static List<Path> list(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.toList();
+        }
+    }
+}
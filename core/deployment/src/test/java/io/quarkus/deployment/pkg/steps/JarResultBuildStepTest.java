@@ -4,6 +4,7 @@
 
 import java.io.File;
 import java.io.FileOutputStream;
+import java.io.InputStream;
 import java.math.BigInteger;
 import java.nio.file.Path;
 import java.security.KeyPair;
@@ -20,6 +21,7 @@
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
 import org.bouncycastle.asn1.ASN1ObjectIdentifier;
@@ -68,6 +70,32 @@ void should_unsign_jar_when_filtered(@TempDir Path tempDir) throws Exception {
         }
     }
 
+    @Test
+    void should_store_jar_uncompressed(@TempDir Path tempDir) throws Exception {
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class, "myarchive.jar")
+                .addClasses(Integer.class);
+        Path compressedJarPath = tempDir.resolve("compressed.jar");
+        Path storedJarPath = tempDir.resolve("stored.jar");
+        archive.as(ZipExporter.class).exportTo(new File(compressedJarPath.toUri()), true);
+        JarResultBuildStep.storeJarFile(compressedJarPath, storedJarPath);
+        try (ZipFile compressed = new ZipFile(compressedJarPath.toFile());
+                ZipFile stored = new ZipFile(storedJarPath.toFile())) {
+            assertThat(stored.stream().map(ZipEntry::getName))
+                    .containsExactlyElementsOf(compressed.stream().map(ZipEntry::getName).toList());
+            assertThat(stored.stream().map(ZipEntry::getMethod)).containsOnly(ZipEntry.STORED);
+            ZipEntry entry = stored.getEntry("java/lang/Integer.class");
+            try (InputStream storedData = stored.getInputStream(entry);
+                    InputStream compressedData = compressed.getInputStream(compressed.getEntry(entry.getName()))) {
+                assertThat(storedData.readAllBytes()).isEqualTo(compressedData.readAllBytes());
+            }
+        }
+        // the jar can be stored in place
+        JarResultBuildStep.storeJarFile(storedJarPath, storedJarPath);
+        try (ZipFile stored = new ZipFile(storedJarPath.toFile())) {
+            assertThat(stored.getEntry("java/lang/Integer.class").getMethod()).isEqualTo(ZipEntry.STORED);
+        }
+    }
+
     private static KeyStore.PrivateKeyEntry createPrivateKeyEntry()
             throws NoSuchAlgorithmException, CertificateException, OperatorCreationException, CertIOException {
         KeyPairGenerator ky = KeyPairGenerator.getInstance("RSA");
@@ -110,7 +110,10 @@ public static void run(Application application, Class<? extends QuarkusApplicati
 
             application.start(args);
             //now we are started, we either run the main application or just wait to exit
-            if (quarkusApplication != null) {
+            if (classLoadingProfileCompleted()) {
+                //this is the training run of the packaging, it stops as soon as the application is started
+                Logger.getLogger(Application.class).debug("Class loading profile recorded, stopping the application");
+            } else if (quarkusApplication != null) {
                 BeanManager beanManager = CDI.current().getBeanManager();
                 Set<Bean<?>> beans = beanManager.getBeans(quarkusApplication, Any.Literal.INSTANCE);
                 Bean<?> bean = null;
@@ -260,6 +263,22 @@ private static void ensureConsoleLogsDrained() {
         }
     }
 
+    /**
+     * Stops preloading the classes of the class loading profile, and writes the profile if it was recorded by this run,
+     * see {@link RunnerClassLoader#writeClassLoadingProfile()}.
+     *
+     * @return {@code true} if the class loading profile was recorded by this run
+     */
+    private static boolean classLoadingProfileCompleted() {
+        final ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        if (!(cl instanceof RunnerClassLoader)) {
+            return false;
+        }
+        final RunnerClassLoader runnerClassLoader = (RunnerClassLoader) cl;
+        runnerClassLoader.stopClassLoadingProfilePreload();
+        return runnerClassLoader.writeClassLoadingProfile();
+    }
+
     /**
      * Run some background cleanup once after the application has booted.
      * This will not be invoked for command mode, as it's not worth it for a short-lived process.
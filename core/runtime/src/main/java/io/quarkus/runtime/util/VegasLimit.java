@@ -0,0 +1,186 @@
+package io.quarkus.runtime.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A limit of concurrent requests estimated with TCP Vegas, as implemented by
+ * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>: the limit grows while the
+ * request time stays close to the lowest observed request time, and shrinks when the request time increases, which means
+ * that the requests queue up.
+ * <p>
+ * Completed requests are recorded into one of several sample stripes, selected by the current thread, so that
+ * threads finishing requests concurrently do not contend with each other. A thread only tries to take the update flag
+ * when the number of samples of its stripe reaches a power of two, so that the flag is not written for every request.
+ * Whichever thread manages to take it drains all stripes and feeds the aggregated sample (average request time, lowest
+ * request time, highest number of concurrent requests) to the Vegas algorithm; other threads never wait for it. When
+ * requests do not complete concurrently, every sample is processed on its own, exactly like a per-request update.
+ */
+public final class VegasLimit {
+    private static final int[] LOG10_PLUS_1_TABLE = new int[1_000];
+    private static final int MAX_STRIPES = 64;
+
+    static {
+        LOG10_PLUS_1_TABLE[0] = 1;
+        for (int i = 1; i < 1_000; i++) {
+            LOG10_PLUS_1_TABLE[i] = 1 + (int) Math.log10(i);
+        }
+    }
+
+    private final int maxLimit;
+    private final int alphaFactor;
+    private final int betaFactor;
+    private final double probeFactor;
+
+    private volatile long currentLimit;
+
+    private final Sample[] samples;
+    private final int stripeMask;
+    private final AtomicBoolean updating = new AtomicBoolean();
+
+    // only accessed by the thread holding the `updating` flag
+    private long lowestRequestTime = Long.MAX_VALUE;
+    private double probeCount = 0.0;
+    private double probeJitter;
+
+    /**
+     * @param initialLimit the limit until enough requests complete to estimate it
+     * @param maxLimit the highest limit
+     * @param alphaFactor the limit grows while the estimated queue size is below {@code alphaFactor * log10(limit)}
+     * @param betaFactor the limit shrinks while the estimated queue size is above {@code betaFactor * log10(limit)}
+     * @param probeFactor the lowest request time is probed again every {@code probeFactor * limit} requests, roughly
+     */
+    public VegasLimit(int initialLimit, int maxLimit, int alphaFactor, int betaFactor, double probeFactor) {
+        this.maxLimit = maxLimit;
+        this.alphaFactor = alphaFactor;
+        this.betaFactor = betaFactor;
+        this.probeFactor = probeFactor;
+        this.currentLimit = initialLimit;
+        int stripes = Math.min(MAX_STRIPES, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1));
+        samples = new Sample[stripes];
+        for (int i = 0; i < stripes; i++) {
+            samples[i] = new Sample();
+        }
+        stripeMask = stripes - 1;
+        resetProbeJitter();
+    }
+
+    /**
+     * @return the current limit of concurrent requests
+     */
+    public long currentLimit() {
+        return currentLimit;
+    }
+
+    /**
+     * Records a completed request, and updates the limit if this is the first request recorded by the stripe of the
+     * current thread since the last update, unless another thread is already updating it.
+     *
+     * @param timeInMicros the time it took to complete the request
+     * @param currentRequests the number of requests in flight when the request completed, including itself
+     */
+    public void record(long timeInMicros, int currentRequests) {
+        long count = samples[(int) Thread.currentThread().getId() & stripeMask].record(timeInMicros, currentRequests);
+        // the first sample of the stripe since the last update triggers an update, the next powers of two retry
+        // if the flag was taken by another thread meanwhile
+        if ((count & (count - 1)) == 0 && !updating.get() && updating.compareAndSet(false, true)) {
+            try {
+                update();
+            } finally {
+                updating.set(false);
+            }
+        }
+    }
+
+    private void update() {
+        long count = 0;
+        long totalRequestTime = 0;
+        long minRequestTime = Long.MAX_VALUE;
+        int maxRequests = 0;
+        for (Sample sample : samples) {
+            if (sample.count.get() == 0) {
+                continue;
+            }
+            count += sample.count.getAndSet(0);
+            totalRequestTime += sample.totalTime.getAndSet(0);
+            minRequestTime = Math.min(minRequestTime, sample.minTime.getAndSet(Long.MAX_VALUE));
+            maxRequests = Math.max(maxRequests, sample.maxRequests.getAndSet(0));
+        }
+        if (count == 0) {
+            return;
+        }
+
+        probeCount += count;
+        if (probeFactor * probeJitter * currentLimit <= probeCount) {
+            resetProbeJitter();
+            probeCount = 0.0;
+            lowestRequestTime = minRequestTime;
+            return;
+        }
+
+        if (minRequestTime < lowestRequestTime) {
+            lowestRequestTime = minRequestTime;
+            return;
+        }
+
+        long requestTime = totalRequestTime / count;
+        long currentLimit = this.currentLimit;
+
+        if (2L * maxRequests < currentLimit) {
+            return;
+        }
+
+        int queueSize = (int) Math.ceil(currentLimit * (1.0 - (double) lowestRequestTime / (double) requestTime));
+
+        int currentLimitLog10Plus1;
+        if (currentLimit >= 0 && currentLimit < 1_000) {
+            currentLimitLog10Plus1 = LOG10_PLUS_1_TABLE[(int) currentLimit];
+        } else {
+            currentLimitLog10Plus1 = 1 + (int) Math.log10(currentLimit);
+        }
+        int alpha = alphaFactor * currentLimitLog10Plus1;
+        int beta = betaFactor * currentLimitLog10Plus1;
+
+        long newLimit;
+        if (queueSize <= currentLimitLog10Plus1) {
+            newLimit = currentLimit + beta;
+        } else if (queueSize < alpha) {
+            newLimit = currentLimit + currentLimitLog10Plus1;
+        } else if (queueSize > beta) {
+            newLimit = currentLimit - currentLimitLog10Plus1;
+        } else {
+            return;
+        }
+
+        newLimit = Math.max(1, Math.min(maxLimit, newLimit));
+        this.currentLimit = newLimit;
+    }
+
+    private void resetProbeJitter() {
+        probeJitter = ThreadLocalRandom.current().nextDouble(0.5, 1);
+    }
+
+    /**
+     * Requests completed on one stripe since the last update. The fields are not updated atomically as a whole,
+     * so a sample recorded concurrently with an update may be split across two updates, which only slightly
+     * skews the averages.
+     */
+    private static final class Sample {
+        final AtomicLong count = new AtomicLong();
+        final AtomicLong totalTime = new AtomicLong();
+        final AtomicLong minTime = new AtomicLong(Long.MAX_VALUE);
+        final AtomicInteger maxRequests = new AtomicInteger();
+
+        /**
+         * @return the number of samples of this stripe since the last update, including this one
+         */
+        long record(long requestTime, int currentRequests) {
+            totalTime.addAndGet(requestTime);
+            minTime.accumulateAndGet(requestTime, Math::min);
+            maxRequests.accumulateAndGet(currentRequests, Math::max);
+            return count.incrementAndGet();
+        }
+    }
+}
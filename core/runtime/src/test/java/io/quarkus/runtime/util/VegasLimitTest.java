@@ -0,0 +1,63 @@
+package io.quarkus.runtime.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class VegasLimitTest {
+
+    @Test
+    void limitGrowsWithoutQueueing() {
+        VegasLimit limit = new VegasLimit(10, 100, 3, 6, 30.0);
+        complete(limit, 10, 100);
+        complete(limit, 10, 100);
+        assertTrue(limit.currentLimit() > 10, limit.currentLimit() + " <= 10");
+    }
+
+    @Test
+    void limitShrinksWhenRequestTimeIncreases() {
+        VegasLimit limit = new VegasLimit(20, 100, 3, 6, 30.0);
+        // Establish the lowest request time
+        complete(limit, 20, 1_000);
+        long initial = limit.currentLimit();
+        // The requests take much longer, they queue up
+        for (int i = 0; i < 10; i++) {
+            complete(limit, (int) limit.currentLimit(), 10_000);
+        }
+        assertTrue(limit.currentLimit() < initial, limit.currentLimit() + " >= " + initial);
+    }
+
+    @Test
+    void limitStaysWithinBounds() {
+        VegasLimit limit = new VegasLimit(10, 12, 3, 6, 30.0);
+        for (int i = 0; i < 10; i++) {
+            complete(limit, (int) limit.currentLimit(), 100);
+        }
+        assertEquals(12, limit.currentLimit());
+    }
+
+    @Test
+    void limitGrowsWithConcurrentRecords() throws InterruptedException {
+        VegasLimit limit = new VegasLimit(10, 1_000, 3, 6, 30.0);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    limit.record(100, (int) limit.currentLimit());
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(limit.currentLimit() > 10, limit.currentLimit() + " <= 10");
+    }
+
+    private static void complete(VegasLimit limit, int concurrency, long timeInMicros) {
+        for (int current = concurrency; current > 0; current--) {
+            limit.record(timeInMicros, current);
+        }
+    }
+}
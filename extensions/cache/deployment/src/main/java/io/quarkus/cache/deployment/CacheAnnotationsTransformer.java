@@ -3,6 +3,7 @@
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_LIST;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_KEY;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_KEYS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_KEY_PARAMETER_POSITIONS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
 import static org.jboss.jandex.AnnotationInstance.create;
@@ -35,18 +36,27 @@ public void transform(TransformationContext context) {
             for (AnnotationInstance annotation : method.annotations(CACHE_KEY)) {
                 positions.add(createShortValue("", annotation.target().asMethodParameter().position()));
             }
+            List<AnnotationValue> values = new ArrayList<>();
             if (!positions.isEmpty()) {
-                AnnotationValue annotationValue = createArrayValue("value", toArray(positions));
-                AnnotationInstance binding = create(CACHE_KEY_PARAMETER_POSITIONS, method,
-                        new AnnotationValue[] { annotationValue });
+                values.add(createArrayValue("value", toArray(positions)));
+            }
+            if (method.hasAnnotation(CACHE_RESULT)) {
+                // The validation phase guarantees that at most one parameter is annotated with @CacheKeys.
+                for (AnnotationInstance annotation : method.annotations(CACHE_KEYS)) {
+                    values.add(createShortValue("keysPosition", annotation.target().asMethodParameter().position()));
+                }
+            }
+            if (!values.isEmpty()) {
+                AnnotationInstance binding = create(CACHE_KEY_PARAMETER_POSITIONS, method, toArray(values));
                 context.transform().add(binding).done();
             }
         }
     }
 
     private boolean requiresCacheKeyParameterPositionsInterceptorBinding(MethodInfo method) {
-        return method.hasAnnotation(CACHE_KEY) && (method.hasAnnotation(CACHE_INVALIDATE)
-                || method.hasAnnotation(CACHE_INVALIDATE_LIST) || method.hasAnnotation(CACHE_RESULT));
+        return (method.hasAnnotation(CACHE_KEY) && (method.hasAnnotation(CACHE_INVALIDATE)
+                || method.hasAnnotation(CACHE_INVALIDATE_LIST) || method.hasAnnotation(CACHE_RESULT)))
+                || (method.hasAnnotation(CACHE_KEYS) && method.hasAnnotation(CACHE_RESULT));
     }
 
     private AnnotationValue[] toArray(List<AnnotationValue> parameters) {
@@ -1,13 +1,18 @@
 package io.quarkus.cache.deployment;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
 
 import org.jboss.jandex.DotName;
 
 import io.quarkus.cache.CacheInvalidate;
 import io.quarkus.cache.CacheInvalidateAll;
 import io.quarkus.cache.CacheKey;
+import io.quarkus.cache.CacheKeys;
 import io.quarkus.cache.CacheName;
 import io.quarkus.cache.CacheResult;
 import io.quarkus.cache.runtime.CacheInvalidateAllInterceptor;
@@ -15,6 +20,7 @@
 import io.quarkus.cache.runtime.CacheKeyParameterPositions;
 import io.quarkus.cache.runtime.CacheResultInterceptor;
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
 
 public class CacheDeploymentConstants {
 
@@ -26,6 +32,7 @@ public class CacheDeploymentConstants {
     public static final DotName CACHE_INVALIDATE_LIST = dotName(CacheInvalidate.List.class);
     public static final DotName CACHE_RESULT = dotName(CacheResult.class);
     public static final DotName CACHE_KEY = dotName(CacheKey.class);
+    public static final DotName CACHE_KEYS = dotName(CacheKeys.class);
     public static final List<DotName> INTERCEPTOR_BINDINGS = Arrays.asList(CACHE_RESULT, CACHE_INVALIDATE,
             CACHE_INVALIDATE_ALL);
     public static final List<DotName> INTERCEPTOR_BINDING_CONTAINERS = Arrays.asList(CACHE_INVALIDATE_LIST,
@@ -40,6 +47,14 @@ public class CacheDeploymentConstants {
 
     // Mutiny.
     public static final DotName MULTI = dotName(Multi.class);
+    public static final DotName UNI = dotName(Uni.class);
+
+    // JDK types.
+    public static final DotName COLLECTION = dotName(Collection.class);
+    public static final DotName SET = dotName(Set.class);
+    public static final DotName LIST = dotName(List.class);
+    public static final DotName MAP = dotName(Map.class);
+    public static final DotName COMPLETION_STAGE = dotName(CompletionStage.class);
 
     // Annotations parameters.
     public static final String CACHE_NAME_PARAM = "cacheName";
@@ -5,14 +5,21 @@
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL_LIST;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_LIST;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_KEY;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_KEYS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME_PARAM;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.COLLECTION;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.COMPLETION_STAGE;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTORS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDINGS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDING_CONTAINERS;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.LIST;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.MAP;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.MULTI;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.REGISTER_REST_CLIENT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.SET;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.UNI;
 import static io.quarkus.cache.runtime.CacheBuildConfig.CAFFEINE_CACHE_TYPE;
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.runtime.metrics.MetricsFactory.MICROMETER;
@@ -48,6 +55,7 @@
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
 import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.deployment.exception.CacheKeysTargetException;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.KeyGeneratorConstructorException;
 import io.quarkus.cache.deployment.exception.PrivateMethodTargetException;
@@ -207,6 +215,9 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
                         LOGGER.warnf("@CacheResult is not currently supported on a method returning %s [class=%s, method=%s]",
                                 MULTI, methodInfo.declaringClass().name(), methodInfo.name());
                     }
+                    if (methodInfo.hasAnnotation(CACHE_KEYS)) {
+                        throwables.addAll(validateCacheKeysTarget(binding, methodInfo));
+                    }
                 }
                 break;
             default:
@@ -216,6 +227,38 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
         return throwables;
     }
 
+    private List<Throwable> validateCacheKeysTarget(AnnotationInstance binding, MethodInfo methodInfo) {
+        List<Throwable> throwables = new ArrayList<>();
+        List<AnnotationInstance> cacheKeys = methodInfo.annotations(CACHE_KEYS);
+        if (cacheKeys.size() > 1) {
+            throwables.add(new CacheKeysTargetException(methodInfo, "only one parameter can be annotated with @CacheKeys"));
+        }
+        if (methodInfo.hasAnnotation(CACHE_KEY)) {
+            throwables.add(new CacheKeysTargetException(methodInfo, "@CacheKeys cannot be combined with @CacheKey"));
+        }
+        if (binding.value("keyGenerator") != null) {
+            // The keys are built from the collection elements and the other arguments, a key generator would be ignored
+            throwables.add(new CacheKeysTargetException(methodInfo, "@CacheKeys cannot be combined with a key generator"));
+        }
+        for (AnnotationInstance annotation : cacheKeys) {
+            DotName parameterType = methodInfo.parameterType(annotation.target().asMethodParameter().position()).name();
+            if (!COLLECTION.equals(parameterType) && !SET.equals(parameterType) && !LIST.equals(parameterType)) {
+                throwables.add(new CacheKeysTargetException(methodInfo,
+                        "the parameter annotated with @CacheKeys must be a Collection, a Set or a List"));
+            }
+        }
+        Type returnType = methodInfo.returnType();
+        if ((UNI.equals(returnType.name()) || COMPLETION_STAGE.equals(returnType.name()))
+                && returnType.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+            returnType = returnType.asParameterizedType().arguments().get(0);
+        }
+        if (!MAP.equals(returnType.name())) {
+            throwables.add(new CacheKeysTargetException(methodInfo,
+                    "the method must return a Map, a Uni<Map> or a CompletionStage<Map>"));
+        }
+        return throwables;
+    }
+
     private Optional<DotName> findCacheKeyGenerator(AnnotationInstance binding, AnnotationTarget target) {
         if (target.kind() == METHOD && (CACHE_RESULT.equals(binding.name()) || CACHE_INVALIDATE.equals(binding.name()))) {
             AnnotationValue keyGenerator = binding.value("keyGenerator");
@@ -308,12 +351,14 @@ List<BytecodeTransformerBuildItem> enhanceRestClientMethods(CombinedIndexBuildIt
 
                     if (transform) {
                         short[] cacheKeyParameterPositions = getCacheKeyParameterPositions(methodInfo);
+                        short cacheKeysParameterPosition = getCacheKeysParameterPosition(methodInfo);
                         /*
                          * The bytecode transformation is always performed even if `cacheKeyParameterPositions` is empty because
                          * the method parameters would be inspected using reflection at run time otherwise.
                          */
                         bytecodeTransformers.add(new BytecodeTransformerBuildItem(classInfo.toString(),
-                                new RestClientMethodEnhancer(methodInfo.name(), cacheKeyParameterPositions)));
+                                new RestClientMethodEnhancer(methodInfo.name(), cacheKeyParameterPositions,
+                                        cacheKeysParameterPosition)));
                     }
                 }
             }
@@ -351,4 +396,20 @@ private short[] getCacheKeyParameterPositions(MethodInfo methodInfo) {
         }
         return result;
     }
+
+    /**
+     * Returns the position of the given method parameter annotated with {@link io.quarkus.cache.CacheKeys @CacheKeys}, or
+     * {@code -1} if no such parameter is found.
+     *
+     * @param methodInfo method info
+     * @return cache keys parameter position
+     */
+    private short getCacheKeysParameterPosition(MethodInfo methodInfo) {
+        if (methodInfo.hasAnnotation(CACHE_RESULT)) {
+            for (AnnotationInstance annotation : methodInfo.annotations(CACHE_KEYS)) {
+                return annotation.target().asMethodParameter().position();
+            }
+        }
+        return -1;
+    }
 }
@@ -24,10 +24,12 @@ class RestClientMethodEnhancer implements BiFunction<String, ClassVisitor, Class
 
     private final String methodName;
     private final short[] cacheKeyParameterPositions;
+    private final short cacheKeysParameterPosition;
 
-    public RestClientMethodEnhancer(String methodName, short[] cacheKeyParameterPositions) {
+    public RestClientMethodEnhancer(String methodName, short[] cacheKeyParameterPositions, short cacheKeysParameterPosition) {
         this.methodName = methodName;
         this.cacheKeyParameterPositions = cacheKeyParameterPositions;
+        this.cacheKeysParameterPosition = cacheKeysParameterPosition;
     }
 
     @Override
@@ -55,6 +57,10 @@ public void visitEnd() {
                             AnnotationVisitor annotation = super.visitAnnotation(CACHE_KEY_PARAMETER_POSITIONS_DESCRIPTOR,
                                     true);
                             annotation.visit("value", cacheKeyParameterPositions);
+                            if (cacheKeysParameterPosition >= 0) {
+                                // The method parameter at this position is annotated with @CacheKeys.
+                                annotation.visit("keysPosition", cacheKeysParameterPosition);
+                            }
                             annotation.visitEnd();
                             super.visitEnd();
                         }
@@ -0,0 +1,24 @@
+package io.quarkus.cache.deployment.exception;
+
+import org.jboss.jandex.MethodInfo;
+
+/**
+ * This exception is thrown at build time during the validation phase if a method annotated with
+ * {@link io.quarkus.cache.CacheResult @CacheResult} has a parameter annotated with {@link io.quarkus.cache.CacheKeys
+ * @CacheKeys} but does not meet the requirements of a bulk cached method.
+ */
+@SuppressWarnings("serial")
+public class CacheKeysTargetException extends RuntimeException {
+
+    private final MethodInfo methodInfo;
+
+    public CacheKeysTargetException(MethodInfo methodInfo, String reason) {
+        super("Invalid usage of @CacheKeys, " + reason + " [class=" + methodInfo.declaringClass().name() + ", method="
+                + methodInfo.name() + "]");
+        this.methodInfo = methodInfo;
+    }
+
+    public MethodInfo getMethodInfo() {
+        return methodInfo;
+    }
+}
@@ -0,0 +1,158 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheKeys;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CompositeCacheKey;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the {@link CacheKeys} annotation and the bulk methods of the programmatic API.
+ */
+public class CacheKeysTest {
+
+    private static final String CACHE_NAME = "bulk-cache";
+    private static final String ASYNC_CACHE_NAME = "bulk-async-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot(jar -> jar.addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @CacheName(ASYNC_CACHE_NAME)
+    Cache asyncCache;
+
+    @BeforeEach
+    public void clearInvocations() {
+        cachedService.loadInvocations.clear();
+        cachedService.loadAsyncInvocations.clear();
+    }
+
+    @Test
+    public void testOnlyMissingKeysAreLoaded() {
+        Map<String, String> result = cachedService.load(List.of("a", "b"), "-v1");
+        assertEquals(Map.of("a", "a-v1", "b", "b-v1"), result);
+        assertEquals(List.of(Set.of("a", "b")), cachedService.loadInvocations);
+
+        // Only "c" is missing from the cache.
+        result = cachedService.load(List.of("a", "b", "c"), "-v1");
+        assertEquals(Map.of("a", "a-v1", "b", "b-v1", "c", "c-v1"), result);
+        assertEquals(List.of(Set.of("a", "b"), Set.of("c")), cachedService.loadInvocations);
+
+        // All keys are cached, the method is not invoked.
+        result = cachedService.load(List.of("c", "a"), "-v1");
+        assertEquals(Map.of("a", "a-v1", "c", "c-v1"), result);
+        assertEquals(2, cachedService.loadInvocations.size());
+
+        // The other argument is part of the cache keys, which are shared with the single key API.
+        assertEquals("b-v1", cache.get(new CompositeCacheKey("b", "-v1"), k -> "unexpected").await().indefinitely());
+    }
+
+    @Test
+    public void testOtherArgumentsArePartOfTheKeys() {
+        Map<String, String> result = cachedService.load(List.of("e", "f"), "-v1");
+        assertEquals(Map.of("e", "e-v1", "f", "f-v1"), result);
+
+        // The entries cached for another value of the other argument are not returned.
+        result = cachedService.load(List.of("e", "f"), "-v2");
+        assertEquals(Map.of("e", "e-v2", "f", "f-v2"), result);
+        assertEquals(List.of(Set.of("e", "f"), Set.of("e", "f")), cachedService.loadInvocations);
+
+        result = cachedService.load(List.of("e"), "-v2");
+        assertEquals(Map.of("e", "e-v2"), result);
+        assertEquals(2, cachedService.loadInvocations.size());
+    }
+
+    @Test
+    public void testAbsentKeysAreNotCached() {
+        Map<String, String> result = cachedService.load(List.of("d", "missing"), "-v1");
+        assertEquals(Map.of("d", "d-v1"), result);
+        assertFalse(result.containsKey("missing"));
+
+        result = cachedService.load(List.of("d", "missing"), "-v1");
+        assertEquals(Map.of("d", "d-v1"), result);
+        // The absent key is loaded again.
+        assertTrue(cachedService.loadInvocations.contains(Set.of("missing")));
+    }
+
+    @Test
+    public void testAsyncBulkMethod() {
+        Map<Integer, String> result = cachedService.loadAsync(Set.of(1, 2)).await().indefinitely();
+        assertEquals(Map.of(1, "1", 2, "2"), result);
+        result = cachedService.loadAsync(Set.of(1, 2, 3)).await().indefinitely();
+        assertEquals(Map.of(1, "1", 2, "2", 3, "3"), result);
+        assertEquals(List.of(Set.of(1, 2), Set.of(3)), cachedService.loadAsyncInvocations);
+    }
+
+    @Test
+    public void testProgrammaticApi() {
+        Map<String, String> result = cache.<String, String> getAll(List.of("x", "y"), keys -> {
+            Map<String, String> values = new HashMap<>();
+            for (String key : keys) {
+                values.put(key, key.toUpperCase());
+            }
+            return values;
+        }).await().indefinitely();
+        assertEquals(Map.of("x", "X", "y", "Y"), result);
+
+        result = cache.<String, String> getAllAsync(List.of("x", "z"),
+                keys -> Uni.createFrom().item(Map.of("z", "z!"))).await().indefinitely();
+        assertEquals(Map.of("x", "X", "z", "z!"), result);
+
+        // A bulk method with a single parameter uses the elements as cache keys.
+        assertEquals(Map.of(10, "10"), cachedService.loadAsync(Set.of(10)).await().indefinitely());
+        assertEquals("10", asyncCache.get(10, k -> "unexpected").await().indefinitely());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        final List<Set<String>> loadInvocations = new CopyOnWriteArrayList<>();
+        final List<Set<Integer>> loadAsyncInvocations = new CopyOnWriteArrayList<>();
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public Map<String, String> load(@CacheKeys List<String> keys, String suffix) {
+            loadInvocations.add(Set.copyOf(keys));
+            Map<String, String> result = new HashMap<>();
+            for (String key : keys) {
+                if (!key.equals("missing")) {
+                    result.put(key, key + suffix);
+                }
+            }
+            return result;
+        }
+
+        @CacheResult(cacheName = ASYNC_CACHE_NAME)
+        public Uni<Map<Integer, String>> loadAsync(@CacheKeys Set<Integer> keys) {
+            loadAsyncInvocations.add(Set.copyOf(keys));
+            Map<Integer, String> result = new HashMap<>();
+            for (Integer key : keys) {
+                result.put(key, key.toString());
+            }
+            return Uni.createFrom().item(result);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+public class RefreshAfterWriteTest {
+
+    private static final String REFRESH_CACHE = "refresh-cache";
+    private static final String STALE_CACHE = "stale-cache";
+    private static final String FAILING_CACHE = "failing-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClass(CachedService.class))
+            .overrideConfigKey("quarkus.cache.caffeine.refresh-after-write", "200ms")
+            .overrideConfigKey("quarkus.cache.caffeine." + STALE_CACHE + ".stale-if-error", "true");
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testStaleValueIsReturnedWhileRefreshing() throws InterruptedException {
+        assertEquals(1, cachedService.refresh());
+        assertEquals(1, cachedService.refresh());
+
+        Thread.sleep(300L);
+        // The stale value is returned, and the reload is done in the background
+        assertEquals(1, cachedService.refresh());
+        await().atMost(Duration.ofSeconds(5L)).until(() -> cachedService.refresh() == 2);
+        assertEquals(2, cachedService.refresh());
+    }
+
+    @Test
+    public void testAsyncStaleValueIsReturnedWhileRefreshing() throws InterruptedException {
+        assertEquals(1, cachedService.refreshAsync().await().indefinitely());
+
+        Thread.sleep(300L);
+        assertEquals(1, cachedService.refreshAsync().await().indefinitely());
+        await().atMost(Duration.ofSeconds(5L)).until(() -> cachedService.refreshAsync().await().indefinitely() == 2);
+    }
+
+    @Test
+    public void testStaleValueIsKeptOnError() throws InterruptedException {
+        assertEquals(1, cachedService.stale());
+        cachedService.failing = true;
+        try {
+            Thread.sleep(300L);
+            assertEquals(1, cachedService.stale());
+            await().atMost(Duration.ofSeconds(5L)).until(() -> cachedService.staleInvocations.get() >= 2);
+            // The reload failed, the stale value is still returned and the reload is retried
+            assertEquals(1, cachedService.stale());
+            await().atMost(Duration.ofSeconds(5L)).until(() -> cachedService.staleInvocations.get() >= 3);
+        } finally {
+            cachedService.failing = false;
+        }
+        await().atMost(Duration.ofSeconds(5L)).until(() -> cachedService.stale() > 1);
+    }
+
+    @Test
+    public void testValueIsRemovedOnError() throws InterruptedException {
+        assertEquals(1, cachedService.failingRefresh());
+        cachedService.failing = true;
+        try {
+            Thread.sleep(300L);
+            assertEquals(1, cachedService.failingRefresh());
+            await().atMost(Duration.ofSeconds(5L)).until(() -> cachedService.failingInvocations.get() >= 2);
+            // The entry was removed after the failed reload, the next call computes the value again
+            await().atMost(Duration.ofSeconds(5L)).untilAsserted(
+                    () -> assertThrows(IllegalStateException.class, () -> cachedService.failingRefresh()));
+        } finally {
+            cachedService.failing = false;
+        }
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        final AtomicInteger refreshInvocations = new AtomicInteger();
+        final AtomicInteger refreshAsyncInvocations = new AtomicInteger();
+        final AtomicInteger staleInvocations = new AtomicInteger();
+        final AtomicInteger failingInvocations = new AtomicInteger();
+        volatile boolean failing;
+
+        @CacheResult(cacheName = REFRESH_CACHE)
+        public int refresh() {
+            return refreshInvocations.incrementAndGet();
+        }
+
+        @CacheResult(cacheName = REFRESH_CACHE + "-async")
+        public Uni<Integer> refreshAsync() {
+            return Uni.createFrom().item(refreshAsyncInvocations::incrementAndGet);
+        }
+
+        @CacheResult(cacheName = STALE_CACHE)
+        public int stale() {
+            int invocation = staleInvocations.incrementAndGet();
+            if (failing) {
+                throw new IllegalStateException("Unable to compute the value");
+            }
+            return invocation;
+        }
+
+        @CacheResult(cacheName = FAILING_CACHE)
+        public int failingRefresh() {
+            int invocation = failingInvocations.incrementAndGet();
+            if (failing) {
+                throw new IllegalStateException("Unable to compute the value");
+            }
+            return invocation;
+        }
+    }
+}
@@ -1,5 +1,13 @@
 package io.quarkus.cache;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -55,6 +63,96 @@ public interface Cache {
      */
     <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader);
 
+    /**
+     * Returns a lazy asynchronous action that will emit the cache values identified by {@code keys}, obtaining the values of
+     * the missing keys from {@code bulkLoader} if necessary. The loader is only invoked with keys that are not already
+     * associated with a value.
+     * <p>
+     * The emitted map only contains the keys associated with a non-null value. The keys which are not part of the map
+     * returned by the loader, or which are mapped to {@code null}, are not cached.
+     * <p>
+     * The default implementation loads each missing key separately, invoking the loader once per missing key with a
+     * singleton set. Only the Caffeine and Redis caches, and the no-op cache, override it to invoke the loader at most
+     * once, with all the missing keys.
+     *
+     * @param <K> cache key type
+     * @param <V> cache value type
+     * @param keys cache keys
+     * @param bulkLoader function used to compute the cache values of the keys not already associated with a value
+     * @return a lazy asynchronous action that will emit the cache values
+     * @throws NullPointerException if a key is {@code null}
+     * @throws CacheException if an exception is thrown during the cache values computation
+     */
+    default <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        List<K> distinctKeys = new ArrayList<>(new LinkedHashSet<>(keys));
+        List<Uni<V>> values = new ArrayList<>(distinctKeys.size());
+        for (K key : distinctKeys) {
+            values.add(get(key, new Function<K, V>() {
+                @Override
+                public V apply(K k) {
+                    return bulkLoader.apply(Collections.singleton(k)).get(k);
+                }
+            }));
+        }
+        return joinValues(distinctKeys, values);
+    }
+
+    /**
+     * Returns a lazy asynchronous action that will emit the cache values identified by {@code keys}, obtaining the values of
+     * the missing keys from {@code bulkLoader} if necessary. The loader is only invoked with keys that are not already
+     * associated with a value.
+     * <p>
+     * The emitted map only contains the keys associated with a non-null value. The keys which are not part of the map
+     * emitted by the loader, or which are mapped to {@code null}, are not cached.
+     * <p>
+     * The default implementation loads each missing key separately, invoking the loader once per missing key with a
+     * singleton set. Only the Caffeine and Redis caches, and the no-op cache, override it to invoke the loader at most
+     * once, with all the missing keys.
+     *
+     * @param <K> cache key type
+     * @param <V> cache value type
+     * @param keys cache keys
+     * @param bulkLoader function used to compute the cache values of the keys not already associated with a value
+     * @return a lazy asynchronous action that will emit the cache values
+     * @throws NullPointerException if a key is {@code null}
+     */
+    default <K, V> Uni<Map<K, V>> getAllAsync(Collection<K> keys, Function<Set<K>, Uni<Map<K, V>>> bulkLoader) {
+        List<K> distinctKeys = new ArrayList<>(new LinkedHashSet<>(keys));
+        List<Uni<V>> values = new ArrayList<>(distinctKeys.size());
+        for (K key : distinctKeys) {
+            values.add(getAsync(key, new Function<K, Uni<V>>() {
+                @Override
+                public Uni<V> apply(K k) {
+                    return bulkLoader.apply(Collections.singleton(k)).map(new Function<Map<K, V>, V>() {
+                        @Override
+                        public V apply(Map<K, V> loaded) {
+                            return loaded.get(k);
+                        }
+                    });
+                }
+            }));
+        }
+        return joinValues(distinctKeys, values);
+    }
+
+    private static <K, V> Uni<Map<K, V>> joinValues(List<K> keys, List<Uni<V>> values) {
+        if (keys.isEmpty()) {
+            return Uni.createFrom().item(Collections.emptyMap());
+        }
+        return Uni.join().all(values).andFailFast().map(new Function<List<V>, Map<K, V>>() {
+            @Override
+            public Map<K, V> apply(List<V> list) {
+                Map<K, V> result = new LinkedHashMap<>();
+                for (int i = 0; i < list.size(); i++) {
+                    if (list.get(i) != null) {
+                        result.put(keys.get(i), list.get(i));
+                    }
+                }
+                return result;
+            }
+        });
+    }
+
     /**
      * Removes the cache entry identified by {@code key} from the cache. If the key does not identify any cache entry, nothing
      * will happen.
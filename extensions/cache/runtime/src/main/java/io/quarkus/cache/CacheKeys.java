@@ -0,0 +1,28 @@
+package io.quarkus.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * When a method argument is annotated with {@link CacheKeys}, each element of the argument is a cache key during an
+ * invocation of a method annotated with {@link CacheResult}. The argument must be a {@link java.util.Collection},
+ * {@link java.util.Set} or {@link java.util.List}, and the method must return a {@link java.util.Map} associating the keys
+ * with their values, or a {@code Uni} or {@code CompletionStage} of such a map.
+ * <p>
+ * The values associated with some of the keys are retrieved from the cache. The method is only invoked if some keys are
+ * missing, and then once, with an argument containing the missing keys only. The keys that are not part of the map
+ * returned by the method, or that are mapped to {@code null}, are not cached.
+ * <p>
+ * If the method has other parameters, they are passed unchanged and are part of the cache keys: each element is cached
+ * under a {@link CompositeCacheKey} built from all the method arguments, the element taking the place of the collection.
+ * This is the key a method with the same parameters and a single key in place of the collection would use.
+ * <p>
+ * This annotation cannot be combined with {@link CacheKey} or with the {@link CacheResult#keyGenerator() keyGenerator}
+ * parameter, the build fails otherwise. The {@link CacheResult#lockTimeout() lockTimeout} parameter is ignored.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface CacheKeys {
+}
@@ -75,6 +75,28 @@ interface CaffeineCacheConfig {
              */
             Optional<Duration> expireAfterAccess();
 
+            /**
+             * Specifies that an entry should be refreshed once a fixed duration has elapsed after the entry's creation, or the
+             * most recent replacement of its value. The first read of such an entry returns the current value and triggers an
+             * asynchronous reload, so the callers do not wait for the value computation when the entry becomes stale. A
+             * blocking value computation is executed on a worker thread. Only one reload is executed at a time for a given
+             * entry.
+             * <p>
+             * This value should be lower than the {@code expire-after-write} value, otherwise the entries are removed before
+             * they can be refreshed.
+             */
+            Optional<Duration> refreshAfterWrite();
+
+            /**
+             * Whether the current value of an entry is kept when its asynchronous reload fails. If disabled, the entry is
+             * removed and the next read computes the value again, propagating the failure to the caller if the computation
+             * fails again. If enabled, the current value is still returned and the reload is retried on the next read,
+             * until the entry expires.
+             * <p>
+             * This is only used when {@code refresh-after-write} is set.
+             */
+            Optional<Boolean> staleIfError();
+
             /**
              * Whether or not metrics are recorded if the application depends on the Micrometer extension. Setting this
              * value to {@code true} will enable the accumulation of cache stats inside Caffeine.
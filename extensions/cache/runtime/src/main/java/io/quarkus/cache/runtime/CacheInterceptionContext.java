@@ -9,12 +9,19 @@
 
     private final List<T> interceptorBindings;
     private final List<Short> cacheKeyParameterPositions;
+    private final short cacheKeysParameterPosition;
 
     public CacheInterceptionContext(List<T> interceptorBindings, List<Short> cacheKeyParameterPositions) {
+        this(interceptorBindings, cacheKeyParameterPositions, (short) -1);
+    }
+
+    public CacheInterceptionContext(List<T> interceptorBindings, List<Short> cacheKeyParameterPositions,
+            short cacheKeysParameterPosition) {
         Objects.requireNonNull(interceptorBindings);
         Objects.requireNonNull(cacheKeyParameterPositions);
         this.interceptorBindings = Collections.unmodifiableList(interceptorBindings);
         this.cacheKeyParameterPositions = Collections.unmodifiableList(cacheKeyParameterPositions);
+        this.cacheKeysParameterPosition = cacheKeysParameterPosition;
     }
 
     public List<T> getInterceptorBindings() {
@@ -24,4 +31,11 @@ public List<T> getInterceptorBindings() {
     public List<Short> getCacheKeyParameterPositions() {
         return cacheKeyParameterPositions;
     }
+
+    /**
+     * @return the position of the {@link io.quarkus.cache.CacheKeys CacheKeys}-annotated parameter, or {@code -1}
+     */
+    public short getCacheKeysParameterPosition() {
+        return cacheKeysParameterPosition;
+    }
 }
@@ -28,6 +28,7 @@
 import io.quarkus.cache.CacheException;
 import io.quarkus.cache.CacheKey;
 import io.quarkus.cache.CacheKeyGenerator;
+import io.quarkus.cache.CacheKeys;
 import io.quarkus.cache.CacheManager;
 import io.quarkus.cache.CompositeCacheKey;
 import io.smallrye.mutiny.Uni;
@@ -78,16 +79,19 @@ private <T> Optional<CacheInterceptionContext<T>> getArcCacheInterceptionContext
         }
         List<T> interceptorBindings = new ArrayList<>();
         List<Short> cacheKeyParameterPositions = new ArrayList<>();
+        short cacheKeysParameterPosition = -1;
         for (AbstractAnnotationLiteral binding : bindings) {
             if (binding.annotationType().isAssignableFrom(CacheKeyParameterPositions.class)) {
                 for (short position : ((CacheKeyParameterPositions) binding).value()) {
                     cacheKeyParameterPositions.add(position);
                 }
+                cacheKeysParameterPosition = ((CacheKeyParameterPositions) binding).keysPosition();
             } else if (binding.annotationType().isAssignableFrom((interceptorBindingClass))) {
                 interceptorBindings.add((T) binding);
             }
         }
-        return Optional.of(new CacheInterceptionContext<>(interceptorBindings, cacheKeyParameterPositions));
+        return Optional.of(new CacheInterceptionContext<>(interceptorBindings, cacheKeyParameterPositions,
+                cacheKeysParameterPosition));
     }
 
     @SuppressWarnings("unchecked")
@@ -96,6 +100,7 @@ private <T> CacheInterceptionContext<T> getNonArcCacheInterceptionContext(
         LOGGER.trace("Retrieving interceptor bindings using reflection");
         List<T> interceptorBindings = new ArrayList<>();
         List<Short> cacheKeyParameterPositions = new ArrayList<>();
+        short cacheKeysParameterPosition = -1;
         boolean cacheKeyParameterPositionsFound = false;
         for (Annotation annotation : invocationContext.getMethod().getAnnotations()) {
             if (annotation instanceof CacheKeyParameterPositions) {
@@ -103,6 +108,7 @@ private <T> CacheInterceptionContext<T> getNonArcCacheInterceptionContext(
                 for (short position : ((CacheKeyParameterPositions) annotation).value()) {
                     cacheKeyParameterPositions.add(position);
                 }
+                cacheKeysParameterPosition = ((CacheKeyParameterPositions) annotation).keysPosition();
             } else if (interceptorBindingClass.isInstance(annotation)) {
                 interceptorBindings.add((T) annotation);
             }
@@ -118,10 +124,13 @@ private <T> CacheInterceptionContext<T> getNonArcCacheInterceptionContext(
             for (short i = 0; i < parameters.length; i++) {
                 if (parameters[i].isAnnotationPresent(CacheKey.class)) {
                     cacheKeyParameterPositions.add(i);
+                } else if (parameters[i].isAnnotationPresent(CacheKeys.class)) {
+                    cacheKeysParameterPosition = i;
                 }
             }
         }
-        return new CacheInterceptionContext<>(interceptorBindings, cacheKeyParameterPositions);
+        return new CacheInterceptionContext<>(interceptorBindings, cacheKeyParameterPositions,
+                cacheKeysParameterPosition);
     }
 
     protected Object getCacheKey(Cache cache, Class<? extends CacheKeyGenerator> keyGeneratorClass,
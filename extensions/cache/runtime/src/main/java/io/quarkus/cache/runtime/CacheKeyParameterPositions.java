@@ -18,6 +18,9 @@
  * It helps improving performances by storing at build time the positions of {@link io.quarkus.cache.CacheKey
  * CacheKey}-annotated arguments instead of relying on reflection at run time (which is bad for performances) to identify these
  * positions.
+ * <p>
+ * It is also added on a method annotated with {@link io.quarkus.cache.CacheResult CacheResult} if one of its arguments is
+ * annotated with {@link io.quarkus.cache.CacheKeys CacheKeys}.
  */
 @InterceptorBinding
 @Retention(RetentionPolicy.RUNTIME)
@@ -26,4 +29,10 @@
 
     @Nonbinding
     short[] value() default {};
+
+    /**
+     * The position of the {@link io.quarkus.cache.CacheKeys CacheKeys}-annotated argument, or {@code -1} if there is none.
+     */
+    @Nonbinding
+    short keysPosition() default -1;
 }
@@ -1,6 +1,12 @@
 package io.quarkus.cache.runtime;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -13,6 +19,7 @@
 
 import io.quarkus.cache.CacheException;
 import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CompositeCacheKey;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.TimeoutException;
 import io.smallrye.mutiny.Uni;
@@ -46,6 +53,9 @@ public Object intercept(InvocationContext invocationContext) throws Throwable {
 
         CacheResult binding = interceptionContext.getInterceptorBindings().get(0);
         AbstractCache cache = (AbstractCache) cacheManager.getCache(binding.cacheName()).get();
+        if (interceptionContext.getCacheKeysParameterPosition() >= 0) {
+            return interceptBulk(invocationContext, cache, binding, interceptionContext.getCacheKeysParameterPosition());
+        }
         Object key = getCacheKey(cache, binding.keyGenerator(), interceptionContext.getCacheKeyParameterPositions(),
                 invocationContext.getMethod(), invocationContext.getParameters());
         LOGGER.debugf("Loading entry with key [%s] from cache [%s]", key, binding.cacheName());
@@ -133,4 +143,146 @@ public Object apply(Object k) {
         }
     }
 
+    /**
+     * Intercepts a method with a {@link io.quarkus.cache.CacheKeys CacheKeys}-annotated parameter: the method is invoked at
+     * most once, with the keys missing from the cache.
+     * <p>
+     * If the method has other parameters, each element is cached under a {@link CompositeCacheKey} built from all the method
+     * arguments, the element taking the place of the collection. This is the key a single key method with the same
+     * parameters would use.
+     */
+    @SuppressWarnings("unchecked")
+    private Object interceptBulk(InvocationContext invocationContext, AbstractCache cache, CacheResult binding,
+            short keysPosition) throws Throwable {
+        Object[] parameters = invocationContext.getParameters();
+        Collection<Object> elements = (Collection<Object>) parameters[keysPosition];
+        // Maps the cache keys to the collection elements, null if the elements are the cache keys
+        Map<Object, Object> elementsByKey;
+        Collection<Object> keys;
+        if (parameters.length == 1) {
+            elementsByKey = null;
+            keys = elements;
+        } else {
+            elementsByKey = new HashMap<>();
+            keys = new ArrayList<>(elements.size());
+            for (Object element : elements) {
+                Object key = compositeKey(parameters, keysPosition, element);
+                elementsByKey.put(key, element);
+                keys.add(key);
+            }
+        }
+        LOGGER.debugf("Loading entries with keys %s from cache [%s]", keys, binding.cacheName());
+        try {
+            ReturnType returnType = determineReturnType(invocationContext.getMethod().getReturnType());
+            if (returnType != ReturnType.NonAsync) {
+                Uni<Map<Object, Object>> cacheValues = cache.getAllAsync(keys,
+                        new Function<Set<Object>, Uni<Map<Object, Object>>>() {
+                            @Override
+                            public Uni<Map<Object, Object>> apply(Set<Object> missingKeys) {
+                                try {
+                                    Uni<Map<Object, Object>> loaded = (Uni<Map<Object, Object>>) asyncInvocationResultToUni(
+                                            proceedWithKeys(invocationContext, keysPosition,
+                                                    toElements(missingKeys, elementsByKey)),
+                                            returnType);
+                                    if (elementsByKey == null) {
+                                        return loaded;
+                                    }
+                                    return loaded.map(new Function<Map<Object, Object>, Map<Object, Object>>() {
+                                        @Override
+                                        public Map<Object, Object> apply(Map<Object, Object> values) {
+                                            return toCacheKeys(values, parameters, keysPosition);
+                                        }
+                                    });
+                                } catch (CacheException e) {
+                                    throw e;
+                                } catch (Exception e) {
+                                    throw new CacheException(e);
+                                }
+                            }
+                        });
+                if (elementsByKey != null) {
+                    cacheValues = cacheValues.map(new Function<Map<Object, Object>, Map<Object, Object>>() {
+                        @Override
+                        public Map<Object, Object> apply(Map<Object, Object> values) {
+                            return toElements(values, elementsByKey);
+                        }
+                    });
+                }
+                return createAsyncResult((Uni<Object>) (Uni<?>) cacheValues, returnType);
+            } else {
+                Map<Object, Object> values = cache.getAll(keys, new Function<Set<Object>, Map<Object, Object>>() {
+                    @Override
+                    public Map<Object, Object> apply(Set<Object> missingKeys) {
+                        try {
+                            LOGGER.debugf("Adding entries with keys %s into cache [%s]", missingKeys, binding.cacheName());
+                            Map<Object, Object> loaded = (Map<Object, Object>) proceedWithKeys(invocationContext,
+                                    keysPosition, toElements(missingKeys, elementsByKey));
+                            return elementsByKey == null ? loaded : toCacheKeys(loaded, parameters, keysPosition);
+                        } catch (CacheException e) {
+                            throw e;
+                        } catch (Throwable e) {
+                            throw new CacheException(e);
+                        }
+                    }
+                }).await().indefinitely();
+                return elementsByKey == null ? values : toElements(values, elementsByKey);
+            }
+        } catch (CacheException e) {
+            if (e.getCause() != null) {
+                throw e.getCause();
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    private static CompositeCacheKey compositeKey(Object[] parameters, short keysPosition, Object element) {
+        Object[] keyElements = parameters.clone();
+        keyElements[keysPosition] = element;
+        return new CompositeCacheKey(keyElements);
+    }
+
+    private static Set<Object> toElements(Set<Object> keys, Map<Object, Object> elementsByKey) {
+        if (elementsByKey == null) {
+            return keys;
+        }
+        Set<Object> elements = new HashSet<>();
+        for (Object key : keys) {
+            elements.add(elementsByKey.get(key));
+        }
+        return elements;
+    }
+
+    private static Map<Object, Object> toElements(Map<Object, Object> values, Map<Object, Object> elementsByKey) {
+        Map<Object, Object> result = new HashMap<>();
+        for (Map.Entry<Object, Object> entry : values.entrySet()) {
+            result.put(elementsByKey.get(entry.getKey()), entry.getValue());
+        }
+        return result;
+    }
+
+    private static Map<Object, Object> toCacheKeys(Map<Object, Object> values, Object[] parameters, short keysPosition) {
+        if (values == null) {
+            return null;
+        }
+        Map<Object, Object> result = new HashMap<>();
+        for (Map.Entry<Object, Object> entry : values.entrySet()) {
+            result.put(compositeKey(parameters, keysPosition, entry.getKey()), entry.getValue());
+        }
+        return result;
+    }
+
+    private static Object proceedWithKeys(InvocationContext invocationContext, short keysPosition, Set<Object> keys)
+            throws Exception {
+        Object[] parameters = invocationContext.getParameters().clone();
+        if (invocationContext.getMethod().getParameterTypes()[keysPosition].isInstance(keys)) {
+            parameters[keysPosition] = keys;
+        } else {
+            // The parameter is a List
+            parameters[keysPosition] = new ArrayList<>(keys);
+        }
+        invocationContext.setParameters(parameters);
+        return invocationContext.proceed();
+    }
+
 }
@@ -1,14 +1,22 @@
 package io.quarkus.cache.runtime.caffeine;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -27,6 +35,7 @@
 import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.cache.runtime.NullValueConverter;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
@@ -46,6 +55,9 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
     private final CaffeineCacheInfo cacheInfo;
     private final StatsCounter statsCounter;
     private final boolean recordStats;
+    private final long refreshAfterWriteNanos;
+    private final FixedExpiration<Object, Object> writeExpiration;
+    private final Set<Object> refreshing;
 
     public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         this.cacheInfo = cacheInfo;
@@ -58,6 +70,10 @@ public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         }
         if (cacheInfo.expireAfterWrite != null) {
             builder.expireAfterWrite(cacheInfo.expireAfterWrite);
+        } else if (cacheInfo.refreshAfterWrite != null) {
+            // The age of the entries is read from the write-based expiration policy, which is required even if the entries
+            // never expire. Caffeine's own refreshAfterWrite is not used because it needs a loader shared by all the entries.
+            builder.expireAfterWrite(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
         }
         if (cacheInfo.expireAfterAccess != null) {
             builder.expireAfterAccess(cacheInfo.expireAfterAccess);
@@ -77,6 +93,15 @@ public StatsCounter get() {
             statsCounter = StatsCounter.disabledStatsCounter();
         }
         cache = builder.buildAsync();
+        if (cacheInfo.refreshAfterWrite != null) {
+            refreshAfterWriteNanos = cacheInfo.refreshAfterWrite.toNanos();
+            writeExpiration = cache.synchronous().policy().expireAfterWrite().get();
+            refreshing = ConcurrentHashMap.newKeySet();
+        } else {
+            refreshAfterWriteNanos = 0L;
+            writeExpiration = null;
+            refreshing = null;
+        }
     }
 
     @Override
@@ -110,9 +135,11 @@ public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
                     @Override
                     public CompletionStage<V> get() {
                         // When stats are enabled we need to call statsCounter.recordHits(1)/statsCounter.recordMisses(1) accordingly
-                        StatsRecorder recorder = recordStats ? new OperationalStatsRecorder() : NoopStatsRecorder.INSTANCE;
+                        // The recorder is also needed to know whether an existing value may have to be refreshed
+                        StatsRecorder recorder = recordStats || refreshing != null ? new OperationalStatsRecorder()
+                                : NoopStatsRecorder.INSTANCE;
                         @SuppressWarnings("unchecked")
-                        CompletionStage<V> result = (CompletionStage<V>) cache.asMap().computeIfAbsent(key,
+                        CompletableFuture<Object> cacheValue = cache.asMap().computeIfAbsent(key,
                                 new Function<Object, CompletableFuture<Object>>() {
                                     @Override
                                     public CompletableFuture<Object> apply(Object key) {
@@ -123,51 +150,129 @@ public CompletableFuture<Object> apply(Object key) {
                                     }
                                 });
                         recorder.doRecord(key);
-                        return result;
+                        if (refreshing != null && !recorder.isValueAbsent()) {
+                            refreshIfNeeded(key, cacheValue, new Supplier<CompletionStage<Object>>() {
+                                @Override
+                                public CompletionStage<Object> get() {
+                                    return valueLoader.apply(key)
+                                            .map(TO_CACHE_VALUE)
+                                            .subscribeAsCompletionStage();
+                                }
+                            });
+                        }
+                        return cast(cacheValue);
                     }
                 })
                 .map(fromCacheValue())
-                .emitOn(new Executor() {
-                    // We need make sure we go back to the original context when the cache value is computed.
-                    // Otherwise, we would always emit on the context having computed the value, which could
-                    // break the duplicated context isolation.
+                .emitOn(capturedContextExecutor(context));
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        return Uni.createFrom().completionStage(new Supplier<CompletionStage<Map<K, V>>>() {
+            @Override
+            public CompletionStage<Map<K, V>> get() {
+                // As with get(...), the missing values are computed synchronously on the calling thread
+                return getAllFromCaffeine(keys, new Function<Set<K>, CompletionStage<Map<K, V>>>() {
                     @Override
-                    public void execute(Runnable command) {
-                        Context ctx = Vertx.currentContext();
-                        if (context == null) {
-                            // We didn't capture a context
-                            if (ctx == null) {
-                                // We are not on a context => we can execute immediately.
-                                command.run();
-                            } else {
-                                // We are on a context.
-                                // We cannot continue on the current context as we may share a duplicated context.
-                                // We need a new one. Note that duplicate() does not duplicate the duplicated context,
-                                // but the root context.
-                                ((ContextInternal) ctx).duplicate()
-                                        .runOnContext(new Handler<Void>() {
-                                            @Override
-                                            public void handle(Void ignored) {
-                                                command.run();
-                                            }
-                                        });
-                            }
+                    public CompletionStage<Map<K, V>> apply(Set<K> missingKeys) {
+                        return CompletableFuture.completedFuture(bulkLoader.apply(missingKeys));
+                    }
+                });
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<K> keys, Function<Set<K>, Uni<Map<K, V>>> bulkLoader) {
+        Context context = Vertx.currentContext();
+        return Uni.createFrom().completionStage(new Supplier<CompletionStage<Map<K, V>>>() {
+            @Override
+            public CompletionStage<Map<K, V>> get() {
+                return getAllFromCaffeine(keys, new Function<Set<K>, CompletionStage<Map<K, V>>>() {
+                    @Override
+                    public CompletionStage<Map<K, V>> apply(Set<K> missingKeys) {
+                        return bulkLoader.apply(missingKeys).subscribeAsCompletionStage();
+                    }
+                });
+            }
+        }).emitOn(capturedContextExecutor(context));
+    }
+
+    /**
+     * Returns a {@link CompletableFuture} holding the cache values identified by {@code keys}. As in
+     * {@link #getFromCaffeine(Object, Function)}, a placeholder is stored for each missing key before {@code bulkLoader} is
+     * invoked, so that concurrent retrievals of the same keys wait for the bulk computation instead of starting their own.
+     * Caffeine's {@code getAll} is not used because it logs every failed computation.
+     *
+     * @param keys cache keys
+     * @param bulkLoader function used to compute the cache values of the missing keys
+     * @return a {@link CompletableFuture} holding the cache values, without the keys associated with {@code null}
+     */
+    private <K, V> CompletableFuture<Map<K, V>> getAllFromCaffeine(Collection<K> keys,
+            Function<Set<K>, CompletionStage<Map<K, V>>> bulkLoader) {
+        Map<K, CompletableFuture<Object>> cacheValues = new LinkedHashMap<>();
+        Map<K, CompletableFuture<Object>> newCacheValues = new LinkedHashMap<>();
+        for (K key : keys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+            if (cacheValues.containsKey(key)) {
+                continue;
+            }
+            CompletableFuture<Object> newCacheValue = new CompletableFuture<>();
+            CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
+            if (existingCacheValue == null) {
+                cacheValues.put(key, newCacheValue);
+                newCacheValues.put(key, newCacheValue);
+            } else {
+                cacheValues.put(key, existingCacheValue);
+            }
+        }
+        statsCounter.recordHits(cacheValues.size() - newCacheValues.size());
+        statsCounter.recordMisses(newCacheValues.size());
+
+        if (!newCacheValues.isEmpty()) {
+            CompletionStage<Map<K, V>> loadedValues;
+            try {
+                loadedValues = bulkLoader.apply(Collections.unmodifiableSet(newCacheValues.keySet()));
+            } catch (Throwable t) {
+                loadedValues = CompletableFuture.failedFuture(t);
+            }
+            loadedValues.whenComplete(new BiConsumer<Map<K, V>, Throwable>() {
+                @Override
+                public void accept(Map<K, V> values, Throwable failure) {
+                    if (failure instanceof CompletionException && failure.getCause() != null) {
+                        failure = failure.getCause();
+                    }
+                    for (Map.Entry<K, CompletableFuture<Object>> entry : newCacheValues.entrySet()) {
+                        Object value = failure == null && values != null ? values.get(entry.getKey()) : null;
+                        if (failure != null) {
+                            cache.asMap().remove(entry.getKey(), entry.getValue());
+                            entry.getValue().complete(new CaffeineComputationThrowable(failure));
+                        } else if (value == null) {
+                            // Keys without value are not cached
+                            cache.asMap().remove(entry.getKey(), entry.getValue());
+                            entry.getValue().complete(NullValueConverter.toCacheValue(null));
                         } else {
-                            // We captured a context.
-                            if (ctx == context) {
-                                // We are on the same context => we can execute immediately
-                                command.run();
-                            } else {
-                                // 1) We are not on a context (ctx == null) => we need to switch to the captured context.
-                                // 2) We are on a different context (ctx != null) => we need to switch to the captured context.
-                                context.runOnContext(new Handler<Void>() {
-                                    @Override
-                                    public void handle(Void ignored) {
-                                        command.run();
-                                    }
-                                });
+                            entry.getValue().complete(value);
+                        }
+                    }
+                }
+            });
+        }
+
+        return CompletableFuture.allOf(cacheValues.values().toArray(new CompletableFuture[0]))
+                .thenApply(new Function<Void, Map<K, V>>() {
+                    @SuppressWarnings("unchecked")
+                    @Override
+                    public Map<K, V> apply(Void ignored) {
+                        Map<K, V> result = new LinkedHashMap<>();
+                        for (Map.Entry<K, CompletableFuture<Object>> entry : cacheValues.entrySet()) {
+                            Object value = unwrapCacheValue(entry.getValue().join());
+                            if (value != null) {
+                                result.put(entry.getKey(), (V) value);
                             }
                         }
+                        return result;
                     }
                 });
     }
@@ -225,29 +330,91 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
         } else {
             LOGGER.tracef("Key [%s] found in cache [%s]", key, cacheInfo.name);
             statsCounter.recordHits(1);
+            if (refreshing != null) {
+                refreshIfNeeded(key, existingCacheValue, new Supplier<CompletionStage<Object>>() {
+                    @Override
+                    public CompletionStage<Object> get() {
+                        return CompletableFuture.supplyAsync(new Supplier<Object>() {
+                            @Override
+                            public Object get() {
+                                return NullValueConverter.toCacheValue(valueLoader.apply(key));
+                            }
+                        }, Infrastructure.getDefaultWorkerPool());
+                    }
+                });
+            }
             return unwrapCacheValueOrThrowable(existingCacheValue);
         }
     }
 
-    private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
-        return cacheValue.thenApply(new Function<>() {
+    /**
+     * Reloads the value of {@code key} in the background if it is older than the {@code refresh-after-write} duration. The
+     * current value is only replaced if it has not been replaced or invalidated while the new value was computed.
+     *
+     * @param key cache key
+     * @param cacheValue the current cache value
+     * @param reload supplier of the new cache value, only called if the value has to be refreshed
+     */
+    private void refreshIfNeeded(Object key, CompletableFuture<Object> cacheValue, Supplier<CompletionStage<Object>> reload) {
+        if (!cacheValue.isDone() || cacheValue.isCompletedExceptionally()
+                || cacheValue.getNow(null) instanceof CaffeineComputationThrowable) {
+            return;
+        }
+        OptionalLong age = writeExpiration.ageOf(key, TimeUnit.NANOSECONDS);
+        if (age.isEmpty() || age.getAsLong() < refreshAfterWriteNanos || !refreshing.add(key)) {
+            return;
+        }
+        LOGGER.debugf("Refreshing entry with key [%s] in cache [%s]", key, cacheInfo.name);
+        CompletionStage<Object> newCacheValue;
+        try {
+            newCacheValue = reload.get();
+        } catch (Throwable t) {
+            newCacheValue = CompletableFuture.failedFuture(t);
+        }
+        newCacheValue.whenComplete(new BiConsumer<Object, Throwable>() {
             @Override
-            public Object apply(Object value) {
-                // If there's a throwable encapsulated into a CaffeineComputationThrowable, it must be rethrown.
-                if (value instanceof CaffeineComputationThrowable) {
-                    Throwable cause = ((CaffeineComputationThrowable) value).getCause();
-                    if (cause instanceof RuntimeException) {
-                        throw (RuntimeException) cause;
+            public void accept(Object value, Throwable failure) {
+                try {
+                    if (failure == null) {
+                        cache.asMap().replace(key, cacheValue, CompletableFuture.completedFuture(value));
+                    } else if (cacheInfo.staleIfError) {
+                        LOGGER.debugf(failure, "Unable to refresh entry with key [%s] in cache [%s], keeping the current value",
+                                key, cacheInfo.name);
                     } else {
-                        throw new CacheException(cause);
+                        LOGGER.debugf(failure, "Unable to refresh entry with key [%s] in cache [%s], removing it", key,
+                                cacheInfo.name);
+                        cache.asMap().remove(key, cacheValue);
                     }
-                } else {
-                    return NullValueConverter.fromCacheValue(value);
+                } finally {
+                    refreshing.remove(key);
                 }
             }
         });
     }
 
+    private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
+        return cacheValue.thenApply(new Function<>() {
+            @Override
+            public Object apply(Object value) {
+                return unwrapCacheValue(value);
+            }
+        });
+    }
+
+    private static Object unwrapCacheValue(Object value) {
+        // If there's a throwable encapsulated into a CaffeineComputationThrowable, it must be rethrown.
+        if (value instanceof CaffeineComputationThrowable) {
+            Throwable cause = ((CaffeineComputationThrowable) value).getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw new CacheException(cause);
+            }
+        } else {
+            return NullValueConverter.fromCacheValue(value);
+        }
+    }
+
     @Override
     public Uni<Void> invalidate(Object key) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
@@ -296,7 +463,8 @@ public <V> void put(Object key, CompletableFuture<V> valueFuture) {
     @Override
     public void setExpireAfterWrite(Duration duration) {
         Optional<FixedExpiration<Object, Object>> fixedExpiration = cache.synchronous().policy().expireAfterWrite();
-        if (fixedExpiration.isPresent()) {
+        // The policy also exists without expire-after-write value when refresh-after-write is set
+        if (fixedExpiration.isPresent() && cacheInfo.expireAfterWrite != null) {
             fixedExpiration.get().setExpiresAfter(duration);
             cacheInfo.expireAfterWrite = duration;
         } else {
@@ -353,12 +521,63 @@ private <V> Function<V, V> fromCacheValue() {
         return (Function<V, V>) FROM_CACHE_VALUE;
     }
 
+    /**
+     * Returns an executor emitting on the Vert.x context captured when the cache value was requested.
+     */
+    private static Executor capturedContextExecutor(Context context) {
+        return new Executor() {
+            // We need make sure we go back to the original context when the cache value is computed.
+            // Otherwise, we would always emit on the context having computed the value, which could
+            // break the duplicated context isolation.
+            @Override
+            public void execute(Runnable command) {
+                Context ctx = Vertx.currentContext();
+                if (context == null) {
+                    // We didn't capture a context
+                    if (ctx == null) {
+                        // We are not on a context => we can execute immediately.
+                        command.run();
+                    } else {
+                        // We are on a context.
+                        // We cannot continue on the current context as we may share a duplicated context.
+                        // We need a new one. Note that duplicate() does not duplicate the duplicated context,
+                        // but the root context.
+                        ((ContextInternal) ctx).duplicate()
+                                .runOnContext(new Handler<Void>() {
+                                    @Override
+                                    public void handle(Void ignored) {
+                                        command.run();
+                                    }
+                                });
+                    }
+                } else {
+                    // We captured a context.
+                    if (ctx == context) {
+                        // We are on the same context => we can execute immediately
+                        command.run();
+                    } else {
+                        // 1) We are not on a context (ctx == null) => we need to switch to the captured context.
+                        // 2) We are on a different context (ctx != null) => we need to switch to the captured context.
+                        context.runOnContext(new Handler<Void>() {
+                            @Override
+                            public void handle(Void ignored) {
+                                command.run();
+                            }
+                        });
+                    }
+                }
+            }
+        };
+    }
+
     private interface StatsRecorder {
 
         void onValueAbsent();
 
         <K> void doRecord(K key);
 
+        boolean isValueAbsent();
+
     }
 
     private static class NoopStatsRecorder implements StatsRecorder {
@@ -375,6 +594,11 @@ public <K> void doRecord(K key) {
             // no-op
         }
 
+        @Override
+        public boolean isValueAbsent() {
+            return false;
+        }
+
     }
 
     private class OperationalStatsRecorder implements StatsRecorder {
@@ -396,6 +620,11 @@ public <K> void doRecord(K key) {
             }
         }
 
+        @Override
+        public boolean isValueAbsent() {
+            return valueAbsent;
+        }
+
     }
 
     private static final Function<Object, Object> FROM_CACHE_VALUE = new Function<Object, Object>() {
@@ -15,6 +15,10 @@ public class CaffeineCacheInfo {
 
     public Duration expireAfterAccess;
 
+    public Duration refreshAfterWrite;
+
+    public boolean staleIfError;
+
     public boolean metricsEnabled;
 
     @Override
@@ -1,5 +1,10 @@
 package io.quarkus.cache.runtime.noop;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -35,6 +40,26 @@ public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
         return valueLoader.apply(key);
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        return Uni.createFrom().item(new Supplier<Map<K, V>>() {
+            @Override
+            public Map<K, V> get() {
+                return withoutNullValues(bulkLoader.apply(new LinkedHashSet<>(keys)));
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<K> keys, Function<Set<K>, Uni<Map<K, V>>> bulkLoader) {
+        return bulkLoader.apply(new LinkedHashSet<>(keys)).map(new Function<Map<K, V>, Map<K, V>>() {
+            @Override
+            public Map<K, V> apply(Map<K, V> values) {
+                return withoutNullValues(values);
+            }
+        });
+    }
+
     @Override
     public Uni<Void> invalidate(Object key) {
         return Uni.createFrom().voidItem();
@@ -50,4 +75,14 @@ public Uni<Void> invalidateIf(Predicate<Object> predicate) {
         return Uni.createFrom().voidItem();
     }
 
+    private static <K, V> Map<K, V> withoutNullValues(Map<K, V> values) {
+        Map<K, V> result = new LinkedHashMap<>();
+        for (Map.Entry<K, V> entry : values.entrySet()) {
+            if (entry.getValue() != null) {
+                result.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return result;
+    }
+
 }
@@ -0,0 +1,13 @@
+package io.quarkus.kafka.client.benchmarks;
+
+import java.util.List;
+
+public class Event {
+
+    public String id;
+    public String type;
+    public long timestamp;
+    public double value;
+    public boolean processed;
+    public List<String> tags;
+}
@@ -0,0 +1,133 @@
+package io.quarkus.kafka.client.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import io.quarkus.kafka.client.serialization.ObjectMapperDeserializer;
+import io.quarkus.kafka.client.serialization.ObjectMapperSerializer;
+
+/**
+ * Compares the {@link ObjectMapperSerializer} and the {@link ObjectMapperDeserializer} with their previous
+ * implementation, which wrote each record to a new {@link ByteArrayOutputStream} and read it from an
+ * {@link InputStream} without a pre-resolved reader.
+ * <p>
+ * Run with {@code -prof gc} to compare the allocation rates.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ObjectMapperSerdeBenchmark {
+
+    @Param({ "previous", "current" })
+    public String implementation;
+
+    private Serializer<Event> serializer;
+    private Deserializer<Event> deserializer;
+    private final Headers headers = new RecordHeaders();
+    private Event event;
+    private byte[] record;
+    private ByteBuffer directRecord;
+
+    @Setup
+    public void setup() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        if (implementation.equals("current")) {
+            serializer = new ObjectMapperSerializer<>(objectMapper);
+            deserializer = new ObjectMapperDeserializer<>(Event.class, objectMapper);
+        } else {
+            serializer = new PreviousSerializer<>(objectMapper);
+            deserializer = new PreviousDeserializer<>(Event.class, objectMapper);
+        }
+        event = new Event();
+        event.id = "3f2c6a4e-5b8d-4f0e-9a7c-1d2e3f4a5b6c";
+        event.type = "order-created";
+        event.timestamp = 1_700_000_000_000L;
+        event.value = 249.99;
+        event.processed = false;
+        event.tags = List.of("eu-west", "priority", "web");
+        record = serializer.serialize("events", event);
+        directRecord = ByteBuffer.allocateDirect(record.length).put(record).flip();
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize("events", headers, event);
+    }
+
+    @Benchmark
+    public Event deserialize() {
+        return deserializer.deserialize("events", headers, record);
+    }
+
+    @Benchmark
+    public Event deserializeDirectBuffer() {
+        return deserializer.deserialize("events", headers, directRecord);
+    }
+
+    private static final class PreviousSerializer<T> implements Serializer<T> {
+
+        private final ObjectMapper objectMapper;
+
+        PreviousSerializer(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public byte[] serialize(String topic, T data) {
+            try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+                objectMapper.writeValue(output, data);
+                return output.toByteArray();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    private static final class PreviousDeserializer<T> implements Deserializer<T> {
+
+        private final JavaType type;
+        private final ObjectMapper objectMapper;
+
+        PreviousDeserializer(Class<T> type, ObjectMapper objectMapper) {
+            this.type = TypeFactory.defaultInstance().constructType(type);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public T deserialize(String topic, byte[] data) {
+            try (InputStream is = new ByteArrayInputStream(data)) {
+                return objectMapper.readValue(is, type);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
@@ -1,21 +1,27 @@
 package io.quarkus.kafka.client.serialization;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.kafka.common.serialization.Deserializer;
 import org.apache.kafka.common.serialization.Serializer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 /**
  * A {@link Deserializer} that deserializes JSON using Jackson's ObjectMapper.
+ * <p>
+ * The records are written with an {@link ObjectWriter} resolved once per runtime type, into the buffers recycled by
+ * the {@link com.fasterxml.jackson.core.JsonFactory} of the mapper.
  */
 public class ObjectMapperSerializer<T> implements Serializer<T> {
     public static final String NULL_AS_NULL_CONFIG = "json.serialize.null-as-null";
 
     private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
 
     private boolean nullAsNull = false;
 
@@ -25,6 +31,7 @@ public ObjectMapperSerializer() {
 
     public ObjectMapperSerializer(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
+        this.writer = objectMapper.writer();
     }
 
     @Override
@@ -36,13 +43,24 @@ public void configure(Map<String, ?> configs, boolean isKey) {
 
     @Override
     public byte[] serialize(String topic, T data) {
-        if (nullAsNull && data == null) {
-            return null;
+        if (data == null) {
+            if (nullAsNull) {
+                return null;
+            }
+            return write(writer, null);
         }
+        // the root value is written using its runtime type, like ObjectMapper.writeValue() does
+        ObjectWriter typedWriter = writers.get(data.getClass());
+        if (typedWriter == null) {
+            typedWriter = writers.computeIfAbsent(data.getClass(), objectMapper::writerFor);
+        }
+        return write(typedWriter, data);
+    }
 
-        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
-            objectMapper.writeValue(output, data);
-            return output.toByteArray();
+    private static byte[] write(ObjectWriter writer, Object data) {
+        try {
+            // the output is accumulated in a recycled buffer, which grows to the size of the largest records
+            return writer.writeValueAsBytes(data);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -50,5 +68,6 @@ public byte[] serialize(String topic, T data) {
 
     @Override
     public void close() {
+        writers.clear();
     }
 }
@@ -4,8 +4,12 @@
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import org.apache.kafka.common.header.internals.RecordHeaders;
+
 import org.junit.jupiter.api.Test;
 
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -44,4 +48,32 @@ void shouldDeserializeNullAsNull() {
         MyEntity results = deserializer.deserialize("topic", null);
         assertNull(results);
     }
+
+    @Test
+    void shouldDeserializeHeapByteBuffer() {
+        MyEntity expected = new MyEntity(1, "entity1");
+        ObjectMapperDeserializer<MyEntity> deserializer = new ObjectMapperDeserializer<>(MyEntity.class);
+        byte[] record = "xx{\"id\":1,\"name\":\"entity1\"}yy".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(record, 2, record.length - 4).slice();
+        MyEntity actual = deserializer.deserialize("topic", new RecordHeaders(), buffer);
+        assertEquals(expected, actual);
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    void shouldDeserializeDirectByteBuffer() {
+        MyEntity expected = new MyEntity(1, "entity1");
+        ObjectMapperDeserializer<MyEntity> deserializer = new ObjectMapperDeserializer<>(MyEntity.class);
+        byte[] record = "{\"id\":1,\"name\":\"entity1\"}".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(record.length).put(record).flip();
+        MyEntity actual = deserializer.deserialize("topic", new RecordHeaders(), buffer);
+        assertEquals(expected, actual);
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    void shouldDeserializeNullByteBufferAsNull() {
+        ObjectMapperDeserializer<MyEntity> deserializer = new ObjectMapperDeserializer<>(MyEntity.class);
+        assertNull(deserializer.deserialize("topic", new RecordHeaders(), (ByteBuffer) null));
+    }
 }
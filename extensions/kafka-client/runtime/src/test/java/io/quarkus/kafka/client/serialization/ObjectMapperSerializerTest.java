@@ -46,4 +46,13 @@ void shouldSerializeNullAsNull() {
         assertNull(results);
     }
 
+
+    @Test
+    void shouldSerializeValuesOfDifferentTypes() {
+        ObjectMapperSerializer<Object> serializer = new ObjectMapperSerializer<>();
+        assertEquals("{\"id\":1,\"name\":\"entity1\"}", new String(serializer.serialize("topic", new MyEntity(1, "entity1"))));
+        assertEquals("{\"name\":\"entity2\"}", new String(serializer.serialize("topic", Map.of("name", "entity2"))));
+        assertEquals("{\"id\":3,\"name\":\"entity3\"}", new String(serializer.serialize("topic", new MyEntity(3, "entity3"))));
+    }
+
 }
@@ -0,0 +1,126 @@
+package io.quarkus.load.shedding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.load.shedding.runtime.LoadSheddingMetricsRecorder;
+import io.quarkus.load.shedding.runtime.OverloadDetector;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class LoadSheddingMetricsTest {
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .overrideConfigKey("quarkus.load-shedding.initial-limit", "5")
+            .overrideConfigKey("quarkus.load-shedding.max-limit", "10");
+
+    @Inject
+    OverloadDetector detector;
+
+    private final Map<String, Supplier<Number>> meters = new HashMap<>();
+
+    @Test
+    public void test() {
+        new LoadSheddingMetricsRecorder().registerMetrics().accept(new TestMetricsFactory());
+        assertThat(meters).containsOnlyKeys("load.shedding.limit", "load.shedding.requests.active",
+                "load.shedding.requests.shed");
+
+        assertThat(meter("load.shedding.limit")).isEqualTo(detector.currentLimit());
+        long active = meter("load.shedding.requests.active");
+        long shed = meter("load.shedding.requests.shed");
+
+        detector.requestBegin();
+        detector.requestBegin();
+        assertThat(meter("load.shedding.requests.active")).isEqualTo(active + 2);
+
+        detector.requestShed();
+        assertThat(meter("load.shedding.requests.shed")).isEqualTo(shed + 1);
+
+        detector.requestEnd(100);
+        detector.requestEnd(100);
+        assertThat(meter("load.shedding.requests.active")).isEqualTo(active);
+        assertThat(meter("load.shedding.limit")).isEqualTo(detector.currentLimit());
+    }
+
+    private long meter(String name) {
+        return meters.get(name).get().longValue();
+    }
+
+    private class TestMetricsFactory implements MetricsFactory {
+        @Override
+        public boolean metricsSystemSupported(String name) {
+            return true;
+        }
+
+        @Override
+        public MetricBuilder builder(String name, Type type) {
+            return new MetricBuilder() {
+                @Override
+                public MetricBuilder description(String description) {
+                    return this;
+                }
+
+                @Override
+                public MetricBuilder tag(String key, String value) {
+                    return this;
+                }
+
+                @Override
+                public MetricBuilder unit(String unit) {
+                    return this;
+                }
+
+                @Override
+                public void buildCounter(Supplier<Number> countFunction) {
+                    meters.put(name, countFunction);
+                }
+
+                @Override
+                public <T, R extends Number> void buildCounter(T obj, Function<T, R> countFunction) {
+                    meters.put(name, () -> countFunction.apply(obj));
+                }
+
+                @Override
+                public void buildGauge(Supplier<Number> gaugeFunction) {
+                    meters.put(name, gaugeFunction);
+                }
+
+                @Override
+                public <T, R extends Number> void buildGauge(T obj, Function<T, R> gaugeFunction) {
+                    meters.put(name, () -> gaugeFunction.apply(obj));
+                }
+
+                @Override
+                public TimeRecorder buildTimer() {
+                    return (amount, unit) -> {
+                    };
+                }
+
+                @Override
+                public Runnable buildTimer(Runnable f) {
+                    return f;
+                }
+
+                @Override
+                public <T> Callable<T> buildTimer(Callable<T> f) {
+                    return f;
+                }
+
+                @Override
+                public <T> Supplier<T> buildTimer(Supplier<T> f) {
+                    return f;
+                }
+            };
+        }
+    }
+}
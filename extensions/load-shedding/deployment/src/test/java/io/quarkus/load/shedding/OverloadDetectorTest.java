@@ -0,0 +1,122 @@
+package io.quarkus.load.shedding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.load.shedding.runtime.LoadSheddingRuntimeConfig;
+import io.quarkus.load.shedding.runtime.OverloadDetector;
+
+public class OverloadDetectorTest {
+    @Test
+    public void limitGrowsWithoutQueueing() {
+        OverloadDetector detector = new OverloadDetector(new TestConfig(10, 100));
+        for (int i = 0; i < 10; i++) {
+            detector.requestBegin();
+        }
+        assertThat(detector.isOverloaded()).isTrue();
+
+        for (int i = 0; i < 10; i++) {
+            detector.requestEnd(100);
+        }
+        assertThat(detector.currentRequests()).isZero();
+        assertThat(detector.currentLimit()).isGreaterThan(10);
+        assertThat(detector.isOverloaded()).isFalse();
+    }
+
+    @Test
+    public void limitShrinksWhenQueueing() {
+        OverloadDetector detector = new OverloadDetector(new TestConfig(100, 1000));
+        detector.requestBegin();
+        detector.requestEnd(100);
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 100; i++) {
+                detector.requestBegin();
+            }
+            for (int i = 0; i < 100; i++) {
+                detector.requestEnd(10_000);
+            }
+        }
+        assertThat(detector.currentLimit()).isLessThan(100);
+    }
+
+    @Test
+    public void concurrentRequests() throws InterruptedException {
+        int threads = 8;
+        OverloadDetector detector = new OverloadDetector(new TestConfig(100, 1000));
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                for (int i = 0; i < 100_000; i++) {
+                    detector.requestBegin();
+                    detector.isOverloaded();
+                    detector.requestEnd(50 + i % 50);
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertThat(detector.currentRequests()).isZero();
+        assertThat(detector.currentLimit()).isBetween(1L, 1000L);
+    }
+
+    private static final class TestConfig implements LoadSheddingRuntimeConfig {
+        private final int initialLimit;
+        private final int maxLimit;
+
+        TestConfig(int initialLimit, int maxLimit) {
+            this.initialLimit = initialLimit;
+            this.maxLimit = maxLimit;
+        }
+
+        @Override
+        public boolean enabled() {
+            return true;
+        }
+
+        @Override
+        public int maxLimit() {
+            return maxLimit;
+        }
+
+        @Override
+        public int alphaFactor() {
+            return 3;
+        }
+
+        @Override
+        public int betaFactor() {
+            return 6;
+        }
+
+        @Override
+        public double probeFactor() {
+            return 30.0;
+        }
+
+        @Override
+        public int initialLimit() {
+            return initialLimit;
+        }
+
+        @Override
+        public PriorityLoadShedding priority() {
+            return null;
+        }
+    }
+}
@@ -22,6 +22,7 @@ public void init(@Observes @Priority(-1_000_000_000) Router router, OverloadDete
 
         router.route().order(-1_000_000_000).handler(ctx -> {
             if (detector.isOverloaded() && priority.shedLoad(ctx.request())) {
+                detector.requestShed();
                 HttpServerResponse response = ctx.response();
                 response.setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code());
                 response.headers().add(HttpHeaderNames.CONNECTION, "close");
@@ -0,0 +1,31 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.function.Consumer;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+@Recorder
+public class LoadSheddingMetricsRecorder {
+
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                OverloadDetector detector = Arc.container().instance(OverloadDetector.class).get();
+
+                metricsFactory.builder("load.shedding.limit")
+                        .description("Current limit of concurrent requests, as estimated by the overload detector.")
+                        .buildGauge(detector::currentLimit);
+                metricsFactory.builder("load.shedding.requests.active")
+                        .description("Number of requests currently being processed.")
+                        .buildGauge(detector::currentRequests);
+                metricsFactory.builder("load.shedding.requests.shed")
+                        .description("Number of requests rejected because the application was overloaded.")
+                        .buildCounter(detector::shedRequests);
+            }
+        };
+    }
+}
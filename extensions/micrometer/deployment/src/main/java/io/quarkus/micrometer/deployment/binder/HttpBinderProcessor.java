@@ -1,5 +1,11 @@
 package io.quarkus.micrometer.deployment.binder;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.BooleanSupplier;
 
 import jakarta.inject.Singleton;
@@ -22,6 +28,8 @@
 import io.quarkus.micrometer.runtime.config.runtime.HttpClientConfig;
 import io.quarkus.micrometer.runtime.config.runtime.HttpServerConfig;
 import io.quarkus.micrometer.runtime.config.runtime.VertxConfig;
+import io.quarkus.vertx.http.deployment.spi.RouteTemplateBuildItem;
+import io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem;
 
 /**
  * Avoid directly referencing optional dependencies
@@ -63,6 +71,8 @@ SyntheticBeanBuildItem enableHttpBinders(MicrometerRecorder recorder,
             HttpServerConfig serverConfig,
             HttpClientConfig clientConfig,
             VertxConfig vertxConfig,
+            List<RouteTemplateBuildItem> routeTemplates,
+            Optional<StaticResourcesBuildItem> staticResources,
             BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
 
         boolean clientEnabled = buildTimeConfig.checkBinderEnabledWithDefault(buildTimeConfig.binder.httpClient);
@@ -73,6 +83,25 @@ SyntheticBeanBuildItem enableHttpBinders(MicrometerRecorder recorder,
             createAdditionalBean(additionalBeans, HTTP_METER_FILTER_CONFIGURATION);
         }
 
+        // Map the request paths to the routes known at build time, to limit the number of uri tag values
+        Map<String, String> serverRouteTemplates = new LinkedHashMap<>();
+        if (serverEnabled) {
+            for (RouteTemplateBuildItem routeTemplate : routeTemplates) {
+                serverRouteTemplates.putIfAbsent(routeTemplate.getPath(), routeTemplate.getTemplate());
+            }
+            if (staticResources.isPresent()) {
+                Set<String> paths = new TreeSet<>();
+                for (StaticResourcesBuildItem.Entry entry : staticResources.get().getEntries()) {
+                    if (!entry.isDirectory()) {
+                        paths.add(entry.getPath());
+                    }
+                }
+                for (String path : paths) {
+                    serverRouteTemplates.putIfAbsent(path, path);
+                }
+            }
+        }
+
         // Other things use this bean to test whether http server/client metrics are enabled
         return SyntheticBeanBuildItem
                 .configure(HttpBinderConfiguration.class)
@@ -80,7 +109,7 @@ SyntheticBeanBuildItem enableHttpBinders(MicrometerRecorder recorder,
                 .setRuntimeInit()
                 .unremovable()
                 .runtimeValue(recorder.configureHttpMetrics(serverEnabled, clientEnabled,
-                        serverConfig, clientConfig, vertxConfig))
+                        serverConfig, clientConfig, vertxConfig, serverRouteTemplates))
                 .done();
     }
 
@@ -1,5 +1,6 @@
 package io.quarkus.micrometer.deployment.export;
 
+import java.time.Duration;
 import java.util.function.BooleanSupplier;
 
 import org.jboss.logging.Logger;
@@ -98,13 +99,14 @@ void createPrometheusRoute(BuildProducer<RouteBuildItem> routes,
 
         PrometheusConfigGroup pConfig = mConfig.export.prometheus;
         log.debug("PROMETHEUS CONFIG: " + pConfig);
+        long scrapeCacheTtlMillis = pConfig.scrapeCacheTtl.map(Duration::toMillis).orElse(0L);
 
         // Exact match for resources matched to the root path
         routes.produce(nonApplicationRootPathBuildItem.routeBuilder()
                 .management()
                 .routeFunction(pConfig.path, recorder.route())
                 .routeConfigKey("quarkus.micrometer.export.prometheus.path")
-                .handler(recorder.getHandler())
+                .handler(recorder.getHandler(scrapeCacheTtlMillis))
                 .displayOnNotFoundPage("Metrics")
                 .blockingRoute()
                 .build());
@@ -113,7 +115,7 @@ void createPrometheusRoute(BuildProducer<RouteBuildItem> routes,
         routes.produce(nonApplicationRootPathBuildItem.routeBuilder()
                 .management()
                 .routeFunction(pConfig.path + (pConfig.path.endsWith("/") ? "*" : "/*"), recorder.route())
-                .handler(recorder.getHandler())
+                .handler(recorder.getHandler(scrapeCacheTtlMillis))
                 .blockingRoute()
                 .build());
 
@@ -0,0 +1,53 @@
+package io.quarkus.micrometer.deployment.binder;
+
+import static io.restassured.RestAssured.when;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.micrometer.test.HelloResource;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class UriTagOverflowTest {
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withConfigurationResource("test-logging.properties")
+            .overrideConfigKey("quarkus.micrometer.binder-enabled-default", "false")
+            .overrideConfigKey("quarkus.micrometer.binder.http-server.enabled", "true")
+            .overrideConfigKey("quarkus.micrometer.binder.http-server.max-uri-tags", "3")
+            .overrideConfigKey("quarkus.micrometer.export.prometheus.enabled", "true")
+            .overrideConfigKey("quarkus.micrometer.binder.vertx.enabled", "true")
+            .overrideConfigKey("quarkus.redis.devservices.enabled", "false")
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(HelloResource.class)
+                    .addAsResource(new StringAsset("one"), "META-INF/resources/static-1.html")
+                    .addAsResource(new StringAsset("two"), "META-INF/resources/static-2.html")
+                    .addAsResource(new StringAsset("three"), "META-INF/resources/static-3.html"));
+
+    @Inject
+    MeterRegistry registry;
+
+    @Test
+    public void test() throws Exception {
+        when().get("/hello/one").then().statusCode(200);
+        // Not matched by the endpoint, but by the route template collected at build time
+        when().post("/hello/two").then().statusCode(405);
+        when().get("/static-1.html").then().statusCode(200);
+        // The maximum number of uri tag values is reached
+        when().get("/static-2.html").then().statusCode(200);
+        when().get("/static-3.html").then().statusCode(200);
+
+        Assertions.assertEquals(1, registry.find("http.server.requests")
+                .tag("uri", "/hello/{message}").tag("status", "405").timers().size());
+        Assertions.assertEquals(1, registry.find("http.server.requests")
+                .tag("uri", "/static-1.html").timers().size());
+        Assertions.assertEquals(2, registry.get("http.server.requests")
+                .tag("uri", "OVERFLOW").timer().count());
+        Assertions.assertEquals(2, registry.get("http.server.uri.overflow").counter().count());
+    }
+}
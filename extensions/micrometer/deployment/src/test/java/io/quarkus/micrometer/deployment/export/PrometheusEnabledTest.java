@@ -1,5 +1,7 @@
 package io.quarkus.micrometer.deployment.export;
 
+import static org.hamcrest.Matchers.containsString;
+
 import java.util.Set;
 
 import jakarta.inject.Inject;
@@ -61,4 +63,22 @@ public void metricsEndpoint() {
                 .then()
                 .statusCode(200);
     }
+
+    @Test
+    public void largeScrape() {
+        // The scrape is written in several chunks
+        for (int i = 0; i < 5000; i++) {
+            promRegistry.counter("large.scrape", "index", String.valueOf(i)).increment();
+        }
+
+        RestAssured.given()
+                .accept("text/plain")
+                .get("/q/metrics")
+                .then()
+                .statusCode(200)
+                .body(containsString("large_scrape_total{index=\"0\",} 1.0"))
+                .body(containsString("large_scrape_total{index=\"4999\",} 1.0"));
+
+        Assertions.assertTrue(promRegistry.get("prometheus.scrape.size").summary().max() > 5000 * 30);
+    }
 }
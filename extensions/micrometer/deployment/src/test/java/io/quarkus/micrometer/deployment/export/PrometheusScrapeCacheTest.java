@@ -0,0 +1,65 @@
+package io.quarkus.micrometer.deployment.export;
+
+import static org.hamcrest.Matchers.containsString;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class PrometheusScrapeCacheTest {
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setFlatClassPath(true)
+            .withConfigurationResource("test-logging.properties")
+            .overrideConfigKey("quarkus.micrometer.binder-enabled-default", "false")
+            .overrideConfigKey("quarkus.micrometer.export.prometheus.enabled", "true")
+            .overrideConfigKey("quarkus.micrometer.export.prometheus.scrape-cache-ttl", "1h")
+            .overrideConfigKey("quarkus.micrometer.registry-enabled-default", "false")
+            .overrideConfigKey("quarkus.redis.devservices.enabled", "false")
+            .withEmptyApplication();
+
+    @Inject
+    PrometheusMeterRegistry registry;
+
+    @Test
+    public void testCachedScrape() {
+        registry.counter("cached.counter").increment();
+
+        String scrape = RestAssured.given()
+                .accept("text/plain")
+                .get("/q/metrics")
+                .then()
+                .statusCode(200)
+                .body(containsString("cached_counter_total 1.0"))
+                .extract().asString();
+
+        // The counter is incremented, but the scrape is served from the cache
+        registry.counter("cached.counter").increment();
+        RestAssured.given()
+                .accept("text/plain")
+                .get("/q/metrics")
+                .then()
+                .statusCode(200)
+                .body(containsString("cached_counter_total 1.0"));
+
+        // The scrape was serialized once
+        Assertions.assertEquals(1, registry.get("prometheus.scrape.duration").timer().count(), scrape);
+        Assertions.assertEquals(scrape.length(),
+                registry.get("prometheus.scrape.size").summary().totalAmount());
+
+        // Each content type has its own cache entry
+        RestAssured.given()
+                .accept("application/openmetrics-text")
+                .get("/q/metrics")
+                .then()
+                .statusCode(200)
+                .body(containsString("cached_counter_total 2.0"));
+        Assertions.assertEquals(2, registry.get("prometheus.scrape.duration").timer().count());
+    }
+}
@@ -255,10 +255,11 @@ public RuntimeValue<HttpBinderConfiguration> configureHttpMetrics(
             boolean httpClientMetricsEnabled,
             HttpServerConfig serverConfig,
             HttpClientConfig clientConfig,
-            VertxConfig vertxConfig) {
+            VertxConfig vertxConfig,
+            Map<String, String> serverRouteTemplates) {
         return new RuntimeValue<HttpBinderConfiguration>(
                 new HttpBinderConfiguration(httpServerMetricsEnabled,
                         httpClientMetricsEnabled,
-                        serverConfig, clientConfig, vertxConfig));
+                        serverConfig, clientConfig, vertxConfig, serverRouteTemplates));
     }
 }
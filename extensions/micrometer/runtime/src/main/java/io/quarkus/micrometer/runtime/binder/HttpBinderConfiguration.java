@@ -34,6 +34,8 @@ public class HttpBinderConfiguration {
 
     List<Pattern> serverIgnorePatterns = Collections.emptyList();
     Map<Pattern, String> serverMatchPatterns = Collections.emptyMap();
+    RouteTemplates serverRouteTemplates = RouteTemplates.EMPTY;
+    int serverMaxUriTags = 100;
 
     List<Pattern> clientIgnorePatterns = Collections.emptyList();
     Map<Pattern, String> clientMatchPatterns = Collections.emptyMap();
@@ -41,9 +43,19 @@ public class HttpBinderConfiguration {
     private HttpBinderConfiguration() {
     }
 
-    @SuppressWarnings("deprecation")
     public HttpBinderConfiguration(boolean httpServerMetrics, boolean httpClientMetrics,
             HttpServerConfig serverConfig, HttpClientConfig clientConfig, VertxConfig vertxConfig) {
+        this(httpServerMetrics, httpClientMetrics, serverConfig, clientConfig, vertxConfig, Collections.emptyMap());
+    }
+
+    /**
+     * @param serverRouteTemplates the path templates of the routes known at build time, relative to the HTTP root
+     *        path, mapped to the reported templates
+     */
+    @SuppressWarnings("deprecation")
+    public HttpBinderConfiguration(boolean httpServerMetrics, boolean httpClientMetrics,
+            HttpServerConfig serverConfig, HttpClientConfig clientConfig, VertxConfig vertxConfig,
+            Map<String, String> serverRouteTemplates) {
 
         serverEnabled = httpServerMetrics;
         clientEnabled = httpClientMetrics;
@@ -72,6 +84,8 @@ public HttpBinderConfiguration(boolean httpServerMetrics, boolean httpClientMetr
             serverMatchPatterns = getMatchPatterns(
                     serverConfig.matchPatterns.isPresent() ? serverConfig.matchPatterns : vertxConfig.matchPatterns,
                     defaultMatch);
+            this.serverRouteTemplates = new RouteTemplates(serverRouteTemplates, MicrometerRecorder.httpRootUri);
+            serverMaxUriTags = serverConfig.maxUriTags;
         }
 
         if (clientEnabled) {
@@ -92,6 +106,14 @@ public Map<Pattern, String> getServerMatchPatterns() {
         return serverMatchPatterns;
     }
 
+    public RouteTemplates getServerRouteTemplates() {
+        return serverRouteTemplates;
+    }
+
+    public int getServerMaxUriTags() {
+        return serverMaxUriTags;
+    }
+
     public boolean isClientEnabled() {
         return clientEnabled;
     }
@@ -165,6 +187,10 @@ public String getHttpServerActiveRequestsName() {
         return "http.server.active.requests";
     }
 
+    public String getHttpServerUriOverflowName() {
+        return "http.server.uri.overflow";
+    }
+
     public String getHttpServerPushName() {
         return "http.server.push";
     }
@@ -186,6 +212,7 @@ public HttpBinderConfiguration unwrap() {
         // not dev-mode changeable
         result.clientEnabled = this.clientEnabled;
         result.serverEnabled = this.serverEnabled;
+        result.serverMaxUriTags = this.serverMaxUriTags;
         return result.update(this);
     }
 
@@ -194,6 +221,7 @@ public HttpBinderConfiguration update(HttpBinderConfiguration httpConfig) {
         this.serverMatchPatterns = httpConfig.serverMatchPatterns;
         this.clientIgnorePatterns = httpConfig.clientIgnorePatterns;
         this.serverIgnorePatterns = httpConfig.serverIgnorePatterns;
+        this.serverRouteTemplates = httpConfig.serverRouteTemplates;
         return this;
     }
 }
@@ -0,0 +1,257 @@
+package io.quarkus.micrometer.runtime.binder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Maps the paths of the HTTP requests to the path templates of the routes known at build time, e.g. the endpoints of
+ * RESTEasy Reactive, the reactive routes and the static resources.
+ * <p>
+ * The templates are kept in a trie of path segments. Matching a path does not allocate: the segments of the path are
+ * compared in place with the literal segments of the trie. A literal segment takes precedence over a path parameter, which
+ * takes precedence over a trailing wildcard.
+ */
+public final class RouteTemplates {
+
+    public static final RouteTemplates EMPTY = new RouteTemplates(Collections.emptyMap());
+
+    private final Node root;
+    private final int size;
+
+    /**
+     * @param templates the path templates, relative to the HTTP root, mapped to the reported templates
+     * @param rootPath the HTTP root path
+     */
+    public RouteTemplates(Map<String, String> templates, String rootPath) {
+        this(prefix(templates, rootPath));
+    }
+
+    /**
+     * @param templates the absolute path templates mapped to the reported templates
+     */
+    RouteTemplates(Map<String, String> templates) {
+        Builder root = new Builder();
+        int count = 0;
+        for (Map.Entry<String, String> e : templates.entrySet()) {
+            if (root.add(split(RequestMetricInfo.normalizePath(e.getKey())), 0, toUriTemplate(e.getValue()))) {
+                count++;
+            }
+        }
+        this.root = root.build();
+        this.size = count;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param path the normalized path of a request, see {@link RequestMetricInfo#normalizePath(String)}
+     * @return the template of the route that matches the path, or {@code null}
+     */
+    public String match(String path) {
+        if (size == 0) {
+            return null;
+        }
+        if (path.length() <= 1) {
+            return root.template != null ? root.template : root.tail;
+        }
+        return match(root, path, 0);
+    }
+
+    private static String match(Node node, String path, int start) {
+        if (start >= path.length()) {
+            return node.template != null ? node.template : node.tail;
+        }
+        // start is the index of the '/' before the next segment
+        int from = start + 1;
+        int end = path.indexOf('/', from);
+        if (end < 0) {
+            end = path.length();
+        }
+        Node literal = node.literal(path, from, end);
+        if (literal != null) {
+            String template = match(literal, path, end);
+            if (template != null) {
+                return template;
+            }
+        }
+        if (node.param != null) {
+            String template = match(node.param, path, end);
+            if (template != null) {
+                return template;
+            }
+        }
+        return node.tail;
+    }
+
+    /**
+     * Converts the path parameters of Vert.x Web, e.g. {@code /item/:id}, to URI template variables, e.g.
+     * {@code /item/{id}}, and normalizes the result.
+     */
+    public static String toUriTemplate(String path) {
+        if (path.indexOf(':') >= 0) {
+            String[] segments = path.split("/");
+            for (int i = 0; i < segments.length; i++) {
+                if (segments[i].length() > 1 && segments[i].charAt(0) == ':') {
+                    segments[i] = "{" + segments[i].substring(1) + "}";
+                }
+            }
+            path = String.join("/", segments);
+        }
+        return RequestMetricInfo.normalizePath(path);
+    }
+
+    private static Map<String, String> prefix(Map<String, String> templates, String rootPath) {
+        if (rootPath == null || rootPath.isEmpty() || RequestMetricInfo.ROOT.equals(rootPath)) {
+            return templates;
+        }
+        Map<String, String> prefixed = new TreeMap<>();
+        for (Map.Entry<String, String> e : templates.entrySet()) {
+            prefixed.put(rootPath + "/" + e.getKey(), e.getValue());
+        }
+        return prefixed;
+    }
+
+    // Splits a path template in segments, the slashes of the regular expressions of the path parameters are ignored
+    private static List<String> split(String path) {
+        List<String> segments = new ArrayList<>();
+        int depth = 0;
+        int from = 1;
+        for (int i = 1; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c == '{') {
+                depth++;
+            } else if (c == '}') {
+                depth--;
+            } else if (c == '/' && depth == 0) {
+                segments.add(path.substring(from, i));
+                from = i + 1;
+            }
+        }
+        if (from < path.length()) {
+            segments.add(path.substring(from));
+        }
+        return segments;
+    }
+
+    private static boolean isTail(String segment) {
+        if (segment.endsWith("*") && !segment.contains("{")) {
+            return true;
+        }
+        // A path parameter whose regular expression matches several segments, e.g. {path: .*}
+        int colon = segment.indexOf(':');
+        return segment.startsWith("{") && colon > 0
+                && (segment.indexOf(".*", colon) > 0 || segment.indexOf(".+", colon) > 0);
+    }
+
+    private static boolean isParam(String segment) {
+        return segment.startsWith(":") || segment.contains("{");
+    }
+
+    private static final class Builder {
+
+        final TreeMap<String, Builder> literals = new TreeMap<>();
+        Builder param;
+        String template;
+        String tail;
+
+        // the first template registered for a path wins
+        boolean add(List<String> segments, int index, String value) {
+            if (index == segments.size()) {
+                if (template == null) {
+                    template = value;
+                    return true;
+                }
+                return false;
+            }
+            String segment = segments.get(index);
+            if (index == segments.size() - 1 && isTail(segment)) {
+                if (tail == null) {
+                    tail = value;
+                    return true;
+                }
+                return false;
+            }
+            Builder next;
+            if (isParam(segment)) {
+                if (param == null) {
+                    param = new Builder();
+                }
+                next = param;
+            } else {
+                next = literals.computeIfAbsent(segment, k -> new Builder());
+            }
+            return next.add(segments, index + 1, value);
+        }
+
+        Node build() {
+            String[] names = literals.keySet().toArray(new String[0]);
+            Node[] children = new Node[names.length];
+            int i = 0;
+            for (Builder child : literals.values()) {
+                children[i++] = child.build();
+            }
+            return new Node(names, children, param == null ? null : param.build(), template, tail);
+        }
+
+    }
+
+    private static final class Node {
+
+        // sorted
+        final String[] names;
+        final Node[] children;
+        final Node param;
+        final String template;
+        final String tail;
+
+        Node(String[] names, Node[] children, Node param, String template, String tail) {
+            this.names = names;
+            this.children = children;
+            this.param = param;
+            this.template = template;
+            this.tail = tail;
+        }
+
+        Node literal(String path, int from, int end) {
+            int low = 0;
+            int high = names.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = compare(names[mid], path, from, end);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return children[mid];
+                }
+            }
+            return null;
+        }
+
+        // Same order as String#compareTo
+        private static int compare(String name, String path, int from, int end) {
+            int len = end - from;
+            int n = Math.min(name.length(), len);
+            for (int i = 0; i < n; i++) {
+                char c1 = name.charAt(i);
+                char c2 = path.charAt(from + i);
+                if (c1 != c2) {
+                    return c1 - c2;
+                }
+            }
+            return name.length() - len;
+        }
+
+    }
+
+}
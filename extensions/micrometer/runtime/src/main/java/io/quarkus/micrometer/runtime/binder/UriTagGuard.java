@@ -0,0 +1,58 @@
+package io.quarkus.micrometer.runtime.binder;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+
+/**
+ * Bounds the number of values of the {@code uri} tag.
+ * <p>
+ * Once the maximum number of values is reached, the new values are collapsed into the {@link #URI_OVERFLOW} value, and
+ * the collapses are counted. The last value is reserved for the overflow, so that the meters are not denied by the
+ * {@code MeterFilter} that enforces the same maximum.
+ */
+public class UriTagGuard {
+    public static final Tag URI_OVERFLOW = Tag.of("uri", "OVERFLOW");
+
+    private final int maxValues;
+    private final Counter collapsed;
+    private final ConcurrentHashMap<String, Tag> values = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxTags the maximum number of values, including the overflow
+     * @param collapsed the counter of the collapsed values
+     */
+    public UriTagGuard(int maxTags, Counter collapsed) {
+        this.maxValues = Math.max(maxTags - 1, 0);
+        this.collapsed = collapsed;
+    }
+
+    /**
+     * @see HttpCommonTags#uri(String, String, int)
+     */
+    public Tag uri(String pathInfo, String initialPath, int code) {
+        return admit(HttpCommonTags.uri(pathInfo, initialPath, code));
+    }
+
+    Tag admit(Tag uri) {
+        Tag tag = values.get(uri.getValue());
+        if (tag != null) {
+            return tag;
+        }
+        if (values.size() < maxValues) {
+            synchronized (this) {
+                tag = values.get(uri.getValue());
+                if (tag != null) {
+                    return tag;
+                }
+                if (values.size() < maxValues) {
+                    values.put(uri.getValue(), uri);
+                    return uri;
+                }
+            }
+        }
+        collapsed.increment();
+        return URI_OVERFLOW;
+    }
+}
@@ -7,6 +7,7 @@
 import java.util.regex.Pattern;
 
 import io.quarkus.micrometer.runtime.binder.RequestMetricInfo;
+import io.quarkus.micrometer.runtime.binder.RouteTemplates;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.impl.HttpServerRequestInternal;
 import io.vertx.core.spi.observability.HttpRequest;
@@ -23,18 +24,29 @@ public class HttpRequestMetric extends RequestMetricInfo {
     protected String templatePath;
     protected String currentRoutePath;
     private final LongAdder activeRequests;
+    private final RouteTemplates routeTemplates;
 
     private boolean requestActive = false;
 
     public HttpRequestMetric(String uri, LongAdder activeRequests) {
+        this(uri, activeRequests, RouteTemplates.EMPTY);
+    }
+
+    public HttpRequestMetric(String uri, LongAdder activeRequests, RouteTemplates routeTemplates) {
         this.initialPath = uri;
         this.activeRequests = activeRequests;
+        this.routeTemplates = routeTemplates;
     }
 
     public HttpRequestMetric(HttpRequest request, LongAdder activeRequests) {
+        this(request, activeRequests, RouteTemplates.EMPTY);
+    }
+
+    public HttpRequestMetric(HttpRequest request, LongAdder activeRequests, RouteTemplates routeTemplates) {
         this.request = (HttpServerRequestInternal) request;
         this.initialPath = this.request.path();
         this.activeRequests = activeRequests;
+        this.routeTemplates = routeTemplates;
     }
 
     public String getNormalizedUriPath(Map<Pattern, String> matchPatterns, List<Pattern> ignorePatterns) {
@@ -54,13 +66,13 @@ public String applyTemplateMatching(String path) {
         // vertx-web or reactive route: is it templated?
         if (currentRoutePath != null && currentRoutePath.contains(":")) {
             // Convert /item/:id to /item/{id} and save it for next time
-            return vertxWebToUriTemplate.computeIfAbsent(currentRoutePath, k -> {
-                String segments[] = k.split("/");
-                for (int i = 0; i < segments.length; i++) {
-                    segments[i] = VERTX_ROUTE_PARAM.matcher(segments[i]).replaceAll("{$1}");
-                }
-                return normalizePath(String.join("/", segments));
-            });
+            return vertxWebToUriTemplate.computeIfAbsent(currentRoutePath, RouteTemplates::toUriTemplate);
+        }
+
+        // Route known at build time, e.g. a static resource, or a request that was not matched by its endpoint
+        String template = routeTemplates.match(path);
+        if (template != null) {
+            return template;
         }
 
         return path;
@@ -20,6 +20,7 @@
 import io.quarkus.micrometer.runtime.HttpServerMetricsTagsContributor;
 import io.quarkus.micrometer.runtime.binder.HttpBinderConfiguration;
 import io.quarkus.micrometer.runtime.binder.HttpCommonTags;
+import io.quarkus.micrometer.runtime.binder.UriTagGuard;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.ServerWebSocket;
@@ -46,6 +47,7 @@ public class VertxHttpServerMetrics extends VertxTcpServerMetrics
     final MeterProvider<Timer> requestsTimer;
     final MeterProvider<LongTaskTimer> websocketConnectionTimer;
     final MeterProvider<Counter> pushCounter;
+    final UriTagGuard uriTags;
 
     private final List<HttpServerMetricsTagsContributor> httpServerMetricsTagsContributors;
 
@@ -71,6 +73,11 @@ public class VertxHttpServerMetrics extends VertxTcpServerMetrics
         pushCounter = Counter.builder(config.getHttpServerPushName())
                 .description("HTTP server response push counter")
                 .withRegistry(registry);
+
+        uriTags = new UriTagGuard(config.getServerMaxUriTags(),
+                Counter.builder(config.getHttpServerUriOverflowName())
+                        .description("Number of HTTP server requests reported with the OVERFLOW uri tag")
+                        .register(registry));
         // not dev-mode changeable -----ˆ
     }
 
@@ -105,14 +112,14 @@ private List<HttpServerMetricsTagsContributor> resolveHttpServerMetricsTagsContr
     @Override
     public HttpRequestMetric responsePushed(LongTaskTimer.Sample socketMetric, HttpMethod method, String uri,
             HttpResponse response) {
-        HttpRequestMetric requestMetric = new HttpRequestMetric(uri, activeRequests);
+        HttpRequestMetric requestMetric = new HttpRequestMetric(uri, activeRequests, config.getServerRouteTemplates());
         String path = requestMetric.getNormalizedUriPath(
                 config.getServerMatchPatterns(),
                 config.getServerIgnorePatterns());
         if (path != null) {
             pushCounter
                     .withTags(Tags.of(
-                            HttpCommonTags.uri(path, requestMetric.initialPath, response.statusCode()),
+                            uriTags.uri(path, requestMetric.initialPath, response.statusCode()),
                             VertxMetricsTags.method(method),
                             VertxMetricsTags.outcome(response),
                             HttpCommonTags.status(response.statusCode())))
@@ -142,7 +149,7 @@ public void requestRouted(HttpRequestMetric requestMetric, String route) {
      */
     @Override
     public HttpRequestMetric requestBegin(LongTaskTimer.Sample sample, HttpRequest request) {
-        HttpRequestMetric requestMetric = new HttpRequestMetric(request, activeRequests);
+        HttpRequestMetric requestMetric = new HttpRequestMetric(request, activeRequests, config.getServerRouteTemplates());
         requestMetric.setSample(Timer.start(registry));
         requestMetric.requestStarted();
         return requestMetric;
@@ -167,7 +174,7 @@ public void requestReset(HttpRequestMetric requestMetric) {
             sample.stop(requestsTimer
                     .withTags(Tags.of(
                             VertxMetricsTags.method(requestMetric.request().method()),
-                            HttpCommonTags.uri(path, requestMetric.initialPath, 0),
+                            uriTags.uri(path, requestMetric.initialPath, 0),
                             Outcome.CLIENT_ERROR.asTag(),
                             HttpCommonTags.STATUS_RESET)));
         }
@@ -192,7 +199,7 @@ public void responseEnd(HttpRequestMetric requestMetric, HttpResponse response,
             Timer.Sample sample = requestMetric.getSample();
             Tags allTags = Tags.of(
                     VertxMetricsTags.method(requestMetric.request().method()),
-                    HttpCommonTags.uri(path, requestMetric.initialPath, response.statusCode()),
+                    uriTags.uri(path, requestMetric.initialPath, response.statusCode()),
                     VertxMetricsTags.outcome(response),
                     HttpCommonTags.status(response.statusCode()));
             if (!httpServerMetricsTagsContributors.isEmpty()) {
@@ -227,7 +234,7 @@ public LongTaskTimer.Sample connected(LongTaskTimer.Sample sample, HttpRequestMe
                 config.getServerIgnorePatterns());
         if (path != null) {
             return websocketConnectionTimer
-                    .withTags(Tags.of(HttpCommonTags.uri(path, requestMetric.initialPath, 0)))
+                    .withTags(Tags.of(uriTags.uri(path, requestMetric.initialPath, 0)))
                     .start();
         }
         return null;
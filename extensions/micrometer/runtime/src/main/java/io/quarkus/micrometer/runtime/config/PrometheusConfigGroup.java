@@ -1,5 +1,6 @@
 package io.quarkus.micrometer.runtime.config;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
@@ -44,6 +45,16 @@ public class PrometheusConfigGroup implements MicrometerConfig.CapabilityEnabled
     @ConfigItem(defaultValue = "true")
     public boolean defaultRegistry;
 
+    /**
+     * The time a scrape of the Prometheus registry is reused for.
+     * <p>
+     * If set, the scrapes requested while a scrape is serialized, or within this period after it, share the same
+     * serialization, e.g. when several Prometheus servers scrape the application at the same time. By default, each request
+     * serializes the registry.
+     */
+    @ConfigItem
+    public Optional<Duration> scrapeCacheTtl;
+
     @Override
     public Optional<Boolean> getEnabled() {
         return enabled;
@@ -55,6 +66,7 @@ public String toString() {
                 + "{path='" + path
                 + ",enabled=" + enabled
                 + ",defaultRegistry=" + defaultRegistry
+                + ",scrapeCacheTtl=" + scrapeCacheTtl
                 + '}';
     }
 }
@@ -52,8 +52,10 @@ public class HttpServerConfig {
 
     /**
      * Maximum number of unique URI tag values allowed. After the max number of
-     * tag values is reached, metrics with additional tag values are denied by
-     * filter.
+     * tag values is reached, the requests with additional tag values are reported
+     * with the `OVERFLOW` uri tag value.
+     *
+     * @asciidoclet
      */
     @ConfigItem(defaultValue = "100")
     public int maxUriTags;
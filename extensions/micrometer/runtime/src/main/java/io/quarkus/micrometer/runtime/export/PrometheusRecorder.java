@@ -14,9 +14,9 @@
 public class PrometheusRecorder {
     PrometheusHandler handler;
 
-    public PrometheusHandler getHandler() {
+    public PrometheusHandler getHandler(long scrapeCacheTtlMillis) {
         if (handler == null) {
-            handler = new PrometheusHandler();
+            handler = new PrometheusHandler(scrapeCacheTtlMillis);
         }
 
         return handler;
@@ -1,11 +1,20 @@
 package io.quarkus.micrometer.runtime.export.handlers;
 
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
 import jakarta.enterprise.inject.Default;
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.spi.CDI;
 
 import org.jboss.logging.Logger;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.prometheus.client.exporter.common.TextFormat;
 import io.quarkus.arc.Arc;
@@ -15,13 +24,35 @@
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
 
+/**
+ * Serves the scrapes of the Prometheus registry. This handler must be used on a worker thread.
+ * <p>
+ * The scrape is written to the response in chunks while it is serialized. If the scrape cache is enabled, the scrapes
+ * requested during the serialization of a scrape and up to the TTL after it share the same serialization.
+ */
 public class PrometheusHandler implements Handler<RoutingContext> {
     private static final Logger log = Logger.getLogger(PrometheusHandler.class);
 
+    private final long scrapeCacheTtlNanos;
+    private final Map<String, CachedScrape> cache = new ConcurrentHashMap<>();
+
     private PrometheusMeterRegistry registry;
+    private Timer scrapeDuration;
+    private DistributionSummary scrapeSize;
 
     private boolean setup = false;
 
+    public PrometheusHandler() {
+        this(0);
+    }
+
+    /**
+     * @param scrapeCacheTtlMillis the time a scrape is reused for, in milliseconds, or 0 to disable the cache
+     */
+    public PrometheusHandler(long scrapeCacheTtlMillis) {
+        this.scrapeCacheTtlNanos = TimeUnit.MILLISECONDS.toNanos(scrapeCacheTtlMillis);
+    }
+
     @Override
     public void handle(RoutingContext routingContext) {
         if (!setup) {
@@ -58,9 +89,75 @@ private String chooseContentType(String acceptHeader) {
         return TextFormat.CONTENT_TYPE_OPENMETRICS_100;
     }
 
-    private void doHandle(HttpServerResponse response, String acceptHeader) {
-        response.putHeader("Content-Type", acceptHeader)
-                .end(Buffer.buffer(registry.scrape(acceptHeader)));
+    private void doHandle(HttpServerResponse response, String contentType) {
+        response.putHeader("Content-Type", contentType);
+        if (scrapeCacheTtlNanos > 0) {
+            Buffer scrape;
+            try {
+                scrape = cachedScrape(contentType);
+            } catch (CompletionException e) {
+                log.error("Unable to scrape the Prometheus registry", e.getCause());
+                response.setStatusCode(500).end();
+                return;
+            }
+            response.end(scrape);
+        } else {
+            response.setChunked(true);
+            long start = System.nanoTime();
+            try (ScrapeWriter writer = new ScrapeWriter(response)) {
+                registry.scrape(writer, contentType);
+                writer.flush();
+                record(start, writer.size());
+            } catch (IOException | RuntimeException e) {
+                if (response.headWritten()) {
+                    // Part of the scrape was sent already, the client must not consider the truncated scrape as valid
+                    log.debug("Unable to write the scrape of the Prometheus registry", e);
+                    response.reset();
+                } else {
+                    log.error("Unable to scrape the Prometheus registry", e);
+                    response.setStatusCode(500).end();
+                }
+                return;
+            }
+            response.end();
+        }
+    }
+
+    private Buffer cachedScrape(String contentType) {
+        CachedScrape cached = cache.computeIfAbsent(contentType, k -> new CachedScrape());
+        CompletableFuture<Buffer> scrape;
+        boolean serialize = false;
+        synchronized (cached) {
+            scrape = cached.scrape;
+            if (scrape == null || (scrape.isDone() && System.nanoTime() - cached.completed > scrapeCacheTtlNanos)) {
+                scrape = cached.scrape = new CompletableFuture<>();
+                serialize = true;
+            }
+        }
+        if (serialize) {
+            long start = System.nanoTime();
+            ScrapeWriter writer = new ScrapeWriter();
+            try {
+                registry.scrape(writer, contentType);
+            } catch (IOException | RuntimeException e) {
+                synchronized (cached) {
+                    cached.scrape = null;
+                }
+                scrape.completeExceptionally(e);
+                return scrape.join();
+            }
+            record(start, writer.size());
+            synchronized (cached) {
+                cached.completed = System.nanoTime();
+            }
+            scrape.complete(writer.toBuffer());
+        }
+        return scrape.join();
+    }
+
+    private void record(long start, long size) {
+        scrapeDuration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        scrapeSize.record(size);
     }
 
     private void setup() {
@@ -77,6 +174,22 @@ private void setup() {
             registry = registries.get();
         }
 
+        if (registry != null) {
+            scrapeDuration = Timer.builder("prometheus.scrape.duration")
+                    .description("The time spent serializing the scrapes of the Prometheus registry")
+                    .register(registry);
+            scrapeSize = DistributionSummary.builder("prometheus.scrape.size")
+                    .description("The size of the scrapes of the Prometheus registry")
+                    .baseUnit("bytes")
+                    .register(registry);
+        }
+
         setup = true;
     }
+
+    private static final class CachedScrape {
+        // guarded by this
+        CompletableFuture<Buffer> scrape;
+        long completed;
+    }
 }
@@ -0,0 +1,129 @@
+package io.quarkus.micrometer.runtime.export.handlers;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.VertxByteBufAllocator;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * Encodes a scrape to UTF-8 as it is written by the registry.
+ * <p>
+ * If a response is set, the scrape is written to the response in chunks of {@link #CHUNK_SIZE} bytes, and the writer
+ * blocks while the write queue of the response is full. It must not be used on the event loop. Otherwise the whole scrape
+ * is kept in memory, see {@link #toBuffer()}.
+ */
+class ScrapeWriter extends Writer {
+
+    static final int CHUNK_SIZE = 64 * 1024;
+
+    private final HttpServerResponse response;
+    private ByteBuf buf;
+    private long size;
+    private volatile boolean closed;
+
+    ScrapeWriter() {
+        this(null);
+    }
+
+    ScrapeWriter(HttpServerResponse response) {
+        this.response = response;
+        this.buf = newChunk();
+        if (response != null) {
+            response.closeHandler(v -> closed = true);
+        }
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        ByteBufUtil.writeUtf8(buf, String.valueOf((char) c));
+        afterWrite();
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        ByteBufUtil.writeUtf8(buf, CharBuffer.wrap(cbuf, off, len));
+        afterWrite();
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        ByteBufUtil.writeUtf8(buf, str, off, off + len);
+        afterWrite();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (response != null && buf.isReadable()) {
+            writeChunk();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+
+    /**
+     * @return the number of bytes written so far
+     */
+    long size() {
+        return size + buf.readableBytes();
+    }
+
+    /**
+     * @return the whole scrape, if no response is set; the buffer can be written to several responses
+     */
+    Buffer toBuffer() {
+        return Buffer.buffer(buf);
+    }
+
+    private void afterWrite() throws IOException {
+        if (response != null && buf.readableBytes() >= CHUNK_SIZE) {
+            writeChunk();
+        }
+    }
+
+    private void writeChunk() throws IOException {
+        if (closed) {
+            throw new IOException("Connection closed during the scrape");
+        }
+        size += buf.readableBytes();
+        response.write(Buffer.buffer(buf));
+        buf = newChunk();
+        if (response.writeQueueFull()) {
+            CompletableFuture<Void> drained = new CompletableFuture<>();
+            response.drainHandler(v -> drained.complete(null));
+            response.closeHandler(v -> {
+                closed = true;
+                drained.complete(null);
+            });
+            // The queue may have been drained before the handlers were set
+            if (!response.writeQueueFull() || closed) {
+                drained.complete(null);
+            }
+            try {
+                drained.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            } catch (ExecutionException e) {
+                throw new IOException(e.getCause());
+            }
+        }
+    }
+
+    private ByteBuf newChunk() {
+        // Heap buffers without reference counting, so that a cached scrape can be written to several responses; the
+        // buffer grows as needed, e.g. when the last write of a chunk overflows the chunk size
+        return VertxByteBufAllocator.DEFAULT.heapBuffer(response != null ? CHUNK_SIZE : 4 * CHUNK_SIZE);
+    }
+
+}
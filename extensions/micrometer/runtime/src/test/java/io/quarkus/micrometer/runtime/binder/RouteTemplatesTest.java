@@ -0,0 +1,50 @@
+package io.quarkus.micrometer.runtime.binder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class RouteTemplatesTest {
+
+    @Test
+    public void testMatch() {
+        Map<String, String> templates = new LinkedHashMap<>();
+        templates.put("/api/items/{id}", "/items/{id}");
+        templates.put("/api/items/{id}/parts", "/items/{id}/parts");
+        templates.put("/api/items/special", "/items/special");
+        templates.put("/vertx/item/:id", "/vertx/item/:id");
+        templates.put("/files/*", "/files/*");
+        templates.put("/index.html", "/index.html");
+        templates.put("/path/{path: .*}", "/path/{path: .*}");
+        templates.put("/", "/");
+        RouteTemplates routeTemplates = new RouteTemplates(templates, "/");
+
+        Assertions.assertEquals(8, routeTemplates.size());
+        Assertions.assertEquals("/items/{id}", routeTemplates.match("/api/items/1"));
+        // Literal segments take precedence over path parameters
+        Assertions.assertEquals("/items/special", routeTemplates.match("/api/items/special"));
+        Assertions.assertEquals("/items/{id}/parts", routeTemplates.match("/api/items/1/parts"));
+        Assertions.assertNull(routeTemplates.match("/api/items/1/other"));
+        Assertions.assertEquals("/vertx/item/{id}", routeTemplates.match("/vertx/item/3"));
+        Assertions.assertEquals("/files/*", routeTemplates.match("/files/a/b"));
+        Assertions.assertEquals("/index.html", routeTemplates.match("/index.html"));
+        Assertions.assertEquals("/path/{path: .*}", routeTemplates.match("/path/a/b/c"));
+        Assertions.assertEquals("/", routeTemplates.match("/"));
+        Assertions.assertNull(routeTemplates.match("/other"));
+    }
+
+    @Test
+    public void testHttpRootPath() {
+        RouteTemplates routeTemplates = new RouteTemplates(Map.of("/items/{id}", "/items/{id}"), "/app/");
+        Assertions.assertEquals("/items/{id}", routeTemplates.match("/app/items/1"));
+        Assertions.assertNull(routeTemplates.match("/items/1"));
+    }
+
+    @Test
+    public void testEmpty() {
+        Assertions.assertTrue(RouteTemplates.EMPTY.isEmpty());
+        Assertions.assertNull(RouteTemplates.EMPTY.match("/items/1"));
+    }
+}
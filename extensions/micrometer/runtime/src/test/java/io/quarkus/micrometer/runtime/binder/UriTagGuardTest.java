@@ -0,0 +1,26 @@
+package io.quarkus.micrometer.runtime.binder;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class UriTagGuardTest {
+
+    @Test
+    public void testOverflow() {
+        Counter collapsed = new SimpleMeterRegistry().counter("http.server.uri.overflow");
+        // Two values and the overflow
+        UriTagGuard guard = new UriTagGuard(3, collapsed);
+
+        Assertions.assertEquals(Tag.of("uri", "/one"), guard.uri("/one", null, 200));
+        Assertions.assertEquals(HttpCommonTags.URI_NOT_FOUND, guard.uri("/two", "/two", 404));
+        Assertions.assertEquals(UriTagGuard.URI_OVERFLOW, guard.uri("/three", null, 200));
+        Assertions.assertEquals(UriTagGuard.URI_OVERFLOW, guard.uri("/four", null, 200));
+        // Known values are still reported
+        Assertions.assertEquals(Tag.of("uri", "/one"), guard.uri("/one", null, 200));
+        Assertions.assertEquals(2, collapsed.count());
+    }
+}
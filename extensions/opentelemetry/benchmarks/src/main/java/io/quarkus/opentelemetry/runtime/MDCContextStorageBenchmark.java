@@ -0,0 +1,95 @@
+package io.quarkus.opentelemetry.runtime;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.quarkus.vertx.core.runtime.VertxMDC;
+
+/**
+ * Measures the cost of attaching and detaching an OpenTelemetry context with the MDC enabled context storage, with the
+ * MDC data rendered on attach (eager) or when read (lazy, {@code quarkus.otel.mdc.lazy=true}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class MDCContextStorageBenchmark {
+
+    @Param({ "eager", "lazy" })
+    public String mode;
+
+    private SdkTracerProvider tracerProvider;
+    private Context parent;
+    private Context child;
+
+    @Setup
+    public void setup() {
+        OpenTelemetryUtil.lazyMDCData = mode.equals("lazy");
+        tracerProvider = SdkTracerProvider.builder().build();
+        Tracer tracer = tracerProvider.get("benchmark");
+        Span parentSpan = tracer.spanBuilder("parent").startSpan();
+        parent = Context.root().with(parentSpan);
+        child = parent.with(tracer.spanBuilder("child").setParent(parent).startSpan());
+    }
+
+    @TearDown
+    public void tearDown() {
+        OpenTelemetryUtil.lazyMDCData = false;
+        VertxMDC.INSTANCE.clear(null);
+        tracerProvider.close();
+    }
+
+    /**
+     * A child context attached and detached within a parent context, as done by the context propagation.
+     */
+    @Benchmark
+    public void attachDetach() {
+        try (io.opentelemetry.context.Scope ignored = MDCEnabledContextStorage.INSTANCE.attach(parent)) {
+            try (io.opentelemetry.context.Scope ignored1 = MDCEnabledContextStorage.INSTANCE.attach(child)) {
+                // nothing
+            }
+        }
+    }
+
+    /**
+     * The same context attached again, without span change.
+     */
+    @Benchmark
+    public void reattach() {
+        try (io.opentelemetry.context.Scope ignored = MDCEnabledContextStorage.INSTANCE.attach(parent)) {
+            try (io.opentelemetry.context.Scope ignored1 = MDCEnabledContextStorage.INSTANCE.attach(parent)) {
+                // nothing
+            }
+        }
+    }
+
+    /**
+     * A child context attached and detached within a parent context, with a log record reading the trace data.
+     */
+    @Benchmark
+    public String attachDetachAndRead() {
+        try (io.opentelemetry.context.Scope ignored = MDCEnabledContextStorage.INSTANCE.attach(parent)) {
+            try (io.opentelemetry.context.Scope ignored1 = MDCEnabledContextStorage.INSTANCE.attach(child)) {
+                return VertxMDC.INSTANCE.get(OpenTelemetryUtil.TRACE_ID) + VertxMDC.INSTANCE.get(OpenTelemetryUtil.SPAN_ID);
+            }
+        }
+    }
+}
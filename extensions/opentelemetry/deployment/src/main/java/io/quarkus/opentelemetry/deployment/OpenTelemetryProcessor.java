@@ -263,12 +263,14 @@ public void transform(TransformationContext context) {
     void createOpenTelemetry(
             OpenTelemetryRecorder recorder,
             CoreVertxBuildItem vertx,
-            LaunchModeBuildItem launchMode) {
+            LaunchModeBuildItem launchMode,
+            OTelRuntimeConfig oTelRuntimeConfig) {
 
         if (launchMode.getLaunchMode() == LaunchMode.DEVELOPMENT || launchMode.getLaunchMode() == LaunchMode.TEST) {
             recorder.resetGlobalOpenTelemetryForDevMode();
         }
 
+        recorder.setupMDCData(oTelRuntimeConfig);
         recorder.eagerlyCreateContextStorage();
         recorder.storeVertxOnContextStorage(vertx.getVertx());
     }
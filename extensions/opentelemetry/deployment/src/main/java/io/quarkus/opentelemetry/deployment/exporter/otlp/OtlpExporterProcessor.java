@@ -15,15 +15,18 @@
 
 import io.opentelemetry.sdk.trace.SpanProcessor;
 import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
 import io.quarkus.deployment.annotations.*;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.opentelemetry.runtime.config.build.OTelBuildConfig;
 import io.quarkus.opentelemetry.runtime.config.build.exporter.OtlpExporterBuildConfig;
 import io.quarkus.opentelemetry.runtime.config.runtime.OTelRuntimeConfig;
 import io.quarkus.opentelemetry.runtime.config.runtime.exporter.OtlpExporterRuntimeConfig;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.LateBoundBatchSpanProcessor;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.OTelExporterRecorder;
+import io.quarkus.opentelemetry.runtime.exporter.otlp.TailSamplingMetrics;
 import io.quarkus.tls.TlsConfigurationRegistry;
 import io.quarkus.tls.TlsRegistryBuildItem;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
@@ -48,16 +51,20 @@ public boolean getAsBoolean() {
     @Record(ExecutionTime.RUNTIME_INIT)
     @Consume(TlsRegistryBuildItem.class)
     void createBatchSpanProcessor(OTelExporterRecorder recorder,
+            OTelBuildConfig otelBuildConfig,
             OTelRuntimeConfig otelRuntimeConfig,
             OtlpExporterRuntimeConfig exporterRuntimeConfig,
             CoreVertxBuildItem vertxBuildItem,
             List<ExternalOtelExporterBuildItem> externalOtelExporterBuildItem,
-            BuildProducer<SyntheticBeanBuildItem> syntheticBeanBuildItemBuildProducer) {
+            BuildProducer<SyntheticBeanBuildItem> syntheticBeanBuildItemBuildProducer,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeans,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metricsFactoryConsumers) {
         if (!externalOtelExporterBuildItem.isEmpty()) {
             // if there is an external exporter, we don't want to create the default one
             return;
         }
-        syntheticBeanBuildItemBuildProducer.produce(SyntheticBeanBuildItem
+        boolean tailSamplingEnabled = otelBuildConfig.traces().tailSamplingEnabled();
+        SyntheticBeanBuildItem.ExtendedBeanConfigurator configurator = SyntheticBeanBuildItem
                 .configure(LateBoundBatchSpanProcessor.class)
                 .types(SpanProcessor.class)
                 .setRuntimeInit()
@@ -67,7 +74,12 @@ void createBatchSpanProcessor(OTelExporterRecorder recorder,
                         new Type[] { ClassType.create(DotName.createSimple(SpanExporter.class.getName())) }, null))
                 .addInjectionPoint(ClassType.create(DotName.createSimple(TlsConfigurationRegistry.class)))
                 .createWith(recorder.batchSpanProcessorForOtlp(otelRuntimeConfig, exporterRuntimeConfig,
-                        vertxBuildItem.getVertx()))
-                .done());
+                        vertxBuildItem.getVertx(), tailSamplingEnabled));
+        if (tailSamplingEnabled) {
+            configurator.addInjectionPoint(ClassType.create(DotName.createSimple(TailSamplingMetrics.class)));
+            additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(TailSamplingMetrics.class));
+            metricsFactoryConsumers.produce(new MetricsFactoryConsumerBuildItem(recorder.tailSamplingMetrics()));
+        }
+        syntheticBeanBuildItemBuildProducer.produce(configurator.done());
     }
 }
@@ -0,0 +1,161 @@
+package io.quarkus.opentelemetry.deployment;
+
+import static io.opentelemetry.api.trace.SpanKind.INTERNAL;
+import static io.opentelemetry.api.trace.SpanKind.SERVER;
+import static io.quarkus.opentelemetry.deployment.common.TestSpanExporter.getSpanByKindAndParentId;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.jboss.logmanager.MDC;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.quarkus.arc.Unremovable;
+import io.quarkus.opentelemetry.deployment.common.TestSpanExporter;
+import io.quarkus.opentelemetry.deployment.common.TestSpanExporterProvider;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class OpenTelemetryLazyMDCTest {
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClass(TestMdcCapturer.class)
+                    .addClass(TestResource.class)
+                    .addClasses(TestSpanExporter.class, TestSpanExporterProvider.class)
+                    .addAsResource(new StringAsset(TestSpanExporterProvider.class.getCanonicalName()),
+                            "META-INF/services/io.opentelemetry.sdk.autoconfigure.spi.traces.ConfigurableSpanExporterProvider"))
+            .withConfigurationResource("application-default.properties")
+            .overrideConfigKey("quarkus.otel.mdc.lazy", "true");
+
+    @Inject
+    TestSpanExporter spanExporter;
+    @Inject
+    TestMdcCapturer testMdcCapturer;
+    @Inject
+    Tracer tracer;
+
+    @AfterEach
+    void tearDown() {
+        spanExporter.reset();
+        testMdcCapturer.reset();
+    }
+
+    @Test
+    void vertx() {
+        RestAssured.when()
+                .get("/hello").then()
+                .statusCode(200)
+                .body(is("hello"));
+
+        List<SpanData> spans = spanExporter.getFinishedSpanItems(2);
+        final SpanData server = getSpanByKindAndParentId(spans, SERVER, "0000000000000000");
+        final SpanData programmatic = getSpanByKindAndParentId(spans, INTERNAL, server.getSpanId());
+
+        assertEquals(List.of(
+                mdcEntry(server, null),
+                mdcEntry(programmatic, server.getSpanId()),
+                mdcEntry(server, null)), testMdcCapturer.getCapturedMdcEntries());
+    }
+
+    @Test
+    void nonVertx() {
+        Span parentSpan = tracer.spanBuilder("parent").startSpan();
+        try (Scope ignored = parentSpan.makeCurrent()) {
+            testMdcCapturer.captureMdc();
+            Span childSpan = tracer.spanBuilder("child").startSpan();
+            try (Scope ignored1 = childSpan.makeCurrent()) {
+                testMdcCapturer.captureMdc();
+                // attaching the current context again leaves the MDC as is
+                try (Scope ignored2 = io.opentelemetry.context.Context.current().makeCurrent()) {
+                    testMdcCapturer.captureMdc();
+                }
+            } finally {
+                childSpan.end();
+            }
+            testMdcCapturer.captureMdc();
+        } finally {
+            parentSpan.end();
+        }
+
+        List<SpanData> spans = spanExporter.getFinishedSpanItems(2);
+        final SpanData parent = getSpanByKindAndParentId(spans, INTERNAL, "0000000000000000");
+        final SpanData child = getSpanByKindAndParentId(spans, INTERNAL, parent.getSpanId());
+
+        assertEquals(List.of(
+                mdcEntry(parent, null),
+                mdcEntry(child, parent.getSpanId()),
+                mdcEntry(child, parent.getSpanId()),
+                mdcEntry(parent, null)), testMdcCapturer.getCapturedMdcEntries());
+    }
+
+    private static List<String> mdcEntry(SpanData span, String parentId) {
+        return List.of(span.getTraceId(), span.getSpanId(), String.valueOf(parentId),
+                String.valueOf(span.getSpanContext().isSampled()));
+    }
+
+    @ApplicationScoped
+    @Path("/")
+    public static class TestResource {
+
+        @Inject
+        TestMdcCapturer testMdcCapturer;
+
+        @Inject
+        Tracer tracer;
+
+        @GET
+        @Path("/hello")
+        public String hello() {
+            testMdcCapturer.captureMdc();
+            Span span = tracer.spanBuilder("something").startSpan();
+            try (Scope ignored = span.makeCurrent()) {
+                testMdcCapturer.captureMdc();
+            } finally {
+                span.end();
+            }
+            testMdcCapturer.captureMdc();
+            return "hello";
+        }
+    }
+
+    @Unremovable
+    @ApplicationScoped
+    public static class TestMdcCapturer {
+        private final List<List<String>> mdcEntries = Collections.synchronizedList(new ArrayList<>());
+
+        public void reset() {
+            mdcEntries.clear();
+        }
+
+        public void captureMdc() {
+            // the values are rendered when read
+            assertFalse(MDC.getObject("traceId") instanceof String);
+            mdcEntries.add(List.of(
+                    MDC.get("traceId"),
+                    MDC.get("spanId"),
+                    String.valueOf(MDC.get("parentId")),
+                    MDC.get("sampled")));
+        }
+
+        public List<List<String>> getCapturedMdcEntries() {
+            return new ArrayList<>(mdcEntries);
+        }
+    }
+}
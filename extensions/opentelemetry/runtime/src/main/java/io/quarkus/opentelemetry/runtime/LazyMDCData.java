@@ -0,0 +1,76 @@
+package io.quarkus.opentelemetry.runtime;
+
+import static io.quarkus.opentelemetry.runtime.OpenTelemetryUtil.PARENT_ID;
+import static io.quarkus.opentelemetry.runtime.OpenTelemetryUtil.SAMPLED;
+import static io.quarkus.opentelemetry.runtime.OpenTelemetryUtil.SPAN_ID;
+import static io.quarkus.opentelemetry.runtime.OpenTelemetryUtil.TRACE_ID;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.quarkus.vertx.core.runtime.VertxMDC;
+
+/**
+ * Sets the MDC data of a span as values rendered when they are read, typically by a log formatter, instead of rendering
+ * them each time a context is attached.
+ * <p>
+ * The MDC is left untouched when the span of the attached context is already the one in the MDC, which is common when
+ * a context is attached again, or restored, by the Mutiny and Vert.x context propagation.
+ */
+final class LazyMDCData {
+
+    private LazyMDCData() {
+    }
+
+    static void setMDCData(Context context, io.vertx.core.Context vertxContext) {
+        Span span = context != null ? Span.fromContextOrNull(context) : null;
+        if (span == null) {
+            return;
+        }
+        SpanContext spanContext = span.getSpanContext();
+        VertxMDC mdc = VertxMDC.INSTANCE;
+        Object current = mdc.getObject(SPAN_ID, vertxContext);
+        if (current instanceof SpanId && ((SpanId) current).spanContext == spanContext) {
+            return;
+        }
+
+        mdc.putObject(SPAN_ID, new SpanId(spanContext), vertxContext);
+        mdc.putObject(TRACE_ID, new TraceId(spanContext), vertxContext);
+        mdc.putObject(SAMPLED, Boolean.toString(spanContext.isSampled()), vertxContext);
+        SpanContext parentSpanContext = span instanceof ReadableSpan ? ((ReadableSpan) span).getParentSpanContext() : null;
+        if (parentSpanContext != null && parentSpanContext.isValid()) {
+            mdc.putObject(PARENT_ID, new SpanId(parentSpanContext), vertxContext);
+        } else {
+            mdc.removeObject(PARENT_ID, vertxContext);
+        }
+    }
+
+    private static final class SpanId {
+
+        private final SpanContext spanContext;
+
+        SpanId(SpanContext spanContext) {
+            this.spanContext = spanContext;
+        }
+
+        @Override
+        public String toString() {
+            return spanContext.getSpanId();
+        }
+    }
+
+    private static final class TraceId {
+
+        private final SpanContext spanContext;
+
+        TraceId(SpanContext spanContext) {
+            this.spanContext = spanContext;
+        }
+
+        @Override
+        public String toString() {
+            return spanContext.getTraceId();
+        }
+    }
+}
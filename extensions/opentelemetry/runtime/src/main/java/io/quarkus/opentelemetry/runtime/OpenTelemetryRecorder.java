@@ -43,6 +43,11 @@ public void eagerlyCreateContextStorage() {
         ContextStorage.get();
     }
 
+    @RuntimeInit
+    public void setupMDCData(OTelRuntimeConfig oTelRuntimeConfig) {
+        OpenTelemetryUtil.lazyMDCData = oTelRuntimeConfig.mdcLazy();
+    }
+
     @RuntimeInit
     public void storeVertxOnContextStorage(Supplier<Vertx> vertx) {
         QuarkusContextStorage.vertx = vertx.get();
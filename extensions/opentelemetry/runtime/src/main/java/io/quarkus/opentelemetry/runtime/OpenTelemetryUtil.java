@@ -22,6 +22,9 @@ public final class OpenTelemetryUtil {
     public static final String PARENT_ID = "parentId";
     private static final Set<String> SPAN_DATA_KEYS = Set.of(TRACE_ID, SPAN_ID, SAMPLED, PARENT_ID);
 
+    // set at runtime init from quarkus.otel.mdc.lazy
+    static boolean lazyMDCData;
+
     private OpenTelemetryUtil() {
     }
 
@@ -59,6 +62,10 @@ public static Map<String, String> convertKeyValueListToMap(List<String> headers)
      * @param vertxContext vertx context
      */
     public static void setMDCData(Context context, io.vertx.core.Context vertxContext) {
+        if (lazyMDCData) {
+            LazyMDCData.setMDCData(context, vertxContext);
+            return;
+        }
         setMDCData(getSpanData(context), vertxContext);
     }
 
@@ -63,4 +63,17 @@ public interface TracesBuildConfig {
     @WithDefault("false")
     boolean addEndUserAttributes();
 
+    /**
+     * If true, the spans exported by the default OTLP exporter are buffered per trace and only the traces retained by
+     * the tail sampling policies, see <code>quarkus.otel.traces.tail-sampling.*</code>, are exported.
+     * <p>
+     * The decision is made when the local root span of the trace ends, the spans ending later follow the decision.
+     * A trace is retained if any of the configured policies matches.
+     * <p>
+     * Only the spans sampled by the head sampler, see <code>quarkus.otel.traces.sampler</code>, are considered.
+     */
+    @WithName("tail-sampling.enabled")
+    @WithDefault("false")
+    boolean tailSamplingEnabled();
+
 }
@@ -92,6 +92,18 @@ public interface OTelRuntimeConfig {
     @WithName("semconv-stability.opt-in")
     Optional<String> otelSemconvStabilityOptIn();
 
+    /**
+     * If true, the <code>traceId</code>, <code>spanId</code> and <code>parentId</code> MDC entries are rendered when
+     * they are read, typically by a log formatter, instead of each time an OpenTelemetry context is attached.
+     * <p>
+     * This reduces the cost of the context switches of reactive pipelines, but the MDC values returned by
+     * <code>MDC.getObject</code> are then not <code>String</code> instances. <code>MDC.get</code> and the log formats
+     * are not affected.
+     */
+    @WithName("mdc.lazy")
+    @WithDefault("false")
+    boolean mdcLazy();
+
     /**
      * Prioritize OpenTelemetry configuration <code>otel.</code> on top of Quarkus OpenTelemetry configuration
      * <code>quarkus.otel</code>.
@@ -0,0 +1,59 @@
+package io.quarkus.opentelemetry.runtime.config.runtime;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+/**
+ * The tail sampling policies, used when <code>quarkus.otel.traces.tail-sampling.enabled</code> is true.
+ */
+@ConfigGroup
+public interface TailSamplingConfig {
+
+    /**
+     * The maximum time the spans of a trace are buffered waiting for its local root span to end. When it elapses, the
+     * decision is made with the spans already buffered.
+     */
+    @WithDefault("30s")
+    Duration decisionWait();
+
+    /**
+     * The maximum number of spans buffered. When it is reached, the oldest traces are evicted and the decision is
+     * made with the spans already buffered. Large buffers are split by trace id into stripes, each holding its share
+     * of the spans and evicting its own oldest traces.
+     * <p>
+     * This also bounds the number of recent decisions remembered for the spans ending after their local root span.
+     */
+    @WithDefault("10000")
+    int maxSpans();
+
+    /**
+     * Retain the traces with at least one span with the <code>ERROR</code> status.
+     */
+    @WithDefault("true")
+    boolean errors();
+
+    /**
+     * Retain the traces lasting at least this duration, from the start of their first span to the end of their last
+     * span.
+     */
+    Optional<Duration> latencyThreshold();
+
+    /**
+     * Retain the traces with at least one span with one of these attribute values, for instance
+     * <code>quarkus.otel.traces.tail-sampling.attributes."http.route"=/orders</code>.
+     */
+    @ConfigDocMapKey("attribute-key")
+    Map<String, String> attributes();
+
+    /**
+     * The ratio, between `0.0` and `1.0`, of the traces not retained by the other policies that are retained anyway.
+     * The decision is based on the trace id, like the `traceidratio` sampler.
+     */
+    @WithDefault("0.0")
+    double ratio();
+}
@@ -51,4 +51,9 @@ public interface TracesRuntimeConfig {
     @WithName("sampler.arg")
     @WithDefault("1.0d")
     Optional<String> samplerArg();
+
+    /**
+     * Tail sampling of the spans exported by the default OTLP exporter.
+     */
+    TailSamplingConfig tailSampling();
 }
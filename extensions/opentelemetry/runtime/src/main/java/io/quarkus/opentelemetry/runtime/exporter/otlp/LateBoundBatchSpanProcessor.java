@@ -13,14 +13,16 @@
  * Class to facilitate a delay in when the worker thread inside {@link BatchSpanProcessor}
  * is started, enabling Quarkus to instantiate a {@link io.opentelemetry.api.trace.TracerProvider}
  * during static initialization and set a {@link BatchSpanProcessor} delegate during runtime initialization.
+ * <p>
+ * The delegate may also be a {@link TailSamplingSpanProcessor} wrapping the {@link BatchSpanProcessor}.
  */
 public class LateBoundBatchSpanProcessor implements SpanProcessor {
     private static final Logger log = Logger.getLogger(LateBoundBatchSpanProcessor.class);
 
     private boolean warningLogged = false;
-    private BatchSpanProcessor delegate;
+    private SpanProcessor delegate;
 
-    public LateBoundBatchSpanProcessor(BatchSpanProcessor delegate) {
+    public LateBoundBatchSpanProcessor(SpanProcessor delegate) {
         this.delegate = delegate;
     }
 
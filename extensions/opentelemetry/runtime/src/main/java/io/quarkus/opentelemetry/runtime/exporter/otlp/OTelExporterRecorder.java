@@ -24,12 +24,14 @@
 import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
 import io.opentelemetry.sdk.trace.export.BatchSpanProcessorBuilder;
 import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.quarkus.arc.Arc;
 import io.quarkus.arc.SyntheticCreationalContext;
 import io.quarkus.opentelemetry.runtime.config.runtime.OTelRuntimeConfig;
 import io.quarkus.opentelemetry.runtime.config.runtime.exporter.CompressionType;
 import io.quarkus.opentelemetry.runtime.config.runtime.exporter.OtlpExporterRuntimeConfig;
 import io.quarkus.opentelemetry.runtime.config.runtime.exporter.OtlpExporterTracesConfig;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.tls.TlsConfiguration;
 import io.quarkus.tls.TlsConfigurationRegistry;
 import io.vertx.core.Vertx;
@@ -44,7 +46,8 @@ public class OTelExporterRecorder {
 
     public Function<SyntheticCreationalContext<LateBoundBatchSpanProcessor>, LateBoundBatchSpanProcessor> batchSpanProcessorForOtlp(
             OTelRuntimeConfig otelRuntimeConfig,
-            OtlpExporterRuntimeConfig exporterRuntimeConfig, Supplier<Vertx> vertx) {
+            OtlpExporterRuntimeConfig exporterRuntimeConfig, Supplier<Vertx> vertx,
+            boolean tailSamplingEnabled) {
         URI baseUri = getBaseUri(exporterRuntimeConfig); // do the creation and validation here in order to preserve backward compatibility
         return new Function<>() {
             @Override
@@ -74,7 +77,13 @@ public LateBoundBatchSpanProcessor apply(
                     processorBuilder.setExporterTimeout(otelRuntimeConfig.bsp().exportTimeout());
                     // processorBuilder.setMeterProvider() // TODO add meter provider to span processor.
 
-                    return new LateBoundBatchSpanProcessor(processorBuilder.build());
+                    BatchSpanProcessor batchSpanProcessor = processorBuilder.build();
+                    if (tailSamplingEnabled) {
+                        return new LateBoundBatchSpanProcessor(new TailSamplingSpanProcessor(batchSpanProcessor,
+                                otelRuntimeConfig.traces().tailSampling(),
+                                context.getInjectedReference(TailSamplingMetrics.class)));
+                    }
+                    return new LateBoundBatchSpanProcessor(batchSpanProcessor);
                 } catch (IllegalArgumentException iae) {
                     throw new IllegalStateException("Unable to install OTLP Exporter", iae);
                 }
@@ -145,6 +154,15 @@ private SpanExporter createHttpSpanExporter(OtlpExporterRuntimeConfig exporterRu
         };
     }
 
+    public Consumer<MetricsFactory> tailSamplingMetrics() {
+        return new Consumer<>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                Arc.container().instance(TailSamplingMetrics.class).get().registerMetrics(metricsFactory);
+            }
+        };
+    }
+
     private static boolean determineCompression(OtlpExporterTracesConfig tracesConfig) {
         if (tracesConfig.compression().isPresent()) {
             return (tracesConfig.compression().get() == CompressionType.GZIP);
@@ -0,0 +1,92 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.inject.Singleton;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * Collects the metrics of the tail sampling of the exported spans.
+ * <p>
+ * The bean is only registered when the tail sampling is enabled, and the metrics are exposed when a metrics extension
+ * is present, see {@link OTelExporterRecorder#tailSamplingMetrics}.
+ */
+@Singleton
+public class TailSamplingMetrics {
+
+    private final Set<TailSamplingSpanProcessor> processors = ConcurrentHashMap.newKeySet();
+    private final LongAdder retainedTraces = new LongAdder();
+    private final LongAdder droppedTraces = new LongAdder();
+    private final LongAdder droppedSpans = new LongAdder();
+    private final LongAdder evictedTraces = new LongAdder();
+
+    void register(TailSamplingSpanProcessor processor) {
+        processors.add(processor);
+    }
+
+    void unregister(TailSamplingSpanProcessor processor) {
+        processors.remove(processor);
+    }
+
+    void retained() {
+        retainedTraces.increment();
+    }
+
+    void dropped(int spans) {
+        droppedTraces.increment();
+        droppedSpans.add(spans);
+    }
+
+    void droppedLate() {
+        droppedSpans.increment();
+    }
+
+    void evicted() {
+        evictedTraces.increment();
+    }
+
+    long retainedTraces() {
+        return retainedTraces.sum();
+    }
+
+    long droppedTraces() {
+        return droppedTraces.sum();
+    }
+
+    long droppedSpans() {
+        return droppedSpans.sum();
+    }
+
+    long evictedTraces() {
+        return evictedTraces.sum();
+    }
+
+    long bufferedSpans() {
+        long buffered = 0;
+        for (TailSamplingSpanProcessor processor : processors) {
+            buffered += processor.bufferedSpans();
+        }
+        return buffered;
+    }
+
+    void registerMetrics(MetricsFactory metricsFactory) {
+        metricsFactory.builder("otel.tail.sampling.traces.retained")
+                .description("Number of traces retained by the tail sampling and exported.")
+                .buildCounter(this::retainedTraces);
+        metricsFactory.builder("otel.tail.sampling.traces.dropped")
+                .description("Number of traces dropped by the tail sampling.")
+                .buildCounter(this::droppedTraces);
+        metricsFactory.builder("otel.tail.sampling.spans.dropped")
+                .description("Number of spans dropped by the tail sampling.")
+                .buildCounter(this::droppedSpans);
+        metricsFactory.builder("otel.tail.sampling.traces.evicted")
+                .description("Number of traces decided before their end because the span buffer was full.")
+                .buildCounter(this::evictedTraces);
+        metricsFactory.builder("otel.tail.sampling.spans.buffered")
+                .description("Number of spans buffered waiting for the tail sampling decision of their trace.")
+                .buildGauge(this::bufferedSpans);
+    }
+}
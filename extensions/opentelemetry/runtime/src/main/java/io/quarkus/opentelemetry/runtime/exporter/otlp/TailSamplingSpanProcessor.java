@@ -0,0 +1,309 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.quarkus.opentelemetry.runtime.config.runtime.TailSamplingConfig;
+
+/**
+ * A {@link SpanProcessor} buffering the ended spans per trace and passing to its delegate only the traces retained by
+ * the tail sampling policies, see {@link TailSamplingConfig}.
+ * <p>
+ * The decision is made when the local root span of a trace ends, or when the trace is evicted because it waited longer
+ * than the decision wait or because the buffer is full. The spans ending after the decision follow it, as long as the
+ * decision is remembered.
+ * <p>
+ * The traces are split by trace id into stripes, each with its own lock and its share of the buffer, so that spans of
+ * different traces ending concurrently rarely contend. The expired traces are decided by a timer, so that they do not
+ * wait for another span of their stripe to end.
+ */
+public class TailSamplingSpanProcessor implements SpanProcessor {
+
+    private static final Logger LOG = Logger.getLogger(TailSamplingSpanProcessor.class);
+    private static final int MAX_STRIPES = 64;
+    private static final int MIN_SPANS_PER_STRIPE = 256;
+    private static final long MAX_EVICTION_PERIOD_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long MIN_EVICTION_PERIOD_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final SpanProcessor delegate;
+    private final TailSamplingMetrics metrics;
+    private final long decisionWaitNanos;
+    private final boolean errors;
+    private final long latencyThresholdNanos;
+    private final Map<String, String> attributes;
+    private final long ratioUpperBound;
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final ScheduledExecutorService evictionTimer;
+
+    public TailSamplingSpanProcessor(SpanProcessor delegate, TailSamplingConfig config, TailSamplingMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+        this.decisionWaitNanos = config.decisionWait().toNanos();
+        this.errors = config.errors();
+        this.latencyThresholdNanos = config.latencyThreshold().map(Duration::toNanos).orElse(-1L);
+        this.attributes = Map.copyOf(config.attributes());
+        this.ratioUpperBound = ratioUpperBound(config.ratio());
+        int maxSpans = config.maxSpans();
+        int stripeCount = Math.min(
+                Math.min(MAX_STRIPES, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1)),
+                Integer.highestOneBit(Math.max(1, maxSpans / MIN_SPANS_PER_STRIPE)));
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(Math.max(1, maxSpans / stripeCount));
+        }
+        this.stripeMask = stripeCount - 1;
+        metrics.register(this);
+        long evictionPeriod = Math.max(MIN_EVICTION_PERIOD_NANOS,
+                Math.min(MAX_EVICTION_PERIOD_NANOS, decisionWaitNanos / 2));
+        this.evictionTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "otel-tail-sampling-eviction");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictionTimer.scheduleWithFixedDelay(this::evictExpired, evictionPeriod, evictionPeriod, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+        delegate.onStart(parentContext, span);
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return delegate.isStartRequired();
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        SpanContext spanContext = span.getSpanContext();
+        if (!spanContext.isSampled()) {
+            delegate.onEnd(span);
+            return;
+        }
+        String traceId = spanContext.getTraceId();
+        SpanData spanData = span.toSpanData();
+        boolean retain = retain(spanData);
+        long now = System.nanoTime();
+        List<ReadableSpan> retained = null;
+        Stripe stripe = stripe(traceId);
+        synchronized (stripe) {
+            Boolean decision = stripe.decisions.get(traceId);
+            if (decision != null) {
+                if (decision) {
+                    retained = List.of(span);
+                } else {
+                    metrics.droppedLate();
+                }
+            } else {
+                BufferedTrace trace = stripe.traces.get(traceId);
+                if (trace == null) {
+                    trace = new BufferedTrace(now);
+                    stripe.traces.put(traceId, trace);
+                }
+                trace.add(span, spanData, retain);
+                stripe.bufferedSpans++;
+                if (isLocalRoot(span)) {
+                    stripe.traces.remove(traceId);
+                    retained = decide(stripe, traceId, trace, null);
+                }
+                retained = evict(stripe, now, false, retained);
+            }
+        }
+        export(retained);
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        evictionTimer.shutdownNow();
+        evictAll(true);
+        metrics.unregister(this);
+        return delegate.shutdown();
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        evictAll(false);
+        return delegate.forceFlush();
+    }
+
+    int bufferedSpans() {
+        int bufferedSpans = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                bufferedSpans += stripe.bufferedSpans;
+            }
+        }
+        return bufferedSpans;
+    }
+
+    private void evictExpired() {
+        try {
+            evictAll(false);
+        } catch (RuntimeException e) {
+            // keep the timer running
+            LOG.warn("Unable to decide the expired traces", e);
+        }
+    }
+
+    private void evictAll(boolean all) {
+        for (Stripe stripe : stripes) {
+            List<ReadableSpan> retained;
+            synchronized (stripe) {
+                retained = evict(stripe, System.nanoTime(), all, null);
+            }
+            export(retained);
+        }
+    }
+
+    private Stripe stripe(String traceId) {
+        int hash = traceId.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & stripeMask];
+    }
+
+    /**
+     * Decides the traces of the stripe that waited longer than the decision wait, then the oldest traces while the
+     * stripe is full.
+     */
+    private List<ReadableSpan> evict(Stripe stripe, long now, boolean all, List<ReadableSpan> retained) {
+        Iterator<Map.Entry<String, BufferedTrace>> it = stripe.traces.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, BufferedTrace> entry = it.next();
+            BufferedTrace trace = entry.getValue();
+            boolean expired = now - trace.firstSeen >= decisionWaitNanos;
+            if (!all && !expired && stripe.bufferedSpans <= stripe.maxSpans) {
+                break;
+            }
+            if (!all && !expired) {
+                metrics.evicted();
+            }
+            it.remove();
+            retained = decide(stripe, entry.getKey(), trace, retained);
+        }
+        return retained;
+    }
+
+    private List<ReadableSpan> decide(Stripe stripe, String traceId, BufferedTrace trace, List<ReadableSpan> retained) {
+        stripe.bufferedSpans -= trace.spans.size();
+        boolean decision = trace.retain
+                || (latencyThresholdNanos >= 0 && trace.end - trace.start >= latencyThresholdNanos)
+                || Math.abs(Long.parseUnsignedLong(traceId, 16, 32, 16)) < ratioUpperBound;
+        stripe.decisions.put(traceId, decision);
+        if (!decision) {
+            metrics.dropped(trace.spans.size());
+            return retained;
+        }
+        metrics.retained();
+        if (retained == null) {
+            retained = new ArrayList<>(trace.spans.size());
+        }
+        retained.addAll(trace.spans);
+        return retained;
+    }
+
+    private boolean retain(SpanData spanData) {
+        if (errors && spanData.getStatus().getStatusCode() == StatusCode.ERROR) {
+            return true;
+        }
+        if (!attributes.isEmpty()) {
+            boolean[] matches = new boolean[1];
+            spanData.getAttributes().forEach((key, value) -> {
+                if (!matches[0] && String.valueOf(value).equals(attributes.get(key.getKey()))) {
+                    matches[0] = true;
+                }
+            });
+            return matches[0];
+        }
+        return false;
+    }
+
+    private void export(List<ReadableSpan> retained) {
+        if (retained != null) {
+            for (ReadableSpan span : retained) {
+                delegate.onEnd(span);
+            }
+        }
+    }
+
+    private static boolean isLocalRoot(ReadableSpan span) {
+        SpanContext parent = span.getParentSpanContext();
+        return parent == null || !parent.isValid() || parent.isRemote();
+    }
+
+    // same bound as the traceidratio sampler
+    private static long ratioUpperBound(double ratio) {
+        if (ratio <= 0.0) {
+            return Long.MIN_VALUE;
+        }
+        if (ratio >= 1.0) {
+            return Long.MAX_VALUE;
+        }
+        return (long) (ratio * Long.MAX_VALUE);
+    }
+
+    /**
+     * A share of the buffered traces, guarded by its own monitor.
+     */
+    private static final class Stripe {
+
+        final int maxSpans;
+        // the buffered traces, in the order they were first seen
+        final LinkedHashMap<String, BufferedTrace> traces = new LinkedHashMap<>();
+        // the recent decisions, for the spans ending after their local root span
+        final LinkedHashMap<String, Boolean> decisions;
+        int bufferedSpans;
+
+        Stripe(int maxSpans) {
+            this.maxSpans = maxSpans;
+            this.decisions = new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                    return size() > maxSpans;
+                }
+            };
+        }
+    }
+
+    private static final class BufferedTrace {
+
+        final long firstSeen;
+        final List<ReadableSpan> spans = new ArrayList<>(4);
+        boolean retain;
+        long start = Long.MAX_VALUE;
+        long end = Long.MIN_VALUE;
+
+        BufferedTrace(long firstSeen) {
+            this.firstSeen = firstSeen;
+        }
+
+        void add(ReadableSpan span, SpanData spanData, boolean retain) {
+            spans.add(span);
+            this.retain |= retain;
+            start = Math.min(start, spanData.getStartEpochNanos());
+            end = Math.max(end, spanData.getEndEpochNanos());
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.quarkus.opentelemetry.runtime.config.runtime.TailSamplingConfig;
+
+class TailSamplingSpanProcessorTest {
+
+    private final CapturingSpanProcessor delegate = new CapturingSpanProcessor();
+    private final TailSamplingMetrics metrics = new TailSamplingMetrics();
+    private SdkTracerProvider tracerProvider;
+
+    @AfterEach
+    void close() {
+        if (tracerProvider != null) {
+            tracerProvider.close();
+        }
+    }
+
+    @Test
+    void dropsTracesNotMatchingAnyPolicy() {
+        Tracer tracer = tracer(config());
+
+        Span root = tracer.spanBuilder("root").startSpan();
+        tracer.spanBuilder("child").setParent(Context.root().with(root)).startSpan().end();
+        assertThat(metrics.bufferedSpans()).isEqualTo(1);
+        root.end();
+
+        assertThat(delegate.ended).isEmpty();
+        assertThat(metrics.droppedTraces()).isEqualTo(1);
+        assertThat(metrics.droppedSpans()).isEqualTo(2);
+        assertThat(metrics.bufferedSpans()).isZero();
+    }
+
+    @Test
+    void retainsTracesWithErrors() {
+        Tracer tracer = tracer(config());
+
+        Span root = tracer.spanBuilder("root").startSpan();
+        Span child = tracer.spanBuilder("child").setParent(Context.root().with(root)).startSpan();
+        child.setStatus(StatusCode.ERROR);
+        child.end();
+        assertThat(delegate.ended).isEmpty();
+        root.end();
+
+        assertThat(delegate.names()).containsExactly("child", "root");
+        assertThat(metrics.retainedTraces()).isEqualTo(1);
+    }
+
+    @Test
+    void retainsSlowTraces() throws InterruptedException {
+        Tracer tracer = tracer(new TestConfig(Duration.ofSeconds(30), 100, false, Optional.of(Duration.ofMillis(20)),
+                Map.of(), 0.0));
+
+        tracer.spanBuilder("fast").startSpan().end();
+        Span slow = tracer.spanBuilder("slow").startSpan();
+        Thread.sleep(30);
+        slow.end();
+
+        assertThat(delegate.names()).containsExactly("slow");
+    }
+
+    @Test
+    void retainsTracesWithAttributes() {
+        Tracer tracer = tracer(new TestConfig(Duration.ofSeconds(30), 100, false, Optional.empty(),
+                Map.of("http.route", "/orders", "http.response.status_code", "503"), 0.0));
+
+        tracer.spanBuilder("other").setAttribute("http.route", "/customers").startSpan().end();
+        tracer.spanBuilder("orders").setAttribute("http.route", "/orders").startSpan().end();
+        tracer.spanBuilder("unavailable").setAttribute("http.response.status_code", 503L).startSpan().end();
+
+        assertThat(delegate.names()).containsExactly("orders", "unavailable");
+    }
+
+    @Test
+    void retainsAllTracesWithRatio() {
+        Tracer tracer = tracer(new TestConfig(Duration.ofSeconds(30), 100, false, Optional.empty(), Map.of(), 1.0));
+
+        tracer.spanBuilder("first").startSpan().end();
+        tracer.spanBuilder("second").startSpan().end();
+
+        assertThat(delegate.names()).containsExactly("first", "second");
+    }
+
+    @Test
+    void lateSpansFollowTheDecision() {
+        Tracer tracer = tracer(config());
+
+        Span retainedRoot = tracer.spanBuilder("retained").startSpan();
+        Span retainedChild = tracer.spanBuilder("retained-late").setParent(Context.root().with(retainedRoot)).startSpan();
+        retainedRoot.setStatus(StatusCode.ERROR);
+        retainedRoot.end();
+        Span droppedRoot = tracer.spanBuilder("dropped").startSpan();
+        Span droppedChild = tracer.spanBuilder("dropped-late").setParent(Context.root().with(droppedRoot)).startSpan();
+        droppedRoot.end();
+
+        retainedChild.end();
+        droppedChild.end();
+
+        assertThat(delegate.names()).containsExactly("retained", "retained-late");
+        assertThat(metrics.droppedSpans()).isEqualTo(2);
+        assertThat(metrics.bufferedSpans()).isZero();
+    }
+
+    @Test
+    void evictsOldestTracesWhenFull() {
+        Tracer tracer = tracer(new TestConfig(Duration.ofSeconds(30), 2, true, Optional.empty(), Map.of(), 0.0));
+
+        Span first = tracer.spanBuilder("first").startSpan();
+        Span second = tracer.spanBuilder("second").startSpan();
+        Span firstChild = tracer.spanBuilder("first-child").setParent(Context.root().with(first)).startSpan();
+        firstChild.setStatus(StatusCode.ERROR);
+        firstChild.end();
+        tracer.spanBuilder("second-child").setParent(Context.root().with(second)).startSpan().end();
+        assertThat(metrics.bufferedSpans()).isEqualTo(2);
+
+        Span third = tracer.spanBuilder("third").startSpan();
+        tracer.spanBuilder("third-child").setParent(Context.root().with(third)).startSpan().end();
+
+        // the first trace is evicted and retained because of its error
+        assertThat(delegate.names()).containsExactly("first-child");
+        assertThat(metrics.evictedTraces()).isEqualTo(1);
+        assertThat(metrics.bufferedSpans()).isEqualTo(2);
+
+        first.end();
+        assertThat(delegate.names()).containsExactly("first-child", "first");
+    }
+
+    @Test
+    void decidesExpiredTraces() throws InterruptedException {
+        Tracer tracer = tracer(new TestConfig(Duration.ofMillis(10), 100, true, Optional.empty(), Map.of(), 0.0));
+
+        Span root = tracer.spanBuilder("root").startSpan();
+        Span child = tracer.spanBuilder("child").setParent(Context.root().with(root)).startSpan();
+        child.setStatus(StatusCode.ERROR);
+        child.end();
+
+        // no other span ends, the trace is decided by the eviction timer
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (delegate.ended.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(delegate.names()).containsExactly("child");
+        assertThat(metrics.evictedTraces()).isZero();
+        assertThat(metrics.bufferedSpans()).isZero();
+    }
+
+    @Test
+    void decidesConcurrentTraces() throws InterruptedException {
+        Tracer tracer = tracer(new TestConfig(Duration.ofSeconds(30), 100_000, true, Optional.empty(), Map.of(), 0.0));
+
+        int threads = 8;
+        int tracesPerThread = 1_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                for (int i = 0; i < tracesPerThread; i++) {
+                    Span root = tracer.spanBuilder("root").startSpan();
+                    Span child = tracer.spanBuilder("child").setParent(Context.root().with(root)).startSpan();
+                    if (i % 2 == 0) {
+                        child.setStatus(StatusCode.ERROR);
+                    }
+                    child.end();
+                    root.end();
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertThat(metrics.retainedTraces()).isEqualTo(threads * tracesPerThread / 2);
+        assertThat(metrics.droppedTraces()).isEqualTo(threads * tracesPerThread / 2);
+        assertThat(delegate.ended).hasSize(threads * tracesPerThread);
+        assertThat(metrics.bufferedSpans()).isZero();
+    }
+
+    @Test
+    void decidesBufferedTracesOnShutdown() {
+        Tracer tracer = tracer(config());
+
+        Span root = tracer.spanBuilder("root").startSpan();
+        Span child = tracer.spanBuilder("child").setParent(Context.root().with(root)).startSpan();
+        child.setStatus(StatusCode.ERROR);
+        child.end();
+        tracerProvider.shutdown().join(10, TimeUnit.SECONDS);
+
+        assertThat(delegate.names()).containsExactly("child");
+        assertThat(delegate.shutdown).isTrue();
+        assertThat(metrics.bufferedSpans()).isZero();
+    }
+
+    private Tracer tracer(TailSamplingConfig config) {
+        tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(new TailSamplingSpanProcessor(delegate, config, metrics))
+                .build();
+        return tracerProvider.get("test");
+    }
+
+    private static TailSamplingConfig config() {
+        return new TestConfig(Duration.ofSeconds(30), 100, true, Optional.empty(), Map.of(), 0.0);
+    }
+
+    record TestConfig(Duration decisionWait, int maxSpans, boolean errors, Optional<Duration> latencyThreshold,
+            Map<String, String> attributes, double ratio) implements TailSamplingConfig {
+    }
+
+    static class CapturingSpanProcessor implements SpanProcessor {
+
+        final List<ReadableSpan> ended = new CopyOnWriteArrayList<>();
+        volatile boolean shutdown;
+
+        @Override
+        public void onStart(Context parentContext, ReadWriteSpan span) {
+        }
+
+        @Override
+        public boolean isStartRequired() {
+            return false;
+        }
+
+        @Override
+        public void onEnd(ReadableSpan span) {
+            ended.add(span);
+        }
+
+        @Override
+        public boolean isEndRequired() {
+            return true;
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            shutdown = true;
+            return CompletableResultCode.ofSuccess();
+        }
+
+        List<String> names() {
+            return ended.stream().map(ReadableSpan::getName).toList();
+        }
+    }
+}
@@ -98,6 +98,7 @@
 import io.quarkus.vertx.http.deployment.RequireBodyHandlerBuildItem;
 import io.quarkus.vertx.http.deployment.RouteBuildItem;
 import io.quarkus.vertx.http.deployment.devmode.RouteDescriptionBuildItem;
+import io.quarkus.vertx.http.deployment.spi.RouteTemplateBuildItem;
 import io.quarkus.vertx.http.runtime.HandlerType;
 import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.HttpCompression;
@@ -291,6 +292,7 @@ void addAdditionalRoutes(
             ShutdownContextBuildItem shutdown,
             LaunchModeBuildItem launchMode,
             BuildProducer<RouteDescriptionBuildItem> descriptions,
+            BuildProducer<RouteTemplateBuildItem> routeTemplates,
             Capabilities capabilities,
             Optional<BeanValidationAnnotationsBuildItem> beanValidationAnnotations,
             List<ApplicationClassPredicateBuildItem> predicates) {
@@ -469,6 +471,9 @@ public boolean test(String name) {
                         .handlerType(handlerType)
                         .handler(routeHandler);
                 routeProducer.produce(builder.build());
+                if (path != null) {
+                    routeTemplates.produce(new RouteTemplateBuildItem(path));
+                }
 
                 if (launchMode.getLaunchMode().equals(LaunchMode.DEVELOPMENT)) {
                     if (methods.length == 0) {
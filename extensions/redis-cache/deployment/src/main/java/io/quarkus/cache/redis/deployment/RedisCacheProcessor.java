@@ -33,7 +33,9 @@
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.redis.deployment.client.RequestedRedisClientBuildItem;
 import io.quarkus.redis.runtime.client.config.RedisConfig;
 import io.smallrye.mutiny.Uni;
@@ -46,8 +48,20 @@ public class RedisCacheProcessor {
 
     @BuildStep
     @Record(RUNTIME_INIT)
-    CacheManagerInfoBuildItem cacheManagerInfo(RedisCacheBuildRecorder recorder) {
-        return new CacheManagerInfoBuildItem(recorder.getCacheManagerSupplier());
+    CacheManagerInfoBuildItem cacheManagerInfo(RedisCacheBuildRecorder recorder, ShutdownContextBuildItem shutdown) {
+        return new CacheManagerInfoBuildItem(recorder.getCacheManagerSupplier(shutdown));
+    }
+
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    MetricsFactoryConsumerBuildItem nearCacheMetrics(RedisCacheBuildRecorder recorder) {
+        return new MetricsFactoryConsumerBuildItem(recorder.registerNearCacheMetrics());
+    }
+
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    MetricsFactoryConsumerBuildItem codecMetrics(RedisCacheBuildRecorder recorder) {
+        return new MetricsFactoryConsumerBuildItem(recorder.registerCodecMetrics());
     }
 
     @BuildStep
@@ -65,6 +79,22 @@ void nativeImage(BuildProducer<ReflectiveClassBuildItem> producer) {
         producer.produce(ReflectiveClassBuildItem.builder(CompositeCacheKey.class).methods(true).build());
     }
 
+    @BuildStep
+    void codecs(RedisCachesBuildTimeConfig buildConfig, BuildProducer<ReflectiveClassBuildItem> reflectiveClasses,
+            BuildProducer<UnremovableBeanBuildItem> unremovableBeans) {
+        Set<String> codecs = new HashSet<>();
+        buildConfig.defaultConfig.codec.ifPresent(codecs::add);
+        for (RedisCacheBuildTimeConfig cacheConfig : buildConfig.cachesConfig.values()) {
+            cacheConfig.codec.ifPresent(codecs::add);
+        }
+        if (!codecs.isEmpty()) {
+            // The codecs are looked up programmatically, or instantiated if they are not beans
+            unremovableBeans.produce(UnremovableBeanBuildItem.beanClassNames(codecs));
+            reflectiveClasses.produce(ReflectiveClassBuildItem.builder(codecs.toArray(new String[0])).constructors(true)
+                    .build());
+        }
+    }
+
     @BuildStep
     @Record(STATIC_INIT)
     void determineValueTypes(RedisCacheBuildRecorder recorder, CombinedIndexBuildItem combinedIndex,
@@ -102,6 +132,17 @@ void determineValueTypes(RedisCacheBuildRecorder recorder, CombinedIndexBuildIte
         recorder.setCacheValueTypes(valueTypes);
     }
 
+    private static Type mapValueType(Type type) {
+        if (type.kind() == Type.Kind.PARAMETERIZED_TYPE && (UNI.equals(type.name())
+                || CacheDeploymentConstants.COMPLETION_STAGE.equals(type.name()))) {
+            type = type.asParameterizedType().arguments().get(0);
+        }
+        if (type.kind() == Type.Kind.PARAMETERIZED_TYPE && CacheDeploymentConstants.MAP.equals(type.name())) {
+            return type.asParameterizedType().arguments().get(1);
+        }
+        return null;
+    }
+
     private static Map<String, String> valueTypesFromCacheResultAnnotation(CombinedIndexBuildItem combinedIndex) {
         Map<String, Set<Type>> valueTypesFromAnnotations = new HashMap<>();
 
@@ -114,6 +155,13 @@ private static Map<String, String> valueTypesFromCacheResultAnnotation(CombinedI
             if (methodReturnType.kind() == Type.Kind.VOID) {
                 continue;
             }
+            if (instance.target().asMethod().hasAnnotation(CacheDeploymentConstants.CACHE_KEYS)) {
+                // bulk methods return a map whose values are the cached values
+                methodReturnType = mapValueType(methodReturnType);
+                if (methodReturnType == null) {
+                    continue;
+                }
+            }
             AnnotationValue cacheNameValue = instance.value("cacheName");
             if (cacheNameValue == null) {
                 continue;
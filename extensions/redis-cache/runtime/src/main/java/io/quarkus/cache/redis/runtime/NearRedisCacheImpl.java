@@ -0,0 +1,570 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.quarkus.cache.runtime.AbstractCache;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * This class is an internal Quarkus cache implementation using Redis, with a bounded local Caffeine cache in front
+ * of it. Do not use it explicitly from your Quarkus application.
+ * <p>
+ * Values read from or computed into Redis are also stored locally, keyed by their Redis key. Every write and
+ * invalidation is published on a Redis pub/sub channel dedicated to the cache, and every instance subscribed to
+ * that channel drops the corresponding local entries. The local cache is only populated while the subscription is
+ * active; when it is lost, the local cache is cleared and reads go to Redis until the instance subscribes again.
+ * <p>
+ * If {@code refresh-after-write} is set, a single key read served by a local entry older than that duration checks the
+ * entry in Redis in the background, which refreshes it if needed. The refreshed entries are invalidated locally and on
+ * the other instances.
+ */
+public class NearRedisCacheImpl extends AbstractCache implements RedisCache {
+
+    private static final Logger log = Logger.getLogger(NearRedisCacheImpl.class);
+
+    private static final String ALL_KEYS = "*";
+
+    private final RedisCacheImpl delegate;
+    private final Redis redis;
+    private final String channel;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final com.github.benmanes.caffeine.cache.Cache<String, LocalEntry> local;
+    private final long refreshAfterWriteNanos;
+
+    /**
+     * Incremented for every invalidation received from another instance. A value read from Redis is only stored
+     * locally if no invalidation was received while it was being read, as it may be stale otherwise.
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicBoolean subscribing = new AtomicBoolean();
+    private volatile RedisConnection subscription;
+    private volatile boolean closed;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public NearRedisCacheImpl(RedisCacheInfo cacheInfo, RedisCacheImpl delegate) {
+        this.delegate = delegate;
+        this.redis = delegate.getRedis();
+        this.channel = delegate.computeActualKey("near-cache-invalidations");
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(cacheInfo.nearCacheMaximumSize);
+        if (cacheInfo.nearCacheExpireAfterWrite.isPresent()) {
+            builder.expireAfterWrite(cacheInfo.nearCacheExpireAfterWrite.get());
+        }
+        this.local = builder.build();
+        this.refreshAfterWriteNanos = TimeUnit.MILLISECONDS.toNanos(delegate.refreshAfterWriteMillis());
+        delegate.setRefreshListener(new Consumer<String>() {
+            @Override
+            public void accept(String localKey) {
+                invalidations.incrementAndGet();
+                local.invalidate(localKey);
+                publish(localKey).subscribe().with(new Consumer<Void>() {
+                    @Override
+                    public void accept(Void ignored) {
+                    }
+                });
+            }
+        });
+        subscribe();
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getDefaultKey() {
+        return delegate.getDefaultKey();
+    }
+
+    @Override
+    public Class<?> getDefaultValueType() {
+        return delegate.getDefaultValueType();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K, V> Uni<V> get(K key, Class<V> clazz, Function<K, V> valueLoader) {
+        String localKey = delegate.actualKey(key);
+        LocalEntry cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            localHits.increment();
+            if (cached.refreshDue()) {
+                checkInRedis(localKey, delegate.get(key, clazz, valueLoader));
+            }
+            return Uni.createFrom().item((V) cached.value);
+        }
+        long generation = invalidations.get();
+        AtomicBoolean loaded = new AtomicBoolean();
+        return delegate.get(key, clazz, new Function<K, V>() {
+            @Override
+            public V apply(K k) {
+                loaded.set(true);
+                return valueLoader.apply(k);
+            }
+        }).call(new Function<V, Uni<?>>() {
+            @Override
+            public Uni<?> apply(V value) {
+                return afterRemoteGet(localKey, value, generation, loaded.get());
+            }
+        });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K, V> Uni<V> getAsync(K key, Class<V> clazz, Function<K, Uni<V>> valueLoader) {
+        String localKey = delegate.actualKey(key);
+        LocalEntry cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            localHits.increment();
+            if (cached.refreshDue()) {
+                checkInRedis(localKey, delegate.getAsync(key, clazz, valueLoader));
+            }
+            return Uni.createFrom().item((V) cached.value);
+        }
+        long generation = invalidations.get();
+        AtomicBoolean loaded = new AtomicBoolean();
+        return delegate.getAsync(key, clazz, new Function<K, Uni<V>>() {
+            @Override
+            public Uni<V> apply(K k) {
+                loaded.set(true);
+                return valueLoader.apply(k);
+            }
+        }).call(new Function<V, Uni<?>>() {
+            @Override
+            public Uni<?> apply(V value) {
+                return afterRemoteGet(localKey, value, generation, loaded.get());
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Class<V> clazz, Function<Set<K>, Map<K, V>> bulkLoader) {
+        Set<K> loadedKeys = ConcurrentHashMap.newKeySet();
+        return getAll(keys, new Function<Set<K>, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(Set<K> remoteKeys) {
+                return delegate.getAll(remoteKeys, clazz, new Function<Set<K>, Map<K, V>>() {
+                    @Override
+                    public Map<K, V> apply(Set<K> missingKeys) {
+                        loadedKeys.addAll(missingKeys);
+                        return bulkLoader.apply(missingKeys);
+                    }
+                });
+            }
+        }, loadedKeys);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<K> keys, Class<V> clazz,
+            Function<Set<K>, Uni<Map<K, V>>> bulkLoader) {
+        Set<K> loadedKeys = ConcurrentHashMap.newKeySet();
+        return getAll(keys, new Function<Set<K>, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(Set<K> remoteKeys) {
+                return delegate.getAllAsync(remoteKeys, clazz, new Function<Set<K>, Uni<Map<K, V>>>() {
+                    @Override
+                    public Uni<Map<K, V>> apply(Set<K> missingKeys) {
+                        loadedKeys.addAll(missingKeys);
+                        return bulkLoader.apply(missingKeys);
+                    }
+                });
+            }
+        }, loadedKeys);
+    }
+
+    /**
+     * Reads the keys from the local cache, and the remaining ones from Redis with {@code remote}.
+     *
+     * @param loadedKeys the keys computed by the loader during the {@code remote} call
+     */
+    @SuppressWarnings("unchecked")
+    private <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Uni<Map<K, V>>> remote, Set<K> loadedKeys) {
+        Map<K, V> result = new LinkedHashMap<>();
+        Map<K, String> remoteKeys = new LinkedHashMap<>();
+        for (K key : keys) {
+            if (result.containsKey(key) || remoteKeys.containsKey(key)) {
+                continue;
+            }
+            String localKey = delegate.actualKey(key);
+            LocalEntry cached = local.getIfPresent(localKey);
+            if (cached != null) {
+                localHits.increment();
+                result.put(key, (V) cached.value);
+            } else {
+                remoteKeys.put(key, localKey);
+            }
+        }
+        if (remoteKeys.isEmpty()) {
+            return Uni.createFrom().item(result);
+        }
+        long generation = invalidations.get();
+        return remote.apply(remoteKeys.keySet())
+                .call(new Function<Map<K, V>, Uni<?>>() {
+                    @Override
+                    public Uni<?> apply(Map<K, V> values) {
+                        List<String> loadedLocalKeys = new ArrayList<>();
+                        for (Map.Entry<K, String> remoteKey : remoteKeys.entrySet()) {
+                            V value = values.get(remoteKey.getKey());
+                            if (loadedKeys.contains(remoteKey.getKey())) {
+                                misses.increment();
+                                loadedLocalKeys.add(remoteKey.getValue());
+                            } else if (value != null) {
+                                redisHits.increment();
+                            }
+                            if (value != null) {
+                                result.put(remoteKey.getKey(), value);
+                                cacheLocally(remoteKey.getValue(), value, generation);
+                            }
+                        }
+                        // another instance may hold values for these keys that expired in Redis but not yet locally
+                        return publishAll(loadedLocalKeys);
+                    }
+                })
+                .replaceWith(result);
+    }
+
+    @Override
+    public <K, V> Uni<Void> put(K key, Supplier<V> supplier) {
+        String localKey = delegate.actualKey(key);
+        return delegate.put(key, supplier).call(new Supplier<Uni<?>>() {
+            @Override
+            public Uni<?> get() {
+                local.invalidate(localKey);
+                return publish(localKey);
+            }
+        });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K, V> Uni<V> getOrDefault(K key, V defaultValue) {
+        String localKey = delegate.actualKey(key);
+        LocalEntry cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            localHits.increment();
+            return Uni.createFrom().item((V) cached.value);
+        }
+        long generation = invalidations.get();
+        return delegate.getOrNull(key, (Class<V>) delegate.getDefaultValueType())
+                .invoke(new Consumer<V>() {
+                    @Override
+                    public void accept(V value) {
+                        afterRemoteRead(localKey, value, generation);
+                    }
+                })
+                .onItem().ifNull().continueWith(defaultValue);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K, V> Uni<V> getOrNull(K key, Class<V> clazz) {
+        String localKey = delegate.actualKey(key);
+        LocalEntry cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            localHits.increment();
+            return Uni.createFrom().item((V) cached.value);
+        }
+        long generation = invalidations.get();
+        return delegate.getOrNull(key, clazz)
+                .invoke(new Consumer<V>() {
+                    @Override
+                    public void accept(V value) {
+                        afterRemoteRead(localKey, value, generation);
+                    }
+                });
+    }
+
+    @Override
+    public Uni<Void> invalidate(Object key) {
+        String localKey = delegate.actualKey(key);
+        local.invalidate(localKey);
+        return delegate.invalidate(key).call(new Supplier<Uni<?>>() {
+            @Override
+            public Uni<?> get() {
+                local.invalidate(localKey);
+                return publish(localKey);
+            }
+        });
+    }
+
+    @Override
+    public Uni<Void> invalidateAll() {
+        local.invalidateAll();
+        return delegate.invalidateAll().call(this::publishClear);
+    }
+
+    @Override
+    public Uni<Void> invalidateIf(Predicate<Object> predicate) {
+        // local entries are keyed by their Redis key, so they are all dropped rather than decoded and tested
+        local.invalidateAll();
+        return delegate.invalidateIf(predicate).call(this::publishClear);
+    }
+
+    /**
+     * @return the Redis cache behind the local cache
+     */
+    RedisCacheImpl delegate() {
+        return delegate;
+    }
+
+    /**
+     * @return the number of reads served by the local cache
+     */
+    public long localHits() {
+        return localHits.sum();
+    }
+
+    /**
+     * @return the number of reads that missed the local cache but were served by Redis
+     */
+    public long redisHits() {
+        return redisHits.sum();
+    }
+
+    /**
+     * @return the number of reads that missed both caches, and were computed by the value loader
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the approximate number of entries of the local cache
+     */
+    public long localSize() {
+        return local.estimatedSize();
+    }
+
+    /**
+     * @return the number of invalidations received from other instances
+     */
+    public long invalidations() {
+        return invalidations.get();
+    }
+
+    private <V> Uni<?> afterRemoteGet(String localKey, V value, long generation, boolean loaded) {
+        if (loaded) {
+            misses.increment();
+            cacheLocally(localKey, value, generation);
+            // another instance may hold a value for this key that expired in Redis but not yet locally
+            return publish(localKey);
+        }
+        redisHits.increment();
+        cacheLocally(localKey, value, generation);
+        return Uni.createFrom().voidItem();
+    }
+
+    private <V> void afterRemoteRead(String localKey, V value, long generation) {
+        if (value == null) {
+            misses.increment();
+        } else {
+            redisHits.increment();
+            cacheLocally(localKey, value, generation);
+        }
+    }
+
+    private void cacheLocally(String localKey, Object value, long generation) {
+        if (value == null || subscription == null) {
+            subscribe();
+            return;
+        }
+        if (invalidations.get() == generation) {
+            local.put(localKey, new LocalEntry(value,
+                    refreshAfterWriteNanos > 0 ? System.nanoTime() + refreshAfterWriteNanos : Long.MAX_VALUE));
+            // an invalidation may have been received right before the value was stored
+            if (invalidations.get() != generation) {
+                local.invalidate(localKey);
+            }
+        }
+    }
+
+    /**
+     * Reads the entry from Redis in the background, which refreshes it if it is older than {@code refresh-after-write}.
+     * The local entry is replaced with the value read, or invalidated once the refresh completes.
+     */
+    private <V> void checkInRedis(String localKey, Uni<V> remote) {
+        long generation = invalidations.get();
+        remote.subscribe().with(new Consumer<V>() {
+            @Override
+            public void accept(V value) {
+                cacheLocally(localKey, value, generation);
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable t) {
+                log.debugf(t, "Unable to check entry %s of cache %s in Redis", localKey, getName());
+            }
+        });
+    }
+
+    private Uni<Void> publish(String localKey) {
+        return redis.send(Request.cmd(Command.PUBLISH).arg(channel).arg(instanceId + ":" + localKey))
+                .replaceWithVoid()
+                .onFailure().recoverWithUni(new Function<Throwable, Uni<? extends Void>>() {
+                    @Override
+                    public Uni<? extends Void> apply(Throwable t) {
+                        log.warnf(t, "Unable to publish the invalidation of %s to the other instances of cache %s",
+                                localKey, getName());
+                        return Uni.createFrom().voidItem();
+                    }
+                });
+    }
+
+    private Uni<Void> publishAll(List<String> localKeys) {
+        if (localKeys.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        List<Request> requests = new ArrayList<>(localKeys.size());
+        for (String localKey : localKeys) {
+            requests.add(Request.cmd(Command.PUBLISH).arg(channel).arg(instanceId + ":" + localKey));
+        }
+        return redis.batch(requests)
+                .replaceWithVoid()
+                .onFailure().recoverWithUni(new Function<Throwable, Uni<? extends Void>>() {
+                    @Override
+                    public Uni<? extends Void> apply(Throwable t) {
+                        log.warnf(t, "Unable to publish the invalidation of %d keys to the other instances of cache %s",
+                                localKeys.size(), getName());
+                        return Uni.createFrom().voidItem();
+                    }
+                });
+    }
+
+    private Uni<Void> publishClear() {
+        return publish(ALL_KEYS);
+    }
+
+    private void subscribe() {
+        if (closed || subscription != null || !subscribing.compareAndSet(false, true)) {
+            return;
+        }
+        redis.connect()
+                .chain(new Function<RedisConnection, Uni<? extends RedisConnection>>() {
+                    @Override
+                    public Uni<? extends RedisConnection> apply(RedisConnection connection) {
+                        connection.handler(NearRedisCacheImpl.this::onMessage);
+                        connection.exceptionHandler(new Consumer<Throwable>() {
+                            @Override
+                            public void accept(Throwable t) {
+                                log.debugf(t, "Near cache subscription of cache %s failed", getName());
+                                onSubscriptionLost(connection);
+                            }
+                        });
+                        connection.endHandler(new Runnable() {
+                            @Override
+                            public void run() {
+                                onSubscriptionLost(connection);
+                            }
+                        });
+                        return connection.send(Request.cmd(Command.SUBSCRIBE).arg(channel)).replaceWith(connection);
+                    }
+                })
+                .subscribe().with(new Consumer<RedisConnection>() {
+                    @Override
+                    public void accept(RedisConnection connection) {
+                        subscription = connection;
+                        subscribing.set(false);
+                        // the cache may have been closed while subscribing
+                        if (closed) {
+                            close();
+                        }
+                    }
+                }, new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable t) {
+                        log.warnf(t, "Unable to subscribe to the invalidations of cache %s, the near cache is disabled "
+                                + "until the subscription succeeds", getName());
+                        subscribing.set(false);
+                    }
+                });
+    }
+
+    /**
+     * Closes the connection subscribed to the invalidations and stops subscribing again. The local cache is cleared
+     * and not populated anymore, so that reads go to Redis.
+     */
+    void close() {
+        closed = true;
+        RedisConnection connection = subscription;
+        subscription = null;
+        if (connection != null) {
+            connection.closeAndForget();
+        }
+        invalidations.incrementAndGet();
+        local.invalidateAll();
+    }
+
+    private void onSubscriptionLost(RedisConnection connection) {
+        if (subscription == connection) {
+            subscription = null;
+        }
+        invalidations.incrementAndGet();
+        local.invalidateAll();
+    }
+
+    void onMessage(Response response) {
+        // pub/sub messages are delivered as ["message", channel, payload], other responses are subscription replies
+        if (response == null || response.size() < 3 || !"message".equals(response.get(0).toString())) {
+            return;
+        }
+        String payload = response.get(2).toString();
+        int separator = payload.indexOf(':');
+        if (separator < 0 || payload.regionMatches(0, instanceId, 0, separator) && separator == instanceId.length()) {
+            return;
+        }
+        String localKey = payload.substring(separator + 1);
+        invalidations.incrementAndGet();
+        if (ALL_KEYS.equals(localKey)) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(localKey);
+        }
+    }
+
+    private static final class LocalEntry {
+
+        final Object value;
+        // System#nanoTime after which the entry is checked in Redis, Long#MAX_VALUE if it is never refreshed
+        final long refreshAt;
+        final AtomicBoolean checked = new AtomicBoolean();
+
+        LocalEntry(Object value, long refreshAt) {
+            this.value = value;
+            this.refreshAt = refreshAt;
+        }
+
+        /**
+         * @return {@code true} the first time it is called once the entry should be checked in Redis
+         */
+        boolean refreshDue() {
+            return refreshAt != Long.MAX_VALUE && System.nanoTime() - refreshAt >= 0 && checked.compareAndSet(false, true);
+        }
+    }
+}
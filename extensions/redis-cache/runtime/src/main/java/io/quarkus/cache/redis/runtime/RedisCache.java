@@ -1,5 +1,8 @@
 package io.quarkus.cache.redis.runtime;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -63,6 +66,54 @@ default <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
      */
     <K, V> Uni<V> getAsync(K key, Class<V> clazz, Function<K, Uni<V>> valueLoader);
 
+    @SuppressWarnings("unchecked")
+    @Override
+    default <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        Class<V> type = (Class<V>) getDefaultValueType();
+        if (type == null) {
+            throw new UnsupportedOperationException("Cannot use `getAll` method without a default type configured. " +
+                    "Consider using the `getAll` method accepting the type or configure the default type for the cache " +
+                    getName());
+        }
+        return getAll(keys, type, bulkLoader);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default <K, V> Uni<Map<K, V>> getAllAsync(Collection<K> keys, Function<Set<K>, Uni<Map<K, V>>> bulkLoader) {
+        Class<V> type = (Class<V>) getDefaultValueType();
+        if (type == null) {
+            throw new UnsupportedOperationException("Cannot use `getAllAsync` method without a default type configured. " +
+                    "Consider using the `getAllAsync` method accepting the type or configure the default type for the cache " +
+                    getName());
+        }
+        return getAllAsync(keys, type, bulkLoader);
+    }
+
+    /**
+     * Allows retrieving several values from the Redis cache in a single round trip.
+     *
+     * @param keys the keys
+     * @param clazz the class of the values
+     * @param bulkLoader the loader called once with the keys that have no value stored in the cache
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return the Uni emitting the cached values, without the keys the loader returned no value for.
+     */
+    <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Class<V> clazz, Function<Set<K>, Map<K, V>> bulkLoader);
+
+    /**
+     * Allows retrieving several values from the Redis cache in a single round trip.
+     *
+     * @param keys the keys
+     * @param clazz the class of the values
+     * @param bulkLoader the loader called once with the keys that have no value stored in the cache
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return the Uni emitting the cached values, without the keys the loader returned no value for.
+     */
+    <K, V> Uni<Map<K, V>> getAllAsync(Collection<K> keys, Class<V> clazz, Function<Set<K>, Uni<Map<K, V>>> bulkLoader);
+
     /**
      * Put a value in the cache.
      *
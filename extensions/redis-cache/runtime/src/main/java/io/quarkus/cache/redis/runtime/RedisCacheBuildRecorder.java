@@ -1,16 +1,20 @@
 package io.quarkus.cache.redis.runtime;
 
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.Arc;
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheManager;
 import io.quarkus.cache.CacheManagerInfo;
 import io.quarkus.cache.runtime.CacheManagerImpl;
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 @Recorder
 public class RedisCacheBuildRecorder {
@@ -27,7 +31,7 @@ public RedisCacheBuildRecorder(RedisCachesBuildTimeConfig buildConfig, RuntimeVa
         this.redisCacheConfigRV = redisCacheConfigRV;
     }
 
-    public CacheManagerInfo getCacheManagerSupplier() {
+    public CacheManagerInfo getCacheManagerSupplier(ShutdownContext shutdownContext) {
         return new CacheManagerInfo() {
             @Override
             public boolean supports(Context context) {
@@ -56,7 +60,14 @@ public CacheManager get() {
                                 }
 
                                 RedisCacheImpl cache = new RedisCacheImpl(cacheInfo, buildConfig.clientName);
-                                caches.put(cacheInfo.name, cache);
+                                if (cacheInfo.nearCacheEnabled) {
+                                    NearRedisCacheImpl nearCache = new NearRedisCacheImpl(cacheInfo, cache);
+                                    // closes the pub/sub connection before the Redis client is closed
+                                    shutdownContext.addShutdownTask(nearCache::close);
+                                    caches.put(cacheInfo.name, nearCache);
+                                } else {
+                                    caches.put(cacheInfo.name, cache);
+                                }
                             }
                             return new CacheManagerImpl(caches);
                         }
@@ -66,6 +77,103 @@ public CacheManager get() {
         };
     }
 
+    public Consumer<MetricsFactory> registerNearCacheMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                CacheManager cacheManager = Arc.container().instance(CacheManager.class).get();
+                for (String cacheName : cacheManager.getCacheNames()) {
+                    Optional<Cache> cache = cacheManager.getCache(cacheName);
+                    if (cache.isEmpty() || !(cache.get() instanceof NearRedisCacheImpl)) {
+                        continue;
+                    }
+                    NearRedisCacheImpl nearCache = (NearRedisCacheImpl) cache.get();
+                    metricsFactory.builder("cache.near.gets")
+                            .description("The number of reads served by the local near cache")
+                            .tag("cache", cacheName)
+                            .tag("tier", "local")
+                            .tag("result", "hit")
+                            .buildCounter(nearCache::localHits);
+                    metricsFactory.builder("cache.near.gets")
+                            .description("The number of reads served by Redis after missing the local near cache")
+                            .tag("cache", cacheName)
+                            .tag("tier", "redis")
+                            .tag("result", "hit")
+                            .buildCounter(nearCache::redisHits);
+                    metricsFactory.builder("cache.near.gets")
+                            .description("The number of reads that missed both the local near cache and Redis")
+                            .tag("cache", cacheName)
+                            .tag("tier", "redis")
+                            .tag("result", "miss")
+                            .buildCounter(nearCache::misses);
+                    metricsFactory.builder("cache.near.size")
+                            .description("The approximate number of entries of the local near cache")
+                            .tag("cache", cacheName)
+                            .buildGauge(nearCache::localSize);
+                    metricsFactory.builder("cache.near.invalidations")
+                            .description("The number of invalidations received from other instances")
+                            .tag("cache", cacheName)
+                            .buildCounter(nearCache::invalidations);
+                }
+            }
+        };
+    }
+
+    public Consumer<MetricsFactory> registerCodecMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                CacheManager cacheManager = Arc.container().instance(CacheManager.class).get();
+                for (String cacheName : cacheManager.getCacheNames()) {
+                    Optional<Cache> cache = cacheManager.getCache(cacheName);
+                    RedisCacheImpl redisCache;
+                    if (cache.isPresent() && cache.get() instanceof NearRedisCacheImpl) {
+                        redisCache = ((NearRedisCacheImpl) cache.get()).delegate();
+                    } else if (cache.isPresent() && cache.get() instanceof RedisCacheImpl) {
+                        redisCache = (RedisCacheImpl) cache.get();
+                    } else {
+                        continue;
+                    }
+                    RedisCacheValueCodec codec = redisCache.valueCodec();
+                    metricsFactory.builder("cache.redis.values")
+                            .description("The number of values serialized before being stored in Redis")
+                            .tag("cache", cacheName)
+                            .tag("codec", codec.codecName())
+                            .tag("operation", "encode")
+                            .buildCounter(codec::encodedValues);
+                    metricsFactory.builder("cache.redis.values")
+                            .description("The number of values read from Redis and deserialized")
+                            .tag("cache", cacheName)
+                            .tag("codec", codec.codecName())
+                            .tag("operation", "decode")
+                            .buildCounter(codec::decodedValues);
+                    metricsFactory.builder("cache.redis.values.compressed")
+                            .description("The number of values compressed before being stored in Redis")
+                            .tag("cache", cacheName)
+                            .tag("codec", codec.codecName())
+                            .buildCounter(codec::compressedValues);
+                    metricsFactory.builder("cache.redis.payload.bytes")
+                            .description("The total size of the serialized values, before compression")
+                            .tag("cache", cacheName)
+                            .tag("codec", codec.codecName())
+                            .tag("stage", "serialized")
+                            .buildCounter(codec::encodedBytes);
+                    metricsFactory.builder("cache.redis.payload.bytes")
+                            .description("The total size of the values stored in Redis, after compression")
+                            .tag("cache", cacheName)
+                            .tag("codec", codec.codecName())
+                            .tag("stage", "stored")
+                            .buildCounter(codec::storedBytes);
+                    metricsFactory.builder("cache.redis.payload.max")
+                            .description("The size of the largest value stored in Redis")
+                            .tag("cache", cacheName)
+                            .tag("codec", codec.codecName())
+                            .buildGauge(codec::maxStoredBytes);
+                }
+            }
+        };
+    }
+
     public void setCacheValueTypes(Map<String, String> valueTypes) {
         RedisCacheBuildRecorder.valueTypes = valueTypes;
     }
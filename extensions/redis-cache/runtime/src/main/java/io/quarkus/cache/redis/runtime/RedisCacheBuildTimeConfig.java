@@ -19,4 +19,13 @@ public class RedisCacheBuildTimeConfig {
      */
     @ConfigItem
     public Optional<String> keyType;
+
+    /**
+     * The fully qualified name of the {@link io.quarkus.redis.datasource.codecs.Codec} implementation used to serialize
+     * the values stored in the cache, e.g. a compact binary codec for the value type. If a CDI bean of this class exists,
+     * it is used, otherwise the class is instantiated with its no-args constructor.
+     * If not set, the codecs of the Redis data source are used, i.e. JSON for the types without a specific codec.
+     */
+    @ConfigItem
+    public Optional<String> codec;
 }
@@ -3,10 +3,19 @@
 import java.net.ConnectException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -15,10 +24,12 @@
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.cache.CacheException;
 import io.quarkus.cache.CompositeCacheKey;
 import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.redis.client.RedisClientName;
+import io.quarkus.redis.datasource.codecs.Codec;
 import io.quarkus.redis.runtime.datasource.Marshaller;
 import io.quarkus.runtime.BlockingOperationControl;
 import io.smallrye.mutiny.Uni;
@@ -51,6 +62,12 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
             "double", Double.class,
             "boolean", Boolean.class);
 
+    // The lock keys do not match the key pattern of the cache, so they are ignored by the invalidation of all entries
+    private static final String SINGLE_FLIGHT_PREFIX = "single-flight:";
+
+    private static final String UNLOCK_SCRIPT = "if redis.call('get', KEYS[1]) == ARGV[1] then "
+            + "return redis.call('del', KEYS[1]) else return 0 end";
+
     private final Vertx vertx;
     private final Redis redis;
 
@@ -59,9 +76,16 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
     private final Class<?> classOfKey;
 
     private final Marshaller marshaller;
+    private final RedisCacheValueCodec valueCodec;
 
     private final Supplier<Boolean> blockingAllowedSupplier;
 
+    private final long expireAfterWriteMillis;
+    private final long refreshAfterWriteMillis;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    // notified with the actual key of the entries replaced or removed by a refresh
+    private volatile Consumer<String> refreshListener;
+
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName) {
 
         this(cacheInfo, Arc.container().select(Vertx.class).get(), determineRedisClient(redisClientName),
@@ -100,7 +124,19 @@ public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Suppli
             this.marshaller = new Marshaller(this.classOfKey);
         }
         this.marshaller.add(CompositeCacheKey.class);
+        this.valueCodec = new RedisCacheValueCodec(marshaller, loadCodec(cacheInfo.codec), cacheInfo.compressionThreshold);
         this.redis = redis;
+
+        // The TTL is set in seconds, see set(...)
+        this.expireAfterWriteMillis = cacheInfo.expireAfterWrite.map(d -> d.toSeconds() * 1000).orElse(0L);
+        if (cacheInfo.refreshAfterWrite.isPresent()
+                && (cacheInfo.expireAfterWrite.isEmpty() || cacheInfo.expireAfterAccess.isPresent())) {
+            log.warnf("The refresh-after-write value of cache %s is ignored, it requires expire-after-write to be set "
+                    + "and expire-after-access not to be set", getName());
+            this.refreshAfterWriteMillis = 0L;
+        } else {
+            this.refreshAfterWriteMillis = cacheInfo.refreshAfterWrite.map(Duration::toMillis).orElse(0L);
+        }
     }
 
     private static boolean isRecomputableError(Throwable error) {
@@ -108,6 +144,31 @@ private static boolean isRecomputableError(Throwable error) {
                 || error instanceof ConnectionPoolTooBusyException;
     }
 
+    private Codec loadCodec(String codecClassName) {
+        if (codecClassName == null) {
+            return null;
+        }
+        Class<?> codecClass;
+        try {
+            codecClass = loadClass(codecClassName);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Unable to load the codec class " + codecClassName, e);
+        }
+        if (!Codec.class.isAssignableFrom(codecClass)) {
+            throw new IllegalArgumentException("The codec class " + codecClassName + " of cache " + getName()
+                    + " does not implement " + Codec.class.getName());
+        }
+        InstanceHandle<?> instance = Arc.container().instance(codecClass);
+        if (instance.isAvailable()) {
+            return (Codec) instance.get();
+        }
+        try {
+            return (Codec) codecClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Unable to instantiate the codec class " + codecClassName, e);
+        }
+    }
+
     private Class<?> loadClass(String type) throws ClassNotFoundException {
         if (PRIMITIVE_TO_CLASS_MAPPING.containsKey(type)) {
             return PRIMITIVE_TO_CLASS_MAPPING.get(type);
@@ -115,6 +176,10 @@ private Class<?> loadClass(String type) throws ClassNotFoundException {
         return Thread.currentThread().getContextClassLoader().loadClass(type);
     }
 
+    RedisCacheValueCodec valueCodec() {
+        return valueCodec;
+    }
+
     @Override
     public String getName() {
         return Objects.requireNonNullElse(cacheInfo.name, "default-redis-cache");
@@ -163,17 +228,52 @@ public <K, V> Uni<V> get(K key, Class<V> clazz, Function<K, V> valueLoader) {
         // val = deserialize(GET K)
         // if (val == null) => SET K computation.apply(K)
         // else => return val
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
         boolean isWorkerThread = blockingAllowedSupplier.get();
+        Runnable refresh = refreshAfterWriteMillis <= 0 ? null : new Runnable() {
+            @Override
+            public void run() {
+                refresh(actualKey, encodedKey, computeValue(key, valueLoader, true));
+            }
+        };
+        Function<RedisConnection, Uni<V>> load = new Function<RedisConnection, Uni<V>>() {
+            @Override
+            public Uni<V> apply(RedisConnection connection) {
+                Uni<V> uni = computeValue(key, valueLoader, isWorkerThread);
+
+                return uni.onItem().call(new Function<V, Uni<?>>() {
+                    @Override
+                    public Uni<?> apply(V value) {
+                        if (value == null) {
+                            throw new IllegalArgumentException("Cannot cache `null` value");
+                        }
+                        byte[] encodedValue = valueCodec.encode(value);
+                        Uni<V> result;
+                        if (cacheInfo.useOptimisticLocking) {
+                            result = multi(connection, set(connection, encodedKey, encodedValue))
+                                    .replaceWith(value);
+                        } else {
+                            result = set(connection, encodedKey, encodedValue).replaceWith(value);
+                        }
+                        if (isWorkerThread) {
+                            return result.runSubscriptionOn(
+                                    MutinyHelper.blockingExecutor(vertx.getDelegate()));
+                        }
+                        return result;
+                    }
+                });
+            }
+        };
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
                 Uni<V> startingPoint;
                 if (cacheInfo.useOptimisticLocking) {
                     startingPoint = watch(connection, encodedKey)
-                            .chain(new GetFromConnectionSupplier<>(connection, clazz, encodedKey, marshaller));
+                            .chain(new GetFromConnectionSupplier<>(connection, clazz, encodedKey, valueCodec, refresh));
                 } else {
-                    startingPoint = new GetFromConnectionSupplier<>(connection, clazz, encodedKey, marshaller).get();
+                    startingPoint = new GetFromConnectionSupplier<>(connection, clazz, encodedKey, valueCodec, refresh).get();
                 }
 
                 return startingPoint
@@ -187,35 +287,24 @@ public Uni<V> apply(V cached) throws Exception {
                                                 .replaceWith(cached);
                                     }
                                     return Uni.createFrom().item(new StaticSupplier<>(cached));
+                                } else if (cacheInfo.singleFlightEnabled) {
+                                    return releaseForSingleFlight(connection);
                                 } else {
-                                    Uni<V> uni = computeValue(key, valueLoader, isWorkerThread);
-
-                                    return uni.onItem().call(new Function<V, Uni<?>>() {
-                                        @Override
-                                        public Uni<?> apply(V value) {
-                                            if (value == null) {
-                                                throw new IllegalArgumentException("Cannot cache `null` value");
-                                            }
-                                            byte[] encodedValue = marshaller.encode(value);
-                                            Uni<V> result;
-                                            if (cacheInfo.useOptimisticLocking) {
-                                                result = multi(connection, set(connection, encodedKey, encodedValue))
-                                                        .replaceWith(value);
-                                            } else {
-                                                result = set(connection, encodedKey, encodedValue).replaceWith(value);
-                                            }
-                                            if (isWorkerThread) {
-                                                return result
-                                                        .runSubscriptionOn(MutinyHelper.blockingExecutor(vertx.getDelegate()));
-                                            }
-                                            return result;
-                                        }
-                                    });
+                                    return load.apply(connection);
                                 }
                             }
                         }));
             }
         })
+                .chain(new Function<V, Uni<? extends V>>() {
+                    @Override
+                    public Uni<? extends V> apply(V value) {
+                        if (value != null) {
+                            return Uni.createFrom().item(value);
+                        }
+                        return loadOnce(actualKey, encodedKey, clazz, loadWithConnection(encodedKey, load));
+                    }
+                })
 
                 .onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(new Function<Throwable, Uni<? extends V>>() {
                     @Override
@@ -228,16 +317,42 @@ public Uni<? extends V> apply(Throwable e) {
 
     @Override
     public <K, V> Uni<V> getAsync(K key, Class<V> clazz, Function<K, Uni<V>> valueLoader) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
+        Runnable refresh = refreshAfterWriteMillis <= 0 ? null : new Runnable() {
+            @Override
+            public void run() {
+                refresh(actualKey, encodedKey, Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+                    @Override
+                    public Uni<? extends V> get() {
+                        return valueLoader.apply(key);
+                    }
+                }));
+            }
+        };
+        Function<RedisConnection, Uni<V>> load = connection -> {
+            Uni<V> getter = valueLoader.apply(key);
+            return getter
+                    .chain(value -> {
+                        byte[] encodedValue = valueCodec.encode(value);
+                        if (cacheInfo.useOptimisticLocking) {
+                            return multi(connection, set(connection, encodedKey, encodedValue))
+                                    .replaceWith(value);
+                        } else {
+                            return set(connection, encodedKey, encodedValue)
+                                    .replaceWith(value);
+                        }
+                    });
+        };
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
                 Uni<V> startingPoint;
                 if (cacheInfo.useOptimisticLocking) {
                     startingPoint = watch(connection, encodedKey)
-                            .chain(new GetFromConnectionSupplier<>(connection, clazz, encodedKey, marshaller));
+                            .chain(new GetFromConnectionSupplier<>(connection, clazz, encodedKey, valueCodec, refresh));
                 } else {
-                    startingPoint = new GetFromConnectionSupplier<>(connection, clazz, encodedKey, marshaller).get();
+                    startingPoint = new GetFromConnectionSupplier<>(connection, clazz, encodedKey, valueCodec, refresh).get();
                 }
 
                 return startingPoint
@@ -249,29 +364,139 @@ public Uni<V> apply(RedisConnection connection) {
                                             .replaceWith(cached);
                                 }
                                 return Uni.createFrom().item(new StaticSupplier<>(cached));
+                            } else if (cacheInfo.singleFlightEnabled) {
+                                return releaseForSingleFlight(connection);
                             } else {
-                                Uni<V> getter = valueLoader.apply(key);
-                                return getter
-                                        .chain(value -> {
-                                            byte[] encodedValue = marshaller.encode(value);
-                                            if (cacheInfo.useOptimisticLocking) {
-                                                return multi(connection, set(connection, encodedKey, encodedValue))
-                                                        .replaceWith(value);
-                                            } else {
-                                                return set(connection, encodedKey, encodedValue)
-                                                        .replaceWith(value);
-                                            }
-                                        });
+                                return load.apply(connection);
                             }
                         });
             }
         })
+                .chain(value -> {
+                    if (value != null) {
+                        return Uni.createFrom().item(value);
+                    }
+                    return loadOnce(actualKey, encodedKey, clazz, loadWithConnection(encodedKey, load));
+                })
                 .onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(e -> {
                     log.warn("Unable to connect to Redis, recomputing cached value", e);
                     return valueLoader.apply(key);
                 });
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Class<V> clazz, Function<Set<K>, Map<K, V>> bulkLoader) {
+        boolean isWorkerThread = blockingAllowedSupplier.get();
+        return doGetAll(keys, clazz, new Function<Set<K>, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(Set<K> missingKeys) {
+                Uni<Map<K, V>> values = Uni.createFrom().item(new Supplier<Map<K, V>>() {
+                    @Override
+                    public Map<K, V> get() {
+                        return bulkLoader.apply(missingKeys);
+                    }
+                });
+                if (isWorkerThread) {
+                    return values.runSubscriptionOn(MutinyHelper.blockingExecutor(vertx.getDelegate()));
+                }
+                return values;
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<K> keys, Class<V> clazz,
+            Function<Set<K>, Uni<Map<K, V>>> bulkLoader) {
+        return doGetAll(keys, clazz, bulkLoader);
+    }
+
+    /**
+     * Reads all the keys with a single MGET (or a batch of GETEX if expire-after-access is set), invokes the loader once
+     * with the missing keys, and writes the loaded values with a single batch of SET.
+     */
+    private <K, V> Uni<Map<K, V>> doGetAll(Collection<K> keys, Class<V> clazz,
+            Function<Set<K>, Uni<Map<K, V>>> bulkLoader) {
+        List<K> distinctKeys = new ArrayList<>(new LinkedHashSet<>(keys));
+        if (distinctKeys.isEmpty()) {
+            return Uni.createFrom().item(Collections.emptyMap());
+        }
+        List<byte[]> encodedKeys = new ArrayList<>(distinctKeys.size());
+        for (K key : distinctKeys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+            encodedKeys.add(marshaller.encode(computeActualKey(encodeKey(key))));
+        }
+        return mget(encodedKeys)
+                .chain(new Function<List<Response>, Uni<? extends Map<K, V>>>() {
+                    @Override
+                    public Uni<? extends Map<K, V>> apply(List<Response> responses) {
+                        Map<K, V> result = new LinkedHashMap<>();
+                        Map<K, byte[]> missingKeys = new LinkedHashMap<>();
+                        for (int i = 0; i < distinctKeys.size(); i++) {
+                            V value = valueCodec.decode(clazz, responses.get(i));
+                            if (value != null) {
+                                result.put(distinctKeys.get(i), value);
+                            } else {
+                                missingKeys.put(distinctKeys.get(i), encodedKeys.get(i));
+                            }
+                        }
+                        if (missingKeys.isEmpty()) {
+                            return Uni.createFrom().item(result);
+                        }
+                        return bulkLoader.apply(Collections.unmodifiableSet(missingKeys.keySet()))
+                                .chain(new Function<Map<K, V>, Uni<? extends Map<K, V>>>() {
+                                    @Override
+                                    public Uni<? extends Map<K, V>> apply(Map<K, V> loaded) {
+                                        List<Request> requests = new ArrayList<>();
+                                        for (Map.Entry<K, byte[]> missingKey : missingKeys.entrySet()) {
+                                            V value = loaded == null ? null : loaded.get(missingKey.getKey());
+                                            if (value != null) {
+                                                result.put(missingKey.getKey(), value);
+                                                requests.add(setRequest(missingKey.getValue(), valueCodec.encode(value)));
+                                            }
+                                        }
+                                        if (requests.isEmpty()) {
+                                            return Uni.createFrom().item(result);
+                                        }
+                                        return redis.batch(requests).replaceWith(result);
+                                    }
+                                });
+                    }
+                })
+                .onFailure(RedisCacheImpl::isRecomputableError)
+                .recoverWithUni(new Function<Throwable, Uni<? extends Map<K, V>>>() {
+                    @Override
+                    public Uni<? extends Map<K, V>> apply(Throwable e) {
+                        log.warn("Unable to connect to Redis, recomputing cached values", e);
+                        return bulkLoader.apply(new LinkedHashSet<>(distinctKeys));
+                    }
+                });
+    }
+
+    private Uni<List<Response>> mget(List<byte[]> encodedKeys) {
+        if (cacheInfo.expireAfterAccess.isPresent()) {
+            // GETEX only accepts a single key, the commands are pipelined
+            List<Request> requests = new ArrayList<>(encodedKeys.size());
+            for (byte[] encodedKey : encodedKeys) {
+                requests.add(getRequest(encodedKey));
+            }
+            return redis.batch(requests);
+        }
+        Request request = Request.cmd(Command.MGET);
+        for (byte[] encodedKey : encodedKeys) {
+            request.arg(encodedKey);
+        }
+        return redis.send(request).map(new Function<Response, List<Response>>() {
+            @Override
+            public List<Response> apply(Response response) {
+                List<Response> values = new ArrayList<>(response.size());
+                for (int i = 0; i < response.size(); i++) {
+                    values.add(response.get(i));
+                }
+                return values;
+            }
+        });
+    }
+
     @Override
     public <K, V> Uni<Void> put(K key, V value) {
         return put(key, new StaticSupplier<>(value));
@@ -280,7 +505,7 @@ public <K, V> Uni<Void> put(K key, V value) {
     @Override
     public <K, V> Uni<Void> put(K key, Supplier<V> supplier) {
         byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        byte[] encodedValue = marshaller.encode(supplier.get());
+        byte[] encodedValue = valueCodec.encode(supplier.get());
         return withConnection(new Function<RedisConnection, Uni<Void>>() {
             @Override
             public Uni<Void> apply(RedisConnection connection) {
@@ -304,7 +529,7 @@ public <K, V> Uni<V> getOrDefault(K key, V defaultValue) {
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection redisConnection) {
-                return (Uni<V>) doGet(redisConnection, encodedKey, classOfValue, marshaller);
+                return (Uni<V>) doGet(redisConnection, encodedKey, classOfValue, valueCodec);
             }
         }).onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
     }
@@ -317,7 +542,7 @@ public <K, V> Uni<V> getOrNull(K key, Class<V> clazz) {
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection redisConnection) {
-                return (Uni<V>) doGet(redisConnection, encodedKey, classOfValue, marshaller);
+                return (Uni<V>) doGet(redisConnection, encodedKey, classOfValue, valueCodec);
             }
         });
     }
@@ -361,6 +586,17 @@ public Uni<?> apply(List<String> listOfKeys) {
                 .replaceWithVoid();
     }
 
+    /**
+     * @return the Redis key under which the value for the given user key is stored
+     */
+    String actualKey(Object key) {
+        return computeActualKey(encodeKey(key));
+    }
+
+    Redis getRedis() {
+        return redis;
+    }
+
     String computeActualKey(String key) {
         if (cacheInfo.prefix != null) {
             return cacheInfo.prefix + ":" + key;
@@ -409,33 +645,261 @@ private Uni<Void> watch(RedisConnection connection, byte[] keyToWatch) {
     }
 
     private <X> Uni<X> doGet(RedisConnection connection, byte[] encoded, Class<X> clazz,
-            Marshaller marshaller) {
+            RedisCacheValueCodec codec) {
+        return connection.send(getRequest(encoded))
+                .map(new Function<Response, X>() {
+                    @Override
+                    public X apply(Response r) {
+                        return codec.decode(clazz, r);
+                    }
+                });
+    }
+
+    /**
+     * @return a GETEX request extending the expiration of the entry if expire-after-access is set, a GET request otherwise
+     */
+    private Request getRequest(byte[] encoded) {
         if (cacheInfo.expireAfterAccess.isPresent()) {
-            Duration duration = cacheInfo.expireAfterAccess.get();
-            return connection.send(Request.cmd(Command.GETEX).arg(encoded).arg("EX").arg(duration.toSeconds()))
-                    .map(new Function<Response, X>() {
-                        @Override
-                        public X apply(Response r) {
-                            return marshaller.decode(clazz, r);
+            return Request.cmd(Command.GETEX).arg(encoded).arg("EX").arg(cacheInfo.expireAfterAccess.get().toSeconds());
+        }
+        return Request.cmd(Command.GET).arg(encoded);
+    }
+
+    /**
+     * Reads the value and its remaining time to live in a single round trip, and calls {@code refresh} if the value is
+     * older than the {@code refresh-after-write} duration.
+     */
+    private <X> Uni<X> doGetAndRefreshIfNeeded(RedisConnection connection, byte[] encoded, Class<X> clazz,
+            RedisCacheValueCodec codec, Runnable refresh) {
+        return connection.batch(List.of(Request.cmd(Command.GET).arg(encoded), Request.cmd(Command.PTTL).arg(encoded)))
+                .map(new Function<List<Response>, X>() {
+                    @Override
+                    public X apply(List<Response> responses) {
+                        X value = codec.decode(clazz, responses.get(0));
+                        // PTTL returns a negative value if the key does not exist or has no time to live
+                        Response ttl = responses.get(1);
+                        long remaining = ttl == null ? -1 : ttl.toLong();
+                        if (value != null && remaining >= 0 && expireAfterWriteMillis - remaining >= refreshAfterWriteMillis) {
+                            refresh.run();
                         }
-                    });
-        } else {
-            return connection.send(Request.cmd(Command.GET).arg(encoded))
-                    .map(new Function<Response, X>() {
+                        return value;
+                    }
+                });
+    }
+
+    /**
+     * Stores the value computed by {@code reload} in the background, unless a reload of the same key is already running.
+     * The entry is not recreated if it was invalidated during the reload.
+     */
+    private <V> void refresh(String actualKey, byte[] encodedKey, Uni<V> reload) {
+        if (!refreshing.add(actualKey)) {
+            return;
+        }
+        log.debugf("Refreshing entry %s of cache %s", actualKey, getName());
+        reload.chain(new Function<V, Uni<?>>() {
+            @Override
+            public Uni<?> apply(V value) {
+                if (value == null) {
+                    throw new IllegalArgumentException("Cannot cache `null` value");
+                }
+                return redis.send(Request.cmd(Command.SET).arg(encodedKey).arg(valueCodec.encode(value))
+                        .arg("XX").arg("EX").arg(cacheInfo.expireAfterWrite.get().toSeconds()))
+                        .invoke(new Consumer<Response>() {
+                            @Override
+                            public void accept(Response response) {
+                                // SET XX replies null if the entry was invalidated in the meantime
+                                if (response != null) {
+                                    refreshed(actualKey);
+                                }
+                            }
+                        });
+            }
+        }).onFailure().recoverWithUni(new Function<Throwable, Uni<?>>() {
+            @Override
+            public Uni<?> apply(Throwable failure) {
+                if (cacheInfo.staleIfError) {
+                    log.debugf(failure, "Unable to refresh entry %s of cache %s, keeping the current value", actualKey,
+                            getName());
+                    return Uni.createFrom().voidItem();
+                }
+                log.debugf(failure, "Unable to refresh entry %s of cache %s, removing it", actualKey, getName());
+                return redis.send(Request.cmd(Command.DEL).arg(encodedKey)).invoke(new Runnable() {
+                    @Override
+                    public void run() {
+                        refreshed(actualKey);
+                    }
+                });
+            }
+        }).onTermination().invoke(new Runnable() {
+            @Override
+            public void run() {
+                refreshing.remove(actualKey);
+            }
+        }).subscribe().with(new Consumer<Object>() {
+            @Override
+            public void accept(Object ignored) {
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                log.warnf(failure, "Unable to refresh entry %s of cache %s", actualKey, getName());
+            }
+        });
+    }
+
+    private void refreshed(String actualKey) {
+        Consumer<String> listener = refreshListener;
+        if (listener != null) {
+            listener.accept(actualKey);
+        }
+    }
+
+    /**
+     * Registers the listener notified with the actual key of the entries replaced or removed by a refresh.
+     */
+    void setRefreshListener(Consumer<String> refreshListener) {
+        this.refreshListener = refreshListener;
+    }
+
+    /**
+     * @return the {@code refresh-after-write} duration in milliseconds, {@code 0} if the entries are not refreshed
+     */
+    long refreshAfterWriteMillis() {
+        return refreshAfterWriteMillis;
+    }
+
+    /**
+     * Ends the lookup of a missing value in the single flight mode, so that the connection is released before waiting for
+     * the lock of the key.
+     *
+     * @return a {@code null} item, the value is then loaded with {@link #loadOnce(String, byte[], Class, Uni)}
+     */
+    private <V> Uni<V> releaseForSingleFlight(RedisConnection connection) {
+        if (cacheInfo.useOptimisticLocking) {
+            return connection.send(Request.cmd(Command.UNWATCH)).replaceWithNull();
+        }
+        return Uni.createFrom().nullItem();
+    }
+
+    /**
+     * Loads and stores a value with a new connection, watching the key first if optimistic locking is enabled.
+     */
+    private <V> Uni<V> loadWithConnection(byte[] encodedKey, Function<RedisConnection, Uni<V>> load) {
+        return withConnection(new Function<RedisConnection, Uni<V>>() {
+            @Override
+            public Uni<V> apply(RedisConnection connection) {
+                // A failure of the value loader is propagated as is, not wrapped by withConnection
+                Uni<V> loadAndStore = Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+                    @Override
+                    public Uni<? extends V> get() {
+                        return load.apply(connection);
+                    }
+                });
+                if (cacheInfo.useOptimisticLocking) {
+                    return watch(connection, encodedKey).replaceWith(loadAndStore);
+                }
+                return loadAndStore;
+            }
+        });
+    }
+
+    /**
+     * Loads a missing value. If the single flight mode is enabled, only the instance holding the lock of the key loads the
+     * value, while the other instances wait for the value to be stored. A waiting instance loads the value itself if the
+     * lock is released without a value being stored, or if the single flight timeout elapses.
+     *
+     * @param load computes the value and stores it in Redis
+     */
+    private <V> Uni<V> loadOnce(String actualKey, byte[] encodedKey, Class<V> clazz, Uni<V> load) {
+        if (!cacheInfo.singleFlightEnabled) {
+            return load;
+        }
+        byte[] lockKey = marshaller.encode(SINGLE_FLIGHT_PREFIX + actualKey);
+        long deadline = System.nanoTime() + cacheInfo.singleFlightTimeout.toNanos();
+        return acquireOrWait(actualKey, encodedKey, lockKey, clazz, load, deadline);
+    }
+
+    private <V> Uni<V> acquireOrWait(String actualKey, byte[] encodedKey, byte[] lockKey, Class<V> clazz, Uni<V> load,
+            long deadline) {
+        String token = UUID.randomUUID().toString();
+        // The lock expires by itself if this instance stops while loading the value
+        Request lock = Request.cmd(Command.SET).arg(lockKey).arg(token).arg("NX").arg("PX")
+                .arg(cacheInfo.singleFlightTimeout.toMillis());
+        return redis.send(lock).chain(new Function<Response, Uni<? extends V>>() {
+            @Override
+            public Uni<? extends V> apply(Response acquired) {
+                if (acquired != null) {
+                    return load.eventually(new Supplier<Uni<? extends Void>>() {
                         @Override
-                        public X apply(Response r) {
-                            return marshaller.decode(clazz, r);
+                        public Uni<Void> get() {
+                            return unlock(lockKey, token);
                         }
                     });
+                }
+                return waitForValue(actualKey, encodedKey, lockKey, clazz, load, deadline);
+            }
+        });
+    }
+
+    /**
+     * Polls the value until it is stored by the instance holding the lock. Each poll is sent with the Redis client, so no
+     * pooled connection is held between two polls.
+     */
+    private <V> Uni<V> waitForValue(String actualKey, byte[] encodedKey, byte[] lockKey, Class<V> clazz, Uni<V> load,
+            long deadline) {
+        if (System.nanoTime() - deadline >= 0) {
+            log.debugf("Entry %s of cache %s not loaded by another instance in time, loading it", actualKey, getName());
+            return load;
         }
+        return Uni.createFrom().voidItem().onItem().delayIt().by(cacheInfo.singleFlightPollInterval)
+                .chain(new Supplier<Uni<? extends List<Response>>>() {
+                    @Override
+                    public Uni<? extends List<Response>> get() {
+                        // the value is read like any other access, so that it honors expire-after-access
+                        return redis.batch(List.of(getRequest(encodedKey), Request.cmd(Command.EXISTS).arg(lockKey)));
+                    }
+                })
+                .chain(new Function<List<Response>, Uni<? extends V>>() {
+                    @Override
+                    public Uni<? extends V> apply(List<Response> responses) {
+                        V value = valueCodec.decode(clazz, responses.get(0));
+                        if (value != null) {
+                            return Uni.createFrom().item(value);
+                        }
+                        if (responses.get(1).toInteger() == 0) {
+                            // The other instance failed to load the value, or the entry was invalidated meanwhile
+                            return acquireOrWait(actualKey, encodedKey, lockKey, clazz, load, deadline);
+                        }
+                        return waitForValue(actualKey, encodedKey, lockKey, clazz, load, deadline);
+                    }
+                });
+    }
+
+    /**
+     * Deletes the lock only if it is still held by this instance, it may have expired and been acquired by another one.
+     */
+    private Uni<Void> unlock(byte[] lockKey, String token) {
+        return redis.send(Request.cmd(Command.EVAL).arg(UNLOCK_SCRIPT).arg(1).arg(lockKey).arg(token))
+                .onFailure().invoke(new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable failure) {
+                        log.debugf(failure, "Unable to release the single flight lock of cache %s", getName());
+                    }
+                })
+                .onFailure().recoverWithNull()
+                .replaceWithVoid();
     }
 
     private Uni<Void> set(RedisConnection connection, byte[] key, byte[] value) {
+        return connection.send(setRequest(key, value)).replaceWithVoid();
+    }
+
+    private Request setRequest(byte[] key, byte[] value) {
         Request request = Request.cmd(Command.SET).arg(key).arg(value);
         if (cacheInfo.expireAfterWrite.isPresent()) {
             request = request.arg("EX").arg(cacheInfo.expireAfterWrite.get().toSeconds());
         }
-        return connection.send(request).replaceWithVoid();
+        return request;
     }
 
     private Uni<Void> multi(RedisConnection connection, Uni<Void> operation) {
@@ -472,18 +936,24 @@ public V get() {
         private final RedisConnection connection;
         private final Class<V> clazz;
         private final byte[] encodedKey;
-        private final Marshaller marshaller;
+        private final RedisCacheValueCodec codec;
+        private final Runnable refresh;
 
-        public GetFromConnectionSupplier(RedisConnection connection, Class<V> clazz, byte[] encodedKey, Marshaller marshaller) {
+        public GetFromConnectionSupplier(RedisConnection connection, Class<V> clazz, byte[] encodedKey,
+                RedisCacheValueCodec codec, Runnable refresh) {
             this.connection = connection;
             this.clazz = clazz;
             this.encodedKey = encodedKey;
-            this.marshaller = marshaller;
+            this.codec = codec;
+            this.refresh = refresh;
         }
 
         @Override
         public Uni<V> get() {
-            return doGet(connection, encodedKey, clazz, marshaller);
+            if (refresh != null) {
+                return doGetAndRefreshIfNeeded(connection, encodedKey, clazz, codec, refresh);
+            }
+            return doGet(connection, encodedKey, clazz, codec);
         }
     }
 
@@ -42,4 +42,54 @@ public class RedisCacheInfo {
      * Locking</a> for details.
      */
     public boolean useOptimisticLocking = false;
+
+    /**
+     * The age after which an entry is reloaded in the background on read
+     */
+    public Optional<Duration> refreshAfterWrite = Optional.empty();
+
+    /**
+     * Whether the current value is kept when a background reload fails
+     */
+    public boolean staleIfError = false;
+
+    /**
+     * Whether a bounded local cache is kept in front of Redis
+     */
+    public boolean nearCacheEnabled = false;
+
+    /**
+     * The maximum number of entries of the local near cache
+     */
+    public long nearCacheMaximumSize = 10_000;
+
+    /**
+     * The time to live of the entries of the local near cache
+     */
+    public Optional<Duration> nearCacheExpireAfterWrite = Optional.empty();
+
+    /**
+     * The codec used to serialize the values, {@code null} to use the codecs of the Redis data source
+     */
+    public String codec;
+
+    /**
+     * The minimal size of a compressed value in bytes, a negative value if the compression is disabled
+     */
+    public int compressionThreshold = -1;
+
+    /**
+     * Whether a missing value is loaded by a single application instance at a time
+     */
+    public boolean singleFlightEnabled = false;
+
+    /**
+     * The expiration of the lock held while a value is loaded, and the maximum time to wait for another instance
+     */
+    public Duration singleFlightTimeout = Duration.ofSeconds(10);
+
+    /**
+     * The delay between two reads of a value loaded by another instance
+     */
+    public Duration singleFlightPollInterval = Duration.ofMillis(50);
 }
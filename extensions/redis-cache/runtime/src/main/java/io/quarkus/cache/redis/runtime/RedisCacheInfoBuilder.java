@@ -5,6 +5,7 @@
 import java.util.Set;
 
 import io.quarkus.runtime.configuration.HashSetFactory;
+import io.quarkus.runtime.configuration.MemorySize;
 
 public class RedisCacheInfoBuilder {
 
@@ -60,15 +61,81 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesBuild
                     cacheInfo.keyType = defaultBuildTimeConfig.keyType.get();
                 }
 
+                if (namedBuildTimeConfig != null && namedBuildTimeConfig.codec.isPresent()) {
+                    cacheInfo.codec = namedBuildTimeConfig.codec.get();
+                } else if (defaultBuildTimeConfig.codec.isPresent()) {
+                    cacheInfo.codec = defaultBuildTimeConfig.codec.get();
+                }
+
                 if (namedRuntimeConfig != null && namedRuntimeConfig.useOptimisticLocking.isPresent()) {
                     cacheInfo.useOptimisticLocking = namedRuntimeConfig.useOptimisticLocking.get();
                 } else if (defaultRuntimeConfig.useOptimisticLocking.isPresent()) {
                     cacheInfo.useOptimisticLocking = defaultRuntimeConfig.useOptimisticLocking.get();
                 }
 
+                if (namedRuntimeConfig != null && namedRuntimeConfig.refreshAfterWrite.isPresent()) {
+                    cacheInfo.refreshAfterWrite = namedRuntimeConfig.refreshAfterWrite;
+                } else if (defaultRuntimeConfig.refreshAfterWrite.isPresent()) {
+                    cacheInfo.refreshAfterWrite = defaultRuntimeConfig.refreshAfterWrite;
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.staleIfError.isPresent()) {
+                    cacheInfo.staleIfError = namedRuntimeConfig.staleIfError.get();
+                } else if (defaultRuntimeConfig.staleIfError.isPresent()) {
+                    cacheInfo.staleIfError = defaultRuntimeConfig.staleIfError.get();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCacheEnabled.isPresent()) {
+                    cacheInfo.nearCacheEnabled = namedRuntimeConfig.nearCacheEnabled.get();
+                } else if (defaultRuntimeConfig.nearCacheEnabled.isPresent()) {
+                    cacheInfo.nearCacheEnabled = defaultRuntimeConfig.nearCacheEnabled.get();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCacheMaximumSize.isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = namedRuntimeConfig.nearCacheMaximumSize.get();
+                } else if (defaultRuntimeConfig.nearCacheMaximumSize.isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = defaultRuntimeConfig.nearCacheMaximumSize.get();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCacheExpireAfterWrite.isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = namedRuntimeConfig.nearCacheExpireAfterWrite;
+                } else if (defaultRuntimeConfig.nearCacheExpireAfterWrite.isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = defaultRuntimeConfig.nearCacheExpireAfterWrite;
+                } else {
+                    cacheInfo.nearCacheExpireAfterWrite = cacheInfo.expireAfterWrite;
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.compressionThreshold.isPresent()) {
+                    cacheInfo.compressionThreshold = toIntBytes(namedRuntimeConfig.compressionThreshold.get());
+                } else if (defaultRuntimeConfig.compressionThreshold.isPresent()) {
+                    cacheInfo.compressionThreshold = toIntBytes(defaultRuntimeConfig.compressionThreshold.get());
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.singleFlightEnabled.isPresent()) {
+                    cacheInfo.singleFlightEnabled = namedRuntimeConfig.singleFlightEnabled.get();
+                } else if (defaultRuntimeConfig.singleFlightEnabled.isPresent()) {
+                    cacheInfo.singleFlightEnabled = defaultRuntimeConfig.singleFlightEnabled.get();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.singleFlightTimeout.isPresent()) {
+                    cacheInfo.singleFlightTimeout = namedRuntimeConfig.singleFlightTimeout.get();
+                } else if (defaultRuntimeConfig.singleFlightTimeout.isPresent()) {
+                    cacheInfo.singleFlightTimeout = defaultRuntimeConfig.singleFlightTimeout.get();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.singleFlightPollInterval.isPresent()) {
+                    cacheInfo.singleFlightPollInterval = namedRuntimeConfig.singleFlightPollInterval.get();
+                } else if (defaultRuntimeConfig.singleFlightPollInterval.isPresent()) {
+                    cacheInfo.singleFlightPollInterval = defaultRuntimeConfig.singleFlightPollInterval.get();
+                }
+
                 result.add(cacheInfo);
             }
             return result;
         }
     }
+
+    private static int toIntBytes(MemorySize size) {
+        return (int) Math.min(size.asLongValue(), Integer.MAX_VALUE);
+    }
 }
@@ -5,6 +5,7 @@
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
 
 @ConfigGroup
 public class RedisCacheRuntimeConfig {
@@ -47,4 +48,81 @@ public class RedisCacheRuntimeConfig {
     @ConfigItem
     public Optional<Boolean> useOptimisticLocking;
 
+    /**
+     * Specifies that an entry should be refreshed once a fixed duration has elapsed after the entry's creation, or the
+     * most recent replacement of its value. The first read of such an entry returns the current value and triggers an
+     * asynchronous reload, so the callers do not wait for the value computation when the entry becomes stale.
+     * <p>
+     * The age of an entry is computed from its remaining time to live, so this is only used when {@code expire-after-write}
+     * is set and {@code expire-after-access} is not. This value should be lower than the {@code expire-after-write} value.
+     */
+    @ConfigItem
+    public Optional<Duration> refreshAfterWrite;
+
+    /**
+     * Whether the current value of an entry is kept when its asynchronous reload fails. If disabled, the entry is
+     * removed and the next read computes the value again. If enabled, the current value is still returned and the
+     * reload is retried on the next read, until the entry expires.
+     * Default is {@code false}.
+     */
+    @ConfigItem
+    public Optional<Boolean> staleIfError;
+
+    /**
+     * Whether a bounded local cache should be kept in front of Redis.
+     * Values read from or written to Redis are also stored locally, so that subsequent reads of the same key do not
+     * require a round trip to Redis. Local entries are invalidated through Redis pub/sub whenever another
+     * application instance writes or invalidates the key.
+     * Default is {@code false}.
+     */
+    @ConfigItem
+    public Optional<Boolean> nearCacheEnabled;
+
+    /**
+     * The maximum number of entries the local near cache can hold.
+     * Default is {@code 10000}.
+     */
+    @ConfigItem
+    public Optional<Long> nearCacheMaximumSize;
+
+    /**
+     * Specifies that each entry should be automatically removed from the local near cache once a fixed duration has
+     * elapsed after it was stored locally. If not set, the {@code expire-after-write} duration of the Redis cache is used.
+     */
+    @ConfigItem
+    public Optional<Duration> nearCacheExpireAfterWrite;
+
+    /**
+     * The minimal size of a serialized value to be compressed before it is stored in Redis. The values are compressed with
+     * GZIP, and a value is stored uncompressed if the compression does not reduce its size.
+     * If not set, the values are never compressed.
+     */
+    @ConfigItem
+    public Optional<MemorySize> compressionThreshold;
+
+    /**
+     * Whether a missing value should be loaded by a single application instance at a time.
+     * The instance loading the value holds a short-lived lock key in Redis, and the other instances wait for the value to
+     * be stored instead of loading it as well. This protects the underlying resource when a popular entry expires while
+     * many instances share the cache.
+     * Default is {@code false}.
+     */
+    @ConfigItem
+    public Optional<Boolean> singleFlightEnabled;
+
+    /**
+     * The expiration of the lock key held while a value is loaded, which is also the maximum duration another instance
+     * waits for the value. When this duration elapses, the waiting instance loads the value itself.
+     * Default is {@code 10s}.
+     */
+    @ConfigItem
+    public Optional<Duration> singleFlightTimeout;
+
+    /**
+     * The delay between two reads of the value while another instance is loading it.
+     * Default is {@code 50ms}.
+     */
+    @ConfigItem
+    public Optional<Duration> singleFlightPollInterval;
+
 }
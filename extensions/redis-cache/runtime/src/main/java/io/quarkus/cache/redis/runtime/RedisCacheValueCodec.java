@@ -0,0 +1,193 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import io.quarkus.redis.datasource.codecs.Codec;
+import io.quarkus.redis.runtime.datasource.Marshaller;
+import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.ResponseType;
+
+/**
+ * Encodes and decodes the values stored by a Redis cache.
+ * <p>
+ * The values are serialized by the codec configured for the cache, or by the default codecs of the Redis data source.
+ * If a compression threshold is configured, the payloads whose size reaches the threshold are compressed with GZIP.
+ * <p>
+ * A compressed payload is stored after a two bytes header: a {@code 0} marker byte followed by the format byte
+ * {@code 1}. An uncompressed payload is stored as is, unless it starts with the marker byte, in which case it is stored
+ * after the header {@code 0 0}. Hence the format of every stored value is explicit, and the compressed values are
+ * decompressed whether the compression is currently enabled or not.
+ */
+class RedisCacheValueCodec {
+
+    static final String DEFAULT_CODEC_NAME = "default";
+
+    private static final byte MARKER = 0;
+    private static final byte FORMAT_RAW = 0;
+    private static final byte FORMAT_GZIP = 1;
+    private static final int HEADER_LENGTH = 2;
+
+    private final Marshaller marshaller;
+    private final Codec codec;
+    private final int compressionThreshold;
+
+    private final LongAdder encodedValues = new LongAdder();
+    private final LongAdder encodedBytes = new LongAdder();
+    private final LongAdder storedBytes = new LongAdder();
+    private final LongAdder compressedValues = new LongAdder();
+    private final LongAdder decodedValues = new LongAdder();
+    private final AtomicLong maxStoredBytes = new AtomicLong();
+
+    /**
+     * @param marshaller the marshaller used if no codec is configured
+     * @param codec the codec configured for the cache, may be {@code null}
+     * @param compressionThreshold the minimal size of a compressed payload in bytes, or a negative value to disable the
+     *        compression
+     */
+    RedisCacheValueCodec(Marshaller marshaller, Codec codec, int compressionThreshold) {
+        this.marshaller = marshaller;
+        this.codec = codec;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    byte[] encode(Object value) {
+        byte[] payload = codec != null ? codec.encode(value) : marshaller.encode(value);
+        encodedValues.increment();
+        encodedBytes.add(payload.length);
+        byte[] compressed = null;
+        if (compressionThreshold >= 0 && payload.length >= compressionThreshold) {
+            compressed = compress(payload);
+        }
+        // Incompressible payloads are stored uncompressed
+        if (compressed != null && compressed.length < payload.length) {
+            compressedValues.increment();
+            payload = compressed;
+        } else {
+            payload = escape(payload);
+        }
+        storedBytes.add(payload.length);
+        maxStoredBytes.accumulateAndGet(payload.length, Math::max);
+        return payload;
+    }
+
+    <X> X decode(Type type, Response response) {
+        if (response == null) {
+            return null;
+        }
+        if (response.type() == ResponseType.SIMPLE) {
+            return decode(type, response.toString().getBytes());
+        }
+        return decode(type, response.toBytes());
+    }
+
+    @SuppressWarnings("unchecked")
+    <X> X decode(Type type, byte[] payload) {
+        if (payload == null) {
+            return null;
+        }
+        decodedValues.increment();
+        if (payload.length >= HEADER_LENGTH && payload[0] == MARKER) {
+            switch (payload[1]) {
+                case FORMAT_RAW:
+                    payload = Arrays.copyOfRange(payload, HEADER_LENGTH, payload.length);
+                    break;
+                case FORMAT_GZIP:
+                    payload = decompress(payload);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown format of a cached value: " + payload[1]);
+            }
+        }
+        return codec != null ? (X) codec.decode(payload) : marshaller.decode(type, payload);
+    }
+
+    String codecName() {
+        return codec != null ? codec.getClass().getName() : DEFAULT_CODEC_NAME;
+    }
+
+    long encodedValues() {
+        return encodedValues.sum();
+    }
+
+    long encodedBytes() {
+        return encodedBytes.sum();
+    }
+
+    long storedBytes() {
+        return storedBytes.sum();
+    }
+
+    long compressedValues() {
+        return compressedValues.sum();
+    }
+
+    long decodedValues() {
+        return decodedValues.sum();
+    }
+
+    long maxStoredBytes() {
+        return maxStoredBytes.get();
+    }
+
+    static boolean isCompressed(byte[] payload) {
+        return payload.length >= HEADER_LENGTH && payload[0] == MARKER && payload[1] == FORMAT_GZIP;
+    }
+
+    /**
+     * Prefixes an uncompressed payload with the {@code 0 0} header if it starts with the marker byte, so that it cannot be
+     * mistaken for a compressed payload.
+     */
+    static byte[] escape(byte[] payload) {
+        if (payload.length == 0 || payload[0] != MARKER) {
+            return payload;
+        }
+        byte[] escaped = new byte[payload.length + HEADER_LENGTH];
+        escaped[0] = MARKER;
+        escaped[1] = FORMAT_RAW;
+        System.arraycopy(payload, 0, escaped, HEADER_LENGTH, payload.length);
+        return escaped;
+    }
+
+    static byte[] compress(byte[] payload) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 2);
+        out.write(MARKER);
+        out.write(FORMAT_GZIP);
+        try (GZIPOutputStream gzip = new FastGZIPOutputStream(out)) {
+            gzip.write(payload);
+        } catch (IOException e) {
+            // Cannot happen with a ByteArrayOutputStream
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    static byte[] decompress(byte[] payload) {
+        try (GZIPInputStream gzip = new GZIPInputStream(
+                new ByteArrayInputStream(payload, HEADER_LENGTH, payload.length - HEADER_LENGTH))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to decompress a cached value", e);
+        }
+    }
+
+    /**
+     * Trades the compression ratio for speed, the values are compressed on the caller thread.
+     */
+    private static class FastGZIPOutputStream extends GZIPOutputStream {
+
+        FastGZIPOutputStream(ByteArrayOutputStream out) throws IOException {
+            super(out, 8192);
+            def.setLevel(Deflater.BEST_SPEED);
+        }
+    }
+}
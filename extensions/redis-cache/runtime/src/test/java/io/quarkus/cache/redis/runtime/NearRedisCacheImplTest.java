@@ -0,0 +1,129 @@
+package io.quarkus.cache.redis.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Request;
+
+class NearRedisCacheImplTest extends RedisCacheTestBase {
+
+    private static final Supplier<Boolean> BLOCKING_ALLOWED = () -> false;
+
+    @AfterEach
+    void clear() {
+        try {
+            redis.send(Request.cmd(Command.FLUSHALL).arg("SYNC")).await()
+                    .atMost(Duration.ofSeconds(10));
+        } catch (Exception ignored) {
+            // ignored.
+        }
+    }
+
+    @Test
+    public void testReadsAreServedLocally() {
+        String k = UUID.randomUUID().toString();
+        NearRedisCacheImpl cache = newCache();
+        awaitSubscription(cache);
+        long misses = cache.misses();
+        long localHits = cache.localHits();
+        long redisHits = cache.redisHits();
+
+        assertThat(cache.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+        assertThat(cache.misses()).isEqualTo(misses + 1);
+
+        // the value is now read from the local cache, even if Redis no longer has it
+        redis.send(Request.cmd(Command.DEL).arg("cache:foo:" + k)).await().indefinitely();
+        assertThat(cache.get(k, s -> "world").await().indefinitely()).isEqualTo("hello");
+        assertThat(cache.localHits()).isEqualTo(localHits + 1);
+        assertThat(cache.redisHits()).isEqualTo(redisHits);
+    }
+
+    @Test
+    public void testRedisHitIsStoredLocally() {
+        String k = UUID.randomUUID().toString();
+        NearRedisCacheImpl first = newCache();
+        NearRedisCacheImpl second = newCache();
+        awaitSubscription(first);
+        awaitSubscription(second);
+        long localHits = second.localHits();
+        long redisHits = second.redisHits();
+
+        assertThat(first.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+        assertThat(second.get(k, s -> "world").await().indefinitely()).isEqualTo("hello");
+        assertThat(second.redisHits()).isEqualTo(redisHits + 1);
+        assertThat(second.get(k, s -> "world").await().indefinitely()).isEqualTo("hello");
+        assertThat(second.localHits()).isEqualTo(localHits + 1);
+    }
+
+    @Test
+    public void testInvalidationIsPropagated() {
+        String k = UUID.randomUUID().toString();
+        NearRedisCacheImpl first = newCache();
+        NearRedisCacheImpl second = newCache();
+        awaitSubscription(first);
+        awaitSubscription(second);
+
+        assertThat(first.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+        assertThat(second.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+        assertThat(second.localSize()).isEqualTo(1);
+
+        first.invalidate(k).await().indefinitely();
+        await().until(() -> second.localSize() == 0);
+        assertThat(second.get(k, s -> "world").await().indefinitely()).isEqualTo("world");
+
+        first.put(k, "again").await().indefinitely();
+        await().until(() -> second.localSize() == 0);
+        assertThat(second.get(k, s -> "world").await().indefinitely()).isEqualTo("again");
+
+        first.invalidateAll().await().indefinitely();
+        await().until(() -> second.localSize() == 0);
+    }
+
+    @Test
+    public void testCloseStopsTheNearCache() {
+        String k = UUID.randomUUID().toString();
+        NearRedisCacheImpl cache = newCache();
+        awaitSubscription(cache);
+
+        assertThat(cache.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+        assertThat(cache.localSize()).isEqualTo(1);
+
+        cache.close();
+        assertThat(cache.localSize()).isEqualTo(0);
+        // the values are still read from Redis, but not stored locally anymore
+        long redisHits = cache.redisHits();
+        assertThat(cache.get(k, s -> "world").await().indefinitely()).isEqualTo("hello");
+        assertThat(cache.redisHits()).isEqualTo(redisHits + 1);
+        assertThat(cache.localSize()).isEqualTo(0);
+    }
+
+    private static NearRedisCacheImpl newCache() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = String.class.getName();
+        info.expireAfterWrite = Optional.of(Duration.ofMinutes(1));
+        info.nearCacheEnabled = true;
+        info.nearCacheMaximumSize = 100;
+        return new NearRedisCacheImpl(info, new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED));
+    }
+
+    private static void awaitSubscription(NearRedisCacheImpl cache) {
+        // the local cache is only populated once the invalidation channel is subscribed
+        String probe = UUID.randomUUID().toString();
+        await().until(() -> {
+            cache.get(probe, s -> "probe").await().indefinitely();
+            return cache.localSize() > 0;
+        });
+        cache.invalidate(probe).await().indefinitely();
+        await().until(() -> cache.localSize() == 0);
+    }
+}
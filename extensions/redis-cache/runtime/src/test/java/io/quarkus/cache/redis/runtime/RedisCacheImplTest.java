@@ -13,6 +13,9 @@
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.junit.jupiter.api.AfterEach;
@@ -564,6 +567,132 @@ void testInvalidation() {
         assertThat(getAllKeys()).hasSize(1);
     }
 
+    @Test
+    void testSingleFlightAcrossInstances() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "single-flight";
+        info.valueType = String.class.getName();
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        info.singleFlightEnabled = true;
+        info.singleFlightPollInterval = Duration.ofMillis(10);
+        // Both caches share the same keys, as two application instances would
+        RedisCacheImpl first = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        RedisCacheImpl second = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        AtomicInteger loads = new AtomicInteger();
+        Function<String, Uni<String>> loader = s -> Uni.createFrom().item(() -> "hello-" + loads.incrementAndGet())
+                .onItem().delayIt().by(Duration.ofMillis(200));
+        List<Uni<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            responses.add(first.getAsync(k, String.class, loader));
+            responses.add(second.getAsync(k, String.class, loader));
+        }
+        List<String> values = Uni.join().all(responses).andFailFast().await().atMost(Duration.ofSeconds(10));
+
+        assertThat(values).hasSize(20).allMatch("hello-1"::equals);
+        assertThat(loads).hasValue(1);
+        // The lock is released once the value is stored
+        assertThatTheKeyDoesNotExist("single-flight:cache:single-flight:" + k);
+    }
+
+    @Test
+    void testSingleFlightFallsBackToLocalLoading() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "single-flight";
+        info.valueType = String.class.getName();
+        info.singleFlightEnabled = true;
+        info.singleFlightTimeout = Duration.ofMillis(300);
+        info.singleFlightPollInterval = Duration.ofMillis(10);
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        // Another instance holds the lock but never stores the value
+        redis.send(Request.cmd(Command.SET).arg("single-flight:cache:single-flight:" + k).arg("other").arg("PX").arg(5000))
+                .await().indefinitely();
+
+        long start = System.nanoTime();
+        assertThat(cache.getAsync(k, String.class, s -> Uni.createFrom().item("local")).await()
+                .atMost(Duration.ofSeconds(5))).isEqualTo("local");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(300));
+        // The lock of the other instance is left untouched
+        assertThatTheKeyDoesExist("single-flight:cache:single-flight:" + k);
+    }
+
+    @Test
+    void testSingleFlightWaitExtendsExpireAfterAccess() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "single-flight";
+        info.valueType = String.class.getName();
+        info.expireAfterAccess = Optional.of(Duration.ofSeconds(60));
+        info.singleFlightEnabled = true;
+        info.singleFlightPollInterval = Duration.ofMillis(10);
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        RedisCacheInfo otherInfo = new RedisCacheInfo();
+        otherInfo.name = "single-flight";
+        otherInfo.valueType = String.class.getName();
+        otherInfo.expireAfterWrite = Optional.of(Duration.ofSeconds(5));
+        RedisCacheImpl other = new RedisCacheImpl(otherInfo, vertx, redis, BLOCKING_ALLOWED);
+
+        // Another instance holds the lock, and stores the value while this one waits for it
+        redis.send(Request.cmd(Command.SET).arg("single-flight:cache:single-flight:" + k).arg("other").arg("PX").arg(5000))
+                .await().indefinitely();
+        CompletableFuture<String> waiting = cache.getAsync(k, String.class, s -> Uni.createFrom().item("local"))
+                .subscribeAsCompletionStage();
+        Uni.createFrom().voidItem().onItem().delayIt().by(Duration.ofMillis(100))
+                .chain(() -> other.put(k, "remote")).await().indefinitely();
+
+        assertThat(waiting).succeedsWithin(Duration.ofSeconds(5)).isEqualTo("remote");
+        // The value read while waiting is an access, it extends the expiration of the entry
+        long ttl = redis.send(Request.cmd(Command.TTL).arg("cache:single-flight:" + k)).await().indefinitely().toLong();
+        assertThat(ttl).isGreaterThan(5);
+    }
+
+    @Test
+    void testSingleFlightWaitersDoNotHoldConnections() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "single-flight";
+        info.valueType = String.class.getName();
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        info.singleFlightEnabled = true;
+        info.singleFlightPollInterval = Duration.ofMillis(10);
+
+        Redis pooled = Redis.createClient(vertx, new RedisOptions()
+                .setMaxPoolSize(2)
+                .setMaxPoolWaiting(100)
+                .setConnectionString("redis://" + server.getHost() + ":" + server.getFirstMappedPort()));
+        try {
+            RedisCacheImpl cache = new RedisCacheImpl(info, vertx, pooled, BLOCKING_ALLOWED);
+            RedisCacheImpl other = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+            // Another instance holds the lock, more callers than pooled connections wait for the value
+            redis.send(Request.cmd(Command.SET).arg("single-flight:cache:single-flight:" + k).arg("other").arg("PX")
+                    .arg(10_000)).await().indefinitely();
+            AtomicInteger loads = new AtomicInteger();
+            List<CompletableFuture<String>> waiters = new ArrayList<>();
+            Function<String, Uni<String>> loader = s -> Uni.createFrom().item(() -> "local-" + loads.incrementAndGet());
+            for (int i = 0; i < 20; i++) {
+                waiters.add(cache.getAsync(k, String.class, loader).subscribeAsCompletionStage());
+            }
+
+            // The waiters do not hold pooled connections, so the other entries remain usable
+            assertThat(cache.getAsync("unrelated-" + k, String.class, s -> Uni.createFrom().item("unrelated")).await()
+                    .atMost(Duration.ofSeconds(5))).isEqualTo("unrelated");
+            assertThat(waiters).noneMatch(CompletableFuture::isDone);
+
+            other.put(k, "remote").await().indefinitely();
+            for (CompletableFuture<String> waiter : waiters) {
+                assertThat(waiter).succeedsWithin(Duration.ofSeconds(5)).isEqualTo("remote");
+            }
+            assertThat(loads).hasValue(0);
+        } finally {
+            pooled.close();
+        }
+    }
+
     private Set<String> getAllKeys() {
         return redis.send(Request.cmd(Command.KEYS).arg("*"))
                 .map(r -> {
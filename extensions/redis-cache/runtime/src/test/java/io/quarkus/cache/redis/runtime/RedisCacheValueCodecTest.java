@@ -0,0 +1,112 @@
+package io.quarkus.cache.redis.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.redis.datasource.codecs.Codec;
+import io.quarkus.redis.runtime.datasource.Marshaller;
+
+class RedisCacheValueCodecTest {
+
+    private static final String LARGE_VALUE = "hello ".repeat(1000);
+
+    @Test
+    public void testSmallValuesAreNotCompressed() {
+        RedisCacheValueCodec codec = new RedisCacheValueCodec(new Marshaller(String.class), null, 1024);
+        byte[] encoded = codec.encode("hello");
+        assertThat(RedisCacheValueCodec.isCompressed(encoded)).isFalse();
+        assertThat(codec.<String> decode(String.class, encoded)).isEqualTo("hello");
+        assertThat(codec.compressedValues()).isZero();
+    }
+
+    @Test
+    public void testLargeValuesAreCompressed() {
+        RedisCacheValueCodec codec = new RedisCacheValueCodec(new Marshaller(String.class), null, 1024);
+        byte[] encoded = codec.encode(LARGE_VALUE);
+        assertThat(RedisCacheValueCodec.isCompressed(encoded)).isTrue();
+        assertThat(encoded.length).isLessThan(LARGE_VALUE.length());
+        assertThat(codec.<String> decode(String.class, encoded)).isEqualTo(LARGE_VALUE);
+
+        assertThat(codec.encodedValues()).isEqualTo(1);
+        assertThat(codec.compressedValues()).isEqualTo(1);
+        assertThat(codec.decodedValues()).isEqualTo(1);
+        assertThat(codec.encodedBytes()).isEqualTo(LARGE_VALUE.length());
+        assertThat(codec.storedBytes()).isEqualTo(encoded.length);
+        assertThat(codec.maxStoredBytes()).isEqualTo(encoded.length);
+    }
+
+    @Test
+    public void testUncompressedValuesRemainReadable() {
+        byte[] encoded = new RedisCacheValueCodec(new Marshaller(String.class), null, -1).encode(LARGE_VALUE);
+        assertThat(RedisCacheValueCodec.isCompressed(encoded)).isFalse();
+        RedisCacheValueCodec codec = new RedisCacheValueCodec(new Marshaller(String.class), null, 0);
+        assertThat(codec.<String> decode(String.class, encoded)).isEqualTo(LARGE_VALUE);
+    }
+
+    @Test
+    public void testCompressedValuesRemainReadableWithoutCompression() {
+        byte[] encoded = new RedisCacheValueCodec(new Marshaller(String.class), null, 0).encode(LARGE_VALUE);
+        assertThat(RedisCacheValueCodec.isCompressed(encoded)).isTrue();
+        RedisCacheValueCodec codec = new RedisCacheValueCodec(new Marshaller(String.class), null, -1);
+        assertThat(codec.<String> decode(String.class, encoded)).isEqualTo(LARGE_VALUE);
+    }
+
+    @Test
+    public void testPayloadsLookingLikeAHeaderAreNotDecompressed() {
+        for (byte[] raw : new byte[][] { { 0x1f, (byte) 0x8b, 8, 0 }, { 0, 1, 2 }, { 0 }, { 0, 0 } }) {
+            RedisCacheValueCodec codec = new RedisCacheValueCodec(new Marshaller(String.class), new BytesCodec(), 1024);
+            byte[] encoded = codec.encode(raw);
+            assertThat(RedisCacheValueCodec.isCompressed(encoded)).isFalse();
+            assertThat(codec.<byte[]> decode(byte[].class, encoded)).isEqualTo(raw);
+        }
+    }
+
+    @Test
+    public void testCustomCodec() {
+        RedisCacheValueCodec codec = new RedisCacheValueCodec(new Marshaller(String.class), new ReversingCodec(), -1);
+        byte[] encoded = codec.encode("hello");
+        assertThat(new String(encoded, StandardCharsets.UTF_8)).isEqualTo("olleh");
+        assertThat(codec.<String> decode(String.class, encoded)).isEqualTo("hello");
+        assertThat(codec.codecName()).isEqualTo(ReversingCodec.class.getName());
+    }
+
+    static class BytesCodec implements Codec {
+
+        @Override
+        public boolean canHandle(Type clazz) {
+            return clazz == byte[].class;
+        }
+
+        @Override
+        public byte[] encode(Object item) {
+            return (byte[]) item;
+        }
+
+        @Override
+        public Object decode(byte[] item) {
+            return item;
+        }
+    }
+
+    static class ReversingCodec implements Codec {
+
+        @Override
+        public boolean canHandle(Type clazz) {
+            return clazz == String.class;
+        }
+
+        @Override
+        public byte[] encode(Object item) {
+            return new StringBuilder((String) item).reverse().toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Object decode(byte[] item) {
+            return new StringBuilder(new String(item, StandardCharsets.UTF_8)).reverse().toString();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package io.quarkus.restclient.config;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigDocDefault;
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class RestClientConcurrencyLimitConfig {
+
+    /**
+     * If {@code true}, the number of concurrent requests sent by the client is limited. The limit is adjusted
+     * automatically: it grows while the response time stays close to the lowest observed response time, and shrinks when
+     * the response time increases, which means that the requests queue up on the server side.
+     * <p>
+     * This property is applicable to reactive REST clients only.
+     */
+    @ConfigItem
+    @ConfigDocDefault("false")
+    public Optional<Boolean> enabled;
+
+    /**
+     * The limit of concurrent requests until enough requests complete to estimate it.
+     */
+    @ConfigItem
+    @ConfigDocDefault("20")
+    public Optional<Integer> initialLimit;
+
+    /**
+     * The highest limit of concurrent requests.
+     */
+    @ConfigItem
+    @ConfigDocDefault("200")
+    public Optional<Integer> maxLimit;
+
+    /**
+     * The maximum number of requests waiting for the number of concurrent requests to get below the limit. The requests
+     * exceeding the limit are rejected immediately if set to {@code 0}.
+     */
+    @ConfigItem
+    @ConfigDocDefault("0")
+    public Optional<Integer> queueSize;
+
+    /**
+     * The maximum time a request waits for the number of concurrent requests to get below the limit, before it is
+     * rejected.
+     */
+    @ConfigItem
+    @ConfigDocDefault("1s")
+    public Optional<Duration> queueTimeout;
+
+}
@@ -1,5 +1,6 @@
 package io.quarkus.restclient.config;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
@@ -49,6 +50,12 @@ public class RestClientConfig {
         EMPTY.maxRedirects = Optional.empty();
         EMPTY.multipart = new RestClientMultipartConfig();
         EMPTY.multipart.maxChunkSize = Optional.empty();
+        EMPTY.concurrencyLimit = new RestClientConcurrencyLimitConfig();
+        EMPTY.concurrencyLimit.enabled = Optional.empty();
+        EMPTY.concurrencyLimit.initialLimit = Optional.empty();
+        EMPTY.concurrencyLimit.maxLimit = Optional.empty();
+        EMPTY.concurrencyLimit.queueSize = Optional.empty();
+        EMPTY.concurrencyLimit.queueTimeout = Optional.empty();
         EMPTY.headers = Collections.emptyMap();
         EMPTY.shared = Optional.empty();
         EMPTY.name = Optional.empty();
@@ -61,6 +68,13 @@ public class RestClientConfig {
 
     public RestClientMultipartConfig multipart;
 
+    /**
+     * The adaptive limit of concurrent requests.
+     * <p>
+     * This property is not applicable to the RESTEasy Client.
+     */
+    public RestClientConcurrencyLimitConfig concurrencyLimit;
+
     /**
      * The base URL to use for this service. This property or the `uri` property is considered required, unless
      * the `baseUri` attribute is configured in the `@RegisterRestClient` annotation.
@@ -349,6 +363,13 @@ public static RestClientConfig load(String configKey) {
         instance.multipart = new RestClientMultipartConfig();
         instance.multipart.maxChunkSize = getConfigValue(configKey, "multipart.max-chunk-size", Integer.class);
 
+        instance.concurrencyLimit = new RestClientConcurrencyLimitConfig();
+        instance.concurrencyLimit.enabled = getConfigValue(configKey, "concurrency-limit.enabled", Boolean.class);
+        instance.concurrencyLimit.initialLimit = getConfigValue(configKey, "concurrency-limit.initial-limit", Integer.class);
+        instance.concurrencyLimit.maxLimit = getConfigValue(configKey, "concurrency-limit.max-limit", Integer.class);
+        instance.concurrencyLimit.queueSize = getConfigValue(configKey, "concurrency-limit.queue-size", Integer.class);
+        instance.concurrencyLimit.queueTimeout = getConfigValue(configKey, "concurrency-limit.queue-timeout", Duration.class);
+
         return instance;
     }
 
@@ -391,6 +412,15 @@ public static RestClientConfig load(Class<?> interfaceClass) {
         instance.multipart = new RestClientMultipartConfig();
         instance.multipart.maxChunkSize = getConfigValue(interfaceClass, "multipart.max-chunk-size", Integer.class);
 
+        instance.concurrencyLimit = new RestClientConcurrencyLimitConfig();
+        instance.concurrencyLimit.enabled = getConfigValue(interfaceClass, "concurrency-limit.enabled", Boolean.class);
+        instance.concurrencyLimit.initialLimit = getConfigValue(interfaceClass, "concurrency-limit.initial-limit",
+                Integer.class);
+        instance.concurrencyLimit.maxLimit = getConfigValue(interfaceClass, "concurrency-limit.max-limit", Integer.class);
+        instance.concurrencyLimit.queueSize = getConfigValue(interfaceClass, "concurrency-limit.queue-size", Integer.class);
+        instance.concurrencyLimit.queueTimeout = getConfigValue(interfaceClass, "concurrency-limit.queue-timeout",
+                Duration.class);
+
         return instance;
     }
 
@@ -89,9 +89,11 @@
 import io.quarkus.deployment.builditem.ExtensionSslNativeSupportBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ServiceProviderBuildItem;
 import io.quarkus.deployment.execannotations.ExecutionModelAnnotationsAllowedBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.gizmo.ClassCreator;
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
@@ -183,6 +185,18 @@ UnremovableBeanBuildItem unremovableBeans() {
         return UnremovableBeanBuildItem.beanTypes(RestClientsConfig.class, ClientLogger.class);
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    MetricsFactoryConsumerBuildItem concurrencyLimitMetrics(RestClientRecorder restClientRecorder) {
+        return new MetricsFactoryConsumerBuildItem(restClientRecorder.registerConcurrencyLimitMetrics());
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void clearConcurrencyLimiters(RestClientRecorder restClientRecorder, ShutdownContextBuildItem shutdownContext) {
+        restClientRecorder.clearConcurrencyLimitersOnShutdown(shutdownContext);
+    }
+
     @BuildStep
     void setupRequestCollectingFilter(BuildProducer<ContainerRequestFilterBuildItem> filters) {
         filters.produce(new ContainerRequestFilterBuildItem(HeaderCapturingServerFilter.class.getName()));
@@ -1,5 +1,10 @@
 package io.quarkus.rest.client.reactive.runtime;
 
+import java.time.Duration;
+
 public class Constants {
     public final static int DEFAULT_MAX_CHUNK_SIZE = 8096;
+    public final static int DEFAULT_INITIAL_CONCURRENCY_LIMIT = 20;
+    public final static int DEFAULT_MAX_CONCURRENCY_LIMIT = 200;
+    public final static Duration DEFAULT_CONCURRENCY_LIMIT_QUEUE_TIMEOUT = Duration.ofSeconds(1);
 }
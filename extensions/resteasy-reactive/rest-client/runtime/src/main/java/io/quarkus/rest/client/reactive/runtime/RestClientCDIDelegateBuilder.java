@@ -1,6 +1,9 @@
 package io.quarkus.rest.client.reactive.runtime;
 
+import static io.quarkus.rest.client.reactive.runtime.Constants.DEFAULT_CONCURRENCY_LIMIT_QUEUE_TIMEOUT;
+import static io.quarkus.rest.client.reactive.runtime.Constants.DEFAULT_INITIAL_CONCURRENCY_LIMIT;
 import static io.quarkus.rest.client.reactive.runtime.Constants.DEFAULT_MAX_CHUNK_SIZE;
+import static io.quarkus.rest.client.reactive.runtime.Constants.DEFAULT_MAX_CONCURRENCY_LIMIT;
 
 import java.io.File;
 import java.io.FileInputStream;
@@ -14,6 +17,7 @@
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
+import java.time.Duration;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
@@ -24,10 +28,12 @@
 
 import org.eclipse.microprofile.rest.client.ext.QueryParamStyle;
 import org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties;
+import org.jboss.resteasy.reactive.client.impl.ConcurrencyLimiter;
 import org.jboss.resteasy.reactive.client.impl.multipart.PausableHttpPostRequestEncoder;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.rest.client.reactive.QuarkusRestClientBuilder;
+import io.quarkus.restclient.config.RestClientConcurrencyLimitConfig;
 import io.quarkus.restclient.config.RestClientConfig;
 import io.quarkus.restclient.config.RestClientsConfig;
 import io.quarkus.runtime.configuration.MemorySize;
@@ -77,6 +83,26 @@ void configureBuilder(QuarkusRestClientBuilder builder) {
         configureProxy(builder);
         configureShared(builder);
         configureCustomProperties(builder);
+        configureConcurrencyLimit(builder);
+    }
+
+    private void configureConcurrencyLimit(QuarkusRestClientBuilder builder) {
+        RestClientConcurrencyLimitConfig byClassName = concurrencyLimitConfig(clientConfigByClassName());
+        RestClientConcurrencyLimitConfig byConfigKey = concurrencyLimitConfig(clientConfigByConfigKey());
+        if (!oneOf(byClassName.enabled, byConfigKey.enabled).orElse(false)) {
+            return;
+        }
+        int initialLimit = oneOf(byClassName.initialLimit, byConfigKey.initialLimit).orElse(DEFAULT_INITIAL_CONCURRENCY_LIMIT);
+        int maxLimit = oneOf(byClassName.maxLimit, byConfigKey.maxLimit).orElse(DEFAULT_MAX_CONCURRENCY_LIMIT);
+        int queueSize = oneOf(byClassName.queueSize, byConfigKey.queueSize).orElse(0);
+        Duration queueTimeout = oneOf(byClassName.queueTimeout, byConfigKey.queueTimeout)
+                .orElse(DEFAULT_CONCURRENCY_LIMIT_QUEUE_TIMEOUT);
+        String clientName = configKey != null ? configKey : jaxrsInterface.getName();
+        ConcurrencyLimiter limiter = RestClientConcurrencyLimiters.getOrCreate(clientName,
+                () -> new ConcurrencyLimiter(
+                        RestClientConcurrencyLimiters.vegasLimit(initialLimit, Math.max(initialLimit, maxLimit)),
+                        queueSize, queueTimeout.toMillis()));
+        builder.property(QuarkusRestClientProperties.CONCURRENCY_LIMITER, limiter);
     }
 
     private void configureCustomProperties(QuarkusRestClientBuilder builder) {
@@ -152,6 +178,10 @@ private void configureCustomProperties(QuarkusRestClientBuilder builder) {
         builder.property(QuarkusRestClientProperties.CAPTURE_STACKTRACE, captureStacktrace);
     }
 
+    private static RestClientConcurrencyLimitConfig concurrencyLimitConfig(RestClientConfig clientConfig) {
+        return clientConfig.concurrencyLimit != null ? clientConfig.concurrencyLimit : RestClientConfig.EMPTY.concurrencyLimit;
+    }
+
     private static Function<MemorySize, Integer> intChunkSize() {
         return m -> (int) m.asLongValue();
     }
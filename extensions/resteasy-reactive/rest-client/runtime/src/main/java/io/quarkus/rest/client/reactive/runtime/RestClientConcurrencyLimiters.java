@@ -0,0 +1,92 @@
+package io.quarkus.rest.client.reactive.runtime;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.jboss.resteasy.reactive.client.impl.ConcurrencyLimiter;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.runtime.util.VegasLimit;
+
+/**
+ * The concurrency limiters of the REST clients, by client name. All the instances of a client share the same limiter.
+ * The limiters are dropped on shutdown, so that a dev mode restart picks up the changed configuration.
+ */
+public final class RestClientConcurrencyLimiters {
+
+    private static final int ALPHA_FACTOR = 3;
+    private static final int BETA_FACTOR = 6;
+    private static final double PROBE_FACTOR = 30.0;
+
+    private static final Map<String, ConcurrencyLimiter> LIMITERS = new ConcurrentHashMap<>();
+    private static MetricsFactory metricsFactory;
+
+    private RestClientConcurrencyLimiters() {
+    }
+
+    static synchronized ConcurrencyLimiter getOrCreate(String clientName, Supplier<ConcurrencyLimiter> limiterSupplier) {
+        ConcurrencyLimiter limiter = LIMITERS.get(clientName);
+        if (limiter == null) {
+            limiter = limiterSupplier.get();
+            LIMITERS.put(clientName, limiter);
+            if (metricsFactory != null) {
+                registerMetrics(metricsFactory, clientName, limiter);
+            }
+        }
+        return limiter;
+    }
+
+    /**
+     * @return a limit adjusted with the TCP Vegas algorithm, using the same factors as the load shedding extension
+     *         defaults
+     */
+    static ConcurrencyLimiter.Limit vegasLimit(int initialLimit, int maxLimit) {
+        VegasLimit limit = new VegasLimit(initialLimit, maxLimit, ALPHA_FACTOR, BETA_FACTOR, PROBE_FACTOR);
+        return new ConcurrencyLimiter.Limit() {
+            @Override
+            public long get() {
+                return limit.currentLimit();
+            }
+
+            @Override
+            public void record(long timeInMicros, int currentRequests) {
+                limit.record(timeInMicros, currentRequests);
+            }
+        };
+    }
+
+    static synchronized void clear() {
+        LIMITERS.clear();
+        metricsFactory = null;
+    }
+
+    /**
+     * The clients are usually created lazily, so the metrics of a limiter are registered when it is created.
+     */
+    static synchronized void setMetricsFactory(MetricsFactory metricsFactory) {
+        RestClientConcurrencyLimiters.metricsFactory = metricsFactory;
+        for (Map.Entry<String, ConcurrencyLimiter> entry : LIMITERS.entrySet()) {
+            registerMetrics(metricsFactory, entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static void registerMetrics(MetricsFactory metricsFactory, String clientName, ConcurrencyLimiter limiter) {
+        metricsFactory.builder("rest.client.concurrency.limit")
+                .description("Current limit of concurrent requests sent by the REST client.")
+                .tag("client", clientName)
+                .buildGauge(limiter::currentLimit);
+        metricsFactory.builder("rest.client.requests.active")
+                .description("Number of requests sent by the REST client and not completed yet.")
+                .tag("client", clientName)
+                .buildGauge(limiter::currentRequests);
+        metricsFactory.builder("rest.client.requests.queued")
+                .description("Number of requests waiting for the REST client to get below its limit of concurrent requests.")
+                .tag("client", clientName)
+                .buildGauge(limiter::queuedRequests);
+        metricsFactory.builder("rest.client.requests.rejected")
+                .description("Number of requests rejected because the REST client reached its limit of concurrent requests.")
+                .tag("client", clientName)
+                .buildCounter(limiter::rejectedRequests);
+    }
+}
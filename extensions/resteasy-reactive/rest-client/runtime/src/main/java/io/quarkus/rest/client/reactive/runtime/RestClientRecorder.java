@@ -2,10 +2,13 @@
 
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.eclipse.microprofile.rest.client.spi.RestClientBuilderResolver;
 
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 @Recorder
 public class RestClientRecorder {
@@ -31,4 +34,24 @@ public static boolean isClassBlocking(Class<?> exceptionMapperClass) {
     public void setRestClientBuilderResolver() {
         RestClientBuilderResolver.setInstance(new BuilderResolver());
     }
+
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerConcurrencyLimitMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                RestClientConcurrencyLimiters.setMetricsFactory(metricsFactory);
+            }
+        };
+    }
+
+    /* RUNTIME_INIT */
+    public void clearConcurrencyLimitersOnShutdown(ShutdownContext shutdownContext) {
+        shutdownContext.addShutdownTask(new Runnable() {
+            @Override
+            public void run() {
+                RestClientConcurrencyLimiters.clear();
+            }
+        });
+    }
 }
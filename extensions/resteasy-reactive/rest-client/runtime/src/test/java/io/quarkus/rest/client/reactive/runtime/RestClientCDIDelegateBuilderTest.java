@@ -21,12 +21,15 @@
 import org.eclipse.microprofile.rest.client.ext.QueryParamStyle;
 import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
 import org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties;
+import org.jboss.resteasy.reactive.client.impl.ConcurrencyLimiter;
 import org.jboss.resteasy.reactive.client.impl.multipart.PausableHttpPostRequestEncoder;
 import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import io.quarkus.restclient.config.RestClientConcurrencyLimitConfig;
 import io.quarkus.restclient.config.RestClientConfig;
 import io.quarkus.restclient.config.RestClientMultipartConfig;
 import io.quarkus.restclient.config.RestClientsConfig;
@@ -62,6 +65,11 @@ public static void beforeAll() throws IOException, KeyStoreException, Certificat
         }
     }
 
+    @AfterEach
+    public void clearConcurrencyLimiters() {
+        RestClientConcurrencyLimiters.clear();
+    }
+
     @AfterAll
     public static void afterAll() {
         if (truststorePath != null) {
@@ -117,6 +125,8 @@ public void testClientSpecificConfigs() {
         Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.KEEP_ALIVE_ENABLED, false);
         Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.MAX_REDIRECTS, 104);
         Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.MAX_CHUNK_SIZE, 1024);
+        Mockito.verify(restClientBuilderMock).property(Mockito.eq(QuarkusRestClientProperties.CONCURRENCY_LIMITER),
+                Mockito.argThat(limiter -> ((ConcurrencyLimiter) limiter).currentLimit() == 5));
         Mockito.verify(restClientBuilderMock).followRedirects(true);
         Mockito.verify(restClientBuilderMock).register(MyResponseFilter1.class);
         Mockito.verify(restClientBuilderMock).queryParamStyle(QueryParamStyle.COMMA_SEPARATED);
@@ -230,6 +240,12 @@ private static RestClientConfig createSampleClientConfig() {
         clientConfig.maxRedirects = Optional.of(104);
         clientConfig.followRedirects = Optional.of(true);
         clientConfig.multipart = new RestClientMultipartConfig();
+        clientConfig.concurrencyLimit = new RestClientConcurrencyLimitConfig();
+        clientConfig.concurrencyLimit.enabled = Optional.of(true);
+        clientConfig.concurrencyLimit.initialLimit = Optional.of(5);
+        clientConfig.concurrencyLimit.maxLimit = Optional.empty();
+        clientConfig.concurrencyLimit.queueSize = Optional.of(10);
+        clientConfig.concurrencyLimit.queueTimeout = Optional.empty();
         clientConfig.maxChunkSize = Optional.of(new MemorySize(BigInteger.valueOf(1024)));
         clientConfig.providers = Optional
                 .of("io.quarkus.rest.client.reactive.runtime.RestClientCDIDelegateBuilderTest$MyResponseFilter1");
@@ -0,0 +1,9 @@
+package io.quarkus.resteasy.reactive.jackson.benchmarks;
+
+public class Address {
+
+    public String street;
+    public String city;
+    public String zipCode;
+    public String country;
+}
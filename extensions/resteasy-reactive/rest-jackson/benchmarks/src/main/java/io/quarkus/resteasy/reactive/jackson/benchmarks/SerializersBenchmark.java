@@ -0,0 +1,135 @@
+package io.quarkus.resteasy.reactive.jackson.benchmarks;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.Index;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.resteasy.reactive.jackson.deployment.processor.JacksonDeserializerFactory;
+import io.quarkus.resteasy.reactive.jackson.deployment.processor.JacksonSerializerFactory;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedSerializersModule;
+
+/**
+ * Compares the throughput of the reflective bean serializers of Jackson with the serializers generated for the REST
+ * endpoints when {@code quarkus.rest.jackson.optimization.enable-reflection-free-serializers} is enabled.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SerializersBenchmark {
+
+    @Param({ "reflection", "generated" })
+    public String mode;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private Customer customer;
+    private byte[] json;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        if (mode.equals("generated")) {
+            objectMapper.registerModule(generateModule(Customer.class, Address.class));
+        }
+        writer = objectMapper.writerFor(Customer.class);
+        reader = objectMapper.readerFor(Customer.class);
+
+        customer = new Customer();
+        customer.setId(42);
+        customer.setFirstName("Jane");
+        customer.setLastName("Doe");
+        customer.setEmail("jane.doe@example.com");
+        customer.setAge(37);
+        customer.setBalance(1234.56);
+        customer.setActive(true);
+        Address address = new Address();
+        address.street = "1 Main Street";
+        address.city = "Springfield";
+        address.zipCode = "12345";
+        address.country = "US";
+        customer.setAddress(address);
+        customer.setTags(List.of("premium", "newsletter"));
+        json = writer.writeValueAsBytes(customer);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(customer);
+    }
+
+    @Benchmark
+    public Customer deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+
+    private static GeneratedSerializersModule generateModule(Class<?>... classes) throws IOException {
+        Index index = Index.of(classes);
+        Map<String, byte[]> generated = new HashMap<>();
+        ClassOutput classOutput = (name, data) -> generated.put(name.replace('/', '.'), data);
+        JacksonSerializerFactory serializerFactory = new JacksonSerializerFactory(classOutput, index);
+        JacksonDeserializerFactory deserializerFactory = new JacksonDeserializerFactory(classOutput, index);
+        GeneratedClassLoader classLoader = new GeneratedClassLoader(generated);
+        GeneratedSerializersModule module = new GeneratedSerializersModule();
+        for (Class<?> clazz : classes) {
+            ClassInfo classInfo = index.getClassByName(clazz);
+            String serializer = serializerFactory.create(classInfo).orElseThrow();
+            module.addSerializer((JsonSerializer<?>) classLoader.newInstance(serializer));
+            String deserializer = deserializerFactory.create(classInfo).orElseThrow();
+            module.addDeserializer((JsonDeserializer<?>) classLoader.newInstance(deserializer));
+        }
+        return module;
+    }
+
+    private static final class GeneratedClassLoader extends ClassLoader {
+
+        private final Map<String, byte[]> classes;
+
+        GeneratedClassLoader(Map<String, byte[]> classes) {
+            super(SerializersBenchmark.class.getClassLoader());
+            this.classes = classes;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] data = classes.get(name);
+            if (data == null) {
+                throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, data, 0, data.length);
+        }
+
+        Object newInstance(String name) {
+            try {
+                return loadClass(name).getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
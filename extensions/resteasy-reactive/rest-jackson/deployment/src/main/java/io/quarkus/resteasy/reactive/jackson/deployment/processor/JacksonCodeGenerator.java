@@ -0,0 +1,379 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.resteasy.reactive.common.deployment.QuarkusResteasyReactiveDotNames;
+import io.quarkus.resteasy.reactive.jackson.SecureField;
+
+/**
+ * Generates the bytecode of Jackson serializers or deserializers for the plain Java beans known at build time.
+ * <p>
+ * Only the classes that Jackson would handle with its default bean introspection are supported: public, concrete and
+ * non-generic classes, whose properties are public fields or public accessors, and which are not customized by any
+ * Jackson annotation. Nothing is generated for the other classes, that Jackson keeps handling through reflection.
+ * <p>
+ * The properties are discovered with the rules of Jackson, so that the generated code produces and consumes the same
+ * JSON: the properties are ordered by the declaration of their fields, those of the superclasses first, then by the
+ * declaration of their accessors, and the names of the accessors are mangled in the same way.
+ */
+public abstract class JacksonCodeGenerator {
+
+    private static final String JACKSON_PACKAGE = "com.fasterxml.jackson.";
+    private static final DotName SECURE_FIELD = DotName.createSimple(SecureField.class.getName());
+    private static final DotName BOOLEAN = DotName.createSimple(Boolean.class.getName());
+    private static final DotName JSON_TYPE_INFO = DotName.createSimple("com.fasterxml.jackson.annotation.JsonTypeInfo");
+    private static final Set<DotName> UNSUPPORTED_ANNOTATIONS = Set.of(
+            SECURE_FIELD,
+            // honored by Jackson as @JsonIgnore and @JsonCreator
+            DotName.createSimple("java.beans.Transient"),
+            DotName.createSimple("java.beans.ConstructorProperties"),
+            // Kotlin classes are handled by the Kotlin module of Jackson
+            DotName.createSimple("kotlin.Metadata"));
+    private static final Set<DotName> SUPPORTED_JDK_INTERFACES = Set.of(
+            DotName.createSimple("java.io.Serializable"),
+            DotName.createSimple("java.lang.Cloneable"),
+            DotName.createSimple("java.lang.Comparable"));
+
+    protected final ClassOutput classOutput;
+    protected final IndexView index;
+    private final Map<DotName, Optional<String>> generated = new HashMap<>();
+
+    JacksonCodeGenerator(ClassOutput classOutput, IndexView index) {
+        this.classOutput = classOutput;
+        this.index = index;
+    }
+
+    /**
+     * Generates the serializer or the deserializer of the given class, if it is supported.
+     *
+     * @return the name of the generated class, or an empty optional if the class is not supported
+     */
+    public Optional<String> create(ClassInfo classInfo) {
+        Optional<String> result = generated.get(classInfo.name());
+        if (result == null) {
+            result = Optional.empty();
+            List<Property> properties = isSupported(classInfo) ? properties(classInfo) : null;
+            if (properties != null) {
+                String className = classInfo.name().toString() + suffix();
+                if (generate(classInfo, className, properties)) {
+                    result = Optional.of(className);
+                }
+            }
+            generated.put(classInfo.name(), result);
+        }
+        return result;
+    }
+
+    /**
+     * @return the declared types of the properties of the given class, or an empty list if the class is not supported
+     */
+    List<Type> propertyTypes(ClassInfo classInfo) {
+        List<Property> properties = isSupported(classInfo) ? properties(classInfo) : null;
+        if (properties == null) {
+            return List.of();
+        }
+        List<Type> types = new ArrayList<>();
+        for (Property property : properties) {
+            if (property.isReadable()) {
+                types.add(property.readType());
+            }
+            if (property.setter != null) {
+                types.add(property.setter.parameterType(0));
+            }
+        }
+        return types;
+    }
+
+    abstract String suffix();
+
+    /**
+     * @param classInfo the supported class
+     * @param className the name of the class to generate
+     * @param properties the properties of the class, in the order of Jackson
+     * @return {@code true} if the class was generated
+     */
+    abstract boolean generate(ClassInfo classInfo, String className, List<Property> properties);
+
+    private boolean isSupported(ClassInfo classInfo) {
+        if (!isSupportedClass(classInfo) || !classInfo.typeParameters().isEmpty()) {
+            return false;
+        }
+        if (classInfo.nestingType() != ClassInfo.NestingType.TOP_LEVEL
+                && (classInfo.nestingType() != ClassInfo.NestingType.INNER || !Modifier.isStatic(classInfo.flags()))) {
+            return false;
+        }
+        ClassInfo current = classInfo;
+        while (true) {
+            if (hasUnsupportedAnnotation(current) || !current.interfaceNames().stream().allMatch(this::isSupportedInterface)) {
+                return false;
+            }
+            if (current.superName() == null || current.superName().equals(DotName.OBJECT_NAME)) {
+                return true;
+            }
+            current = index.getClassByName(current.superName());
+            // the members of the superclasses are accessed directly by the generated code
+            if (current == null || !Modifier.isPublic(current.flags()) || current.isInterface()
+                    || isIgnoredType(current.name())) {
+                return false;
+            }
+        }
+    }
+
+    private boolean isSupportedClass(ClassInfo classInfo) {
+        short flags = classInfo.flags();
+        return Modifier.isPublic(flags) && !Modifier.isAbstract(flags) && !classInfo.isInterface() && !classInfo.isEnum()
+                && !classInfo.isRecord() && !classInfo.isAnnotation() && !classInfo.isSynthetic()
+                && !isIgnoredType(classInfo.name());
+    }
+
+    private boolean isSupportedInterface(DotName name) {
+        if (SUPPORTED_JDK_INTERFACES.contains(name)) {
+            return true;
+        }
+        ClassInfo interfaceInfo = index.getClassByName(name);
+        if (interfaceInfo == null || isIgnoredType(name) || hasUnsupportedAnnotation(interfaceInfo)) {
+            return false;
+        }
+        for (MethodInfo method : interfaceInfo.methods()) {
+            // the default accessors are properties too
+            if (!Modifier.isStatic(method.flags()) && !Modifier.isAbstract(method.flags())
+                    && (getterName(method) != null || setterName(method) != null)) {
+                return false;
+            }
+        }
+        return interfaceInfo.interfaceNames().stream().allMatch(this::isSupportedInterface);
+    }
+
+    private boolean hasUnsupportedAnnotation(ClassInfo classInfo) {
+        for (AnnotationInstance annotation : classInfo.annotations()) {
+            if (isUnsupportedAnnotation(annotation.name())) {
+                return true;
+            }
+            // annotations composed of Jackson annotations
+            ClassInfo annotationClass = index.getClassByName(annotation.name());
+            if (annotationClass != null) {
+                for (AnnotationInstance metaAnnotation : annotationClass.declaredAnnotations()) {
+                    if (isUnsupportedAnnotation(metaAnnotation.name())) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isUnsupportedAnnotation(DotName name) {
+        return name.toString().startsWith(JACKSON_PACKAGE) || UNSUPPORTED_ANNOTATIONS.contains(name);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean isIgnoredType(DotName name) {
+        return ((Predicate<DotName>) QuarkusResteasyReactiveDotNames.IGNORE_TYPE_FOR_REFLECTION_PREDICATE).test(name);
+    }
+
+    /**
+     * @return the properties in the order of Jackson, or {@code null} if the accessors are ambiguous or if a property
+     *         is polymorphic
+     */
+    private List<Property> properties(ClassInfo classInfo) {
+        // the class first, then its superclasses
+        List<ClassInfo> hierarchy = new ArrayList<>();
+        for (ClassInfo current = classInfo; current != null;) {
+            hierarchy.add(current);
+            DotName superName = current.superName();
+            current = superName == null || superName.equals(DotName.OBJECT_NAME) ? null : index.getClassByName(superName);
+        }
+
+        Map<String, Property> properties = new LinkedHashMap<>();
+        for (int i = hierarchy.size() - 1; i >= 0; i--) {
+            for (FieldInfo field : hierarchy.get(i).unsortedFields()) {
+                short flags = field.flags();
+                // transient fields are dropped by Jackson before the properties are ordered
+                if (Modifier.isStatic(flags) || Modifier.isTransient(flags) || field.isSynthetic()) {
+                    continue;
+                }
+                Property property = properties.computeIfAbsent(field.name(), Property::new);
+                if (property.field != null) {
+                    // a field hides a field of a superclass
+                    return null;
+                }
+                property.field = field;
+            }
+        }
+
+        Set<String> overridden = new HashSet<>();
+        for (ClassInfo current : hierarchy) {
+            for (MethodInfo method : current.unsortedMethods()) {
+                short flags = method.flags();
+                if (Modifier.isStatic(flags) || method.isSynthetic() || method.isConstructor() || method.isStaticInitializer()
+                        || !overridden.add(method.name() + method.parameterTypes())) {
+                    continue;
+                }
+                String getterName = getterName(method);
+                if (getterName != null) {
+                    if (method.name().startsWith("is") && method.returnType().name().equals(BOOLEAN)) {
+                        // whether Jackson detects the is-getters of Boolean depends on its version and configuration
+                        return null;
+                    }
+                    if (!Modifier.isPublic(flags)) {
+                        continue;
+                    }
+                    Property property = properties.computeIfAbsent(getterName, Property::new);
+                    if (property.getter != null) {
+                        // e.g. getFoo() and isFoo()
+                        return null;
+                    }
+                    property.getter = method;
+                    continue;
+                }
+                String setterName = setterName(method);
+                if (setterName != null) {
+                    Property property = properties.computeIfAbsent(setterName, Property::new);
+                    if (property.setter != null) {
+                        property.ambiguousSetter = true;
+                    } else {
+                        property.setter = method;
+                    }
+                }
+            }
+        }
+        for (Property property : properties.values()) {
+            // the type ids depend on the declared types of the properties, the values are written with their runtime type
+            if (property.isReadable() && isPolymorphic(property.readType())
+                    || (property.setter != null || property.isPublicField()) && isPolymorphic(property.writeType())) {
+                return null;
+            }
+        }
+        return new ArrayList<>(properties.values());
+    }
+
+    private boolean isPolymorphic(Type type) {
+        switch (type.kind()) {
+            case CLASS:
+                return isPolymorphic(type.name());
+            case ARRAY:
+                return isPolymorphic(type.asArrayType().constituent());
+            case PARAMETERIZED_TYPE:
+                return isPolymorphic(type.name())
+                        || type.asParameterizedType().arguments().stream().anyMatch(this::isPolymorphic);
+            case WILDCARD_TYPE:
+                return isPolymorphic(type.asWildcardType().extendsBound());
+            case TYPE_VARIABLE:
+                return type.asTypeVariable().bounds().stream().anyMatch(this::isPolymorphic);
+            default:
+                return false;
+        }
+    }
+
+    private boolean isPolymorphic(DotName name) {
+        ClassInfo classInfo = index.getClassByName(name);
+        if (classInfo == null) {
+            return false;
+        }
+        if (classInfo.declaredAnnotation(JSON_TYPE_INFO) != null
+                || classInfo.interfaceNames().stream().anyMatch(this::isPolymorphic)) {
+            return true;
+        }
+        return classInfo.superName() != null && isPolymorphic(classInfo.superName());
+    }
+
+    private static String getterName(MethodInfo method) {
+        if (method.parametersCount() != 0 || method.returnType().kind() == Type.Kind.VOID) {
+            return null;
+        }
+        String name = method.name();
+        if (name.startsWith("get")) {
+            return mangle(name, 3);
+        }
+        if (name.startsWith("is") && (method.returnType().kind() == Type.Kind.PRIMITIVE
+                && method.returnType().asPrimitiveType().primitive() == PrimitiveType.Primitive.BOOLEAN
+                || method.returnType().name().equals(BOOLEAN))) {
+            return mangle(name, 2);
+        }
+        return null;
+    }
+
+    private static String setterName(MethodInfo method) {
+        if (method.parametersCount() != 1 || !method.name().startsWith("set")) {
+            return null;
+        }
+        return mangle(method.name(), 3);
+    }
+
+    /**
+     * The legacy name mangling of Jackson, used by default: the leading upper case characters are lower cased, e.g.
+     * {@code getURLValue} is the accessor of the {@code urlvalue} property.
+     */
+    static String mangle(String name, int offset) {
+        if (name.length() == offset) {
+            return null;
+        }
+        StringBuilder result = null;
+        for (int i = offset; i < name.length(); i++) {
+            char c = name.charAt(i);
+            char lower = Character.toLowerCase(c);
+            if (c == lower) {
+                break;
+            }
+            if (result == null) {
+                result = new StringBuilder(name.length() - offset).append(name, offset, i);
+            }
+            result.append(lower);
+        }
+        if (result == null) {
+            return name.substring(offset);
+        }
+        return result.append(name, offset + result.length(), name.length()).toString();
+    }
+
+    static final class Property {
+
+        final String name;
+        FieldInfo field;
+        MethodInfo getter;
+        MethodInfo setter;
+        boolean ambiguousSetter;
+
+        Property(String name) {
+            this.name = name;
+        }
+
+        boolean isPublicField() {
+            return field != null && Modifier.isPublic(field.flags());
+        }
+
+        /**
+         * @return whether the property is serialized, through its getter or its field
+         */
+        boolean isReadable() {
+            return getter != null || isPublicField();
+        }
+
+        Type readType() {
+            return getter != null ? getter.returnType() : field.type();
+        }
+
+        Type writeType() {
+            return setter != null ? setter.parameterType(0) : field.type();
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import io.quarkus.gizmo.AssignableResultHandle;
+import io.quarkus.gizmo.BranchResult;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.DescriptorUtils;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.gizmo.Switch;
+
+/**
+ * Generates a {@link StdDeserializer} per supported class, that creates the bean with its no-args constructor and sets
+ * its properties with direct calls to its setters and fields.
+ * <p>
+ * The values of the primitive and {@code String} properties are read directly from the {@link JsonParser} when the
+ * current token has the expected type. Otherwise the values are read by the deserializers of their declared types, that
+ * are resolved once when the generated deserializer is resolved by Jackson.
+ * <p>
+ * The deserializer is only generated if Jackson would set every property of the class through a public setter or a public
+ * non-final field, and would only use the no-args constructor to create the bean.
+ */
+public class JacksonDeserializerFactory extends JacksonCodeGenerator {
+
+    static final String SUFFIX = "$quarkusjacksondeserializer";
+
+    private static final DotName STRING = DotName.createSimple(String.class.getName());
+
+    private static final MethodDescriptor STD_DESERIALIZER_CTOR = MethodDescriptor.ofConstructor(StdDeserializer.class,
+            Class.class);
+    private static final MethodDescriptor IS_EXPECTED_START_OBJECT_TOKEN = MethodDescriptor.ofMethod(JsonParser.class,
+            "isExpectedStartObjectToken", boolean.class);
+    private static final MethodDescriptor HAS_TOKEN = MethodDescriptor.ofMethod(JsonParser.class, "hasToken",
+            boolean.class, JsonToken.class);
+    private static final MethodDescriptor NEXT_TOKEN = MethodDescriptor.ofMethod(JsonParser.class, "nextToken",
+            JsonToken.class);
+    private static final MethodDescriptor NEXT_FIELD_NAME = MethodDescriptor.ofMethod(JsonParser.class, "nextFieldName",
+            String.class);
+    private static final MethodDescriptor CURRENT_NAME = MethodDescriptor.ofMethod(JsonParser.class, "currentName",
+            String.class);
+    private static final MethodDescriptor GET_TEXT = MethodDescriptor.ofMethod(JsonParser.class, "getText", String.class);
+    private static final MethodDescriptor GET_INT_VALUE = MethodDescriptor.ofMethod(JsonParser.class, "getIntValue",
+            int.class);
+    private static final MethodDescriptor GET_LONG_VALUE = MethodDescriptor.ofMethod(JsonParser.class, "getLongValue",
+            long.class);
+    private static final MethodDescriptor GET_DOUBLE_VALUE = MethodDescriptor.ofMethod(JsonParser.class, "getDoubleValue",
+            double.class);
+    private static final MethodDescriptor HANDLE_UNEXPECTED_TOKEN = MethodDescriptor.ofMethod(DeserializationContext.class,
+            "handleUnexpectedToken", Object.class, Class.class, JsonParser.class);
+    private static final MethodDescriptor GET_TYPE_FACTORY = MethodDescriptor.ofMethod(DeserializationContext.class,
+            "getTypeFactory", TypeFactory.class);
+    private static final MethodDescriptor CONSTRUCT_TYPE = MethodDescriptor.ofMethod(TypeFactory.class, "constructType",
+            JavaType.class, java.lang.reflect.Type.class);
+    private static final MethodDescriptor CONSTRUCT_PARAMETRIC_TYPE = MethodDescriptor.ofMethod(TypeFactory.class,
+            "constructParametricType", JavaType.class, Class.class, JavaType[].class);
+    private static final MethodDescriptor FIND_CONTEXTUAL_VALUE_DESERIALIZER = MethodDescriptor.ofMethod(
+            DeserializationContext.class, "findContextualValueDeserializer", JsonDeserializer.class, JavaType.class,
+            BeanProperty.class);
+    private static final MethodDescriptor DESERIALIZE = MethodDescriptor.ofMethod(JsonDeserializer.class, "deserialize",
+            Object.class, JsonParser.class, DeserializationContext.class);
+    private static final MethodDescriptor GET_NULL_VALUE = MethodDescriptor.ofMethod(JsonDeserializer.class,
+            "getNullValue", Object.class, DeserializationContext.class);
+    private static final FieldDescriptor FIELD_NAME = token("FIELD_NAME");
+    private static final FieldDescriptor END_OBJECT = token("END_OBJECT");
+    private static final FieldDescriptor VALUE_NULL = token("VALUE_NULL");
+    private static final FieldDescriptor VALUE_STRING = token("VALUE_STRING");
+    private static final FieldDescriptor VALUE_NUMBER_INT = token("VALUE_NUMBER_INT");
+    private static final FieldDescriptor VALUE_NUMBER_FLOAT = token("VALUE_NUMBER_FLOAT");
+    private static final FieldDescriptor VALUE_TRUE = token("VALUE_TRUE");
+    private static final FieldDescriptor VALUE_FALSE = token("VALUE_FALSE");
+
+    private static final Map<PrimitiveType.Primitive, Class<?>> WRAPPERS = Map.of(
+            PrimitiveType.Primitive.BOOLEAN, Boolean.class,
+            PrimitiveType.Primitive.BYTE, Byte.class,
+            PrimitiveType.Primitive.SHORT, Short.class,
+            PrimitiveType.Primitive.INT, Integer.class,
+            PrimitiveType.Primitive.LONG, Long.class,
+            PrimitiveType.Primitive.FLOAT, Float.class,
+            PrimitiveType.Primitive.DOUBLE, Double.class,
+            PrimitiveType.Primitive.CHAR, Character.class);
+
+    public JacksonDeserializerFactory(ClassOutput classOutput, IndexView index) {
+        super(classOutput, index);
+    }
+
+    @Override
+    String suffix() {
+        return SUFFIX;
+    }
+
+    @Override
+    boolean generate(ClassInfo classInfo, String className, List<Property> properties) {
+        if (!hasOnlyNoArgsCreator(classInfo)) {
+            return false;
+        }
+        List<Property> writable = new ArrayList<>();
+        for (Property property : properties) {
+            if (property.setter != null) {
+                if (property.ambiguousSetter || !Modifier.isPublic(property.setter.flags())
+                        || !isSupportedType(property.setter.parameterType(0))) {
+                    return false;
+                }
+                writable.add(property);
+            } else if (property.field != null) {
+                if (Modifier.isPublic(property.field.flags())) {
+                    if (Modifier.isFinal(property.field.flags()) || !isSupportedType(property.field.type())) {
+                        return false;
+                    }
+                    writable.add(property);
+                } else if (property.getter != null) {
+                    // Jackson sets the non-visible field of a property that has a visible getter
+                    return false;
+                }
+            } else if (property.getter != null && isUpdatableThroughGetter(property.getter.returnType())) {
+                // Jackson may add the values to the collection or the map returned by the getter
+                return false;
+            }
+        }
+        if (writable.isEmpty()) {
+            return false;
+        }
+        String beanClassName = classInfo.name().toString();
+
+        try (ClassCreator classCreator = ClassCreator.builder().classOutput(classOutput).className(className)
+                .superClass(StdDeserializer.class).interfaces(ResolvableDeserializer.class).setFinal(true).build()) {
+
+            MethodCreator ctor = classCreator.getMethodCreator(MethodDescriptor.INIT, void.class);
+            ctor.invokeSpecialMethod(STD_DESERIALIZER_CTOR, ctor.getThis(), ctor.loadClass(beanClassName));
+            ctor.returnValue(null);
+
+            // the deserializers of the values are resolved once, like those of the properties of the bean deserializers
+            MethodCreator resolve = classCreator.getMethodCreator("resolve", void.class, DeserializationContext.class);
+            resolve.addException(IOException.class);
+            ResultHandle resolveContext = resolve.getMethodParam(0);
+            ResultHandle typeFactory = resolve.invokeVirtualMethod(GET_TYPE_FACTORY, resolveContext);
+            FieldDescriptor[] deserializers = new FieldDescriptor[writable.size()];
+            for (int i = 0; i < writable.size(); i++) {
+                deserializers[i] = classCreator.getFieldCreator("deserializer" + i, JsonDeserializer.class)
+                        .setModifiers(ACC_PRIVATE).getFieldDescriptor();
+                ResultHandle javaType = javaType(resolve, typeFactory, writable.get(i).writeType());
+                resolve.writeInstanceField(deserializers[i], resolve.getThis(), resolve.invokeVirtualMethod(
+                        FIND_CONTEXTUAL_VALUE_DESERIALIZER, resolveContext, javaType, resolve.loadNull()));
+            }
+            resolve.returnValue(null);
+
+            // cached by Jackson, which is required to resolve the cycles between the types
+            MethodCreator isCachable = classCreator.getMethodCreator("isCachable", boolean.class);
+            isCachable.returnValue(isCachable.load(true));
+
+            MethodCreator deserialize = classCreator.getMethodCreator("deserialize", Object.class, JsonParser.class,
+                    DeserializationContext.class);
+            deserialize.addException(IOException.class);
+            ResultHandle parser = deserialize.getMethodParam(0);
+            ResultHandle context = deserialize.getMethodParam(1);
+
+            AssignableResultHandle name = deserialize.createVariable(String.class);
+            BranchResult startObject = deserialize.ifTrue(deserialize.invokeVirtualMethod(IS_EXPECTED_START_OBJECT_TOKEN,
+                    parser));
+            BytecodeCreator isStartObject = startObject.trueBranch();
+            isStartObject.assign(name, isStartObject.invokeVirtualMethod(NEXT_FIELD_NAME, parser));
+            BytecodeCreator notStartObject = startObject.falseBranch();
+            BranchResult fieldName = notStartObject.ifTrue(notStartObject.invokeVirtualMethod(HAS_TOKEN, parser,
+                    notStartObject.readStaticField(FIELD_NAME)));
+            fieldName.trueBranch().assign(name, fieldName.trueBranch().invokeVirtualMethod(CURRENT_NAME, parser));
+            BytecodeCreator notFieldName = fieldName.falseBranch();
+            // the start of the object may have been consumed by the caller, e.g. to read a type id
+            BranchResult endObject = notFieldName.ifTrue(notFieldName.invokeVirtualMethod(HAS_TOKEN, parser,
+                    notFieldName.readStaticField(END_OBJECT)));
+            endObject.trueBranch().assign(name, endObject.trueBranch().loadNull());
+            BytecodeCreator unexpected = endObject.falseBranch();
+            unexpected.returnValue(unexpected.invokeVirtualMethod(HANDLE_UNEXPECTED_TOKEN, context,
+                    unexpected.loadClass(beanClassName), parser));
+
+            ResultHandle bean = deserialize.newInstance(MethodDescriptor.ofConstructor(beanClassName));
+            BytecodeCreator loop = deserialize.whileLoop(condition -> condition.ifNotNull(name)).block();
+            ResultHandle token = loop.invokeVirtualMethod(NEXT_TOKEN, parser);
+            Switch.StringSwitch names = loop.stringSwitch(name);
+            for (int i = 0; i < writable.size(); i++) {
+                Property property = writable.get(i);
+                FieldDescriptor deserializer = deserializers[i];
+                names.caseOf(property.name, c -> {
+                    ResultHandle value = readValue(c, property.writeType(), token, parser, context,
+                            c.readInstanceField(deserializer, c.getThis()));
+                    if (property.setter != null) {
+                        c.invokeVirtualMethod(MethodDescriptor.of(property.setter), bean, value);
+                    } else {
+                        c.writeInstanceField(FieldDescriptor.of(property.field), bean, value);
+                    }
+                });
+            }
+            // the getter-only properties are unknown properties as well
+            MethodDescriptor handleUnknownProperty = MethodDescriptor.ofMethod(className, "handleUnknownProperty", void.class,
+                    JsonParser.class, DeserializationContext.class, Object.class, String.class);
+            names.defaultCase(c -> c.invokeVirtualMethod(handleUnknownProperty, c.getThis(), parser, context, bean, name));
+            loop.assign(name, loop.invokeVirtualMethod(NEXT_FIELD_NAME, parser));
+            deserialize.returnValue(bean);
+        }
+        return true;
+    }
+
+    private static ResultHandle readValue(BytecodeCreator method, Type type, ResultHandle token, ResultHandle parser,
+            ResultHandle context, ResultHandle deserializer) {
+        AssignableResultHandle value = method.createVariable(DescriptorUtils.typeToString(type));
+        BytecodeCreator slowPath;
+        if (type.kind() == Type.Kind.PRIMITIVE) {
+            PrimitiveType.Primitive primitive = type.asPrimitiveType().primitive();
+            switch (primitive) {
+                case INT:
+                    slowPath = readIfToken(method, value, token, VALUE_NUMBER_INT, parser, GET_INT_VALUE);
+                    break;
+                case LONG:
+                    slowPath = readIfToken(method, value, token, VALUE_NUMBER_INT, parser, GET_LONG_VALUE);
+                    break;
+                case DOUBLE:
+                    slowPath = readIfToken(method, value, token, VALUE_NUMBER_FLOAT, parser, GET_DOUBLE_VALUE);
+                    break;
+                case BOOLEAN:
+                    BranchResult isTrue = method.ifReferencesEqual(token, method.readStaticField(VALUE_TRUE));
+                    isTrue.trueBranch().assign(value, isTrue.trueBranch().load(true));
+                    BytecodeCreator notTrue = isTrue.falseBranch();
+                    BranchResult isFalse = notTrue.ifReferencesEqual(token, notTrue.readStaticField(VALUE_FALSE));
+                    isFalse.trueBranch().assign(value, isFalse.trueBranch().load(false));
+                    slowPath = isFalse.falseBranch();
+                    break;
+                default:
+                    slowPath = method;
+            }
+            Class<?> wrapper = WRAPPERS.get(primitive);
+            ResultHandle wrapped = slowPath.checkCast(deserializeValue(slowPath, token, parser, context, deserializer),
+                    wrapper);
+            String primitiveName = primitive.name().toLowerCase(Locale.ROOT);
+            slowPath.assign(value, slowPath.invokeVirtualMethod(
+                    MethodDescriptor.ofMethod(wrapper, primitiveName + "Value", primitiveName), wrapped));
+            return value;
+        }
+        if (type.kind() == Type.Kind.CLASS && type.name().equals(STRING)) {
+            slowPath = readIfToken(method, value, token, VALUE_STRING, parser, GET_TEXT);
+        } else {
+            slowPath = method;
+        }
+        slowPath.assign(value, slowPath.checkCast(deserializeValue(slowPath, token, parser, context, deserializer),
+                DescriptorUtils.typeToString(type)));
+        return value;
+    }
+
+    /**
+     * @return the branch executed when the current token is not the expected one
+     */
+    private static BytecodeCreator readIfToken(BytecodeCreator method, AssignableResultHandle value, ResultHandle token,
+            FieldDescriptor expected, ResultHandle parser, MethodDescriptor read) {
+        BranchResult expectedToken = method.ifReferencesEqual(token, method.readStaticField(expected));
+        expectedToken.trueBranch().assign(value, expectedToken.trueBranch().invokeVirtualMethod(read, parser));
+        return expectedToken.falseBranch();
+    }
+
+    // the null values are handled like in the bean deserializers
+    private static ResultHandle deserializeValue(BytecodeCreator method, ResultHandle token, ResultHandle parser,
+            ResultHandle context, ResultHandle deserializer) {
+        AssignableResultHandle value = method.createVariable(Object.class);
+        BranchResult isNull = method.ifReferencesEqual(token, method.readStaticField(VALUE_NULL));
+        isNull.trueBranch().assign(value, isNull.trueBranch().invokeVirtualMethod(GET_NULL_VALUE, deserializer, context));
+        isNull.falseBranch().assign(value,
+                isNull.falseBranch().invokeVirtualMethod(DESERIALIZE, deserializer, parser, context));
+        return value;
+    }
+
+    private static ResultHandle javaType(BytecodeCreator method, ResultHandle typeFactory, Type type) {
+        if (type.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+            List<Type> arguments = type.asParameterizedType().arguments();
+            ResultHandle parameters = method.newArray(JavaType.class, arguments.size());
+            for (int i = 0; i < arguments.size(); i++) {
+                method.writeArrayValue(parameters, i, javaType(method, typeFactory, arguments.get(i)));
+            }
+            return method.invokeVirtualMethod(CONSTRUCT_PARAMETRIC_TYPE, typeFactory,
+                    method.loadClass(type.name().toString()), parameters);
+        }
+        return method.invokeVirtualMethod(CONSTRUCT_TYPE, typeFactory, loadClass(method, type));
+    }
+
+    private static ResultHandle loadClass(BytecodeCreator method, Type type) {
+        if (type.kind() == Type.Kind.PRIMITIVE) {
+            return method.readStaticField(FieldDescriptor.of(WRAPPERS.get(type.asPrimitiveType().primitive()), "TYPE",
+                    Class.class));
+        }
+        return method.loadClass(type.kind() == Type.Kind.ARRAY ? DescriptorUtils.typeToString(type).replace('/', '.')
+                : type.name().toString());
+    }
+
+    /**
+     * Jackson also creates the beans with the single argument constructors and the static {@code valueOf} and
+     * {@code fromString} methods, e.g. from a JSON string.
+     */
+    private static boolean hasOnlyNoArgsCreator(ClassInfo classInfo) {
+        boolean noArgs = false;
+        for (MethodInfo method : classInfo.methods()) {
+            if (method.isConstructor()) {
+                if (method.parametersCount() == 0) {
+                    noArgs = Modifier.isPublic(method.flags());
+                } else if (method.parametersCount() == 1) {
+                    return false;
+                }
+            } else if (Modifier.isStatic(method.flags()) && method.parametersCount() == 1
+                    && (method.name().equals("valueOf") || method.name().equals("fromString"))) {
+                return false;
+            }
+        }
+        return noArgs;
+    }
+
+    // the type variables and the wildcards would need the resolution of the type bindings done by Jackson
+    private static boolean isSupportedType(Type type) {
+        switch (type.kind()) {
+            case PRIMITIVE:
+            case CLASS:
+                return true;
+            case ARRAY:
+                Type constituent = type.asArrayType().constituent();
+                return constituent.kind() != Type.Kind.PARAMETERIZED_TYPE && isSupportedType(constituent);
+            case PARAMETERIZED_TYPE:
+                for (Type argument : type.asParameterizedType().arguments()) {
+                    if (argument.kind() == Type.Kind.PRIMITIVE || !isSupportedType(argument)) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isUpdatableThroughGetter(Type type) {
+        return type.kind() == Type.Kind.PARAMETERIZED_TYPE || type.name().toString().startsWith("java.util.");
+    }
+
+    private static FieldDescriptor token(String name) {
+        return FieldDescriptor.of(JsonToken.class, name, JsonToken.class);
+    }
+}
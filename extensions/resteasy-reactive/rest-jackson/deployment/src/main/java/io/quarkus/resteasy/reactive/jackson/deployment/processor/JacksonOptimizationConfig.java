@@ -0,0 +1,21 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "quarkus.rest.jackson.optimization")
+@ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+public interface JacksonOptimizationConfig {
+
+    /**
+     * If enabled, Quarkus generates at build time the Jackson serializers and deserializers of the types returned and
+     * consumed by the REST endpoints, so that the plain Java beans are serialized and deserialized without reflection.
+     * <p>
+     * The classes that cannot be handled by the generated code, e.g. classes customized with Jackson annotations, are
+     * still serialized and deserialized by Jackson through reflection.
+     */
+    @WithDefault("false")
+    boolean enableReflectionFreeSerializers();
+}
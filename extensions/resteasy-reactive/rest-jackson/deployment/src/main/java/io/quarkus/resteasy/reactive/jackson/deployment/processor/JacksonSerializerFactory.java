@@ -0,0 +1,214 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_STATIC;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import io.quarkus.gizmo.BranchResult;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+
+/**
+ * Generates a {@link StdSerializer} per supported class, that writes the properties of the class with direct calls to
+ * its getters and fields.
+ * <p>
+ * The values of the primitive and {@code String} properties are written directly to the {@link JsonGenerator}, the
+ * other values are serialized by the serializers that Jackson finds for their runtime type.
+ */
+public class JacksonSerializerFactory extends JacksonCodeGenerator {
+
+    static final String SUFFIX = "$quarkusjacksonserializer";
+
+    private static final DotName STRING = DotName.createSimple(String.class.getName());
+
+    private static final MethodDescriptor STD_SERIALIZER_CTOR = MethodDescriptor.ofConstructor(StdSerializer.class,
+            Class.class);
+    private static final MethodDescriptor SERIALIZED_STRING_CTOR = MethodDescriptor.ofConstructor(SerializedString.class,
+            String.class);
+    private static final MethodDescriptor WRITE_START_OBJECT = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeStartObject", void.class, Object.class);
+    private static final MethodDescriptor WRITE_END_OBJECT = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeEndObject", void.class);
+    private static final MethodDescriptor SET_CURRENT_VALUE = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "setCurrentValue", void.class, Object.class);
+    private static final MethodDescriptor WRITE_FIELD_NAME = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeFieldName", void.class, SerializableString.class);
+    private static final MethodDescriptor WRITE_STRING = MethodDescriptor.ofMethod(JsonGenerator.class, "writeString",
+            void.class, String.class);
+    private static final MethodDescriptor WRITE_INT = MethodDescriptor.ofMethod(JsonGenerator.class, "writeNumber",
+            void.class, int.class);
+    private static final MethodDescriptor WRITE_LONG = MethodDescriptor.ofMethod(JsonGenerator.class, "writeNumber",
+            void.class, long.class);
+    private static final MethodDescriptor WRITE_FLOAT = MethodDescriptor.ofMethod(JsonGenerator.class, "writeNumber",
+            void.class, float.class);
+    private static final MethodDescriptor WRITE_DOUBLE = MethodDescriptor.ofMethod(JsonGenerator.class, "writeNumber",
+            void.class, double.class);
+    private static final MethodDescriptor WRITE_BOOLEAN = MethodDescriptor.ofMethod(JsonGenerator.class, "writeBoolean",
+            void.class, boolean.class);
+    private static final MethodDescriptor DEFAULT_SERIALIZE_VALUE = MethodDescriptor.ofMethod(SerializerProvider.class,
+            "defaultSerializeValue", void.class, Object.class, JsonGenerator.class);
+    private static final MethodDescriptor DEFAULT_SERIALIZE_NULL = MethodDescriptor.ofMethod(SerializerProvider.class,
+            "defaultSerializeNull", void.class, JsonGenerator.class);
+    private static final MethodDescriptor TYPE_ID = MethodDescriptor.ofMethod(TypeSerializer.class, "typeId",
+            WritableTypeId.class, Object.class, JsonToken.class);
+    private static final MethodDescriptor WRITE_TYPE_PREFIX = MethodDescriptor.ofMethod(TypeSerializer.class,
+            "writeTypePrefix", WritableTypeId.class, JsonGenerator.class, WritableTypeId.class);
+    private static final MethodDescriptor WRITE_TYPE_SUFFIX = MethodDescriptor.ofMethod(TypeSerializer.class,
+            "writeTypeSuffix", WritableTypeId.class, JsonGenerator.class, WritableTypeId.class);
+    private static final MethodDescriptor CHARACTER_VALUE_OF = MethodDescriptor.ofMethod(Character.class, "valueOf",
+            Character.class, char.class);
+    private static final FieldDescriptor START_OBJECT = FieldDescriptor.of(JsonToken.class, "START_OBJECT", JsonToken.class);
+
+    public JacksonSerializerFactory(ClassOutput classOutput, IndexView index) {
+        super(classOutput, index);
+    }
+
+    @Override
+    String suffix() {
+        return SUFFIX;
+    }
+
+    @Override
+    boolean generate(ClassInfo classInfo, String className, List<Property> properties) {
+        List<Property> readable = new ArrayList<>();
+        for (Property property : properties) {
+            if (property.isReadable()) {
+                readable.add(property);
+            }
+        }
+        if (readable.isEmpty()) {
+            // Jackson fails or writes an empty object, depending on SerializationFeature.FAIL_ON_EMPTY_BEANS
+            return false;
+        }
+        String beanClassName = classInfo.name().toString();
+
+        try (ClassCreator classCreator = ClassCreator.builder().classOutput(classOutput).className(className)
+                .superClass(StdSerializer.class).setFinal(true).build()) {
+
+            // the names of the properties are encoded once
+            List<FieldDescriptor> names = new ArrayList<>(readable.size());
+            MethodCreator clinit = classCreator.getMethodCreator(MethodDescriptor.CLINIT, void.class);
+            clinit.setModifiers(ACC_STATIC);
+            for (int i = 0; i < readable.size(); i++) {
+                FieldDescriptor name = classCreator.getFieldCreator("NAME_" + i, SerializedString.class)
+                        .setModifiers(ACC_PRIVATE | ACC_STATIC | ACC_FINAL).getFieldDescriptor();
+                clinit.writeStaticField(name,
+                        clinit.newInstance(SERIALIZED_STRING_CTOR, clinit.load(readable.get(i).name)));
+                names.add(name);
+            }
+            clinit.returnValue(null);
+
+            MethodCreator ctor = classCreator.getMethodCreator(MethodDescriptor.INIT, void.class);
+            ctor.invokeSpecialMethod(STD_SERIALIZER_CTOR, ctor.getThis(), ctor.loadClass(beanClassName));
+            ctor.returnValue(null);
+
+            MethodCreator writeProperties = classCreator.getMethodCreator("writeProperties", void.class, beanClassName,
+                    JsonGenerator.class, SerializerProvider.class);
+            writeProperties.setModifiers(ACC_PRIVATE | ACC_STATIC);
+            writeProperties.addException(IOException.class);
+            ResultHandle bean = writeProperties.getMethodParam(0);
+            ResultHandle generator = writeProperties.getMethodParam(1);
+            ResultHandle provider = writeProperties.getMethodParam(2);
+            for (int i = 0; i < readable.size(); i++) {
+                Property property = readable.get(i);
+                writeProperties.invokeVirtualMethod(WRITE_FIELD_NAME, generator, writeProperties.readStaticField(names.get(i)));
+                ResultHandle value = property.getter != null
+                        ? writeProperties.invokeVirtualMethod(MethodDescriptor.of(property.getter), bean)
+                        : writeProperties.readInstanceField(FieldDescriptor.of(property.field), bean);
+                writeValue(writeProperties, property.readType(), value, generator, provider);
+            }
+            writeProperties.returnValue(null);
+            MethodDescriptor writePropertiesDescriptor = writeProperties.getMethodDescriptor();
+
+            MethodCreator serialize = classCreator.getMethodCreator("serialize", void.class, Object.class,
+                    JsonGenerator.class, SerializerProvider.class);
+            serialize.addException(IOException.class);
+            bean = serialize.checkCast(serialize.getMethodParam(0), beanClassName);
+            generator = serialize.getMethodParam(1);
+            serialize.invokeVirtualMethod(WRITE_START_OBJECT, generator, bean);
+            serialize.invokeStaticMethod(writePropertiesDescriptor, bean, generator, serialize.getMethodParam(2));
+            serialize.invokeVirtualMethod(WRITE_END_OBJECT, generator);
+            serialize.returnValue(null);
+
+            // used when the type id is written, e.g. with the default typing of the mapper
+            MethodCreator serializeWithType = classCreator.getMethodCreator("serializeWithType", void.class, Object.class,
+                    JsonGenerator.class, SerializerProvider.class, TypeSerializer.class);
+            serializeWithType.addException(IOException.class);
+            bean = serializeWithType.checkCast(serializeWithType.getMethodParam(0), beanClassName);
+            generator = serializeWithType.getMethodParam(1);
+            ResultHandle typeSerializer = serializeWithType.getMethodParam(3);
+            ResultHandle typeId = serializeWithType.invokeVirtualMethod(TYPE_ID, typeSerializer, bean,
+                    serializeWithType.readStaticField(START_OBJECT));
+            serializeWithType.invokeVirtualMethod(WRITE_TYPE_PREFIX, typeSerializer, generator, typeId);
+            serializeWithType.invokeVirtualMethod(SET_CURRENT_VALUE, generator, bean);
+            serializeWithType.invokeStaticMethod(writePropertiesDescriptor, bean, generator,
+                    serializeWithType.getMethodParam(2));
+            serializeWithType.invokeVirtualMethod(WRITE_TYPE_SUFFIX, typeSerializer, generator, typeId);
+            serializeWithType.returnValue(null);
+        }
+        return true;
+    }
+
+    private static void writeValue(MethodCreator method, Type type, ResultHandle value, ResultHandle generator,
+            ResultHandle provider) {
+        if (type.kind() == Type.Kind.PRIMITIVE) {
+            PrimitiveType.Primitive primitive = type.asPrimitiveType().primitive();
+            switch (primitive) {
+                case BOOLEAN:
+                    method.invokeVirtualMethod(WRITE_BOOLEAN, generator, value);
+                    return;
+                case BYTE:
+                case SHORT:
+                case INT:
+                    method.invokeVirtualMethod(WRITE_INT, generator, value);
+                    return;
+                case LONG:
+                    method.invokeVirtualMethod(WRITE_LONG, generator, value);
+                    return;
+                case FLOAT:
+                    method.invokeVirtualMethod(WRITE_FLOAT, generator, value);
+                    return;
+                case DOUBLE:
+                    method.invokeVirtualMethod(WRITE_DOUBLE, generator, value);
+                    return;
+                case CHAR:
+                    method.invokeVirtualMethod(DEFAULT_SERIALIZE_VALUE, provider,
+                            method.invokeStaticMethod(CHARACTER_VALUE_OF, value), generator);
+                    return;
+                default:
+                    throw new IllegalArgumentException("Unsupported primitive type " + primitive);
+            }
+        }
+        if (type.kind() == Type.Kind.CLASS && type.name().equals(STRING)) {
+            BranchResult isNull = method.ifNull(value);
+            isNull.trueBranch().invokeVirtualMethod(DEFAULT_SERIALIZE_NULL, provider, generator);
+            isNull.falseBranch().invokeVirtualMethod(WRITE_STRING, generator, value);
+            return;
+        }
+        // the null values are handled by the provider too
+        method.invokeVirtualMethod(DEFAULT_SERIALIZE_VALUE, provider, value, generator);
+    }
+}
@@ -35,6 +35,8 @@
 import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.common.model.MethodParameter;
+import org.jboss.resteasy.reactive.common.model.ParameterType;
 import org.jboss.resteasy.reactive.common.model.ResourceMethod;
 import org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames;
 import org.jboss.resteasy.reactive.server.util.MethodId;
@@ -50,6 +52,7 @@
 import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Consume;
@@ -57,9 +60,11 @@
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.RuntimeConfigSetupCompleteBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.gizmo.ClassOutput;
 import io.quarkus.resteasy.reactive.common.deployment.JaxRsResourceIndexBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.QuarkusResteasyReactiveDotNames;
 import io.quarkus.resteasy.reactive.common.deployment.ResourceScanningResultBuildItem;
@@ -77,6 +82,7 @@
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.BasicServerJacksonMessageBodyWriter;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.FullyFeaturedServerJacksonMessageBodyReader;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.FullyFeaturedServerJacksonMessageBodyWriter;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedSerializersRegister;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.ServerJacksonMessageBodyReader;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.vertx.VertxJsonArrayMessageBodyReader;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.vertx.VertxJsonArrayMessageBodyWriter;
@@ -330,6 +336,83 @@ void handleJsonAnnotations(Optional<ResourceScanningResultBuildItem> resourceSca
         }
     }
 
+    @Record(ExecutionTime.STATIC_INIT)
+    @BuildStep
+    public void generateSerializers(JacksonOptimizationConfig optimization,
+            ResteasyReactiveResourceMethodEntriesBuildItem resourceMethodEntries,
+            CombinedIndexBuildItem index,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClassProducer,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeans,
+            ResteasyReactiveServerJacksonRecorder recorder, ShutdownContextBuildItem shutdown) {
+        if (!optimization.enableReflectionFreeSerializers()) {
+            return;
+        }
+        IndexView indexView = index.getIndex();
+
+        // the types written and read by the endpoints, and the types of their properties
+        Set<DotName> visited = new HashSet<>();
+        List<Type> types = new ArrayList<>();
+        for (ResteasyReactiveResourceMethodEntriesBuildItem.Entry entry : resourceMethodEntries.getEntries()) {
+            MethodInfo methodInfo = entry.getMethodInfo();
+            types.add(methodInfo.returnType());
+            MethodParameter[] parameters = entry.getResourceMethod().getParameters();
+            if (parameters.length == methodInfo.parametersCount()) {
+                for (int i = 0; i < parameters.length; i++) {
+                    if (parameters[i].parameterType == ParameterType.BODY) {
+                        types.add(methodInfo.parameterType(i));
+                    }
+                }
+            }
+        }
+
+        ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClasses, true);
+        JacksonSerializerFactory serializerFactory = new JacksonSerializerFactory(classOutput, indexView);
+        JacksonDeserializerFactory deserializerFactory = new JacksonDeserializerFactory(classOutput, indexView);
+        List<String> generated = new ArrayList<>();
+        while (!types.isEmpty()) {
+            Type type = types.remove(types.size() - 1);
+            switch (type.kind()) {
+                case PARAMETERIZED_TYPE:
+                    // e.g. Uni<T>, List<T> or Map<K, V>
+                    types.addAll(type.asParameterizedType().arguments());
+                    break;
+                case ARRAY:
+                    types.add(type.asArrayType().constituent());
+                    break;
+                case CLASS:
+                    if (!visited.add(type.name())) {
+                        break;
+                    }
+                    ClassInfo classInfo = indexView.getClassByName(type.name());
+                    if (classInfo == null) {
+                        break;
+                    }
+                    Optional<String> serializer = serializerFactory.create(classInfo);
+                    if (serializer.isPresent()) {
+                        recorder.recordGeneratedSerializer(serializer.get());
+                        generated.add(serializer.get());
+                    }
+                    Optional<String> deserializer = deserializerFactory.create(classInfo);
+                    if (deserializer.isPresent()) {
+                        recorder.recordGeneratedDeserializer(deserializer.get());
+                        generated.add(deserializer.get());
+                    }
+                    types.addAll(serializerFactory.propertyTypes(classInfo));
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        if (!generated.isEmpty()) {
+            reflectiveClassProducer.produce(ReflectiveClassBuildItem.builder(generated.toArray(EMPTY_STRING_ARRAY))
+                    .build());
+            additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(GeneratedSerializersRegister.class));
+            recorder.configureShutdown(shutdown);
+        }
+    }
+
     @Record(ExecutionTime.STATIC_INIT)
     @BuildStep
     public void resolveRolesAllowedConfigExpressions(BuildProducer<RolesAllowedConfigExpResolverBuildItem> resolverProducer,
@@ -0,0 +1,176 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.RestAssured.when;
+import static org.hamcrest.CoreMatchers.equalTo;
+
+import java.util.List;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.http.ContentType;
+
+public class ReflectionFreeSerializersTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(Book.class, Author.class, Annotated.class, BookResource.class))
+            .overrideConfigKey("quarkus.rest.jackson.optimization.enable-reflection-free-serializers", "true");
+
+    @Test
+    public void testSerialization() {
+        when().get("/books")
+                .then()
+                .statusCode(200)
+                .contentType(ContentType.JSON)
+                .body(equalTo("[{\"title\":\"Dune\",\"pages\":412,\"available\":true,\"author\":{\"name\":\"Frank Herbert\"}}]"));
+    }
+
+    @Test
+    public void testDeserialization() {
+        given().body("{\"title\":\"Dune\",\"pages\":412,\"available\":true,\"author\":{\"name\":\"Frank Herbert\"}}")
+                .contentType(ContentType.JSON)
+                .post("/books")
+                .then()
+                .statusCode(200)
+                .body(equalTo("Dune by Frank Herbert, 412 pages"));
+    }
+
+    @Test
+    public void testUnknownProperty() {
+        given().body("{\"title\":\"Dune\",\"isbn\":\"978-0441013593\"}")
+                .contentType(ContentType.JSON)
+                .post("/books")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    public void testGeneratedSerializers() {
+        when().get("/books/serializer")
+                .then()
+                .statusCode(200)
+                .body(equalTo(Book.class.getName() + "$quarkusjacksonserializer"));
+        when().get("/books/deserializer")
+                .then()
+                .statusCode(200)
+                .body(equalTo(Author.class.getName() + "$quarkusjacksondeserializer"));
+    }
+
+    @Test
+    public void testAnnotatedClass() {
+        when().get("/books/annotated")
+                .then()
+                .statusCode(200)
+                .body(equalTo("{\"label\":\"value\"}"));
+    }
+
+    @Path("/books")
+    public static class BookResource {
+
+        @Inject
+        ObjectMapper objectMapper;
+
+        @GET
+        public List<Book> books() {
+            Book book = new Book();
+            book.setTitle("Dune");
+            book.setPages(412);
+            book.setAvailable(true);
+            Author author = new Author();
+            author.name = "Frank Herbert";
+            book.setAuthor(author);
+            return List.of(book);
+        }
+
+        @POST
+        public String add(Book book) {
+            return book.getTitle() + " by " + book.getAuthor().name + ", " + book.getPages() + " pages";
+        }
+
+        @GET
+        @Path("/annotated")
+        public Annotated annotated() {
+            Annotated annotated = new Annotated();
+            annotated.value = "value";
+            return annotated;
+        }
+
+        @GET
+        @Path("/serializer")
+        public String serializer() throws Exception {
+            return objectMapper.getSerializerProviderInstance().findValueSerializer(Book.class).getClass().getName();
+        }
+
+        @GET
+        @Path("/deserializer")
+        public String deserializer() throws Exception {
+            DeserializationContext context = ((DefaultDeserializationContext) objectMapper.getDeserializationContext())
+                    .createInstance(objectMapper.getDeserializationConfig(), null, null);
+            return context.findRootValueDeserializer(objectMapper.constructType(Author.class)).getClass().getName();
+        }
+    }
+
+    public static class Book {
+
+        private String title;
+        private int pages;
+        private boolean available;
+        private Author author;
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        public int getPages() {
+            return pages;
+        }
+
+        public void setPages(int pages) {
+            this.pages = pages;
+        }
+
+        public boolean isAvailable() {
+            return available;
+        }
+
+        public void setAvailable(boolean available) {
+            this.available = available;
+        }
+
+        public Author getAuthor() {
+            return author;
+        }
+
+        public void setAuthor(Author author) {
+            this.author = author;
+        }
+    }
+
+    public static class Author {
+
+        public String name;
+    }
+
+    public static class Annotated {
+
+        @JsonProperty("label")
+        public String value;
+    }
+}
@@ -2,7 +2,9 @@
 
 import java.lang.reflect.Type;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
@@ -24,6 +26,8 @@ public class ResteasyReactiveServerJacksonRecorder {
     private static final Map<String, Class<?>> jsonViewMap = new HashMap<>();
     private static final Map<String, Class<?>> customSerializationMap = new HashMap<>();
     private static final Map<String, Class<?>> customDeserializationMap = new HashMap<>();
+    private static final Set<Class<?>> generatedSerializers = new HashSet<>();
+    private static final Set<Class<?>> generatedDeserializers = new HashSet<>();
 
     /* STATIC INIT */
     public RuntimeValue<Map<String, Supplier<String[]>>> createConfigExpToAllowedRoles() {
@@ -76,6 +80,14 @@ public void recordCustomDeserialization(String target, String className) {
         customDeserializationMap.put(target, loadClass(className));
     }
 
+    public void recordGeneratedSerializer(String className) {
+        generatedSerializers.add(loadClass(className));
+    }
+
+    public void recordGeneratedDeserializer(String className) {
+        generatedDeserializers.add(loadClass(className));
+    }
+
     public void configureShutdown(ShutdownContext shutdownContext) {
         shutdownContext.addShutdownTask(new Runnable() {
             @Override
@@ -83,6 +95,8 @@ public void run() {
                 jsonViewMap.clear();
                 customSerializationMap.clear();
                 customDeserializationMap.clear();
+                generatedSerializers.clear();
+                generatedDeserializers.clear();
             }
         });
     }
@@ -116,6 +130,14 @@ public static Class<? extends BiFunction<ObjectMapper, Type, ObjectReader>> cust
         return (Class<? extends BiFunction<ObjectMapper, Type, ObjectReader>>) customDeserializationMap.get(clazz.getName());
     }
 
+    public static Set<Class<?>> generatedSerializers() {
+        return generatedSerializers;
+    }
+
+    public static Set<Class<?>> generatedDeserializers() {
+        return generatedDeserializers;
+    }
+
     private Class<?> loadClass(String className) {
         try {
             return Thread.currentThread().getContextClassLoader().loadClass(className);
@@ -0,0 +1,118 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.introspect.VisibilityChecker;
+import com.fasterxml.jackson.databind.ser.Serializers;
+
+/**
+ * Registers the serializers and deserializers generated at build time for the plain Java beans used by the REST endpoints.
+ * <p>
+ * The generated code follows the default bean introspection of Jackson. A generated serializer or deserializer is thus
+ * only used for the exact class it was generated for, and only if the mapper does not change how the properties of the
+ * beans are discovered, named or included, e.g. with a naming strategy or a mix-in. Otherwise Jackson falls back to its
+ * reflective bean serializers and deserializers.
+ */
+public class GeneratedSerializersModule extends Module {
+
+    private final Map<Class<?>, JsonSerializer<?>> serializers = new HashMap<>();
+    private final Map<Class<?>, JsonDeserializer<?>> deserializers = new HashMap<>();
+
+    public GeneratedSerializersModule addSerializer(JsonSerializer<?> serializer) {
+        serializers.put(serializer.handledType(), serializer);
+        return this;
+    }
+
+    public GeneratedSerializersModule addDeserializer(JsonDeserializer<?> deserializer) {
+        deserializers.put(deserializer.handledType(), deserializer);
+        return this;
+    }
+
+    @Override
+    public String getModuleName() {
+        return "quarkus-rest-jackson-generated-serializers";
+    }
+
+    @Override
+    public Version version() {
+        return Version.unknownVersion();
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        if (!serializers.isEmpty()) {
+            context.addSerializers(new GeneratedSerializers());
+        }
+        if (!deserializers.isEmpty()) {
+            context.addDeserializers(new GeneratedDeserializers());
+        }
+    }
+
+    private static boolean hasDefaultIntrospection(MapperConfig<?> config, JavaType type) {
+        return config.getPropertyNamingStrategy() == null
+                && config.findMixInClassFor(type.getRawClass()) == null
+                && config.findConfigOverride(type.getRawClass()) == null
+                // the type ids of the values depend on the declared types of the properties
+                && config.getDefaultTyper(type) == null
+                && config.getDefaultVisibilityChecker() == VisibilityChecker.Std.defaultInstance()
+                && !config.isEnabled(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                && !config.isEnabled(MapperFeature.USE_STD_BEAN_NAMING)
+                && !config.isEnabled(MapperFeature.PROPAGATE_TRANSIENT_MARKER)
+                && config.isEnabled(MapperFeature.DEFAULT_VIEW_INCLUSION);
+    }
+
+    private static boolean isIncludedAlways(JsonInclude.Include include) {
+        return include == JsonInclude.Include.ALWAYS || include == JsonInclude.Include.USE_DEFAULTS;
+    }
+
+    private final class GeneratedSerializers extends Serializers.Base {
+
+        @Override
+        public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+            JsonSerializer<?> serializer = serializers.get(type.getRawClass());
+            if (serializer == null || !hasDefaultIntrospection(config, type)
+                    || config.isEnabled(MapperFeature.REQUIRE_SETTERS_FOR_GETTERS)) {
+                return null;
+            }
+            JsonInclude.Value inclusion = config.getDefaultPropertyInclusion();
+            if (!isIncludedAlways(inclusion.getValueInclusion()) || !isIncludedAlways(inclusion.getContentInclusion())) {
+                return null;
+            }
+            return serializer;
+        }
+    }
+
+    private final class GeneratedDeserializers extends Deserializers.Base {
+
+        @Override
+        public JsonDeserializer<?> findBeanDeserializer(JavaType type, DeserializationConfig config,
+                BeanDescription beanDesc) {
+            JsonDeserializer<?> deserializer = deserializers.get(type.getRawClass());
+            if (deserializer == null || !hasDefaultIntrospection(config, type)
+                    || config.isEnabled(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES)
+                    || config.isEnabled(DeserializationFeature.UNWRAP_SINGLE_VALUE_ARRAYS)) {
+                return null;
+            }
+            return deserializer;
+        }
+
+        @Override
+        public boolean hasDeserializerFor(DeserializationConfig config, Class<?> valueType) {
+            return deserializers.containsKey(valueType);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import jakarta.inject.Singleton;
+
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import io.quarkus.resteasy.reactive.jackson.runtime.ResteasyReactiveServerJacksonRecorder;
+
+@Singleton
+public class GeneratedSerializersRegister implements ObjectMapperCustomizer {
+
+    @Override
+    public void customize(ObjectMapper objectMapper) {
+        GeneratedSerializersModule module = new GeneratedSerializersModule();
+        for (Class<?> serializerClass : ResteasyReactiveServerJacksonRecorder.generatedSerializers()) {
+            module.addSerializer((JsonSerializer<?>) newInstance(serializerClass));
+        }
+        for (Class<?> deserializerClass : ResteasyReactiveServerJacksonRecorder.generatedDeserializers()) {
+            module.addDeserializer((JsonDeserializer<?>) newInstance(deserializerClass));
+        }
+        objectMapper.registerModule(module);
+    }
+
+    @Override
+    public int priority() {
+        // the module is registered right after the configuration of the mapper is applied, so that the serializers of the
+        // modules registered by the application and by the other extensions take precedence over the generated ones
+        return MAXIMUM_PRIORITY - 1;
+    }
+
+    private static Object newInstance(Class<?> clazz) {
+        try {
+            return clazz.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create instance of " + clazz.getName(), e);
+        }
+    }
+}
@@ -7,11 +7,15 @@
 import java.util.List;
 import java.util.Map;
 
+import jakarta.ws.rs.container.ContainerResponseFilter;
+
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.ParameterizedType;
 import org.jboss.jandex.Type;
+import org.jboss.resteasy.reactive.common.model.InterceptorContainer;
+import org.jboss.resteasy.reactive.common.model.ResourceInterceptor;
 import org.jboss.resteasy.reactive.server.handlers.UniResponseHandler;
 import org.jboss.resteasy.reactive.server.model.FixedHandlersChainCustomizer;
 import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer;
@@ -23,6 +27,7 @@
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyIgnoreWarningBuildItem;
 import io.quarkus.qute.TemplateInstance;
+import io.quarkus.resteasy.reactive.common.deployment.ResourceInterceptorsBuildItem;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseFilter;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseUniHandler;
 import io.quarkus.resteasy.reactive.server.spi.MethodScannerBuildItem;
@@ -32,6 +37,7 @@
 public class ResteasyReactiveQuteProcessor {
 
     private static final DotName TEMPLATE_INSTANCE = DotName.createSimple(TemplateInstance.class.getName());
+    private static final DotName TEMPLATE_RESPONSE_FILTER = DotName.createSimple(TemplateResponseFilter.class.getName());
 
     @BuildStep
     FeatureBuildItem feature() {
@@ -57,7 +63,9 @@ void nonBlockingTemplateInstance(RestQuteConfig config, BuildProducer<NonBlockin
     }
 
     @BuildStep
-    public MethodScannerBuildItem configureHandler() {
+    public MethodScannerBuildItem configureHandler(ResourceInterceptorsBuildItem resourceInterceptors) {
+        boolean responseFilters = hasResponseFilters(
+                resourceInterceptors.getResourceInterceptors().getContainerResponseFilters());
         return new MethodScannerBuildItem(new MethodScanner() {
             @Override
             public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndpointClass,
@@ -68,7 +76,7 @@ public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndp
                     // the reason why we use AFTER_METHOD_INVOKE_SECOND_ROUND is to be able to properly support Uni<TemplateInstance>
                     return Collections.singletonList(
                             new FixedHandlersChainCustomizer(
-                                    List.of(new TemplateResponseUniHandler(), new UniResponseHandler()),
+                                    List.of(new TemplateResponseUniHandler(responseFilters), new UniResponseHandler()),
                                     HandlerChainCustomizer.Phase.AFTER_METHOD_INVOKE_SECOND_ROUND));
                 }
                 return Collections.emptyList();
@@ -88,4 +96,30 @@ private boolean isAsyncTemplateInstance(Type type) {
             }
         });
     }
+
+    /**
+     * The filter generated from {@link TemplateResponseFilter} only handles the {@link TemplateInstance} entities, any other
+     * response filter needs the rendered template as a {@link String} entity.
+     */
+    private static boolean hasResponseFilters(InterceptorContainer<ContainerResponseFilter> filters) {
+        for (ResourceInterceptor<ContainerResponseFilter> filter : filters.getGlobalResourceInterceptors()) {
+            if (!isTemplateResponseFilter(filter)) {
+                return true;
+            }
+        }
+        for (ResourceInterceptor<ContainerResponseFilter> filter : filters.getNameResourceInterceptors()) {
+            if (!isTemplateResponseFilter(filter)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isTemplateResponseFilter(ResourceInterceptor<ContainerResponseFilter> filter) {
+        if (filter.metadata == null) {
+            return false;
+        }
+        MethodInfo filterSourceMethod = (MethodInfo) filter.metadata.get(ResourceInterceptor.FILTER_SOURCE_METHOD_METADATA_KEY);
+        return filterSourceMethod != null && filterSourceMethod.declaringClass().name().equals(TEMPLATE_RESPONSE_FILTER);
+    }
 }
@@ -0,0 +1,64 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.nio.charset.StandardCharsets;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CharsetTemplateTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClass(CafeResource.class)
+                    .addAsResource(new StringAsset("Café {name}"), "templates/cafe.txt"));
+
+    @Test
+    public void testNegotiatedCharset() {
+        byte[] latin1 = given().when().get("/cafe/latin1").then()
+                .statusCode(200)
+                .contentType("text/plain;charset=ISO-8859-1")
+                .extract().asByteArray();
+        assertArrayEquals("Café Joe".getBytes(StandardCharsets.ISO_8859_1), latin1);
+
+        byte[] utf8 = given().when().get("/cafe/utf8").then()
+                .statusCode(200)
+                .extract().asByteArray();
+        assertArrayEquals("Café Joe".getBytes(StandardCharsets.UTF_8), utf8);
+    }
+
+    @Path("cafe")
+    public static class CafeResource {
+
+        @Inject
+        Template cafe;
+
+        @GET
+        @Path("latin1")
+        @Produces("text/plain;charset=ISO-8859-1")
+        public TemplateInstance latin1() {
+            return cafe.data("name", "Joe");
+        }
+
+        @GET
+        @Path("utf8")
+        @Produces("text/plain;charset=UTF-8")
+        public TemplateInstance utf8() {
+            return cafe.data("name", "Joe");
+        }
+    }
+
+}
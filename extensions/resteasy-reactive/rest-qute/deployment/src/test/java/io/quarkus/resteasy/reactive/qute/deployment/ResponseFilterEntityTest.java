@@ -0,0 +1,62 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.given;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.core.MediaType;
+
+import org.hamcrest.Matchers;
+import org.jboss.resteasy.reactive.server.ServerResponseFilter;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ResponseFilterEntityTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(GreetingResource.class, EntityTypeFilter.class)
+                    .addAsResource(new StringAsset("Hello {name}!"), "templates/greeting.txt"));
+
+    @Test
+    public void testFiltersSeeStringEntity() {
+        given().when().get("/greeting").then()
+                .statusCode(200)
+                .header("X-Entity-Type", String.class.getName())
+                .body(Matchers.is("Hello world!"));
+    }
+
+    @Path("greeting")
+    public static class GreetingResource {
+
+        @Inject
+        Template greeting;
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public TemplateInstance get() {
+            return greeting.data("name", "world");
+        }
+    }
+
+    public static class EntityTypeFilter {
+
+        @ServerResponseFilter
+        public void filter(ContainerResponseContext responseContext) {
+            Object entity = responseContext.getEntity();
+            if (entity != null) {
+                responseContext.getHeaders().putSingle("X-Entity-Type", entity.getClass().getName());
+            }
+        }
+    }
+
+}
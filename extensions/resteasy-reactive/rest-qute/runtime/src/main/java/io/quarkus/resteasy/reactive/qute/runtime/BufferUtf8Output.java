@@ -0,0 +1,24 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import io.quarkus.qute.Utf8Output;
+import io.vertx.core.buffer.Buffer;
+
+final class BufferUtf8Output implements Utf8Output {
+
+    private final Buffer buffer = Buffer.buffer(1024);
+
+    @Override
+    public void write(byte[] bytes) {
+        buffer.appendBytes(bytes);
+    }
+
+    @Override
+    public void write(String chunk) {
+        buffer.appendString(chunk);
+    }
+
+    Buffer buffer() {
+        return buffer;
+    }
+
+}
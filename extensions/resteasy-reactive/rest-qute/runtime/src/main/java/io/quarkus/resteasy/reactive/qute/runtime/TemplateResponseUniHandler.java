@@ -3,6 +3,8 @@
 import static io.quarkus.resteasy.reactive.qute.runtime.Util.*;
 import static io.quarkus.resteasy.reactive.qute.runtime.Util.toUni;
 
+import java.nio.charset.StandardCharsets;
+
 import jakarta.ws.rs.core.MediaType;
 
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
@@ -16,6 +18,23 @@
 public class TemplateResponseUniHandler implements ServerRestHandler {
 
     private volatile Engine engine;
+    // response filters expect the rendered template as a String entity
+    private boolean responseFilters;
+
+    public TemplateResponseUniHandler() {
+    }
+
+    public TemplateResponseUniHandler(boolean responseFilters) {
+        this.responseFilters = responseFilters;
+    }
+
+    public boolean isResponseFilters() {
+        return responseFilters;
+    }
+
+    public void setResponseFilters(boolean responseFilters) {
+        this.responseFilters = responseFilters;
+    }
 
     @Override
     public void handle(ResteasyReactiveRequestContext requestContext) {
@@ -36,11 +55,21 @@ public void handle(ResteasyReactiveRequestContext requestContext) {
         requestContext.setResult(createUni(requestContext, (TemplateInstance) result, engine));
     }
 
-    private Uni<String> createUni(ResteasyReactiveRequestContext requestContext, TemplateInstance result, Engine engine) {
+    private Uni<?> createUni(ResteasyReactiveRequestContext requestContext, TemplateInstance result, Engine engine) {
         MediaType mediaType = setSelectedVariant(result, requestContext.getRequest(),
                 requestContext.getHttpHeaders().getAcceptableLanguages());
         requestContext.setResponseContentType(mediaType);
+        if (mediaType != null && isUtf8(mediaType) && !responseFilters) {
+            // The content type is known, so the message body writer selected for a String is not needed
+            return toBufferUni(result, engine);
+        }
         return toUni(result, engine);
     }
 
+    private static boolean isUtf8(MediaType mediaType) {
+        String charset = mediaType.getParameters().get(MediaType.CHARSET_PARAMETER);
+        return charset == null || StandardCharsets.UTF_8.name().equalsIgnoreCase(charset)
+                || "utf8".equalsIgnoreCase(charset);
+    }
+
 }
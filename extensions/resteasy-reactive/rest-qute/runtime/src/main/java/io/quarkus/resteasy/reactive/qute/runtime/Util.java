@@ -14,6 +14,7 @@
 import io.quarkus.qute.TemplateInstance;
 import io.quarkus.qute.Variant;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.buffer.Buffer;
 
 final class Util {
 
@@ -21,7 +22,21 @@ private Util() {
     }
 
     static Uni<String> toUni(TemplateInstance instance, Engine engine) {
-        Uni<String> uni = instance.createUni();
+        return withTimeout(instance.createUni(), instance, engine);
+    }
+
+    /**
+     * The static text of the template is not encoded again, and the output is not copied to a {@link String} first.
+     */
+    static Uni<Buffer> toBufferUni(TemplateInstance instance, Engine engine) {
+        Uni<Buffer> uni = Uni.createFrom().completionStage(() -> {
+            BufferUtf8Output output = new BufferUtf8Output();
+            return instance.consumeUtf8(output).thenApply(v -> output.buffer());
+        });
+        return withTimeout(uni, instance, engine);
+    }
+
+    private static <T> Uni<T> withTimeout(Uni<T> uni, TemplateInstance instance, Engine engine) {
         if (!engine.useAsyncTimeout()) {
             // Make sure the timeout is always used
             long timeout = instance.getTimeout();
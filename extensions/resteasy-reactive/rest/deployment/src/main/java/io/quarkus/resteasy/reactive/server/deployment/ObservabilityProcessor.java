@@ -7,6 +7,7 @@
 
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.MethodInfo;
+import org.jboss.resteasy.reactive.common.model.ResourceMethod;
 import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer;
 import org.jboss.resteasy.reactive.server.processor.scanning.MethodScanner;
 
@@ -22,6 +23,7 @@
 import io.quarkus.resteasy.reactive.server.spi.MethodScannerBuildItem;
 import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.vertx.http.deployment.FilterBuildItem;
+import io.quarkus.vertx.http.deployment.spi.RouteTemplateBuildItem;
 
 public class ObservabilityProcessor {
 
@@ -59,6 +61,30 @@ void preAuthFailureFilter(Capabilities capabilities,
         observabilityIntegrationProducer.produce(new ObservabilityIntegrationBuildItem());
     }
 
+    @BuildStep
+    void routeTemplates(Capabilities capabilities,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            ResteasyReactiveDeploymentBuildItem deployment,
+            ResteasyReactiveResourceMethodEntriesBuildItem resourceMethodEntries,
+            BuildProducer<RouteTemplateBuildItem> routeTemplates) {
+        if (!integrationNeeded(capabilities, metricsCapability)) {
+            return;
+        }
+
+        for (ResteasyReactiveResourceMethodEntriesBuildItem.Entry entry : resourceMethodEntries.getEntries()) {
+            String basePath = entry.getBasicResourceClassInfo().getPath();
+            if (basePath == null) {
+                // The path of a sub-resource depends on the locator
+                continue;
+            }
+            ResourceMethod resourceMethod = entry.getResourceMethod();
+            // The same template as the one set by ObservabilityHandler
+            String template = basePath + (resourceMethod.getPath() == null ? "" : resourceMethod.getPath());
+            template = template.replaceAll("//+", "/");
+            routeTemplates.produce(new RouteTemplateBuildItem(deployment.getApplicationPath() + template, template));
+        }
+    }
+
     private boolean integrationNeeded(Capabilities capabilities,
             Optional<MetricsCapabilityBuildItem> metricsCapability) {
         return capabilities.isPresent(Capability.OPENTELEMETRY_TRACER) ||
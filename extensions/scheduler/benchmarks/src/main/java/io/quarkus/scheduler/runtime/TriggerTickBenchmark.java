@@ -0,0 +1,154 @@
+package io.quarkus.scheduler.runtime;
+
+import java.lang.annotation.Annotation;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.NotificationOptions;
+import jakarta.enterprise.util.TypeLiteral;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cronutils.model.CronType;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.scheduler.common.runtime.ScheduledMethod;
+import io.quarkus.scheduler.common.runtime.SchedulerContext;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+
+/**
+ * Measures the trigger ticks fired by the {@link SimpleScheduler} when {@code jobs} programmatic jobs are due every
+ * millisecond, so that the trigger thread never waits for the next due job. Each operation waits for one execution, so
+ * the throughput is the number of trigger ticks per second.
+ * <p>
+ * The benchmark lives in the package of the scheduler to start and stop it the way the container does.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TriggerTickBenchmark {
+
+    @Param({ "10000" })
+    public int jobs;
+
+    private final Semaphore executions = new Semaphore(0);
+    private Vertx vertx;
+    private SimpleScheduler scheduler;
+
+    @Setup
+    public void setup() {
+        Arc.initialize();
+        vertx = Vertx.vertx();
+
+        SchedulerRuntimeConfig runtimeConfig = new SchedulerRuntimeConfig();
+        runtimeConfig.enabled = true;
+        runtimeConfig.overdueGracePeriod = Duration.ofSeconds(1);
+        runtimeConfig.startMode = Optional.empty();
+        runtimeConfig.cluster = new SchedulerRuntimeConfig.ClusterConfig();
+        SchedulerConfig config = new SchedulerConfig();
+        config.cronType = CronType.QUARTZ;
+
+        scheduler = new SimpleScheduler(new ProgrammaticOnlyContext(), runtimeConfig, new NoopEvent<>(),
+                new NoopEvent<>(), new NoopEvent<>(), new NoopEvent<>(), new NoopEvent<>(), new NoopEvent<>(),
+                new NoopEvent<>(), vertx, config, null, null, null);
+        for (int i = 0; i < jobs; i++) {
+            scheduler.newJob("job" + i)
+                    .setInterval("PT0.001S")
+                    .setAsyncTask(execution -> {
+                        executions.release();
+                        return Uni.createFrom().voidItem();
+                    })
+                    .schedule();
+        }
+        scheduler.start(null);
+    }
+
+    @Setup(Level.Iteration)
+    public void drain() {
+        executions.drainPermits();
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.stop();
+        vertx.close().toCompletionStage().toCompletableFuture().join();
+        Arc.shutdown();
+    }
+
+    @Benchmark
+    public void tick() throws InterruptedException {
+        executions.acquire();
+    }
+
+    private static class ProgrammaticOnlyContext implements SchedulerContext {
+
+        @Override
+        public CronType getCronType() {
+            return CronType.QUARTZ;
+        }
+
+        @Override
+        public List<ScheduledMethod> getScheduledMethods() {
+            return List.of();
+        }
+
+        @Override
+        public boolean forceSchedulerStart() {
+            return true;
+        }
+    }
+
+    private static class NoopEvent<T> implements Event<T> {
+
+        @Override
+        public void fire(T event) {
+        }
+
+        @Override
+        public <U extends T> CompletionStage<U> fireAsync(U event) {
+            return CompletableFuture.completedStage(event);
+        }
+
+        @Override
+        public <U extends T> CompletionStage<U> fireAsync(U event, NotificationOptions options) {
+            return CompletableFuture.completedStage(event);
+        }
+
+        @Override
+        public Event<T> select(Annotation... qualifiers) {
+            return this;
+        }
+
+        @Override
+        public <U extends T> Event<U> select(Class<U> subtype, Annotation... qualifiers) {
+            return new NoopEvent<>();
+        }
+
+        @Override
+        public <U extends T> Event<U> select(TypeLiteral<U> subtype, Annotation... qualifiers) {
+            return new NoopEvent<>();
+        }
+    }
+}
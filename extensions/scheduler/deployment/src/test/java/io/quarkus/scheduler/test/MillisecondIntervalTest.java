@@ -0,0 +1,38 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class MillisecondIntervalTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class));
+
+    @Test
+    public void testSubSecondInterval() throws InterruptedException {
+        // 20 executions every 50 ms would take 20 seconds if the triggers were only checked every second
+        assertTrue(Jobs.LATCH.await(5, TimeUnit.SECONDS));
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(20);
+
+        @Scheduled(every = "0.05s")
+        void everyFiftyMillis() {
+            LATCH.countDown();
+        }
+
+    }
+
+}
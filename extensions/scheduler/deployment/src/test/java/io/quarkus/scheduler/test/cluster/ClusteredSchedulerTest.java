@@ -0,0 +1,110 @@
+package io.quarkus.scheduler.test.cluster;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.runtime.JdbcJobStore;
+import io.quarkus.scheduler.spi.JobStore;
+import io.quarkus.scheduler.spi.JobStore.Execution;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ClusteredSchedulerTest {
+
+    static final JdbcDataSource DATA_SOURCE = new JdbcDataSource();
+
+    static {
+        DATA_SOURCE.setURL("jdbc:h2:mem:scheduler;DB_CLOSE_DELAY=-1");
+    }
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class, JobStoreProducer.class)
+                    .addAsResource(new StringAsset("quarkus.scheduler.cluster.enabled=true\n"
+                            + "quarkus.scheduler.cluster.node-id=node-1"),
+                            "application.properties"));
+
+    @Inject
+    JobStore jobStore;
+
+    @Test
+    public void testExecutionsClaimedByThisNode() throws InterruptedException, SQLException {
+        assertTrue(Jobs.LATCH.await(5, TimeUnit.SECONDS));
+        try (Connection connection = DATA_SOURCE.getConnection();
+                PreparedStatement select = connection.prepareStatement(
+                        "SELECT NODE_ID, LAST_FIRE_TIME FROM QUARKUS_SCHEDULER_JOBS WHERE JOB_ID = 'clustered'");
+                ResultSet rs = select.executeQuery()) {
+            assertTrue(rs.next());
+            assertEquals("node-1", rs.getString(1));
+            // the interval triggers of all the nodes fire at the same times
+            assertEquals(0, rs.getLong(2) % 100);
+        }
+    }
+
+    @Test
+    public void testExecutionClaimedOnce() {
+        Instant fireTime = Instant.ofEpochSecond(1000);
+        Execution execution = new Execution("claimedOnce", fireTime);
+        assertEquals(Set.of(execution), jobStore.claim("node-2", List.of(execution)));
+        assertEquals(Set.of(), jobStore.claim("node-3", List.of(execution)));
+        // an earlier execution cannot be claimed either
+        assertEquals(Set.of(), jobStore.claim("node-3", List.of(new Execution("claimedOnce", fireTime.minusSeconds(1)))));
+        Execution next = new Execution("claimedOnce", fireTime.plusSeconds(1));
+        assertEquals(Set.of(next), jobStore.claim("node-3", List.of(next)));
+    }
+
+    @Test
+    public void testLeases() {
+        Instant now = Instant.now();
+        assertEquals(Set.of("node-1", "node-2"), jobStore.renewLease("node-2", now, Duration.ofSeconds(30)));
+        jobStore.releaseLease("node-2");
+        // the lease of node-3 expired
+        jobStore.renewLease("node-3", now.minusSeconds(60), Duration.ofSeconds(30));
+        assertEquals(Set.of("node-1"), jobStore.renewLease("node-1", now, Duration.ofSeconds(30)));
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(3);
+
+        @Scheduled(identity = "clustered", every = "0.1s")
+        void clustered() {
+            LATCH.countDown();
+        }
+
+    }
+
+    static class JobStoreProducer {
+
+        @Produces
+        @Singleton
+        JobStore jobStore() {
+            JdbcJobStore jobStore = new JdbcJobStore(DATA_SOURCE, "QUARKUS_SCHEDULER_");
+            jobStore.createTables();
+            return jobStore;
+        }
+
+    }
+
+}
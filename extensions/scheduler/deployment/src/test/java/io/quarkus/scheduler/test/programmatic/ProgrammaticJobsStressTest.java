@@ -0,0 +1,83 @@
+package io.quarkus.scheduler.test.programmatic;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ProgrammaticJobsStressTest {
+
+    static final int JOBS = 10_000;
+    static final int EXECUTIONS = 3;
+    // milliseconds
+    static final long INTERVAL = 100;
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> root
+                    .addAsResource(new StringAsset("quarkus.scheduler.start-mode=forced"),
+                            "application.properties"));
+
+    @Inject
+    Scheduler scheduler;
+
+    @Test
+    public void testManyJobs() throws InterruptedException {
+        AtomicIntegerArray executions = new AtomicIntegerArray(JOBS);
+        long start = System.nanoTime();
+        for (int i = 0; i < JOBS; i++) {
+            int job = i;
+            scheduler.newJob("stress" + i)
+                    .setInterval(Duration.ofMillis(INTERVAL).toString())
+                    .setTask(ec -> executions.incrementAndGet(job))
+                    .schedule();
+        }
+        assertEquals(JOBS, scheduler.getScheduledJobs().size());
+        // every job is executed, whatever the load of the machine
+        await().atMost(Duration.ofMinutes(1)).until(() -> min(executions) >= EXECUTIONS);
+
+        for (int i = 0; i < JOBS; i++) {
+            assertNotNull(scheduler.unscheduleJob("stress" + i));
+        }
+        assertTrue(scheduler.getScheduledJobs().isEmpty());
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // jobs keep a fixed rate and never fire in bursts: the first execution, one per interval, and one that may be
+        // in flight while unscheduling
+        int[] snapshot = new int[JOBS];
+        for (int i = 0; i < JOBS; i++) {
+            snapshot[i] = executions.get(i);
+            assertTrue(snapshot[i] <= elapsed / INTERVAL + 2,
+                    "Job " + i + " executed " + snapshot[i] + " times in " + elapsed + " ms");
+        }
+
+        // unscheduled jobs are not executed anymore, except for the executions dispatched before
+        TimeUnit.MILLISECONDS.sleep(5 * INTERVAL);
+        for (int i = 0; i < JOBS; i++) {
+            assertTrue(executions.get(i) - snapshot[i] <= 1,
+                    "Job " + i + " executed " + (executions.get(i) - snapshot[i]) + " times after being unscheduled");
+        }
+    }
+
+    private static int min(AtomicIntegerArray executions) {
+        int min = Integer.MAX_VALUE;
+        for (int i = 0; i < executions.length(); i++) {
+            min = Math.min(min, executions.get(i));
+        }
+        return min;
+    }
+
+}
@@ -0,0 +1,76 @@
+package io.quarkus.scheduler.runtime;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Maps the jobs to the nodes of a cluster. Each node is placed on the ring several times, so that the jobs are evenly
+ * distributed, and only the jobs of a node that joins or leaves the cluster are moved to another node.
+ */
+final class ConsistentHashRing {
+
+    private static final int VIRTUAL_NODES = 64;
+
+    private final Set<String> nodes;
+    // sorted
+    private final long[] hashes;
+    private final String[] owners;
+
+    ConsistentHashRing(Set<String> nodes) {
+        this.nodes = Set.copyOf(nodes);
+        int size = nodes.size() * VIRTUAL_NODES;
+        long[][] points = new long[size][];
+        String[] names = nodes.toArray(new String[0]);
+        int i = 0;
+        for (int n = 0; n < names.length; n++) {
+            for (int v = 0; v < VIRTUAL_NODES; v++) {
+                points[i++] = new long[] { hash(names[n] + "#" + v), n };
+            }
+        }
+        Arrays.sort(points, (p1, p2) -> Long.compare(p1[0], p2[0]));
+        this.hashes = new long[size];
+        this.owners = new String[size];
+        for (i = 0; i < size; i++) {
+            hashes[i] = points[i][0];
+            owners[i] = names[(int) points[i][1]];
+        }
+    }
+
+    Set<String> nodes() {
+        return nodes;
+    }
+
+    /**
+     * @return the node that owns the given job, or {@code null} if there is no node
+     */
+    String owner(String jobId) {
+        if (hashes.length == 0) {
+            return null;
+        }
+        int idx = Arrays.binarySearch(hashes, hash(jobId));
+        if (idx < 0) {
+            // the first point after the hash, wrapping around the ring
+            idx = -idx - 1;
+            if (idx == hashes.length) {
+                idx = 0;
+            }
+        }
+        return owners[idx];
+    }
+
+    // FNV-1a followed by the MurmurHash3 finalizer, so that similar identities are spread across the ring
+    static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+}
@@ -0,0 +1,190 @@
+package io.quarkus.scheduler.runtime;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.scheduler.spi.JobStore;
+
+/**
+ * A {@link JobStore} backed by two tables:
+ *
+ * <pre>
+ * CREATE TABLE QUARKUS_SCHEDULER_NODES (NODE_ID VARCHAR(255) NOT NULL PRIMARY KEY, LEASE_EXPIRATION BIGINT NOT NULL);
+ * CREATE TABLE QUARKUS_SCHEDULER_JOBS (JOB_ID VARCHAR(255) NOT NULL PRIMARY KEY, LAST_FIRE_TIME BIGINT NOT NULL,
+ *         NODE_ID VARCHAR(255));
+ * </pre>
+ *
+ * A batch of executions is claimed with a single batch of conditional updates of the last fire time of the jobs, in one
+ * short transaction. There is no lock held between two claims, and a node does not read the rows of the jobs it does not
+ * own.
+ */
+public class JdbcJobStore implements JobStore {
+
+    private static final Logger LOG = Logger.getLogger(JdbcJobStore.class);
+
+    private final DataSource dataSource;
+    private final String nodesTable;
+    private final String jobsTable;
+    // the jobs that are known to be registered in the store
+    private final Set<String> registeredJobs = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param dataSource the datasource shared by the nodes of the cluster
+     * @param tablePrefix the prefix of the table names
+     */
+    public JdbcJobStore(DataSource dataSource, String tablePrefix) {
+        this.dataSource = dataSource;
+        this.nodesTable = tablePrefix + "NODES";
+        this.jobsTable = tablePrefix + "JOBS";
+    }
+
+    /**
+     * Creates the tables if they do not exist. The database must support {@code CREATE TABLE IF NOT EXISTS}.
+     */
+    public void createTables() {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE TABLE IF NOT EXISTS " + nodesTable
+                    + " (NODE_ID VARCHAR(255) NOT NULL PRIMARY KEY, LEASE_EXPIRATION BIGINT NOT NULL)");
+            statement.executeUpdate("CREATE TABLE IF NOT EXISTS " + jobsTable
+                    + " (JOB_ID VARCHAR(255) NOT NULL PRIMARY KEY, LAST_FIRE_TIME BIGINT NOT NULL, NODE_ID VARCHAR(255))");
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to create the scheduler tables", e);
+        }
+    }
+
+    @Override
+    public Set<String> renewLease(String nodeId, Instant now, Duration leaseDuration) {
+        long expiration = now.toEpochMilli() + leaseDuration.toMillis();
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement update = connection
+                    .prepareStatement("UPDATE " + nodesTable + " SET LEASE_EXPIRATION = ? WHERE NODE_ID = ?")) {
+                update.setLong(1, expiration);
+                update.setString(2, nodeId);
+                if (update.executeUpdate() == 0) {
+                    try (PreparedStatement insert = connection
+                            .prepareStatement("INSERT INTO " + nodesTable + " (NODE_ID, LEASE_EXPIRATION) VALUES (?, ?)")) {
+                        insert.setString(1, nodeId);
+                        insert.setLong(2, expiration);
+                        insert.executeUpdate();
+                    }
+                }
+            }
+            // Remove the nodes that left without releasing their lease
+            try (PreparedStatement delete = connection
+                    .prepareStatement("DELETE FROM " + nodesTable + " WHERE LEASE_EXPIRATION < ?")) {
+                delete.setLong(1, now.toEpochMilli() - leaseDuration.toMillis());
+                delete.executeUpdate();
+            }
+            Set<String> nodes = new HashSet<>();
+            try (PreparedStatement select = connection
+                    .prepareStatement("SELECT NODE_ID FROM " + nodesTable + " WHERE LEASE_EXPIRATION > ?")) {
+                select.setLong(1, now.toEpochMilli());
+                try (ResultSet rs = select.executeQuery()) {
+                    while (rs.next()) {
+                        nodes.add(rs.getString(1));
+                    }
+                }
+            }
+            return nodes;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to renew the lease of node " + nodeId, e);
+        }
+    }
+
+    @Override
+    public void releaseLease(String nodeId) {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement delete = connection.prepareStatement("DELETE FROM " + nodesTable + " WHERE NODE_ID = ?")) {
+            delete.setString(1, nodeId);
+            delete.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to release the lease of node " + nodeId, e);
+        }
+    }
+
+    @Override
+    public Set<Execution> claim(String nodeId, List<Execution> executions) {
+        // Update the rows in the same order on all nodes, so that concurrent claims cannot deadlock
+        List<Execution> sorted = new ArrayList<>(executions);
+        sorted.sort(Comparator.comparing(Execution::jobId).thenComparing(Execution::fireTime));
+        try (Connection connection = dataSource.getConnection()) {
+            register(connection, sorted);
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement update = connection.prepareStatement("UPDATE " + jobsTable
+                    + " SET LAST_FIRE_TIME = ?, NODE_ID = ? WHERE JOB_ID = ? AND LAST_FIRE_TIME < ?")) {
+                for (Execution execution : sorted) {
+                    long fireTime = execution.fireTime().toEpochMilli();
+                    update.setLong(1, fireTime);
+                    update.setString(2, nodeId);
+                    update.setString(3, execution.jobId());
+                    update.setLong(4, fireTime);
+                    update.addBatch();
+                }
+                int[] counts = update.executeBatch();
+                connection.commit();
+                Set<Execution> claimed = new HashSet<>();
+                for (int i = 0; i < counts.length; i++) {
+                    if (counts[i] > 0) {
+                        claimed.add(sorted.get(i));
+                    }
+                }
+                return claimed;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to claim " + executions.size() + " executions", e);
+        }
+    }
+
+    private void register(Connection connection, List<Execution> executions) throws SQLException {
+        for (Execution execution : executions) {
+            String jobId = execution.jobId();
+            if (registeredJobs.contains(jobId)) {
+                continue;
+            }
+            boolean exists;
+            try (PreparedStatement select = connection.prepareStatement("SELECT 1 FROM " + jobsTable + " WHERE JOB_ID = ?")) {
+                select.setString(1, jobId);
+                try (ResultSet rs = select.executeQuery()) {
+                    exists = rs.next();
+                }
+            }
+            if (!exists) {
+                try (PreparedStatement insert = connection.prepareStatement(
+                        "INSERT INTO " + jobsTable + " (JOB_ID, LAST_FIRE_TIME) VALUES (?, ?)")) {
+                    insert.setString(1, jobId);
+                    insert.setLong(2, Long.MIN_VALUE);
+                    insert.executeUpdate();
+                } catch (SQLException e) {
+                    // SQL state class 23 is an integrity constraint violation
+                    if (e.getSQLState() == null || !e.getSQLState().startsWith("23")) {
+                        throw e;
+                    }
+                    LOG.debugf("Job %s was registered by another node", jobId);
+                }
+            }
+            registeredJobs.add(jobId);
+        }
+    }
+
+}
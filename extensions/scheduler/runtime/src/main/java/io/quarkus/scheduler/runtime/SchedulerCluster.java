@@ -0,0 +1,178 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.scheduler.spi.JobStore;
+import io.quarkus.scheduler.spi.JobStore.Execution;
+import io.vertx.core.Vertx;
+
+/**
+ * The clustered mode of the {@link SimpleScheduler}.
+ * <p>
+ * Every node evaluates all the triggers, but only fires the jobs it owns according to a {@link ConsistentHashRing} of the
+ * nodes that hold a valid lease. The due executions are first claimed in the {@link JobStore}: the executions that become
+ * due while a claim is in progress are queued and claimed together by the next batch.
+ */
+final class SchedulerCluster {
+
+    private static final Logger LOG = Logger.getLogger(SchedulerCluster.class);
+
+    private final String nodeId;
+    private final JobStore store;
+    private final Duration leaseDuration;
+    private final Duration leaseRenewalInterval;
+    private final ScheduledExecutorService executor;
+    private final Vertx vertx;
+
+    private volatile ConsistentHashRing ring;
+    // epoch millis
+    private volatile long leaseExpiration;
+
+    // guarded by this
+    private final List<PendingExecution> pending = new ArrayList<>();
+    private boolean claiming;
+
+    SchedulerCluster(String nodeId, JobStore store, Duration leaseDuration, Duration leaseRenewalInterval,
+            ScheduledExecutorService executor, Vertx vertx) {
+        if (leaseRenewalInterval.compareTo(leaseDuration) >= 0) {
+            throw new IllegalArgumentException("The lease renewal interval " + leaseRenewalInterval
+                    + " must be shorter than the lease duration " + leaseDuration);
+        }
+        this.nodeId = nodeId;
+        this.store = store;
+        this.leaseDuration = leaseDuration;
+        this.leaseRenewalInterval = leaseRenewalInterval;
+        this.executor = executor;
+        this.vertx = vertx;
+    }
+
+    String nodeId() {
+        return nodeId;
+    }
+
+    void start() {
+        LOG.infof("Starting the clustered mode of the simple scheduler - node id: %s", nodeId);
+        renewLease();
+        long period = leaseRenewalInterval.toMillis();
+        executor.scheduleWithFixedDelay(() -> vertx.executeBlocking(new Callable<Void>() {
+            @Override
+            public Void call() {
+                renewLease();
+                return null;
+            }
+        }, false), period, period, TimeUnit.MILLISECONDS);
+    }
+
+    void stop() {
+        try {
+            store.releaseLease(nodeId);
+        } catch (Exception e) {
+            LOG.warnf(e, "Unable to release the lease of scheduler node %s", nodeId);
+        }
+    }
+
+    /**
+     * @return {@code true} if this node holds a valid lease and owns the given job
+     */
+    boolean owns(String jobId) {
+        ConsistentHashRing current = ring;
+        if (current == null || System.currentTimeMillis() > leaseExpiration) {
+            // The other nodes take over the jobs once the lease expires
+            return false;
+        }
+        return nodeId.equals(current.owner(jobId));
+    }
+
+    /**
+     * Claims an execution, and runs the dispatch action on the trigger thread if this node claimed it.
+     */
+    void claim(String jobId, ZonedDateTime fireTime, Runnable dispatch) {
+        synchronized (this) {
+            pending.add(new PendingExecution(new Execution(jobId, fireTime.toInstant()), dispatch));
+            if (claiming) {
+                return;
+            }
+            claiming = true;
+        }
+        // Submitted with no delay, the claim is queued after all the triggers that are already due, so that they are
+        // claimed in the same batch
+        executor.execute(() -> vertx.executeBlocking(new Callable<Void>() {
+            @Override
+            public Void call() {
+                claimPending();
+                return null;
+            }
+        }, false));
+    }
+
+    private void claimPending() {
+        for (;;) {
+            List<PendingExecution> batch;
+            synchronized (this) {
+                if (pending.isEmpty()) {
+                    claiming = false;
+                    return;
+                }
+                batch = new ArrayList<>(pending);
+                pending.clear();
+            }
+            List<Execution> executions = new ArrayList<>(batch.size());
+            for (PendingExecution p : batch) {
+                executions.add(p.execution);
+            }
+            Set<Execution> claimed;
+            try {
+                claimed = store.claim(nodeId, executions);
+            } catch (Exception e) {
+                LOG.errorf(e, "Unable to claim %s executions - they will be skipped", batch.size());
+                continue;
+            }
+            LOG.tracef("Claimed %s of %s executions", claimed.size(), batch.size());
+            for (PendingExecution p : batch) {
+                if (claimed.contains(p.execution)) {
+                    executor.execute(p.dispatch);
+                } else {
+                    LOG.debugf("%s was claimed by another node", p.execution);
+                }
+            }
+        }
+    }
+
+    private void renewLease() {
+        long now = System.currentTimeMillis();
+        try {
+            Set<String> nodes = store.renewLease(nodeId, Instant.ofEpochMilli(now), leaseDuration);
+            ConsistentHashRing current = ring;
+            if (current == null || !current.nodes().equals(nodes)) {
+                LOG.infof("Scheduler cluster nodes: %s", nodes);
+                ring = new ConsistentHashRing(nodes);
+            }
+            leaseExpiration = now + leaseDuration.toMillis();
+        } catch (Exception e) {
+            LOG.errorf(e, "Unable to renew the lease of scheduler node %s", nodeId);
+        }
+    }
+
+    private static final class PendingExecution {
+
+        final Execution execution;
+        final Runnable dispatch;
+
+        PendingExecution(Execution execution, Runnable dispatch) {
+            this.execution = execution;
+            this.dispatch = dispatch;
+        }
+
+    }
+
+}
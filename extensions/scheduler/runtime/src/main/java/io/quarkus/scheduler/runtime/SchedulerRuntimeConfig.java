@@ -3,6 +3,7 @@
 import java.time.Duration;
 import java.util.Optional;
 
+import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -30,6 +31,12 @@ public class SchedulerRuntimeConfig {
     @ConfigItem
     public Optional<StartMode> startMode;
 
+    /**
+     * Clustered mode of the simple scheduler.
+     */
+    @ConfigItem
+    public ClusterConfig cluster;
+
     public enum StartMode {
 
         /**
@@ -52,4 +59,61 @@ public enum StartMode {
          */
         HALTED;
     }
+
+    @ConfigGroup
+    public static class ClusterConfig {
+
+        /**
+         * If set to true, the jobs of the simple scheduler are partitioned across the nodes of a cluster that share a
+         * {@link io.quarkus.scheduler.spi.JobStore}, and each execution is performed by a single node.
+         * <p>
+         * If the application does not provide a {@code JobStore} bean, the jobs are stored in the default datasource.
+         */
+        @ConfigItem(defaultValue = "false")
+        public boolean enabled;
+
+        /**
+         * The identifier of this node, which must be unique in the cluster. A random identifier is generated by default.
+         */
+        @ConfigItem
+        public Optional<String> nodeId;
+
+        /**
+         * A node that did not renew its lease for this period is considered dead, and its jobs are taken over by the other
+         * nodes.
+         */
+        @ConfigItem(defaultValue = "30s")
+        public Duration leaseDuration;
+
+        /**
+         * How often a node renews its lease and refreshes the list of live nodes. It must be shorter than the lease
+         * duration.
+         */
+        @ConfigItem(defaultValue = "10s")
+        public Duration leaseRenewalInterval;
+
+        /**
+         * The JDBC job store used when the application does not provide a {@code JobStore} bean.
+         */
+        @ConfigItem
+        public JdbcConfig jdbc;
+
+    }
+
+    @ConfigGroup
+    public static class JdbcConfig {
+
+        /**
+         * The prefix of the names of the tables.
+         */
+        @ConfigItem(defaultValue = "QUARKUS_SCHEDULER_")
+        public String tablePrefix;
+
+        /**
+         * If set to true, the tables are created at startup if they do not exist.
+         */
+        @ConfigItem(defaultValue = "false")
+        public boolean createTables;
+
+    }
 }
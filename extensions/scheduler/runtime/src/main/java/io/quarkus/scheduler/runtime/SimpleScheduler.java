@@ -2,7 +2,6 @@
 
 import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
@@ -10,12 +9,14 @@
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -30,6 +31,8 @@
 import jakarta.inject.Singleton;
 import jakarta.interceptor.Interceptor;
 
+import javax.sql.DataSource;
+
 import org.jboss.logging.Logger;
 import org.jboss.threads.JBossScheduledThreadPoolExecutor;
 
@@ -65,8 +68,10 @@
 import io.quarkus.scheduler.common.runtime.StatusEmitterInvoker;
 import io.quarkus.scheduler.common.runtime.SyntheticScheduled;
 import io.quarkus.scheduler.common.runtime.util.SchedulerUtils;
+import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.ClusterConfig;
 import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.StartMode;
 import io.quarkus.scheduler.spi.JobInstrumenter;
+import io.quarkus.scheduler.spi.JobStore;
 import io.quarkus.vertx.core.runtime.context.VertxContextSafetyToggle;
 import io.quarkus.virtual.threads.VirtualThreadsRecorder;
 import io.smallrye.common.vertx.VertxContext;
@@ -83,9 +88,13 @@ public class SimpleScheduler implements Scheduler {
     // milliseconds
     public static final long CHECK_PERIOD = 1000L;
 
-    private final ScheduledExecutorService scheduledExecutor;
+    // milliseconds, the resolution of the trigger engine
+    static final long TICK_INTERVAL = 1L;
+
+    private final JBossScheduledThreadPoolExecutor scheduledExecutor;
     private final Vertx vertx;
     private volatile boolean running;
+    private volatile boolean started;
     private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
     private final boolean enabled;
     private final CronParser cronParser;
@@ -99,13 +108,14 @@ public class SimpleScheduler implements Scheduler {
     private final Event<ScheduledJobResumed> scheduledJobResumedEvent;
     private final SchedulerConfig schedulerConfig;
     private final Instance<JobInstrumenter> jobInstrumenter;
+    private final SchedulerCluster cluster;
 
     public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedulerRuntimeConfig,
             Event<SkippedExecution> skippedExecutionEvent, Event<SuccessfulExecution> successExecutionEvent,
             Event<FailedExecution> failedExecutionEvent, Event<SchedulerPaused> schedulerPausedEvent,
             Event<SchedulerResumed> schedulerResumedEvent, Event<ScheduledJobPaused> scheduledJobPausedEvent,
             Event<ScheduledJobResumed> scheduledJobResumedEvent, Vertx vertx, SchedulerConfig schedulerConfig,
-            Instance<JobInstrumenter> jobInstrumenter) {
+            Instance<JobInstrumenter> jobInstrumenter, Instance<JobStore> jobStore, Instance<DataSource> dataSource) {
         this.running = true;
         this.enabled = schedulerRuntimeConfig.enabled;
         this.scheduledTasks = new ConcurrentHashMap<>();
@@ -126,6 +136,7 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
 
         if (!schedulerRuntimeConfig.enabled) {
             this.scheduledExecutor = null;
+            this.cluster = null;
             LOG.info("Simple scheduler is disabled by config property and will not be started");
             return;
         }
@@ -133,6 +144,7 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
         StartMode startMode = schedulerRuntimeConfig.startMode.orElse(StartMode.NORMAL);
         if (startMode == StartMode.NORMAL && context.getScheduledMethods().isEmpty() && !context.forceSchedulerStart()) {
             this.scheduledExecutor = null;
+            this.cluster = null;
             LOG.info("No scheduled business methods found - Simple scheduler will not be started");
             return;
         }
@@ -155,13 +167,25 @@ public Thread newThread(Runnable runnable) {
                 return t;
             }
         };
-        // This executor is used to check all registered triggers every second
+        // This executor fires each registered trigger when it is due; its delay queue is a binary heap ordered by the
+        // next fire times, so that the thread only wakes up when a trigger fires, regardless of the number of jobs
         this.scheduledExecutor = new JBossScheduledThreadPoolExecutor(1, tf, new Runnable() {
             @Override
             public void run() {
                 // noop
             }
         });
+        // unscheduled jobs must not stay in the queue until their next fire time
+        this.scheduledExecutor.setRemoveOnCancelPolicy(true);
+
+        ClusterConfig clusterConfig = schedulerRuntimeConfig.cluster;
+        if (clusterConfig.enabled) {
+            this.cluster = new SchedulerCluster(clusterConfig.nodeId.orElseGet(() -> UUID.randomUUID().toString()),
+                    initJobStore(clusterConfig, jobStore, dataSource), clusterConfig.leaseDuration,
+                    clusterConfig.leaseRenewalInterval, scheduledExecutor, vertx);
+        } else {
+            this.cluster = null;
+        }
 
         if (startMode == StartMode.HALTED) {
             running = false;
@@ -209,6 +233,7 @@ public Trigger unscheduleJob(String identity) {
             ScheduledTask task = scheduledTasks.get(parsedIdentity);
             if (task != null && task.isProgrammatic) {
                 if (scheduledTasks.remove(task.trigger.id) != null) {
+                    task.cancel();
                     return task.trigger;
                 }
             }
@@ -221,16 +246,23 @@ void start(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEven
         if (scheduledExecutor == null) {
             return;
         }
-        // Try to compute the initial delay to execute the checks near to the whole second
-        // Note that this does not guarantee anything, it's just best effort
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime trunc = now.plusSeconds(1).truncatedTo(ChronoUnit.SECONDS);
-        scheduledExecutor.scheduleAtFixedRate(this::checkTriggers, ChronoUnit.MILLIS.between(now, trunc), CHECK_PERIOD,
-                TimeUnit.MILLISECONDS);
+        // Jobs scheduled from now on are submitted to the executor by SimpleJobDefinition#schedule()
+        // ScheduledTask#start() is idempotent, so a job scheduled concurrently is never submitted twice
+        if (cluster != null) {
+            cluster.start();
+        }
+        started = true;
+        ZonedDateTime now = ZonedDateTime.now();
+        for (ScheduledTask task : scheduledTasks.values()) {
+            task.start(now);
+        }
     }
 
     @PreDestroy
     void stop() {
+        if (cluster != null) {
+            cluster.stop();
+        }
         try {
             if (scheduledExecutor != null) {
                 scheduledExecutor.shutdownNow();
@@ -240,18 +272,6 @@ void stop() {
         }
     }
 
-    void checkTriggers() {
-        if (!running) {
-            LOG.trace("Skip all triggers - scheduler paused");
-            return;
-        }
-        ZonedDateTime now = ZonedDateTime.now();
-        LOG.tracef("Check triggers at %s", now);
-        for (ScheduledTask task : scheduledTasks.values()) {
-            task.execute(now, vertx);
-        }
-    }
-
     @Override
     public void pause() {
         if (!enabled) {
@@ -297,6 +317,9 @@ public void resume() {
             LOG.warn("Scheduler is disabled and cannot be resumed");
         } else {
             running = true;
+            for (ScheduledTask task : scheduledTasks.values()) {
+                task.unpark();
+            }
             Events.fire(schedulerResumedEvent, SchedulerResumed.INSTANCE);
         }
     }
@@ -312,6 +335,7 @@ public void resume(String identity) {
         ScheduledTask task = scheduledTasks.get(parsedIdentity);
         if (task != null) {
             task.trigger.setRunning(true);
+            task.unpark();
             Events.fire(scheduledJobResumedEvent, new ScheduledJobResumed(task.trigger));
         }
     }
@@ -373,12 +397,28 @@ Optional<SimpleTrigger> createTrigger(String id, String methodDescription, CronP
                 return Optional.empty();
             }
             return Optional.of(new IntervalTrigger(id, start, everyMillis.getAsLong(),
-                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod), methodDescription));
+                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod), methodDescription,
+                    cluster != null));
         } else {
             throw new IllegalArgumentException("Either the 'cron' expression or the 'every' period must be set: " + scheduled);
         }
     }
 
+    static JobStore initJobStore(ClusterConfig clusterConfig, Instance<JobStore> jobStore, Instance<DataSource> dataSource) {
+        if (jobStore.isResolvable()) {
+            return jobStore.get();
+        }
+        if (!dataSource.isResolvable()) {
+            throw new IllegalStateException(
+                    "The clustered mode of the simple scheduler requires either a JobStore bean or the default datasource");
+        }
+        JdbcJobStore jdbcJobStore = new JdbcJobStore(dataSource.get(), clusterConfig.jdbc.tablePrefix);
+        if (clusterConfig.jdbc.createTables) {
+            jdbcJobStore.createTables();
+        }
+        return jdbcJobStore;
+    }
+
     public static ScheduledInvoker initInvoker(ScheduledInvoker invoker, Event<SkippedExecution> skippedExecutionEvent,
             Event<SuccessfulExecution> successExecutionEvent,
             Event<FailedExecution> failedExecutionEvent, ConcurrentExecution concurrentExecution,
@@ -403,58 +443,144 @@ public static Scheduled.SkipPredicate initSkipPredicate(Class<? extends SkipPred
         return SchedulerUtils.instantiateBeanOrClass(predicateClass);
     }
 
-    static class ScheduledTask {
+    /**
+     * A job submitted to the scheduled executor at the next time its trigger should be evaluated. If the scheduler or the
+     * job is paused at that time, the task is parked until it is resumed.
+     */
+    class ScheduledTask implements Runnable {
 
         final boolean isProgrammatic;
         final SimpleTrigger trigger;
         final ScheduledInvoker invoker;
 
+        // guarded by this
+        private boolean started;
+        private boolean parked;
+        private boolean cancelled;
+        private ScheduledFuture<?> future;
+
         ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker, boolean isProgrammatic) {
             this.trigger = trigger;
             this.invoker = invoker;
             this.isProgrammatic = isProgrammatic;
         }
 
+        synchronized void start(ZonedDateTime now) {
+            if (started || cancelled) {
+                return;
+            }
+            started = true;
+            submit(now);
+        }
+
+        synchronized void unpark() {
+            if (parked && !cancelled) {
+                parked = false;
+                submit(0);
+            }
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+
+        @Override
+        public synchronized void run() {
+            if (cancelled) {
+                return;
+            }
+            if (!running || !trigger.isRunning()) {
+                LOG.tracef("Park %s - paused", trigger);
+                parked = true;
+                return;
+            }
+            ZonedDateTime now = ZonedDateTime.now();
+            try {
+                execute(now, vertx);
+            } catch (Throwable t) {
+                LOG.errorf(t, "Unable to fire %s", trigger);
+            }
+            submit(now);
+        }
+
+        // guarded by this
+        private void submit(ZonedDateTime now) {
+            ZonedDateTime next;
+            try {
+                next = trigger.nextEvaluation(now);
+            } catch (RuntimeException e) {
+                LOG.errorf(e, "Unable to compute the next fire time of %s", trigger);
+                return;
+            }
+            if (next == null) {
+                LOG.debugf("%s will not fire anymore", trigger);
+                return;
+            }
+            submit(Math.max(0, ChronoUnit.MILLIS.between(now, next)));
+        }
+
+        // guarded by this
+        private void submit(long delay) {
+            try {
+                future = scheduledExecutor.schedule(this, delay, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // the scheduler was stopped
+            }
+        }
+
         void execute(ZonedDateTime now, Vertx vertx) {
             if (!trigger.isRunning()) {
                 return;
             }
             ZonedDateTime scheduledFireTime = trigger.evaluate(now);
             if (scheduledFireTime != null) {
-                Context context = VertxContext.getOrCreateDuplicatedContext(vertx);
-                VertxContextSafetyToggle.setContextSafe(context, true);
-                if (invoker.isBlocking()) {
-                    if (invoker.isRunningOnVirtualThread()) {
-                        // While counter-intuitive, we switch to a safe context, so that context is captured and attached
-                        // to the virtual thread.
-                        context.runOnContext(new Handler<Void>() {
-                            @Override
-                            public void handle(Void event) {
-                                VirtualThreadsRecorder.getCurrent().execute(new Runnable() {
-                                    @Override
-                                    public void run() {
-                                        doInvoke(now, scheduledFireTime);
-                                    }
-                                });
-                            }
-                        });
-                    } else {
-                        context.executeBlocking(new Callable<Void>() {
-                            @Override
-                            public Void call() {
-                                doInvoke(now, scheduledFireTime);
-                                return null;
-                            }
-                        }, false);
-                    }
+                if (cluster == null) {
+                    dispatch(now, scheduledFireTime, vertx);
+                } else if (cluster.owns(trigger.id)) {
+                    cluster.claim(trigger.id, scheduledFireTime, () -> dispatch(now, scheduledFireTime, vertx));
                 } else {
+                    LOG.tracef("%s fired on another node", trigger);
+                }
+            }
+        }
+
+        void dispatch(ZonedDateTime now, ZonedDateTime scheduledFireTime, Vertx vertx) {
+            Context context = VertxContext.getOrCreateDuplicatedContext(vertx);
+            VertxContextSafetyToggle.setContextSafe(context, true);
+            if (invoker.isBlocking()) {
+                if (invoker.isRunningOnVirtualThread()) {
+                    // While counter-intuitive, we switch to a safe context, so that context is captured and attached
+                    // to the virtual thread.
                     context.runOnContext(new Handler<Void>() {
                         @Override
                         public void handle(Void event) {
-                            doInvoke(now, scheduledFireTime);
+                            VirtualThreadsRecorder.getCurrent().execute(new Runnable() {
+                                @Override
+                                public void run() {
+                                    doInvoke(now, scheduledFireTime);
+                                }
+                            });
                         }
                     });
+                } else {
+                    context.executeBlocking(new Callable<Void>() {
+                        @Override
+                        public Void call() {
+                            doInvoke(now, scheduledFireTime);
+                            return null;
+                        }
+                    }, false);
                 }
+            } else {
+                context.runOnContext(new Handler<Void>() {
+                    @Override
+                    public void handle(Void event) {
+                        doInvoke(now, scheduledFireTime);
+                    }
+                });
             }
         }
 
@@ -489,6 +615,12 @@ static abstract class SimpleTrigger implements Trigger {
          */
         abstract ZonedDateTime evaluate(ZonedDateTime now);
 
+        /**
+         * @param now The current date-time in the default time zone
+         * @return the date-time the trigger should be evaluated at next, {@code null} if it will not fire anymore
+         */
+        abstract ZonedDateTime nextEvaluation(ZonedDateTime now);
+
         @Override
         public Instant getPreviousFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -518,15 +650,19 @@ static class IntervalTrigger extends SimpleTrigger {
         // milliseconds
         private final long interval;
         private final Duration gracePeriod;
+        // fire at the multiples of the interval since the epoch, so that all the nodes of a cluster agree on the fire times
+        private final boolean aligned;
 
-        IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod, String description) {
+        IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod, String description,
+                boolean aligned) {
             super(id, start, description);
             this.interval = interval;
             this.gracePeriod = gracePeriod;
-            if (interval < CHECK_PERIOD) {
+            this.aligned = aligned;
+            if (interval < TICK_INTERVAL) {
                 LOG.warnf(
                         "An every() value less than %s ms is not supported - the scheduled job will be executed with a delay: %s",
-                        CHECK_PERIOD, description);
+                        TICK_INTERVAL, description);
             }
         }
 
@@ -535,21 +671,44 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             if (now.isBefore(start)) {
                 return null;
             }
+            if (aligned) {
+                long nowMillis = now.toInstant().toEpochMilli();
+                ZonedDateTime scheduledFireTime = Instant
+                        .ofEpochMilli(nowMillis - Math.floorMod(nowMillis, Math.max(interval, TICK_INTERVAL)))
+                        .atZone(now.getZone());
+                ZonedDateTime last = lastFireTime;
+                if (last != null && !scheduledFireTime.isAfter(last)) {
+                    return null;
+                }
+                lastFireTime = scheduledFireTime;
+                LOG.tracef("%s fired", this);
+                return scheduledFireTime;
+            }
             if (lastFireTime == null) {
                 // First execution
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                lastFireTime = now.truncatedTo(ChronoUnit.MILLIS);
                 return now;
             }
             long diff = ChronoUnit.MILLIS.between(lastFireTime, now);
             if (diff >= interval) {
                 ZonedDateTime scheduledFireTime = lastFireTime.plus(Duration.ofMillis(interval));
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                // Keep a fixed rate, unless the trigger missed a whole interval, e.g. because the job was paused
+                lastFireTime = diff - interval < interval ? scheduledFireTime : now.truncatedTo(ChronoUnit.MILLIS);
                 LOG.tracef("%s fired, diff=%s ms", this, diff);
                 return scheduledFireTime;
             }
             return null;
         }
 
+        @Override
+        ZonedDateTime nextEvaluation(ZonedDateTime now) {
+            if (now.isBefore(start)) {
+                return start;
+            }
+            ZonedDateTime last = lastFireTime;
+            return last == null ? now : last.plus(Duration.ofMillis(Math.max(interval, TICK_INTERVAL)));
+        }
+
         @Override
         public Instant getNextFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -617,6 +776,17 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             return null;
         }
 
+        @Override
+        ZonedDateTime nextEvaluation(ZonedDateTime now) {
+            if (now.isBefore(start)) {
+                return start;
+            }
+            ZonedDateTime zonedNow = timeZone == null ? now : now.withZoneSameInstant(timeZone);
+            // evaluate() only fires once the execution time has passed
+            return executionTime.nextExecution(zonedNow).map(next -> next.plus(TICK_INTERVAL, ChronoUnit.MILLIS))
+                    .orElse(null);
+        }
+
         @Override
         public boolean isOverdue() {
             ZonedDateTime now = ZonedDateTime.now();
@@ -735,6 +905,9 @@ public boolean isBlocking() {
                 if (existing != null) {
                     throw new IllegalStateException("A job with this identity is already scheduled: " + identity);
                 }
+                if (started) {
+                    scheduledTask.start(ZonedDateTime.now());
+                }
                 return simpleTrigger;
             }
             return null;
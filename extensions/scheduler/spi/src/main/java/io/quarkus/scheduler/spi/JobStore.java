@@ -0,0 +1,56 @@
+package io.quarkus.scheduler.spi;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Stores the state shared by the nodes of a cluster when the simple scheduler runs in the clustered mode.
+ * <p>
+ * Each node holds a lease that it renews periodically. The jobs are partitioned across the nodes that hold a valid lease,
+ * and the node that owns a job claims its executions before it performs them, so that an execution is performed by a
+ * single node even when the nodes temporarily disagree on the partitioning.
+ * <p>
+ * Applications can provide exactly one CDI bean of this type. The scope must be either {@link jakarta.inject.Singleton}
+ * or {@link jakarta.enterprise.context.ApplicationScoped}. The methods are only called from worker threads, and may block.
+ */
+public interface JobStore {
+
+    /**
+     * Renews the lease of a node, or acquires it if the node does not hold a lease yet.
+     *
+     * @param nodeId the identifier of the node
+     * @param now the current time of the node
+     * @param leaseDuration the period the lease is valid for
+     * @return the identifiers of the nodes that hold a valid lease, including this node
+     */
+    Set<String> renewLease(String nodeId, Instant now, Duration leaseDuration);
+
+    /**
+     * Releases the lease of a node, so that the other nodes take over its jobs without waiting for the lease to expire.
+     *
+     * @param nodeId the identifier of the node
+     */
+    void releaseLease(String nodeId);
+
+    /**
+     * Claims a batch of executions. An execution is claimed if no execution of the same job with the same or a later fire
+     * time was claimed before, by any node. The jobs that are not known by the store yet must be registered.
+     *
+     * @param nodeId the identifier of the node
+     * @param executions the executions to claim
+     * @return the executions claimed by the node
+     */
+    Set<Execution> claim(String nodeId, List<Execution> executions);
+
+    /**
+     * An execution of a job.
+     *
+     * @param jobId the identity of the job
+     * @param fireTime the time the execution was scheduled at, which is the same on all nodes
+     */
+    record Execution(String jobId, Instant fireTime) {
+    }
+
+}
@@ -32,6 +32,8 @@
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Consume;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
@@ -40,9 +42,12 @@
 import io.quarkus.deployment.builditem.RuntimeConfigSetupCompleteBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.logging.LogCleanupFilterBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.hibernate.orm.deployment.spi.AdditionalJpaModelBuildItem;
 import io.quarkus.smallrye.reactivemessaging.deployment.ReactiveMessagingDotNames;
 import io.quarkus.smallrye.reactivemessaging.deployment.items.ConnectorManagedChannelBuildItem;
+import io.quarkus.smallrye.reactivemessaging.kafka.CheckpointMetrics;
+import io.quarkus.smallrye.reactivemessaging.kafka.CheckpointMetricsRecorder;
 import io.quarkus.smallrye.reactivemessaging.kafka.DatabindProcessingStateCodec;
 import io.quarkus.smallrye.reactivemessaging.kafka.HibernateOrmStateStore;
 import io.quarkus.smallrye.reactivemessaging.kafka.HibernateReactiveStateStore;
@@ -162,6 +167,22 @@ public void checkpointHibernateOrm(BuildProducer<AdditionalBeanBuildItem> additi
         }
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    public void checkpointMetrics(BuildProducer<AdditionalBeanBuildItem> additionalBean,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metricsFactoryConsumer,
+            CheckpointMetricsRecorder recorder, Capabilities capabilities) {
+        Config config = ConfigProvider.getConfig();
+        // the metrics of the state stores that coalesce their writes
+        boolean redis = hasStateStoreConfig(REDIS_STATE_STORE, config) && capabilities.isPresent(Capability.REDIS_CLIENT);
+        boolean hibernateOrm = hasStateStoreConfig(HIBERNATE_ORM_STATE_STORE, config)
+                && capabilities.isPresent(Capability.HIBERNATE_ORM);
+        if (redis || hibernateOrm) {
+            additionalBean.produce(AdditionalBeanBuildItem.unremovableOf(CheckpointMetrics.class));
+            metricsFactoryConsumer.produce(new MetricsFactoryConsumerBuildItem(recorder.registerMetrics()));
+        }
+    }
+
     @BuildStep
     public void additionalJpaModel(BuildProducer<AdditionalJpaModelBuildItem> additionalJpaModel) {
         additionalJpaModel.produce(new AdditionalJpaModelBuildItem(CHECKPOINT_ENTITY_NAME));
@@ -0,0 +1,75 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.inject.Singleton;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * Collects the metrics of the writes of the checkpoint state stores.
+ * <p>
+ * The metrics are exposed when a metrics extension is present, see {@link CheckpointMetricsRecorder}.
+ */
+@Singleton
+public class CheckpointMetrics {
+
+    private final Set<CheckpointWriteCoalescer> coalescers = ConcurrentHashMap.newKeySet();
+    private final LongAdder writtenStates = new LongAdder();
+    private final LongAdder coalescedStates = new LongAdder();
+    private final LongAdder failedWrites = new LongAdder();
+    private volatile MetricsFactory.TimeRecorder writeTimer;
+
+    void register(CheckpointWriteCoalescer coalescer) {
+        coalescers.add(coalescer);
+    }
+
+    void unregister(CheckpointWriteCoalescer coalescer) {
+        coalescers.remove(coalescer);
+    }
+
+    void written(int states, long durationNanos) {
+        writtenStates.add(states);
+        MetricsFactory.TimeRecorder timer = writeTimer;
+        if (timer != null) {
+            timer.update(durationNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    void coalesced() {
+        coalescedStates.increment();
+    }
+
+    void failed() {
+        failedWrites.increment();
+    }
+
+    long lag() {
+        long lag = 0;
+        for (CheckpointWriteCoalescer coalescer : coalescers) {
+            lag += coalescer.lag();
+        }
+        return lag;
+    }
+
+    void registerMetrics(MetricsFactory metricsFactory) {
+        writeTimer = metricsFactory.builder("kafka.checkpoint.write")
+                .description("Duration of the writes of the checkpoint states to the state stores.")
+                .buildTimer();
+        metricsFactory.builder("kafka.checkpoint.states.written")
+                .description("Number of checkpoint states written to the state stores.")
+                .buildCounter(writtenStates::sum);
+        metricsFactory.builder("kafka.checkpoint.states.coalesced")
+                .description("Number of checkpoint states replaced by a newer state before being written.")
+                .buildCounter(coalescedStates::sum);
+        metricsFactory.builder("kafka.checkpoint.write.failures")
+                .description("Number of failed writes of the checkpoint states.")
+                .buildCounter(failedWrites::sum);
+        metricsFactory.builder("kafka.checkpoint.lag")
+                .description("Number of offsets processed but not checkpointed yet in the state stores.")
+                .buildGauge(this::lag);
+    }
+}
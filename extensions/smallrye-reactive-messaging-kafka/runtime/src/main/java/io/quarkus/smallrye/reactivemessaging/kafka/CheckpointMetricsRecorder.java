@@ -0,0 +1,21 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.util.function.Consumer;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+@Recorder
+public class CheckpointMetricsRecorder {
+
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                Arc.container().instance(CheckpointMetrics.class).get().registerMetrics(metricsFactory);
+            }
+        };
+    }
+}
@@ -0,0 +1,202 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.apache.kafka.common.TopicPartition;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.kafka.KafkaConsumer;
+import io.smallrye.reactive.messaging.kafka.commit.ProcessingState;
+
+/**
+ * Coalesces the checkpoints persisted by a state store, so that a single write is in flight at a time and only the
+ * latest state of each partition is written.
+ * <p>
+ * The states requested while a write is in flight are written together once it completes. The states whose offset has
+ * already been written are skipped.
+ * <p>
+ * The stores are not notified of the revoked partitions, so the assignment of the consumer is read after each write and
+ * the partitions it no longer contains are forgotten.
+ */
+final class CheckpointWriteCoalescer {
+
+    private final Function<Map<TopicPartition, ProcessingState<?>>, Uni<Void>> writer;
+    private final KafkaConsumer<?, ?> consumer;
+    private final CheckpointMetrics metrics;
+
+    // the offsets requested and written per partition, used to skip the unchanged states and to compute the lag
+    private final Map<TopicPartition, Long> requestedOffsets = new HashMap<>();
+    private final Map<TopicPartition, Long> writtenOffsets = new HashMap<>();
+    private Map<TopicPartition, ProcessingState<?>> pending = new HashMap<>();
+    // completed once the pending states are written
+    private CompletableFuture<Void> pendingWrite;
+    private boolean writing;
+
+    /**
+     * @param consumer the consumer whose assignment is read after each write, may be {@code null}
+     */
+    CheckpointWriteCoalescer(Function<Map<TopicPartition, ProcessingState<?>>, Uni<Void>> writer,
+            KafkaConsumer<?, ?> consumer, CheckpointMetrics metrics) {
+        this.writer = writer;
+        this.consumer = consumer;
+        this.metrics = metrics;
+        metrics.register(this);
+    }
+
+    Uni<Void> persist(Map<TopicPartition, ProcessingState<?>> states) {
+        return Uni.createFrom().deferred(() -> {
+            CompletableFuture<Void> result;
+            synchronized (this) {
+                for (Map.Entry<TopicPartition, ProcessingState<?>> entry : states.entrySet()) {
+                    ProcessingState<?> state = entry.getValue();
+                    if (ProcessingState.isEmptyOrNull(state)) {
+                        continue;
+                    }
+                    TopicPartition partition = entry.getKey();
+                    Long written = writtenOffsets.get(partition);
+                    if (written != null && written == state.getOffset() && !pending.containsKey(partition)) {
+                        // the partition did not move since its last checkpoint
+                        continue;
+                    }
+                    if (pending.put(partition, state) != null) {
+                        metrics.coalesced();
+                    }
+                    requestedOffsets.put(partition, state.getOffset());
+                }
+                if (pending.isEmpty()) {
+                    return Uni.createFrom().voidItem();
+                }
+                if (pendingWrite == null) {
+                    pendingWrite = new CompletableFuture<>();
+                }
+                result = pendingWrite;
+                if (writing) {
+                    return Uni.createFrom().completionStage(result);
+                }
+                writing = true;
+            }
+            write();
+            return Uni.createFrom().completionStage(result);
+        });
+    }
+
+    private void write() {
+        Map<TopicPartition, ProcessingState<?>> batch;
+        CompletableFuture<Void> done;
+        synchronized (this) {
+            batch = pending;
+            done = pendingWrite;
+            pending = new HashMap<>();
+            pendingWrite = null;
+        }
+        long start = System.nanoTime();
+        Uni<Void> write;
+        try {
+            write = writer.apply(batch);
+        } catch (Throwable t) {
+            write = Uni.createFrom().failure(t);
+        }
+        write.subscribe().with(ignored -> {
+            metrics.written(batch.size(), System.nanoTime() - start);
+            synchronized (this) {
+                for (Map.Entry<TopicPartition, ProcessingState<?>> entry : batch.entrySet()) {
+                    if (requestedOffsets.containsKey(entry.getKey())) {
+                        writtenOffsets.put(entry.getKey(), entry.getValue().getOffset());
+                    }
+                }
+            }
+            done.complete(null);
+            refreshAssignment();
+            next();
+        }, failure -> {
+            metrics.failed();
+            synchronized (this) {
+                // retried with the next checkpoint, unless a newer state was requested or the partition was revoked
+                for (Map.Entry<TopicPartition, ProcessingState<?>> entry : batch.entrySet()) {
+                    if (requestedOffsets.containsKey(entry.getKey())) {
+                        pending.putIfAbsent(entry.getKey(), entry.getValue());
+                    }
+                }
+            }
+            done.completeExceptionally(failure);
+            refreshAssignment();
+            next();
+        });
+    }
+
+    private void next() {
+        CompletableFuture<Void> revoked;
+        synchronized (this) {
+            if (pendingWrite == null) {
+                writing = false;
+                return;
+            }
+            if (!pending.isEmpty()) {
+                revoked = null;
+            } else {
+                // the partitions of the pending states were revoked in the meantime
+                revoked = pendingWrite;
+                pendingWrite = null;
+                writing = false;
+            }
+        }
+        if (revoked != null) {
+            revoked.complete(null);
+        } else {
+            write();
+        }
+    }
+
+    /**
+     * Records the offsets fetched from the store, from which the lag of the partitions is computed.
+     */
+    synchronized void fetched(Map<TopicPartition, ProcessingState<?>> states) {
+        for (Map.Entry<TopicPartition, ProcessingState<?>> entry : states.entrySet()) {
+            if (!ProcessingState.isEmptyOrNull(entry.getValue())) {
+                writtenOffsets.put(entry.getKey(), entry.getValue().getOffset());
+            }
+        }
+    }
+
+    /**
+     * @return the number of offsets processed but not checkpointed yet, over the partitions with a known checkpoint
+     */
+    synchronized long lag() {
+        long lag = 0;
+        for (Map.Entry<TopicPartition, Long> entry : requestedOffsets.entrySet()) {
+            Long written = writtenOffsets.get(entry.getKey());
+            if (written != null) {
+                lag += Math.max(0, entry.getValue() - written);
+            }
+        }
+        return lag;
+    }
+
+    /**
+     * Forgets the partitions that are not part of the given assignment anymore, including their states not written yet:
+     * the partitions are now checkpointed by another consumer.
+     */
+    synchronized void assigned(Set<TopicPartition> assignment) {
+        requestedOffsets.keySet().retainAll(assignment);
+        writtenOffsets.keySet().retainAll(assignment);
+        pending.keySet().retainAll(assignment);
+    }
+
+    private void refreshAssignment() {
+        if (consumer == null) {
+            return;
+        }
+        // runs on the polling thread, hence once the rebalance that triggered the write, if any, is complete
+        consumer.getAssignments().subscribe().with(this::assigned, failure -> {
+            // the consumer is closed, the store is about to be closed as well
+        });
+    }
+
+    void close() {
+        metrics.unregister(this);
+    }
+}
@@ -25,6 +25,7 @@
 import io.smallrye.reactive.messaging.kafka.commit.CheckpointStateStore;
 import io.smallrye.reactive.messaging.kafka.commit.KafkaCommitHandler;
 import io.smallrye.reactive.messaging.kafka.commit.ProcessingState;
+import io.vertx.mutiny.core.Context;
 import io.vertx.mutiny.core.Vertx;
 
 public class HibernateOrmStateStore implements CheckpointStateStore {
@@ -33,12 +34,21 @@ public class HibernateOrmStateStore implements CheckpointStateStore {
     private final String consumerGroupId;
     private final SessionFactory sf;
     private final Class<? extends CheckpointEntity> stateType;
+    private final CheckpointWriteCoalescer coalescer;
+    // the context of the consumer, the coalesced writes are started from the completion of the previous write
+    private volatile Context context;
 
     public HibernateOrmStateStore(String consumerGroupId, SessionFactory sf,
             Class<? extends CheckpointEntity> stateType) {
+        this(consumerGroupId, sf, stateType, null, new CheckpointMetrics());
+    }
+
+    public HibernateOrmStateStore(String consumerGroupId, SessionFactory sf,
+            Class<? extends CheckpointEntity> stateType, KafkaConsumer<?, ?> consumer, CheckpointMetrics metrics) {
         this.consumerGroupId = consumerGroupId;
         this.sf = sf;
         this.stateType = stateType;
+        this.coalescer = new CheckpointWriteCoalescer(this::write, consumer, metrics);
     }
 
     @ApplicationScoped
@@ -49,6 +59,9 @@ public static class Factory implements CheckpointStateStore.Factory {
         @Any
         Instance<SessionFactory> sessionFactories;
 
+        @Inject
+        CheckpointMetrics metrics;
+
         @Override
         public CheckpointStateStore create(KafkaConnectorIncomingConfiguration config, Vertx vertx,
                 KafkaConsumer<?, ?> consumer, Class<?> stateType) {
@@ -62,7 +75,8 @@ public CheckpointStateStore create(KafkaConnectorIncomingConfiguration config, V
             SessionFactory sf = persistenceUnit != null
                     ? sessionFactories.select(new PersistenceUnit.PersistenceUnitLiteral(persistenceUnit)).get()
                     : sessionFactories.get();
-            return new HibernateOrmStateStore(consumerGroupId, sf, (Class<? extends CheckpointEntity>) stateType);
+            return new HibernateOrmStateStore(consumerGroupId, sf, (Class<? extends CheckpointEntity>) stateType, consumer,
+                    metrics);
         }
     }
 
@@ -89,6 +103,7 @@ public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collect
                                     e -> new ProcessingState<>(e, e.offset)));
                     session.flush();
                     tx.commit();
+                    coalescer.fetched(stateMap);
                     emitter.complete(stateMap);
                 } catch (Throwable t) {
                     if (tx != null) {
@@ -103,30 +118,53 @@ public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collect
 
     @Override
     public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>> state) {
-        return Uni.createFrom().deferred(() -> {
-            Object[] entities = state.entrySet().stream()
-                    .filter(e -> !ProcessingState.isEmptyOrNull(e.getValue()))
-                    .map(e -> CheckpointEntity.from((ProcessingState<? extends CheckpointEntity>) e.getValue(),
-                            new CheckpointEntityId(consumerGroupId, e.getKey())))
-                    .toArray();
-            return Vertx.currentContext().executeBlocking(Uni.createFrom().emitter(e -> {
-                Transaction tx = null;
-                try (Session session = sf.openSession()) {
-                    tx = session.beginTransaction();
-                    for (Object entity : entities) {
-                        session.merge(entity);
-                    }
-                    session.flush();
-                    tx.commit();
-                    e.complete(null);
-                } catch (Throwable t) {
-                    if (tx != null) {
-                        tx.rollback();
-                    }
-                    e.fail(t);
+        Context current = Vertx.currentContext();
+        if (current != null) {
+            context = current;
+        }
+        return coalescer.persist(state);
+    }
+
+    private Uni<Void> write(Map<TopicPartition, ProcessingState<?>> state) {
+        Object[] ids = new Object[state.size()];
+        Object[] entities = new Object[state.size()];
+        int i = 0;
+        for (Map.Entry<TopicPartition, ProcessingState<?>> e : state.entrySet()) {
+            CheckpointEntityId id = new CheckpointEntityId(consumerGroupId, e.getKey());
+            ids[i] = id;
+            entities[i++] = CheckpointEntity.from((ProcessingState<? extends CheckpointEntity>) e.getValue(), id);
+        }
+        Context current = Vertx.currentContext();
+        Context ctx = current != null ? current : context;
+        if (ctx == null) {
+            return Uni.createFrom().failure(new IllegalStateException("No Vert.x context to write the checkpoints from"));
+        }
+        return ctx.executeBlocking(Uni.createFrom().emitter(e -> {
+            Transaction tx = null;
+            try (Session session = sf.openSession()) {
+                // the updates of the merged entities are sent in a single JDBC batch
+                session.setJdbcBatchSize(entities.length);
+                tx = session.beginTransaction();
+                // the current rows are loaded with a single query, so that the merges do not load them one by one
+                session.byMultipleIds(stateType).multiLoad(ids);
+                for (Object entity : entities) {
+                    session.merge(entity);
                 }
-            }));
-        });
+                session.flush();
+                tx.commit();
+                e.complete(null);
+            } catch (Throwable t) {
+                if (tx != null) {
+                    tx.rollback();
+                }
+                e.fail(t);
+            }
+        }));
+    }
+
+    @Override
+    public void close() {
+        coalescer.close();
     }
 
 }
@@ -39,11 +39,18 @@ public class RedisStateStore implements CheckpointStateStore {
     private final String consumerGroupId;
     private final ProcessingStateCodec stateCodec;
     private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final CheckpointWriteCoalescer coalescer;
 
     public RedisStateStore(ReactiveRedisDataSource redis, String consumerGroupId, ProcessingStateCodec stateCodec) {
+        this(redis, consumerGroupId, stateCodec, null, new CheckpointMetrics());
+    }
+
+    public RedisStateStore(ReactiveRedisDataSource redis, String consumerGroupId, ProcessingStateCodec stateCodec,
+            KafkaConsumer<?, ?> consumer, CheckpointMetrics metrics) {
         this.redis = redis;
         this.consumerGroupId = consumerGroupId;
         this.stateCodec = stateCodec;
+        this.coalescer = new CheckpointWriteCoalescer(this::write, consumer, metrics);
     }
 
     @ApplicationScoped
@@ -57,6 +64,9 @@ public static class Factory implements CheckpointStateStore.Factory {
         @Inject
         Instance<ProcessingStateCodec.Factory> stateCodecFactory;
 
+        @Inject
+        CheckpointMetrics metrics;
+
         @Override
         public CheckpointStateStore create(KafkaConnectorIncomingConfiguration config, Vertx vertx,
                 KafkaConsumer<?, ?> consumer, Class<?> stateType) {
@@ -74,13 +84,14 @@ public CheckpointStateStore create(KafkaConnectorIncomingConfiguration config, V
                     return stateCodecFactory.get();
                 }
             }).create(stateType);
-            return new RedisStateStore(rds, consumerGroupId, stateCodec);
+            return new RedisStateStore(rds, consumerGroupId, stateCodec, consumer, metrics);
         }
     }
 
     @Override
     public void close() {
         closed.set(true);
+        coalescer.close();
     }
 
     @Override
@@ -92,10 +103,14 @@ public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collect
                 .map(tp -> Tuple2.of(tp, getKey(tp)))
                 .collect(Collectors.toList());
         return redis.value(byte[].class).mget(tps.stream().map(Tuple2::getItem2).toArray(String[]::new))
-                .map(response -> response.entrySet().stream()
-                        .filter(e -> e.getValue() != null)
-                        .collect(Collectors.toMap(e -> getTpFromKey(e.getKey()),
-                                e -> ProcessingState.getOrEmpty(stateCodec.decode(e.getValue())))));
+                .map(response -> {
+                    Map<TopicPartition, ProcessingState<?>> states = response.entrySet().stream()
+                            .filter(e -> e.getValue() != null)
+                            .collect(Collectors.toMap(e -> getTpFromKey(e.getKey()),
+                                    e -> ProcessingState.getOrEmpty(stateCodec.decode(e.getValue()))));
+                    coalescer.fetched(states);
+                    return states;
+                });
     }
 
     private String getKey(TopicPartition partition) {
@@ -112,6 +127,11 @@ public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>>
         if (states.isEmpty() || closed.get()) {
             return Uni.createFrom().voidItem();
         }
+        return coalescer.persist(states);
+    }
+
+    // the states of all the partitions are checked and written with a single MGET and MSET
+    private Uni<Void> write(Map<TopicPartition, ProcessingState<?>> states) {
         String[] keys = states.keySet().stream().map(this::getKey).toArray(String[]::new);
         return redis.withTransaction(r -> r.value(byte[].class).mget(keys), (current, r) -> {
             Map<String, byte[]> map = states.entrySet().stream().filter(toPersist -> {
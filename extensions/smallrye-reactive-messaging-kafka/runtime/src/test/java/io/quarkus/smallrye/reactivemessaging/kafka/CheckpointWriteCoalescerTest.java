@@ -0,0 +1,240 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.smallrye.reactive.messaging.kafka.commit.ProcessingState;
+
+public class CheckpointWriteCoalescerTest {
+
+    private static final TopicPartition P0 = new TopicPartition("topic", 0);
+    private static final TopicPartition P1 = new TopicPartition("topic", 1);
+
+    private final List<Map<TopicPartition, Long>> batches = new ArrayList<>();
+    private final List<CompletableFuture<Void>> writes = new ArrayList<>();
+    private final Map<String, Supplier<Number>> meters = new HashMap<>();
+    private final AtomicLong recordedWrites = new AtomicLong();
+    private CheckpointWriteCoalescer coalescer;
+
+    @BeforeEach
+    void setup() {
+        CheckpointMetrics metrics = new CheckpointMetrics();
+        metrics.registerMetrics(new TestMetricsFactory());
+        coalescer = new CheckpointWriteCoalescer(batch -> {
+            Map<TopicPartition, Long> offsets = new HashMap<>();
+            batch.forEach((partition, state) -> offsets.put(partition, state.getOffset()));
+            batches.add(offsets);
+            CompletableFuture<Void> write = new CompletableFuture<>();
+            writes.add(write);
+            return Uni.createFrom().completionStage(write);
+        }, null, metrics);
+    }
+
+    @Test
+    void testStatesRequestedDuringAWriteAreCoalesced() {
+        UniAssertSubscriber<Void> first = persist(Map.of(P0, 1L));
+        UniAssertSubscriber<Void> second = persist(Map.of(P0, 2L, P1, 1L));
+        UniAssertSubscriber<Void> third = persist(Map.of(P0, 3L));
+        // a single write is in flight
+        assertEquals(List.of(Map.of(P0, 1L)), batches);
+        assertEquals(1L, meter("kafka.checkpoint.states.coalesced"));
+
+        writes.get(0).complete(null);
+        first.assertCompleted();
+        // the states requested meanwhile are written together, with the latest offset of each partition
+        assertEquals(Map.of(P0, 3L, P1, 1L), batches.get(1));
+        second.assertNotTerminated();
+        third.assertNotTerminated();
+
+        writes.get(1).complete(null);
+        second.assertCompleted();
+        third.assertCompleted();
+        assertEquals(2, batches.size());
+        assertEquals(3L, meter("kafka.checkpoint.states.written"));
+        assertEquals(2L, recordedWrites.get());
+    }
+
+    @Test
+    void testUnchangedOffsetsAreSkipped() {
+        persist(Map.of(P0, 5L, P1, 3L));
+        writes.get(0).complete(null);
+
+        persist(Map.of(P0, 5L, P1, 3L)).assertCompleted();
+        assertEquals(1, batches.size());
+
+        persist(Map.of(P0, 5L, P1, 4L));
+        assertEquals(Map.of(P1, 4L), batches.get(1));
+    }
+
+    @Test
+    void testFetchedOffsetsAreSkipped() {
+        coalescer.fetched(Map.of(P0, new ProcessingState<>("state", 7L)));
+        persist(Map.of(P0, 7L)).assertCompleted();
+        assertTrue(batches.isEmpty());
+    }
+
+    @Test
+    void testFailedWriteIsRetriedWithTheNextCheckpoint() {
+        UniAssertSubscriber<Void> failed = persist(Map.of(P0, 1L, P1, 1L));
+        writes.get(0).completeExceptionally(new IllegalStateException("boom"));
+        failed.assertFailedWith(IllegalStateException.class, "boom");
+        assertEquals(1L, meter("kafka.checkpoint.write.failures"));
+
+        // the state of P1 is superseded, the one of P0 is written again
+        persist(Map.of(P1, 2L));
+        assertEquals(Map.of(P0, 1L, P1, 2L), batches.get(1));
+        writes.get(1).complete(null);
+
+        persist(Map.of(P0, 1L, P1, 2L)).assertCompleted();
+        assertEquals(2, batches.size());
+    }
+
+    @Test
+    void testLag() {
+        coalescer.fetched(Map.of(P0, new ProcessingState<>("state", 10L), P1, new ProcessingState<>("state", 10L)));
+        persist(Map.of(P0, 15L, P1, 12L));
+        assertEquals(7L, meter("kafka.checkpoint.lag"));
+        writes.get(0).complete(null);
+        assertEquals(0L, meter("kafka.checkpoint.lag"));
+    }
+
+    @Test
+    void testRevokedPartitionsAreForgotten() {
+        coalescer.fetched(Map.of(P0, new ProcessingState<>("state", 10L), P1, new ProcessingState<>("state", 10L)));
+        persist(Map.of(P0, 15L, P1, 12L));
+        writes.get(0).completeExceptionally(new IllegalStateException("boom"));
+        assertEquals(7L, meter("kafka.checkpoint.lag"));
+
+        // P0 is now checkpointed by another consumer
+        coalescer.assigned(Set.of(P1));
+        assertEquals(2L, meter("kafka.checkpoint.lag"));
+
+        // the failed state of P0 is not written anymore
+        persist(Map.of(P1, 13L));
+        assertEquals(Map.of(P1, 13L), batches.get(1));
+
+        // a state requested before the partition is revoked is not written
+        UniAssertSubscriber<Void> revoked = persist(Map.of(P0, 20L));
+        coalescer.assigned(Set.of(P1));
+        writes.get(1).complete(null);
+        revoked.assertCompleted();
+        assertEquals(2, batches.size());
+        assertEquals(0L, meter("kafka.checkpoint.lag"));
+
+        // a write in flight when the partition is revoked does not record its offset
+        persist(Map.of(P0, 21L));
+        coalescer.assigned(Set.of(P1));
+        writes.get(2).complete(null);
+        persist(Map.of(P0, 21L));
+        assertEquals(4, batches.size());
+    }
+
+    @Test
+    void testWriterFailure() {
+        CheckpointWriteCoalescer failing = new CheckpointWriteCoalescer(batch -> {
+            throw new IllegalArgumentException("invalid");
+        }, null, new CheckpointMetrics());
+        assertThrows(IllegalArgumentException.class,
+                () -> failing.persist(Map.of(P0, new ProcessingState<>("state", 1L))).await()
+                        .atMost(Duration.ofSeconds(5)));
+    }
+
+    private UniAssertSubscriber<Void> persist(Map<TopicPartition, Long> offsets) {
+        Map<TopicPartition, ProcessingState<?>> states = new HashMap<>();
+        offsets.forEach((partition, offset) -> states.put(partition, new ProcessingState<>("state", offset)));
+        return coalescer.persist(states).subscribe().withSubscriber(UniAssertSubscriber.create());
+    }
+
+    private long meter(String name) {
+        return meters.get(name).get().longValue();
+    }
+
+    private class TestMetricsFactory implements MetricsFactory {
+
+        @Override
+        public boolean metricsSystemSupported(String name) {
+            return true;
+        }
+
+        @Override
+        public MetricBuilder builder(String name, Type type) {
+            return new MetricBuilder() {
+
+                @Override
+                public MetricBuilder description(String description) {
+                    return this;
+                }
+
+                @Override
+                public MetricBuilder tag(String key, String value) {
+                    return this;
+                }
+
+                @Override
+                public MetricBuilder unit(String unit) {
+                    return this;
+                }
+
+                @Override
+                public void buildCounter(Supplier<Number> countFunction) {
+                    meters.put(name, countFunction);
+                }
+
+                @Override
+                public <T, R extends Number> void buildCounter(T obj, Function<T, R> countFunction) {
+                    meters.put(name, () -> countFunction.apply(obj));
+                }
+
+                @Override
+                public void buildGauge(Supplier<Number> gaugeFunction) {
+                    meters.put(name, gaugeFunction);
+                }
+
+                @Override
+                public <T, R extends Number> void buildGauge(T obj, Function<T, R> gaugeFunction) {
+                    meters.put(name, () -> gaugeFunction.apply(obj));
+                }
+
+                @Override
+                public TimeRecorder buildTimer() {
+                    return (amount, unit) -> recordedWrites.incrementAndGet();
+                }
+
+                @Override
+                public Runnable buildTimer(Runnable f) {
+                    return f;
+                }
+
+                @Override
+                public <T> Callable<T> buildTimer(Callable<T> f) {
+                    return f;
+                }
+
+                @Override
+                public <T> Supplier<T> buildTimer(Supplier<T> f) {
+                    return f;
+                }
+            };
+        }
+    }
+}
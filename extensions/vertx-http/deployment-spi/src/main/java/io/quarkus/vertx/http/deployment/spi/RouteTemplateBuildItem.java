@@ -0,0 +1,41 @@
+package io.quarkus.vertx.http.deployment.spi;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * A path template of a route served by the application, such as {@code /items/{id}}.
+ * <p>
+ * Observability extensions use the templates to report the paths of the HTTP requests with a bounded number of values.
+ * The path is relative to the HTTP root path and should be prefixed with {@code '/'}. A segment that starts with
+ * {@code ':'}, or contains a path parameter such as {@code {id}}, matches any single segment, and a trailing {@code '*'}
+ * matches the remaining segments.
+ */
+public final class RouteTemplateBuildItem extends MultiBuildItem {
+
+    private final String path;
+    private final String template;
+
+    /**
+     * @param path the path template, which is also the reported value
+     */
+    public RouteTemplateBuildItem(String path) {
+        this(path, path);
+    }
+
+    /**
+     * @param path the path template matched against the path of the requests
+     * @param template the value reported for the matching requests
+     */
+    public RouteTemplateBuildItem(String path, String template) {
+        this.path = path;
+        this.template = template;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+}
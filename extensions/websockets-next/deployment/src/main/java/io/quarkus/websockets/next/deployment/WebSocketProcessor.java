@@ -64,6 +64,7 @@
 import io.quarkus.deployment.builditem.RuntimeConfigSetupCompleteBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.execannotations.ExecutionModelAnnotationsAllowedBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.gizmo.BytecodeCreator;
 import io.quarkus.gizmo.CatchBlockCreator;
 import io.quarkus.gizmo.ClassCreator;
@@ -91,6 +92,7 @@
 import io.quarkus.websockets.next.deployment.Callback.MessageType;
 import io.quarkus.websockets.next.deployment.Callback.Target;
 import io.quarkus.websockets.next.runtime.BasicWebSocketConnectorImpl;
+import io.quarkus.websockets.next.runtime.BroadcastMetrics;
 import io.quarkus.websockets.next.runtime.ClientConnectionManager;
 import io.quarkus.websockets.next.runtime.Codecs;
 import io.quarkus.websockets.next.runtime.ConnectionManager;
@@ -185,7 +187,8 @@ void additionalBeans(CombinedIndexBuildItem combinedIndex, BuildProducer<Additio
                 .setUnremovable()
                 .addBeanClasses(Codecs.class, ClientConnectionManager.class, BasicWebSocketConnectorImpl.class);
         if (!index.getAnnotations(WebSocketDotNames.WEB_SOCKET).isEmpty()) {
-            unremovable.addBeanClasses(ConnectionManager.class, WebSocketHttpServerOptionsCustomizer.class);
+            unremovable.addBeanClasses(ConnectionManager.class, BroadcastMetrics.class,
+                    WebSocketHttpServerOptionsCustomizer.class);
         }
         additionalBeans.produce(unremovable.build());
     }
@@ -442,6 +445,15 @@ public void registerRoutes(WebSocketServerRecorder recorder, HttpRootPathBuildIt
         }
     }
 
+    @Record(RUNTIME_INIT)
+    @BuildStep
+    void registerBroadcastMetrics(WebSocketServerRecorder recorder, List<GeneratedEndpointBuildItem> generatedEndpoints,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metricsFactoryConsumers) {
+        if (generatedEndpoints.stream().anyMatch(GeneratedEndpointBuildItem::isServer)) {
+            metricsFactoryConsumers.produce(new MetricsFactoryConsumerBuildItem(recorder.broadcastMetrics()));
+        }
+    }
+
     @BuildStep
     UnremovableBeanBuildItem makeHttpUpgradeChecksUnremovable() {
         // we access the checks programmatically
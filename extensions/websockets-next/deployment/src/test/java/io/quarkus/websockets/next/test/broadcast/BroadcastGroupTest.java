@@ -0,0 +1,131 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URI;
+
+import jakarta.inject.Inject;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnOpen;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.OpenConnections;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.WebSocketServerException;
+import io.quarkus.websockets.next.test.utils.WSClient;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+
+public class BroadcastGroupTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Room.class, Other.class, WSClient.class);
+            }).overrideConfigKey("quarkus.websockets-next.server.max-group-size", "3");
+
+    @Inject
+    Vertx vertx;
+
+    @TestHTTPResource("room/a")
+    URI roomAUri;
+
+    @TestHTTPResource("room/b")
+    URI roomBUri;
+
+    @TestHTTPResource("other/a")
+    URI otherAUri;
+
+    @Inject
+    OpenConnections connections;
+
+    @Test
+    void testGroups() {
+        try (WSClient a1 = WSClient.create(vertx).connect(roomAUri);
+                WSClient a2 = WSClient.create(vertx).connect(roomAUri);
+                WSClient a3 = WSClient.create(vertx);
+                WSClient a4 = WSClient.create(vertx);
+                WSClient b1 = WSClient.create(vertx).connect(roomBUri);
+                WSClient o1 = WSClient.create(vertx).connect(otherAUri)) {
+            assertEquals("joined", firstMessage(a1));
+            assertEquals("joined", firstMessage(a2));
+            assertEquals("joined", firstMessage(b1));
+            assertEquals("joined", firstMessage(o1));
+            assertEquals(3, connections.findByGroup("a").size());
+            assertEquals(1, connections.findByGroup("b").size());
+
+            // The group is full
+            a3.connect(roomAUri);
+            assertEquals("full", firstMessage(a3));
+
+            // Only the members connected to the same endpoint receive the message
+            a1.sendAndAwait("hello");
+            a1.waitForMessages(2);
+            a2.waitForMessages(2);
+            assertEquals("hello", a1.getLastMessage().toString());
+            assertEquals("hello", a2.getLastMessage().toString());
+            b1.sendAndAwait("bye");
+            b1.waitForMessages(2);
+            assertEquals("bye", b1.getLastMessage().toString());
+            assertEquals(1, a3.getMessages().size());
+            assertEquals(1, o1.getMessages().size());
+
+            // A closed connection leaves its groups
+            a2.disconnect();
+            Awaitility.await().until(() -> connections.findByGroup("a").size() == 2);
+            a4.connect(roomAUri);
+            assertEquals("joined", firstMessage(a4));
+        }
+    }
+
+    static String firstMessage(WSClient client) {
+        client.waitForMessages(1);
+        return client.getMessages().get(0).toString();
+    }
+
+    @WebSocket(path = "/room/{room}")
+    public static class Room {
+
+        @Inject
+        WebSocketConnection connection;
+
+        @OnOpen
+        String open() {
+            return join(connection);
+        }
+
+        @OnTextMessage
+        Uni<Void> message(String message) {
+            return connection.broadcast().group(connection.pathParam("room")).sendText(message);
+        }
+
+    }
+
+    @WebSocket(path = "/other/{room}")
+    public static class Other {
+
+        @Inject
+        WebSocketConnection connection;
+
+        @OnOpen
+        String open() {
+            return join(connection);
+        }
+
+    }
+
+    static String join(WebSocketConnection connection) {
+        try {
+            return connection.joinGroup(connection.pathParam("room")) ? "joined" : "member";
+        } catch (WebSocketServerException e) {
+            return "full";
+        }
+    }
+
+}
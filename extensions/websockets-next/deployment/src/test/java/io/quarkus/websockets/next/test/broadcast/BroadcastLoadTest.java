@@ -0,0 +1,142 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.WebSocketClient;
+import io.vertx.core.http.WebSocketClientOptions;
+
+/**
+ * Broadcasts messages to many in-JVM client connections, spread over the event loops of the server.
+ * <p>
+ * The test opens 100 connections by default. The number can be raised with the {@value #CONNECTIONS_PROPERTY} system
+ * property, e.g. to tens of thousands when the open files limit allows it.
+ */
+public class BroadcastLoadTest {
+
+    private static final Logger LOG = Logger.getLogger(BroadcastLoadTest.class);
+
+    static final String CONNECTIONS_PROPERTY = "websockets-next.broadcast-load-test.connections";
+
+    static final int CONNECTIONS = Integer.getInteger(CONNECTIONS_PROPERTY, 100);
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Fanout.class);
+            });
+
+    @TestHTTPResource("fanout")
+    URI fanoutUri;
+
+    @Inject
+    Vertx vertx;
+
+    WebSocketClient client;
+
+    final AtomicInteger textMessages = new AtomicInteger();
+
+    final AtomicInteger binaryMessages = new AtomicInteger();
+
+    final List<io.vertx.core.http.WebSocket> sockets = new ArrayList<>();
+
+    @BeforeEach
+    void connect() throws InterruptedException {
+        client = vertx.createWebSocketClient(new WebSocketClientOptions().setMaxConnections(CONNECTIONS));
+        CountDownLatch connectedLatch = new CountDownLatch(CONNECTIONS);
+        for (int i = 0; i < CONNECTIONS; i++) {
+            client.connect(fanoutUri.getPort(), fanoutUri.getHost(), fanoutUri.getPath()).onComplete(r -> {
+                if (r.succeeded()) {
+                    io.vertx.core.http.WebSocket ws = r.result();
+                    ws.textMessageHandler(msg -> {
+                        if (msg.length() == Fanout.LARGE && msg.endsWith("z")) {
+                            textMessages.incrementAndGet();
+                        }
+                    });
+                    ws.binaryMessageHandler(msg -> {
+                        if (msg.length() == Fanout.LARGE && msg.getByte(Fanout.LARGE - 1) == 'z') {
+                            binaryMessages.incrementAndGet();
+                        }
+                    });
+                    synchronized (sockets) {
+                        sockets.add(ws);
+                    }
+                    connectedLatch.countDown();
+                } else {
+                    LOG.error("Unable to connect", r.cause());
+                }
+            });
+        }
+        assertTrue(connectedLatch.await(60, TimeUnit.SECONDS));
+    }
+
+    @AfterEach
+    void close() throws Exception {
+        client.close().toCompletionStage().toCompletableFuture().get();
+    }
+
+    @Test
+    public void testBroadcast() throws InterruptedException {
+        // The messages are larger than the max frame size and thus split in several frames
+        broadcast("text", textMessages);
+        broadcast("binary", binaryMessages);
+    }
+
+    private void broadcast(String type, AtomicInteger received) throws InterruptedException {
+        long start = System.nanoTime();
+        sockets.get(0).writeTextMessage(type);
+        long deadline = System.currentTimeMillis() + 60_000;
+        while (received.get() < CONNECTIONS && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertEquals(CONNECTIONS, received.get());
+        LOG.infof("Broadcast %s message of %s bytes received by %s connections in %s ms", type, Fanout.LARGE, CONNECTIONS,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @WebSocket(path = "/fanout")
+    public static class Fanout {
+
+        static final int LARGE = 100_000;
+
+        @Inject
+        WebSocketConnection connection;
+
+        @OnTextMessage
+        Uni<Void> process(String type) {
+            byte[] payload = new byte[LARGE];
+            Arrays.fill(payload, (byte) 'a');
+            payload[LARGE - 1] = 'z';
+            if (type.equals("text")) {
+                return connection.broadcast().sendText(new String(payload));
+            }
+            return connection.broadcast().sendBinary(Buffer.buffer(payload));
+        }
+
+    }
+
+}
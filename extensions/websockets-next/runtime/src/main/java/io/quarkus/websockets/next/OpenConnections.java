@@ -45,6 +45,17 @@ default Optional<WebSocketConnection> findByConnectionId(String connectionId) {
         return stream().filter(c -> c.id().equals(connectionId)).findFirst();
     }
 
+    /**
+     * Returns an immutable snapshot of all open connections that are members of the given group.
+     *
+     * @param group
+     * @return an immutable collection of all open connections that are members of the given group
+     * @see WebSocketConnection#joinGroup(String)
+     */
+    default Collection<WebSocketConnection> findByGroup(String group) {
+        return stream().filter(c -> c.groups().contains(group)).toList();
+    }
+
     /**
      * Returns the stream of all open connections at the given time.
      *
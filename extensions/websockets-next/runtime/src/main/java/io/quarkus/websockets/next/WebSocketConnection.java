@@ -57,6 +57,36 @@ public interface WebSocketConnection extends Sender, BlockingSender {
      */
     Set<WebSocketConnection> getOpenConnections();
 
+    /**
+     * Adds this connection to the given group.
+     * <p>
+     * A group is a named set of connections, such as the users of a chat room or the subscribers of a topic. The members
+     * can be found with {@link OpenConnections#findByGroup(String)} and the messages can be sent to the members connected
+     * to the same endpoint with {@link BroadcastSender#group(String)}. The connection leaves all its groups when it is
+     * closed.
+     *
+     * @param group
+     * @return {@code true} if the connection joined the group, {@code false} if it was already a member or is closed
+     * @throws WebSocketServerException if the group reached the maximum number of members, see
+     *         {@code quarkus.websockets-next.server.max-group-size}
+     */
+    boolean joinGroup(String group);
+
+    /**
+     * Removes this connection from the given group.
+     *
+     * @param group
+     * @return {@code true} if the connection left the group, {@code false} if it was not a member
+     */
+    boolean leaveGroup(String group);
+
+    /**
+     *
+     * @return the immutable set of groups this connection is a member of
+     * @see #joinGroup(String)
+     */
+    Set<String> groups();
+
     /**
      * @return {@code true} if the HTTP connection is encrypted via SSL/TLS
      */
@@ -146,6 +176,17 @@ interface BroadcastSender extends Sender, BlockingSender {
          */
         BroadcastSender filter(Predicate<WebSocketConnection> predicate);
 
+        /**
+         * Only the members of the group are considered, so that the cost of sending a message depends on the size of the
+         * group and not on the number of connections to the endpoint.
+         *
+         * @param group
+         * @return a new sender that sends messages to all open clients connected to the same WebSocket endpoint and members
+         *         of the given group
+         * @see WebSocketConnection#joinGroup(String)
+         */
+        BroadcastSender group(String group);
+
     }
 
 }
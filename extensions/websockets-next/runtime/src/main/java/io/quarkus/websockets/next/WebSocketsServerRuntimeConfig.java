@@ -39,6 +39,12 @@ public interface WebSocketsServerRuntimeConfig {
      */
     OptionalInt maxMessageSize();
 
+    /**
+     * The maximum number of connections in a group, see {@link WebSocketConnection#joinGroup(String)}. By default, the
+     * number of members is not limited.
+     */
+    OptionalInt maxGroupSize();
+
     /**
      * The interval after which, when set, the server sends a ping message to a connected client automatically.
      * <p>
@@ -0,0 +1,168 @@
+package io.quarkus.websockets.next.runtime;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.EventLoop;
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.WebSocketFrameType;
+import io.vertx.core.http.impl.ws.WebSocketFrameImpl;
+
+/**
+ * A message broadcast to a list of connections.
+ * <p>
+ * The message is encoded once in a direct buffer shared by the frames written to all the connections, so that neither
+ * the encoding nor the copy to the socket buffer is repeated per connection. The connections are grouped by the event
+ * loop of their channel and each event loop receives one task writing the frames of its connections. The buffer is
+ * released when all the writes have completed.
+ */
+final class BroadcastFanOut {
+
+    // Vert.x splits the messages in frames of this size by default
+    private static final int MAX_FRAME_SIZE = HttpServerOptions.DEFAULT_MAX_WEBSOCKET_FRAME_SIZE;
+
+    private final WebSocketFrameType type;
+    private final ByteBuf payload;
+    // the original message, for the traffic logger
+    private final Object message;
+    private final BroadcastMetrics metrics;
+    private final int connections;
+    private final long startNanos;
+    private final CompletableFuture<Void> result;
+    // the frame writes and the tasks not completed yet, plus one until all the tasks are submitted
+    private final AtomicInteger pending;
+
+    private BroadcastFanOut(WebSocketFrameType type, ByteBuf payload, Object message, BroadcastMetrics metrics,
+            int connections) {
+        this.type = type;
+        this.payload = payload;
+        this.message = message;
+        this.metrics = metrics;
+        this.connections = connections;
+        this.startNanos = System.nanoTime();
+        this.result = new CompletableFuture<>();
+        this.pending = new AtomicInteger(1);
+    }
+
+    static CompletionStage<Void> sendText(String message, List<WebSocketConnectionImpl> connections,
+            BroadcastMetrics metrics) {
+        ByteBuf payload = Unpooled.directBuffer(ByteBufUtil.utf8Bytes(message));
+        ByteBufUtil.writeUtf8(payload, message);
+        return new BroadcastFanOut(WebSocketFrameType.TEXT, payload, message, metrics, connections.size())
+                .send(connections);
+    }
+
+    static CompletionStage<Void> sendBinary(Buffer message, List<WebSocketConnectionImpl> connections,
+            BroadcastMetrics metrics) {
+        ByteBuf payload = Unpooled.directBuffer(message.length());
+        payload.writeBytes(message.getByteBuf());
+        return new BroadcastFanOut(WebSocketFrameType.BINARY, payload, message, metrics, connections.size())
+                .send(connections);
+    }
+
+    private CompletionStage<Void> send(List<WebSocketConnectionImpl> connections) {
+        // the connections without a known event loop are written from the current thread
+        Map<EventLoop, List<WebSocketConnectionImpl>> eventLoops = new HashMap<>();
+        for (WebSocketConnectionImpl connection : connections) {
+            eventLoops.computeIfAbsent(connection.eventLoop(), k -> new ArrayList<>()).add(connection);
+        }
+        for (Map.Entry<EventLoop, List<WebSocketConnectionImpl>> entry : eventLoops.entrySet()) {
+            EventLoop eventLoop = entry.getKey();
+            List<WebSocketConnectionImpl> group = entry.getValue();
+            if (eventLoop == null || eventLoop.inEventLoop()) {
+                write(group);
+            } else {
+                pending.incrementAndGet();
+                try {
+                    eventLoop.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            try {
+                                write(group);
+                            } finally {
+                                completed();
+                            }
+                        }
+                    });
+                } catch (Throwable t) {
+                    for (int i = 0; i < group.size(); i++) {
+                        metrics.messageFailed();
+                    }
+                    result.completeExceptionally(t);
+                    completed();
+                }
+            }
+        }
+        completed();
+        return result;
+    }
+
+    private void write(List<WebSocketConnectionImpl> group) {
+        int length = payload.readableBytes();
+        for (WebSocketConnectionImpl connection : group) {
+            if (length <= MAX_FRAME_SIZE) {
+                writeFrame(connection, new WebSocketFrameImpl(type, payload.duplicate(), true));
+            } else {
+                for (int offset = 0; offset < length; offset += MAX_FRAME_SIZE) {
+                    int size = Math.min(MAX_FRAME_SIZE, length - offset);
+                    writeFrame(connection, new WebSocketFrameImpl(offset == 0 ? type : WebSocketFrameType.CONTINUATION,
+                            payload.slice(offset, size), offset + size == length));
+                }
+            }
+        }
+    }
+
+    private void writeFrame(WebSocketConnectionImpl connection, WebSocketFrameImpl frame) {
+        pending.incrementAndGet();
+        Future<Void> future;
+        try {
+            // the frame wraps the shared buffer in an unreleasable buffer, the payload is released in completed()
+            future = connection.webSocket().writeFrame(frame);
+        } catch (Throwable t) {
+            future = Future.failedFuture(t);
+        }
+        future.onComplete(r -> {
+            if (frame.isFinal()) {
+                if (r.succeeded()) {
+                    logSent(connection);
+                } else {
+                    metrics.messageFailed();
+                }
+            }
+            if (r.failed()) {
+                result.completeExceptionally(r.cause());
+            }
+            completed();
+        });
+    }
+
+    private void logSent(WebSocketConnectionImpl connection) {
+        TrafficLogger trafficLogger = connection.trafficLogger;
+        if (trafficLogger != null) {
+            if (message instanceof String text) {
+                trafficLogger.textMessageSent(connection, text);
+            } else {
+                trafficLogger.binaryMessageSent(connection, (Buffer) message);
+            }
+        }
+    }
+
+    private void completed() {
+        if (pending.decrementAndGet() == 0) {
+            // all the frames were written or failed, the channels do not reference the payload anymore
+            payload.release();
+            metrics.broadcastSent(connections, startNanos);
+            result.complete(null);
+        }
+    }
+}
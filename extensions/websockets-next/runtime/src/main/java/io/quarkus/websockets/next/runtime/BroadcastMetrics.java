@@ -0,0 +1,63 @@
+package io.quarkus.websockets.next.runtime;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.inject.Singleton;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
+
+/**
+ * Collects the metrics of the broadcasts sent to the connections of the server endpoints.
+ * <p>
+ * The metrics are exposed when a metrics extension is present, see {@link WebSocketServerRecorder#broadcastMetrics()}.
+ */
+@Singleton
+public class BroadcastMetrics {
+
+    private final LongAdder broadcasts = new LongAdder();
+    private final LongAdder messages = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private volatile TimeRecorder fanOut;
+
+    void broadcastSent(int connections, long startNanos) {
+        broadcasts.increment();
+        messages.add(connections);
+        TimeRecorder recorder = fanOut;
+        if (recorder != null) {
+            recorder.update(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    void messageFailed() {
+        failures.increment();
+    }
+
+    long broadcasts() {
+        return broadcasts.sum();
+    }
+
+    long messages() {
+        return messages.sum();
+    }
+
+    long failures() {
+        return failures.sum();
+    }
+
+    void registerMetrics(MetricsFactory metricsFactory) {
+        metricsFactory.builder("websockets.broadcast.count")
+                .description("Number of broadcasts sent to at least one connection.")
+                .buildCounter(this::broadcasts);
+        metricsFactory.builder("websockets.broadcast.messages")
+                .description("Number of messages written by the broadcasts, one per connection.")
+                .buildCounter(this::messages);
+        metricsFactory.builder("websockets.broadcast.failures")
+                .description("Number of messages of the broadcasts that could not be written to their connection.")
+                .buildCounter(this::failures);
+        fanOut = metricsFactory.builder("websockets.broadcast.fanout")
+                .description("Time from the start of a broadcast until its message was written to all the connections.")
+                .buildTimer();
+    }
+}
@@ -1,5 +1,6 @@
 package io.quarkus.websockets.next.runtime;
 
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
@@ -20,6 +21,8 @@
 import io.quarkus.websockets.next.Open;
 import io.quarkus.websockets.next.OpenConnections;
 import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.WebSocketServerException;
+import io.quarkus.websockets.next.WebSocketsServerRuntimeConfig;
 
 @Singleton
 public class ConnectionManager implements OpenConnections {
@@ -29,18 +32,25 @@ public class ConnectionManager implements OpenConnections {
     // generatedEndpointClassName -> open connections
     private final ConcurrentMap<String, Set<WebSocketConnection>> endpointToConnections = new ConcurrentHashMap<>();
 
+    // group -> members, a group is removed when its last member leaves
+    private final ConcurrentMap<String, Set<WebSocketConnection>> groupToConnections = new ConcurrentHashMap<>();
+
     private final List<ConnectionListener> listeners = new CopyOnWriteArrayList<>();
 
+    private final int maxGroupSize;
+
     private final Event<WebSocketConnection> openEvent;
     private final Event<WebSocketConnection> closedEvent;
 
-    ConnectionManager(@Open Event<WebSocketConnection> openEvent, @Closed Event<WebSocketConnection> closedEvent) {
+    ConnectionManager(@Open Event<WebSocketConnection> openEvent, @Closed Event<WebSocketConnection> closedEvent,
+            WebSocketsServerRuntimeConfig config) {
         ArcContainer container = Arc.container();
         this.openEvent = container.resolveObserverMethods(WebSocketConnection.class, Open.Literal.INSTANCE).isEmpty()
                 ? null
                 : openEvent;
         this.closedEvent = container.resolveObserverMethods(WebSocketConnection.class, Closed.Literal.INSTANCE)
                 .isEmpty() ? null : closedEvent;
+        this.maxGroupSize = config.maxGroupSize().orElse(Integer.MAX_VALUE);
     }
 
     @Override
@@ -53,6 +63,11 @@ public Stream<WebSocketConnection> stream() {
         return endpointToConnections.values().stream().flatMap(Set::stream).filter(WebSocketConnection::isOpen);
     }
 
+    @Override
+    public Collection<WebSocketConnection> findByGroup(String group) {
+        return getGroupConnections(group).stream().filter(WebSocketConnection::isOpen).toList();
+    }
+
     void add(String endpoint, WebSocketConnection connection) {
         LOG.debugf("Add connection: %s", connection);
         if (endpointToConnections.computeIfAbsent(endpoint, e -> ConcurrentHashMap.newKeySet()).add(connection)) {
@@ -77,6 +92,11 @@ void remove(String endpoint, WebSocketConnection connection) {
         Set<WebSocketConnection> connections = endpointToConnections.get(endpoint);
         if (connections != null) {
             if (connections.remove(connection)) {
+                if (connection instanceof WebSocketConnectionImpl impl) {
+                    for (String group : impl.groups()) {
+                        leaveGroup(group, impl);
+                    }
+                }
                 if (closedEvent != null) {
                     closedEvent.fireAsync(connection);
                 }
@@ -107,6 +127,55 @@ public Set<WebSocketConnection> getConnections(String endpoint) {
         return ret;
     }
 
+    /**
+     *
+     * @param group
+     * @return the members of the given group, never {@code null}
+     */
+    public Set<WebSocketConnection> getGroupConnections(String group) {
+        Set<WebSocketConnection> ret = groupToConnections.get(group);
+        if (ret == null) {
+            return Set.of();
+        }
+        return ret;
+    }
+
+    boolean joinGroup(String group, WebSocketConnectionImpl connection) {
+        boolean[] joined = new boolean[1];
+        // compute() makes the check of the max size and the addition atomic
+        groupToConnections.compute(group, (g, members) -> {
+            if (members == null) {
+                members = ConcurrentHashMap.newKeySet();
+            } else if (members.contains(connection)) {
+                return members;
+            } else if (members.size() >= maxGroupSize
+                    // The closed connections may not be removed yet
+                    && (!members.removeIf(WebSocketConnection::isClosed) || members.size() >= maxGroupSize)) {
+                throw new WebSocketServerException(
+                        "Unable to join the group [" + group + "]: the maximum number of members " + maxGroupSize
+                                + " was reached");
+            }
+            joined[0] = members.add(connection);
+            return members;
+        });
+        if (joined[0]) {
+            LOG.debugf("Connection joined group %s: %s", group, connection);
+        }
+        return joined[0];
+    }
+
+    boolean leaveGroup(String group, WebSocketConnectionImpl connection) {
+        boolean[] left = new boolean[1];
+        groupToConnections.computeIfPresent(group, (g, members) -> {
+            left[0] = members.remove(connection);
+            return members.isEmpty() ? null : members;
+        });
+        if (left[0]) {
+            LOG.debugf("Connection left group %s: %s", group, connection);
+        }
+        return left[0];
+    }
+
     public void addListener(ConnectionListener listener) {
         this.listeners.add(listener);
     }
@@ -114,6 +183,7 @@ public void addListener(ConnectionListener listener) {
     @PreDestroy
     void destroy() {
         endpointToConnections.clear();
+        groupToConnections.clear();
     }
 
     public interface ConnectionListener {
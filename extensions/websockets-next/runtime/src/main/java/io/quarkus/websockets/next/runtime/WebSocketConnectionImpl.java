@@ -1,22 +1,27 @@
 package io.quarkus.websockets.next.runtime;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.BiFunction;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import io.netty.channel.EventLoop;
 import io.quarkus.websockets.next.HandshakeRequest;
 import io.quarkus.websockets.next.WebSocketConnection;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.ServerWebSocket;
 import io.vertx.core.http.WebSocketBase;
+import io.vertx.core.http.impl.WebSocketInternal;
 import io.vertx.ext.web.RoutingContext;
 
 class WebSocketConnectionImpl extends WebSocketConnectionBase implements WebSocketConnection {
@@ -29,17 +34,28 @@ class WebSocketConnectionImpl extends WebSocketConnectionBase implements WebSock
 
     private final ConnectionManager connectionManager;
 
+    private final BroadcastMetrics broadcastMetrics;
+
+    private final EventLoop eventLoop;
+
     private final BroadcastSender defaultBroadcast;
 
+    private final Set<String> groups;
+
     WebSocketConnectionImpl(String generatedEndpointClass, String endpointClass, ServerWebSocket webSocket,
-            ConnectionManager connectionManager,
+            ConnectionManager connectionManager, BroadcastMetrics broadcastMetrics,
             Codecs codecs, RoutingContext ctx, TrafficLogger trafficLogger) {
         super(Map.copyOf(ctx.pathParams()), codecs, new HandshakeRequestImpl(webSocket, ctx), trafficLogger);
         this.generatedEndpointClass = generatedEndpointClass;
         this.endpointId = endpointClass;
         this.webSocket = Objects.requireNonNull(webSocket);
         this.connectionManager = Objects.requireNonNull(connectionManager);
-        this.defaultBroadcast = new BroadcastImpl(null);
+        this.broadcastMetrics = Objects.requireNonNull(broadcastMetrics);
+        // The event loop of the channel, used to group the connections of a broadcast
+        this.eventLoop = webSocket instanceof WebSocketInternal ws ? ws.channelHandlerContext().channel().eventLoop()
+                : null;
+        this.defaultBroadcast = new BroadcastImpl(null, null);
+        this.groups = ConcurrentHashMap.newKeySet();
     }
 
     @Override
@@ -47,6 +63,10 @@ WebSocketBase webSocket() {
         return webSocket;
     }
 
+    EventLoop eventLoop() {
+        return eventLoop;
+    }
+
     @Override
     public String endpointId() {
         return endpointId;
@@ -63,6 +83,32 @@ public Set<WebSocketConnection> getOpenConnections() {
                 .collect(Collectors.toUnmodifiableSet());
     }
 
+    @Override
+    public boolean joinGroup(String group) {
+        Objects.requireNonNull(group);
+        if (isClosed() || !connectionManager.joinGroup(group, this)) {
+            return false;
+        }
+        groups.add(group);
+        if (isClosed()) {
+            // The connection was closed concurrently and might have been removed before it joined the group
+            leaveGroup(group);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean leaveGroup(String group) {
+        groups.remove(Objects.requireNonNull(group));
+        return connectionManager.leaveGroup(group, this);
+    }
+
+    @Override
+    public Set<String> groups() {
+        return Collections.unmodifiableSet(groups);
+    }
+
     @Override
     public String subprotocol() {
         return webSocket.subProtocol();
@@ -164,49 +210,39 @@ static Map<String, List<String>> initHeaders(RoutingContext ctx) {
 
     private class BroadcastImpl implements WebSocketConnection.BroadcastSender {
 
-        private static final BiFunction<WebSocketConnection, String, Uni<Void>> SEND_TEXT_STR = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, String s) {
-                return c.sendText(s);
-            }
-        };
-        private static final BiFunction<WebSocketConnection, Object, Uni<Void>> SEND_TEXT_POJO = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, Object o) {
-                return c.sendText(o);
-            }
-        };
-        private static final BiFunction<WebSocketConnection, Buffer, Uni<Void>> SEND_BINARY = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, Buffer b) {
-                return c.sendBinary(b);
-            }
-        };
-
         private final Predicate<WebSocketConnection> filter;
 
-        BroadcastImpl(Predicate<WebSocketConnection> filter) {
+        private final String group;
+
+        BroadcastImpl(Predicate<WebSocketConnection> filter, String group) {
             this.filter = filter;
+            this.group = group;
         }
 
         @Override
         public BroadcastSender filter(Predicate<WebSocketConnection> predicate) {
-            return new BroadcastImpl(Objects.requireNonNull(predicate));
+            return new BroadcastImpl(Objects.requireNonNull(predicate), group);
+        }
+
+        @Override
+        public BroadcastSender group(String group) {
+            return new BroadcastImpl(filter, Objects.requireNonNull(group));
         }
 
         @Override
         public Uni<Void> sendText(String message) {
-            return doSend(SEND_TEXT_STR, message);
+            return doSend(connections -> BroadcastFanOut.sendText(message, connections, broadcastMetrics));
         }
 
         @Override
         public <M> Uni<Void> sendText(M message) {
-            return doSend(SEND_TEXT_POJO, message);
+            // The message is encoded once for all the connections
+            return doSend(connections -> BroadcastFanOut.sendText(encodeText(message), connections, broadcastMetrics));
         }
 
         @Override
         public Uni<Void> sendBinary(Buffer message) {
-            return doSend(SEND_BINARY, message);
+            return doSend(connections -> BroadcastFanOut.sendBinary(message, connections, broadcastMetrics));
         }
 
         @Override
@@ -219,18 +255,24 @@ public Uni<Void> sendPong(Buffer data) {
             throw new UnsupportedOperationException();
         }
 
-        private <M> Uni<Void> doSend(BiFunction<WebSocketConnection, M, Uni<Void>> function, M message) {
-            Set<WebSocketConnection> connections = connectionManager.getConnections(generatedEndpointClass);
+        private Uni<Void> doSend(Function<List<WebSocketConnectionImpl>, CompletionStage<Void>> fanOut) {
+            // The members of a group may be connected to other endpoints
+            Set<WebSocketConnection> connections = group == null
+                    ? connectionManager.getConnections(generatedEndpointClass)
+                    : connectionManager.getGroupConnections(group);
             if (connections.isEmpty()) {
                 return Uni.createFrom().voidItem();
             }
-            List<Uni<Void>> unis = new ArrayList<>(connections.size());
+            List<WebSocketConnectionImpl> selected = new ArrayList<>(connections.size());
             for (WebSocketConnection connection : connections) {
-                if (connection.isOpen() && (filter == null || filter.test(connection))) {
-                    unis.add(function.apply(connection, message));
+                WebSocketConnectionImpl impl = (WebSocketConnectionImpl) connection;
+                if (impl.isOpen() && (group == null || impl.generatedEndpointClass.equals(generatedEndpointClass))
+                        && (filter == null || filter.test(impl))) {
+                    selected.add(impl);
                 }
             }
-            return unis.isEmpty() ? Uni.createFrom().voidItem() : Uni.join().all(unis).andFailFast().replaceWithVoid();
+            return selected.isEmpty() ? Uni.createFrom().voidItem()
+                    : Uni.createFrom().completionStage(() -> fanOut.apply(selected));
         }
 
     }
@@ -11,6 +11,7 @@
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.security.identity.CurrentIdentityAssociation;
 import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.security.spi.runtime.SecurityCheck;
@@ -88,6 +89,7 @@ public void handle(RoutingContext ctx) {
     public Handler<RoutingContext> createEndpointHandler(String generatedEndpointClass, String endpointId) {
         ArcContainer container = Arc.container();
         ConnectionManager connectionManager = container.instance(ConnectionManager.class).get();
+        BroadcastMetrics broadcastMetrics = container.instance(BroadcastMetrics.class).get();
         Codecs codecs = container.instance(Codecs.class).get();
         HttpUpgradeCheck[] httpUpgradeChecks = getHttpUpgradeChecks(endpointId, container);
         TrafficLogger trafficLogger = TrafficLogger.forServer(config);
@@ -118,7 +120,7 @@ private void httpUpgrade(RoutingContext ctx) {
                     Vertx vertx = VertxCoreRecorder.getVertx().get();
 
                     WebSocketConnectionImpl connection = new WebSocketConnectionImpl(generatedEndpointClass, endpointId, ws,
-                            connectionManager, codecs, ctx, trafficLogger);
+                            connectionManager, broadcastMetrics, codecs, ctx, trafficLogger);
                     connectionManager.add(generatedEndpointClass, connection);
                     if (trafficLogger != null) {
                         trafficLogger.connectionOpened(connection);
@@ -155,6 +157,16 @@ private static Uni<CheckResult> checkHttpUpgrade(HttpUpgradeContext ctx,
         };
     }
 
+    public Consumer<MetricsFactory> broadcastMetrics() {
+        return new Consumer<MetricsFactory>() {
+
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                Arc.container().instance(BroadcastMetrics.class).get().registerMetrics(metricsFactory);
+            }
+        };
+    }
+
     private static HttpUpgradeCheck[] getHttpUpgradeChecks(String endpointId, ArcContainer container) {
         List<HttpUpgradeCheck> httpUpgradeChecks = null;
         for (var check : container.select(HttpUpgradeCheck.class)) {
@@ -0,0 +1,105 @@
+package io.quarkus.websockets.next.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.WebSocketBase;
+import io.vertx.core.http.impl.ws.WebSocketFrameImpl;
+
+public class BroadcastFanOutTest {
+
+    private final List<WebSocketFrameImpl> frames = new ArrayList<>();
+    // the payloads are read when written, they are released once the broadcast completes
+    private final List<String> payloads = new ArrayList<>();
+
+    @Test
+    public void testBroadcast() throws Exception {
+        BroadcastMetrics metrics = new BroadcastMetrics();
+        CompletableFuture<Void> result = BroadcastFanOut
+                .sendText("hello", List.of(connection(f -> Future.succeededFuture()),
+                        connection(f -> Future.succeededFuture())), metrics)
+                .toCompletableFuture();
+
+        assertTrue(result.isDone());
+        result.get();
+        assertEquals(2, frames.size());
+        assertEquals(List.of("hello", "hello"), payloads);
+        // both frames share the same encoded payload, released once written
+        assertEquals(0, frames.get(0).getBinaryData().refCnt());
+        assertEquals(1, metrics.broadcasts());
+        assertEquals(2, metrics.messages());
+        assertEquals(0, metrics.failures());
+    }
+
+    @Test
+    public void testFailedConnection() {
+        BroadcastMetrics metrics = new BroadcastMetrics();
+        Promise<Void> pending = Promise.promise();
+        IllegalStateException failure = new IllegalStateException("Connection closed");
+        CompletableFuture<Void> result = BroadcastFanOut
+                .sendBinary(Buffer.buffer("hello"), List.of(connection(f -> pending.future()),
+                        connection(f -> Future.failedFuture(failure))), metrics)
+                .toCompletableFuture();
+
+        // the broadcast fails as soon as a connection fails
+        ExecutionException e = assertThrows(ExecutionException.class, result::get);
+        assertSame(failure, e.getCause());
+        assertEquals(1, metrics.failures());
+        // the payload is still referenced by the frame being written to the other connection
+        assertEquals(2, frames.size());
+        assertEquals(1, frames.get(0).getBinaryData().refCnt());
+        assertEquals(0, metrics.broadcasts());
+
+        pending.complete();
+        assertEquals(0, frames.get(0).getBinaryData().refCnt());
+        assertEquals(1, metrics.broadcasts());
+        assertEquals(2, metrics.messages());
+        assertEquals(1, metrics.failures());
+    }
+
+    @Test
+    public void testWriteThrows() {
+        BroadcastMetrics metrics = new BroadcastMetrics();
+        CompletableFuture<Void> result = BroadcastFanOut
+                .sendText("hello", List.of(connection(f -> {
+                    throw new IllegalStateException("Connection closed");
+                })), metrics)
+                .toCompletableFuture();
+
+        assertTrue(result.isCompletedExceptionally());
+        assertEquals(1, frames.size());
+        assertEquals(0, frames.get(0).getBinaryData().refCnt());
+        assertEquals(1, metrics.failures());
+    }
+
+    private WebSocketConnectionImpl connection(Function<WebSocketFrameImpl, Future<Void>> write) {
+        WebSocketBase webSocket = mock(WebSocketBase.class);
+        when(webSocket.writeFrame(any())).thenAnswer(invocation -> {
+            WebSocketFrameImpl frame = invocation.getArgument(0);
+            frames.add(frame);
+            payloads.add(frame.textData());
+            return write.apply(frame);
+        });
+        // the connections without an event loop are written from the current thread
+        WebSocketConnectionImpl connection = mock(WebSocketConnectionImpl.class);
+        when(connection.webSocket()).thenReturn(webSocket);
+        return connection;
+    }
+
+}
@@ -0,0 +1,116 @@
+package io.quarkus.websockets.next.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+public class BroadcastMetricsTest {
+
+    private final Map<String, Supplier<Number>> counters = new HashMap<>();
+    private final List<Long> fanOutNanos = new ArrayList<>();
+
+    @Test
+    public void testMetrics() {
+        BroadcastMetrics metrics = new BroadcastMetrics();
+        // the broadcasts sent before a metrics extension registers the meters are counted but not timed
+        metrics.broadcastSent(3, System.nanoTime());
+        metrics.registerMetrics(new TestMetricsFactory());
+        assertEquals(1L, counter("websockets.broadcast.count"));
+        assertEquals(3L, counter("websockets.broadcast.messages"));
+        assertTrue(fanOutNanos.isEmpty());
+
+        long start = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(5);
+        metrics.broadcastSent(2, start);
+        metrics.messageFailed();
+        assertEquals(2L, counter("websockets.broadcast.count"));
+        assertEquals(5L, counter("websockets.broadcast.messages"));
+        assertEquals(1L, counter("websockets.broadcast.failures"));
+        assertEquals(1, fanOutNanos.size());
+        assertTrue(fanOutNanos.get(0) >= TimeUnit.MILLISECONDS.toNanos(5));
+    }
+
+    private long counter(String name) {
+        return counters.get(name).get().longValue();
+    }
+
+    private class TestMetricsFactory implements MetricsFactory {
+
+        @Override
+        public boolean metricsSystemSupported(String name) {
+            return true;
+        }
+
+        @Override
+        public MetricBuilder builder(String name, Type type) {
+            return new MetricBuilder() {
+
+                @Override
+                public MetricBuilder description(String description) {
+                    return this;
+                }
+
+                @Override
+                public MetricBuilder tag(String key, String value) {
+                    return this;
+                }
+
+                @Override
+                public MetricBuilder unit(String unit) {
+                    return this;
+                }
+
+                @Override
+                public void buildCounter(Supplier<Number> countFunction) {
+                    counters.put(name, countFunction);
+                }
+
+                @Override
+                public <T, R extends Number> void buildCounter(T obj, Function<T, R> countFunction) {
+                    counters.put(name, () -> countFunction.apply(obj));
+                }
+
+                @Override
+                public void buildGauge(Supplier<Number> gaugeFunction) {
+                    counters.put(name, gaugeFunction);
+                }
+
+                @Override
+                public <T, R extends Number> void buildGauge(T obj, Function<T, R> gaugeFunction) {
+                    counters.put(name, () -> gaugeFunction.apply(obj));
+                }
+
+                @Override
+                public TimeRecorder buildTimer() {
+                    return (amount, unit) -> fanOutNanos.add(unit.toNanos(amount));
+                }
+
+                @Override
+                public Runnable buildTimer(Runnable f) {
+                    return f;
+                }
+
+                @Override
+                public <T> Callable<T> buildTimer(Callable<T> f) {
+                    return f;
+                }
+
+                @Override
+                public <T> Supplier<T> buildTimer(Supplier<T> f) {
+                    return f;
+                }
+            };
+        }
+    }
+}
@@ -39,11 +39,13 @@
 
 import io.quarkus.arc.All;
 import io.quarkus.arc.Lock;
+import io.quarkus.arc.LockListener;
 import io.quarkus.arc.impl.ActivateRequestContextInterceptor;
 import io.quarkus.arc.impl.DefaultAsyncObserverExceptionHandler;
 import io.quarkus.arc.impl.Identified;
 import io.quarkus.arc.impl.InjectableRequestContextController;
 import io.quarkus.arc.impl.LockInterceptor;
+import io.quarkus.arc.impl.LockKeyParameterPosition;
 
 public final class BeanArchives {
 
@@ -84,6 +86,8 @@ private static IndexView buildAdditionalIndex() {
         index(indexer, Intercepted.class.getName());
         index(indexer, Model.class.getName());
         index(indexer, Lock.class.getName());
+        index(indexer, LockListener.class.getName());
+        index(indexer, LockKeyParameterPosition.class.getName());
         index(indexer, All.class.getName());
         index(indexer, Identified.class.getName());
         // Arc built-in beans
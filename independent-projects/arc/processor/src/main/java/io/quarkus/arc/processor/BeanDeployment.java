@@ -35,6 +35,7 @@
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.AnnotationTarget.Kind;
+import org.jboss.jandex.AnnotationTransformation;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.ClassInfo.NestingType;
 import org.jboss.jandex.DotName;
@@ -156,10 +157,12 @@ public class BeanDeployment {
         this.beanArchiveImmutableIndex = Objects.requireNonNull(builder.beanArchiveImmutableIndex);
         this.applicationIndex = builder.applicationIndex;
         this.applicationClassPredicate = builder.applicationClassPredicate;
+        List<AnnotationTransformation> annotationTransformations = new ArrayList<>(builder.annotationTransformers);
+        annotationTransformations.add(new LockKeyParameterPositionTransformation());
         this.annotationStore = new AnnotationStore(builder.beanArchiveComputingIndex != null
                 ? builder.beanArchiveComputingIndex
                 : builder.beanArchiveImmutableIndex,
-                builder.annotationTransformers);
+                annotationTransformations);
         buildContext.putInternal(Key.ANNOTATION_STORE, annotationStore);
 
         this.injectionPointTransformer = new InjectionPointModifier(
@@ -0,0 +1,48 @@
+package io.quarkus.arc.processor;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget.Kind;
+import org.jboss.jandex.AnnotationTransformation;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
+
+import io.quarkus.arc.Lock;
+import io.quarkus.arc.impl.LockKeyParameterPosition;
+
+/**
+ * Adds {@link LockKeyParameterPosition} to the methods with a {@link Lock.Key} parameter.
+ */
+final class LockKeyParameterPositionTransformation implements AnnotationTransformation {
+
+    static final DotName LOCK_KEY = DotName.createSimple(Lock.Key.class);
+    static final DotName LOCK_KEY_PARAMETER_POSITION = DotName.createSimple(LockKeyParameterPosition.class);
+
+    @Override
+    public boolean supports(Kind kind) {
+        return kind == Kind.METHOD;
+    }
+
+    @Override
+    public void apply(TransformationContext context) {
+        MethodInfo method = context.declaration().asMethod();
+        if (method.parametersCount() == 0 || !method.hasAnnotation(LOCK_KEY)) {
+            return;
+        }
+        // The first annotated parameter is used
+        short position = -1;
+        for (AnnotationInstance key : method.annotations(LOCK_KEY)) {
+            if (key.target().kind() == Kind.METHOD_PARAMETER) {
+                short candidate = key.target().asMethodParameter().position();
+                if (position == -1 || candidate < position) {
+                    position = candidate;
+                }
+            }
+        }
+        if (position != -1) {
+            context.add(AnnotationInstance.create(LOCK_KEY_PARAMETER_POSITION, method,
+                    new AnnotationValue[] { AnnotationValue.createIntegerValue("value", position) }));
+        }
+    }
+
+}
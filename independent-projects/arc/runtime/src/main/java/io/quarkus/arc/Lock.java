@@ -1,6 +1,7 @@
 package io.quarkus.arc;
 
 import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
 import static java.lang.annotation.ElementType.TYPE;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 
@@ -18,6 +19,12 @@
  * <p>
  * The container provides a built-in interceptor for this interceptor binding. Each interceptor instance associated with a
  * contextual instance of an intercepted bean holds a {@link ReadWriteLock} instance with non-fair ordering policy.
+ * <p>
+ * If a parameter of the business method is annotated with {@link Key}, the invocation only locks the stripe selected by the
+ * value of this parameter. Invocations with unrelated keys may proceed concurrently whereas invocations with the same key
+ * are serialized according to the lock type.
+ *
+ * @see LockListener
  */
 @InterceptorBinding
 @Inherited
@@ -57,6 +64,19 @@ public enum Type {
          * Acquires the write (exclusive) lock before the business method is invoked.
          */
         WRITE,
+        /**
+         * Invokes the business method without acquiring any lock and validates afterwards that no {@link #WRITE} invocation
+         * was in progress or completed in the meantime. If the validation fails, the business method is invoked again while
+         * holding the read lock.
+         * <p>
+         * This is useful for read-mostly beans because readers do not need to write to shared memory. However, the business
+         * method may observe an inconsistent state of the bean and may be invoked twice. Therefore, it must not have any side
+         * effects, and any result or exception obtained from an invocation that failed the validation is discarded.
+         * <p>
+         * Only invocations without a {@link Key} parameter are validated against write invocations without a {@link Key}
+         * parameter. If the business method declares a {@link Key} parameter, this type is equivalent to {@link #READ}.
+         */
+        OPTIMISTIC_READ,
         /**
          * Acquires no lock.
          * <p>
@@ -65,4 +85,19 @@ public enum Type {
         NONE
     }
 
+    /**
+     * Identifies the parameter of a business method that selects the lock stripe.
+     * <p>
+     * The {@link Object#hashCode()} of the parameter value selects one of a fixed number of stripes; the {@code null} value
+     * is a valid key. Distinct keys may share a stripe. An invocation with a key acquires the read lock of the bean and the
+     * lock of the given type for the stripe. As a consequence, a {@link Type#WRITE} invocation without a key excludes all
+     * invocations with a key, but a {@link Type#READ} invocation without a key does not exclude {@link Type#WRITE}
+     * invocations with a key. If a wait time is specified, it applies to both locks separately.
+     */
+    @Target(PARAMETER)
+    @Retention(RUNTIME)
+    public @interface Key {
+
+    }
+
 }
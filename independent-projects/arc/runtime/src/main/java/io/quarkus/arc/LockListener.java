@@ -0,0 +1,45 @@
+package io.quarkus.arc;
+
+import java.lang.reflect.Method;
+
+/**
+ * Receives notifications from the built-in interceptor for {@link Lock}, e.g. to collect the lock wait time metrics.
+ * <p>
+ * All beans that implement this interface are notified. The wait time is only measured if there is at least one listener.
+ * Implementations are invoked on the thread that attempts to acquire the lock and must be fast and thread-safe. They must
+ * not block and must not invoke a business method of a bean with {@link Lock}.
+ *
+ * @see Lock
+ */
+public interface LockListener {
+
+    /**
+     * A lock was acquired before the business method was invoked.
+     *
+     * @param method the business method
+     * @param type the type of the lock
+     * @param waitNanos the time spent waiting for the lock, in nanoseconds
+     */
+    default void acquired(Method method, Lock.Type type, long waitNanos) {
+    }
+
+    /**
+     * It was not possible to acquire a lock in the given wait time and a {@link LockException} is thrown.
+     *
+     * @param method the business method
+     * @param type the type of the lock
+     * @param waitNanos the time spent waiting for the lock, in nanoseconds
+     */
+    default void timedOut(Method method, Lock.Type type, long waitNanos) {
+    }
+
+    /**
+     * The validation of an {@link Lock.Type#OPTIMISTIC_READ} invocation failed and the business method is invoked again
+     * while holding the read lock.
+     *
+     * @param method the business method
+     */
+    default void optimisticReadFailed(Method method) {
+    }
+
+}
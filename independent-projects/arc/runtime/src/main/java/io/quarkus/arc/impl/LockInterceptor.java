@@ -2,36 +2,68 @@
 
 import static jakarta.interceptor.Interceptor.Priority.PLATFORM_BEFORE;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
 
 import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
 import jakarta.interceptor.AroundInvoke;
 import jakarta.interceptor.Interceptor;
 import jakarta.interceptor.InvocationContext;
 
+import io.quarkus.arc.All;
 import io.quarkus.arc.ArcInvocationContext;
 import io.quarkus.arc.Lock;
 import io.quarkus.arc.LockException;
+import io.quarkus.arc.LockListener;
 
 @Lock
 @Interceptor
 @Priority(PLATFORM_BEFORE)
 public class LockInterceptor {
 
+    // Must be a power of two
+    static final int STRIPES = 64;
+
+    private static final AtomicReferenceFieldUpdater<LockInterceptor, ReentrantReadWriteLock[]> STRIPES_UPDATER = AtomicReferenceFieldUpdater
+            .newUpdater(LockInterceptor.class, ReentrantReadWriteLock[].class, "stripes");
+
     private final ReentrantReadWriteLock rwl = new ReentrantReadWriteLock();
 
     // This lock is used exclusively to synchronize the block where we release all read locks and aquire the write lock
     private final ReentrantLock rl = new ReentrantLock();
 
+    // This lock is used as a sequence lock: the outermost write invocation without a key holds the write lock so that the
+    // optimistic reads can be validated
+    private final StampedLock sl = new StampedLock();
+
+    // Lazily initialized when the first invocation with a key occurs
+    private volatile ReentrantReadWriteLock[] stripes;
+
+    @Inject
+    @All
+    List<LockListener> listeners;
+
     @AroundInvoke
     Object lock(ArcInvocationContext ctx) throws Exception {
         Lock lock = getLock(ctx);
+        if (lock.value() != Lock.Type.NONE) {
+            // The position of the key parameter is computed at build time
+            LockKeyParameterPosition keyPosition = ctx.findIterceptorBinding(LockKeyParameterPosition.class);
+            if (keyPosition != null) {
+                return keyedLock(lock, ctx, getStripe(ctx.getParameters()[keyPosition.value()]));
+            }
+        }
         switch (lock.value()) {
             case WRITE:
-                return writeLock(lock, ctx);
+                return writeLock(rwl, lock, ctx, ctx::proceed);
             case READ:
-                return readLock(lock, ctx);
+                return readLock(rwl, lock, ctx, ctx::proceed);
+            case OPTIMISTIC_READ:
+                return optimisticReadLock(lock, ctx);
             case NONE:
                 return ctx.proceed();
             default:
@@ -39,10 +71,21 @@ Object lock(ArcInvocationContext ctx) throws Exception {
         }
     }
 
-    private Object writeLock(Lock lock, InvocationContext ctx) throws Exception {
+    private Object keyedLock(Lock lock, InvocationContext ctx, ReentrantReadWriteLock stripe) throws Exception {
+        // The read lock of the bean is held so that a write invocation without a key excludes all keyed invocations
+        if (lock.value() == Lock.Type.WRITE) {
+            return readLock(rwl, lock, ctx, () -> writeLock(stripe, lock, ctx, ctx::proceed));
+        } else {
+            return readLock(rwl, lock, ctx, () -> readLock(stripe, lock, ctx, ctx::proceed));
+        }
+    }
+
+    private Object writeLock(ReentrantReadWriteLock rwl, Lock lock, InvocationContext ctx, Invocation invocation)
+            throws Exception {
         long time = lock.time();
         int readHoldCount = rwl.getReadHoldCount();
         boolean locked = false;
+        long stamp = 0L;
 
         try {
             if (readHoldCount > 0) {
@@ -55,22 +98,32 @@ private Object writeLock(Lock lock, InvocationContext ctx) throws Exception {
                         rwl.readLock().unlock();
                     }
                 }
+                long start = startWait();
                 if (time > 0) {
                     locked = rwl.writeLock().tryLock(time, lock.unit());
                     if (!locked) {
+                        timedOut(ctx, Lock.Type.WRITE, start);
                         throw new LockException("Write lock not acquired in " + lock.unit().toMillis(time) + " ms");
                     }
                 } else {
                     rwl.writeLock().lock();
                     locked = true;
                 }
+                acquired(ctx, Lock.Type.WRITE, start);
+                if (rwl == this.rwl && rwl.getWriteHoldCount() == 1) {
+                    // Invalidate the optimistic reads in progress; writers are already serialized so this never blocks
+                    stamp = sl.writeLock();
+                }
             } finally {
                 if (readHoldCount > 0) {
                     rl.unlock();
                 }
             }
-            return ctx.proceed();
+            return invocation.proceed();
         } finally {
+            if (stamp != 0L) {
+                sl.unlockWrite(stamp);
+            }
             if (locked) {
                 if (readHoldCount > 0) {
                     // Re-aqcquire the read locks
@@ -83,20 +136,24 @@ private Object writeLock(Lock lock, InvocationContext ctx) throws Exception {
         }
     }
 
-    private Object readLock(Lock lock, InvocationContext ctx) throws Exception {
+    private Object readLock(ReentrantReadWriteLock rwl, Lock lock, InvocationContext ctx, Invocation invocation)
+            throws Exception {
         boolean locked = false;
         long time = lock.time();
         try {
+            long start = startWait();
             if (time > 0) {
                 locked = rwl.readLock().tryLock(time, lock.unit());
                 if (!locked) {
+                    timedOut(ctx, Lock.Type.READ, start);
                     throw new LockException("Read lock not acquired in " + lock.unit().toMillis(time) + " ms");
                 }
             } else {
                 rwl.readLock().lock();
                 locked = true;
             }
-            return ctx.proceed();
+            acquired(ctx, Lock.Type.READ, start);
+            return invocation.proceed();
         } finally {
             if (locked) {
                 rwl.readLock().unlock();
@@ -104,6 +161,32 @@ private Object readLock(Lock lock, InvocationContext ctx) throws Exception {
         }
     }
 
+    private Object optimisticReadLock(Lock lock, InvocationContext ctx) throws Exception {
+        // A thread that already holds the lock of the bean does not need to be validated
+        if (rwl.getReadHoldCount() == 0 && !rwl.isWriteLockedByCurrentThread()) {
+            long stamp = sl.tryOptimisticRead();
+            if (stamp != 0L) {
+                Object result = null;
+                Exception failure = null;
+                try {
+                    result = ctx.proceed();
+                } catch (Exception e) {
+                    // The exception may be caused by an inconsistent state
+                    failure = e;
+                }
+                if (sl.validate(stamp)) {
+                    acquired(ctx, Lock.Type.OPTIMISTIC_READ, 0L);
+                    if (failure != null) {
+                        throw failure;
+                    }
+                    return result;
+                }
+            }
+            optimisticReadFailed(ctx);
+        }
+        return readLock(rwl, lock, ctx, ctx::proceed);
+    }
+
     Lock getLock(ArcInvocationContext ctx) {
         Lock lock = ctx.findIterceptorBinding(Lock.class);
         if (lock == null) {
@@ -113,4 +196,60 @@ Lock getLock(ArcInvocationContext ctx) {
         return lock;
     }
 
+    ReentrantReadWriteLock getStripe(Object key) {
+        ReentrantReadWriteLock[] stripes = this.stripes;
+        if (stripes == null) {
+            ReentrantReadWriteLock[] newStripes = new ReentrantReadWriteLock[STRIPES];
+            for (int i = 0; i < newStripes.length; i++) {
+                newStripes[i] = new ReentrantReadWriteLock();
+            }
+            if (STRIPES_UPDATER.compareAndSet(this, null, newStripes)) {
+                stripes = newStripes;
+            } else {
+                stripes = this.stripes;
+            }
+        }
+        int hash = key == null ? 0 : key.hashCode();
+        // Spread the higher bits downwards, see java.util.HashMap#hash()
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    private long startWait() {
+        // Avoid the System.nanoTime() call if there is nobody to notify
+        return listeners.isEmpty() ? 0L : System.nanoTime();
+    }
+
+    private void acquired(InvocationContext ctx, Lock.Type type, long start) {
+        if (!listeners.isEmpty()) {
+            long waitNanos = start == 0L ? 0L : System.nanoTime() - start;
+            for (LockListener listener : listeners) {
+                listener.acquired(ctx.getMethod(), type, waitNanos);
+            }
+        }
+    }
+
+    private void timedOut(InvocationContext ctx, Lock.Type type, long start) {
+        if (!listeners.isEmpty()) {
+            long waitNanos = System.nanoTime() - start;
+            for (LockListener listener : listeners) {
+                listener.timedOut(ctx.getMethod(), type, waitNanos);
+            }
+        }
+    }
+
+    private void optimisticReadFailed(InvocationContext ctx) {
+        if (!listeners.isEmpty()) {
+            for (LockListener listener : listeners) {
+                listener.optimisticReadFailed(ctx.getMethod());
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface Invocation {
+
+        Object proceed() throws Exception;
+
+    }
+
 }
@@ -0,0 +1,26 @@
+package io.quarkus.arc.impl;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.InterceptorBinding;
+
+import io.quarkus.arc.Lock;
+
+/**
+ * This interceptor binding is added at build time on a business method if one of its parameters is annotated with
+ * {@link Lock.Key}. It holds the position of this parameter, so that the {@link LockInterceptor} does not need to find it
+ * by reflection at runtime.
+ */
+@InterceptorBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface LockKeyParameterPosition {
+
+    @Nonbinding
+    int value();
+
+}
@@ -0,0 +1,201 @@
+package io.quarkus.arc.test.lock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.Lock;
+import io.quarkus.arc.Lock.Key;
+import io.quarkus.arc.Lock.Type;
+import io.quarkus.arc.LockListener;
+import io.quarkus.arc.impl.LockInterceptor;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class KeyedLockTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(KeyedBean.class, CountingListener.class, Lock.class,
+            LockInterceptor.class);
+
+    @Test
+    public void testUnrelatedKeysDoNotBlock() throws Exception {
+        KeyedBean bean = Arc.container().instance(KeyedBean.class).get();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch inside = new CountDownLatch(2);
+            CountDownLatch mayComplete = new CountDownLatch(1);
+            // Both invocations must be inside the method at the same time, otherwise the latch times out
+            Future<?> first = executor.submit(() -> bean.update("foo", inside, mayComplete));
+            Future<?> second = executor.submit(() -> bean.update("bar", inside, mayComplete));
+            assertTrue(inside.await(5, TimeUnit.SECONDS));
+            mayComplete.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(Arc.container().instance(CountingListener.class).get().acquired.get() > 0);
+    }
+
+    @Test
+    public void testSameKeyIsSerialized() throws Exception {
+        KeyedBean bean = Arc.container().instance(KeyedBean.class).get();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch firstInside = new CountDownLatch(1);
+            CountDownLatch mayComplete = new CountDownLatch(1);
+            Future<?> first = executor.submit(() -> bean.update("foo", firstInside, mayComplete));
+            assertTrue(firstInside.await(5, TimeUnit.SECONDS));
+
+            CountDownLatch secondInside = new CountDownLatch(1);
+            Future<?> second = executor.submit(() -> bean.update("foo", secondInside, new CountDownLatch(0)));
+            // The second invocation is blocked until the first one completes
+            assertFalse(secondInside.await(200, TimeUnit.MILLISECONDS));
+            mayComplete.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+            assertEquals(0, secondInside.getCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testKeyIsNotTheFirstParameter() throws Exception {
+        KeyedBean bean = Arc.container().instance(KeyedBean.class).get();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch firstInside = new CountDownLatch(1);
+            CountDownLatch mayComplete = new CountDownLatch(1);
+            Future<?> first = executor.submit(() -> bean.updateKeyLast(firstInside, mayComplete, "foo"));
+            assertTrue(firstInside.await(5, TimeUnit.SECONDS));
+
+            // The other arguments differ, the key is the same
+            CountDownLatch secondInside = new CountDownLatch(1);
+            Future<?> second = executor.submit(() -> bean.updateKeyLast(secondInside, new CountDownLatch(0), "foo"));
+            assertFalse(secondInside.await(200, TimeUnit.MILLISECONDS));
+            mayComplete.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testWriteWithoutKeyExcludesKeyedInvocations() throws Exception {
+        KeyedBean bean = Arc.container().instance(KeyedBean.class).get();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch firstInside = new CountDownLatch(1);
+            CountDownLatch mayComplete = new CountDownLatch(1);
+            Future<?> first = executor.submit(() -> bean.updateAll(firstInside, mayComplete));
+            assertTrue(firstInside.await(5, TimeUnit.SECONDS));
+
+            CountDownLatch secondInside = new CountDownLatch(1);
+            Future<?> second = executor.submit(() -> bean.update("baz", secondInside, new CountDownLatch(0)));
+            assertFalse(secondInside.await(200, TimeUnit.MILLISECONDS));
+            mayComplete.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testOptimisticReadIsRetriedAfterWrite() throws Exception {
+        KeyedBean bean = Arc.container().instance(KeyedBean.class).get();
+        CountingListener listener = Arc.container().instance(CountingListener.class).get();
+        int failed = listener.optimisticReadFailed.get();
+
+        // No concurrent write, the method is invoked once
+        int invocations = bean.readInvocations.get();
+        assertEquals(0, bean.read());
+        assertEquals(invocations + 1, bean.readInvocations.get());
+
+        // A write completes while the optimistic read is in progress, the method is invoked again
+        bean.writeDuringNextRead = true;
+        assertEquals(1, bean.read());
+        assertEquals(invocations + 3, bean.readInvocations.get());
+        assertEquals(failed + 1, listener.optimisticReadFailed.get());
+    }
+
+    @Singleton
+    static class KeyedBean {
+
+        final AtomicInteger readInvocations = new AtomicInteger();
+        volatile int value;
+        volatile boolean writeDuringNextRead;
+
+        @Lock(Type.WRITE)
+        void update(@Key String key, CountDownLatch inside, CountDownLatch mayComplete) {
+            inside.countDown();
+            try {
+                assertTrue(mayComplete.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Lock(Type.WRITE)
+        void updateKeyLast(CountDownLatch inside, CountDownLatch mayComplete, @Key String key) {
+            update(key, inside, mayComplete);
+        }
+
+        @Lock(Type.WRITE)
+        void updateAll(CountDownLatch inside, CountDownLatch mayComplete) {
+            update(null, inside, mayComplete);
+        }
+
+        @Lock(Type.WRITE)
+        void increment() {
+            value++;
+        }
+
+        @Lock(Type.OPTIMISTIC_READ)
+        int read() throws InterruptedException {
+            readInvocations.incrementAndGet();
+            int result = value;
+            if (writeDuringNextRead) {
+                writeDuringNextRead = false;
+                Thread writer = new Thread(() -> Arc.container().instance(KeyedBean.class).get().increment());
+                writer.start();
+                writer.join();
+            }
+            return result;
+        }
+    }
+
+    @Singleton
+    static class CountingListener implements LockListener {
+
+        final AtomicInteger acquired = new AtomicInteger();
+        final AtomicInteger optimisticReadFailed = new AtomicInteger();
+
+        @Override
+        public void acquired(Method method, Type type, long waitNanos) {
+            acquired.incrementAndGet();
+        }
+
+        @Override
+        public void optimisticReadFailed(Method method) {
+            optimisticReadFailed.incrementAndGet();
+        }
+    }
+}
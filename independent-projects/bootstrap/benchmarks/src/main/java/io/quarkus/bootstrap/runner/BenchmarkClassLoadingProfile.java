@@ -0,0 +1,82 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time the main thread needs to load the classes of a class loading profile from a fresh
+ * {@link RunnerClassLoader}, i.e. the class loading part of the startup of an application, with a varying number of
+ * threads preloading the profile in the background.
+ * <p>
+ * We benchmark in single shot mode since the classes are only loaded once by a started application.
+ * This benchmark lives in the package of the runner as the preloading is not part of its public API.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(2)
+public class BenchmarkClassLoadingProfile {
+
+    /**
+     * The number of preloading threads, {@code 0} is the startup without a class loading profile.
+     */
+    @Param({ "0", "1", "2", "4" })
+    public int threads;
+
+    private BenchmarkJars jars;
+    private RunnerClassLoader classLoader;
+
+    @Setup(Level.Trial)
+    public void createJars() throws IOException, URISyntaxException {
+        jars = new BenchmarkJars(false);
+    }
+
+    @Setup(Level.Invocation)
+    public void createClassLoader() throws IOException {
+        classLoader = jars.createClassLoader();
+    }
+
+    @Benchmark
+    public RunnerClassLoader startup() throws InterruptedException {
+        List<String> profile = jars.getClasses();
+        List<Thread> preloaders = threads > 0 ? ClassLoadingProfile.preload(classLoader, profile, threads)
+                : Collections.emptyList();
+        // the main thread of the application needs the classes in the order of the profile
+        for (String className : profile) {
+            classLoader.preloadClass(className);
+        }
+        for (Thread preloader : preloaders) {
+            preloader.join();
+        }
+        return classLoader;
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeClassLoader() {
+        classLoader.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteJars() throws IOException {
+        jars.delete();
+    }
+}
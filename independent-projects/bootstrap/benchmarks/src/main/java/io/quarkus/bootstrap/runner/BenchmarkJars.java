@@ -0,0 +1,120 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * The classes of JMH itself split by package into several jars, as the dependencies of an application would be.
+ */
+final class BenchmarkJars {
+
+    private static final String PACKAGE = "org/openjdk/jmh/";
+
+    private final Path directory;
+    private final boolean stored;
+    private final Map<String, Path> jarByDirectory = new HashMap<>();
+    private final List<String> classes = new ArrayList<>();
+
+    /**
+     * @param stored whether the entries of the jars are stored uncompressed rather than deflated
+     */
+    BenchmarkJars(boolean stored) throws IOException, URISyntaxException {
+        this.stored = stored;
+        directory = Files.createTempDirectory("benchmark-jars");
+        Path source = Path.of(Benchmark.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        Map<String, ZipOutputStream> jars = new HashMap<>();
+        try (JarFile jarFile = new JarFile(source.toFile())) {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                String name = entry.getName();
+                if (!name.startsWith(PACKAGE) || !name.endsWith(".class")) {
+                    continue;
+                }
+                // one jar per second-level package of JMH
+                int jarNameEnd = name.indexOf('/', PACKAGE.length());
+                String jarName = jarNameEnd < 0 ? "root" : name.substring(PACKAGE.length(), jarNameEnd);
+                Path jar = directory.resolve(jarName + ".jar");
+                ZipOutputStream out = jars.get(jarName);
+                if (out == null) {
+                    out = new ZipOutputStream(Files.newOutputStream(jar));
+                    jars.put(jarName, out);
+                }
+                jarByDirectory.put(name.substring(0, name.lastIndexOf('/')), jar);
+                byte[] data;
+                try (InputStream in = jarFile.getInputStream(entry)) {
+                    data = in.readAllBytes();
+                }
+                ZipEntry target = new ZipEntry(name);
+                if (stored) {
+                    CRC32 crc = new CRC32();
+                    crc.update(data);
+                    target.setMethod(ZipEntry.STORED);
+                    target.setSize(data.length);
+                    target.setCompressedSize(data.length);
+                    target.setCrc(crc.getValue());
+                }
+                out.putNextEntry(target);
+                out.write(data);
+                out.closeEntry();
+                classes.add(name.substring(0, name.length() - ".class".length()).replace('/', '.'));
+            }
+        } finally {
+            for (ZipOutputStream out : jars.values()) {
+                out.close();
+            }
+        }
+    }
+
+    /**
+     * @return the names of the classes, in the order of the source jar
+     */
+    List<String> getClasses() {
+        return classes;
+    }
+
+    /**
+     * Creates a new class loader, the stored jars are memory mapped as in a fast-jar built with
+     * {@code quarkus.package.jar.memory-mapped}.
+     */
+    RunnerClassLoader createClassLoader() throws IOException {
+        Map<Path, ClassLoadingResource> resources = new HashMap<>();
+        Map<String, ClassLoadingResource[]> resourceDirectoryMap = new HashMap<>();
+        for (Map.Entry<String, Path> entry : jarByDirectory.entrySet()) {
+            ClassLoadingResource resource = resources.get(entry.getValue());
+            if (resource == null) {
+                resource = stored
+                        ? new MappedJarResource(null, entry.getValue(), MappedJarResource.readEntries(entry.getValue()))
+                        : new JarResource(null, entry.getValue());
+                resource.init();
+                resources.put(entry.getValue(), resource);
+            }
+            resourceDirectoryMap.put(entry.getKey(), new ClassLoadingResource[] { resource });
+        }
+        return new RunnerClassLoader(BenchmarkJars.class.getClassLoader(), resourceDirectoryMap,
+                Collections.emptySet(), Collections.emptySet(), Collections.emptyList(), Collections.emptyMap());
+    }
+
+    void delete() throws IOException {
+        for (Path jar : jarByDirectory.values()) {
+            Files.deleteIfExists(jar);
+        }
+        Files.deleteIfExists(directory);
+    }
+}
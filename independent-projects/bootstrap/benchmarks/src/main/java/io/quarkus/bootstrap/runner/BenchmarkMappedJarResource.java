@@ -0,0 +1,70 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the time needed to load all the classes of a set of jars from a fresh {@link RunnerClassLoader}, i.e. the
+ * class loading part of the startup of an application, when the jars are compressed and read through
+ * {@link java.util.jar.JarFile} and when they are stored uncompressed and memory mapped.
+ * <p>
+ * We benchmark in single shot mode since the classes are only loaded once by a started application.
+ * This benchmark lives in the package of the runner as the resources are not part of its public API.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(2)
+public class BenchmarkMappedJarResource {
+
+    @Param({ "false", "true" })
+    public boolean mapped;
+
+    private BenchmarkJars jars;
+    private RunnerClassLoader classLoader;
+
+    @Setup(Level.Trial)
+    public void createJars() throws IOException, URISyntaxException {
+        jars = new BenchmarkJars(mapped);
+    }
+
+    @Setup(Level.Invocation)
+    public void createClassLoader() throws IOException {
+        classLoader = jars.createClassLoader();
+    }
+
+    @Benchmark
+    public RunnerClassLoader startup() {
+        for (String className : jars.getClasses()) {
+            classLoader.preloadClass(className);
+        }
+        return classLoader;
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeClassLoader() {
+        classLoader.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteJars() throws IOException {
+        jars.delete();
+    }
+}
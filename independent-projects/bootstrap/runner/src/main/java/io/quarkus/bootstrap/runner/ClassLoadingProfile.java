@@ -0,0 +1,125 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * The ordered list of the classes defined by the {@link RunnerClassLoader} until the application was started.
+ * <p>
+ * The profile is recorded by a training run of the application, launched by the packaging with the
+ * {@value #RECORD_SYSTEM_PROPERTY} system property, and stored in the fast-jar layout. On the next starts, the classes of
+ * the profile are preloaded by background threads while the application boots, so that the jar lookups, the inflation
+ * of the class files and their definition are not all on the critical path of the main thread.
+ */
+public final class ClassLoadingProfile {
+
+    /**
+     * The location of the profile, relative to the root of the fast-jar layout.
+     */
+    public static final String CLASS_LOADING_PROFILE = "quarkus/class-loading-profile.txt";
+
+    /**
+     * When {@code true}, the classes loaded until the application is started are recorded to the profile.
+     */
+    public static final String RECORD_SYSTEM_PROPERTY = "quarkus.class-loading-profile.record";
+
+    /**
+     * The number of threads preloading the classes of the profile, {@code 0} disables the preloading.
+     * Defaults to the number of available processors minus one, at most 4.
+     */
+    public static final String PRELOAD_THREADS_SYSTEM_PROPERTY = "quarkus.class-loading-profile.preload-threads";
+
+    private static final int MAX_DEFAULT_PRELOAD_THREADS = 4;
+
+    private ClassLoadingProfile() {
+    }
+
+    /**
+     * Starts recording the profile, or preloading the classes of the profile if it exists.
+     */
+    static void start(RunnerClassLoader classLoader, Path appRoot) throws IOException {
+        Path profile = appRoot.resolve(CLASS_LOADING_PROFILE);
+        if (Boolean.getBoolean(RECORD_SYSTEM_PROPERTY)) {
+            classLoader.recordClassLoadingProfile(profile);
+            return;
+        }
+        int threads = Integer.getInteger(PRELOAD_THREADS_SYSTEM_PROPERTY,
+                Math.min(MAX_DEFAULT_PRELOAD_THREADS, Runtime.getRuntime().availableProcessors() - 1));
+        if (threads > 0 && Files.exists(profile)) {
+            preload(classLoader, read(profile), threads);
+        }
+    }
+
+    static List<String> read(Path profile) throws IOException {
+        List<String> classes = new ArrayList<>();
+        for (String line : Files.readAllLines(profile, StandardCharsets.UTF_8)) {
+            if (!line.isBlank()) {
+                classes.add(line.strip());
+            }
+        }
+        return classes;
+    }
+
+    static void write(Path profile, Collection<String> classes) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(profile, StandardCharsets.UTF_8)) {
+            for (String className : classes) {
+                writer.write(className);
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Preloads the given classes in the given number of daemon threads.
+     * <p>
+     * The classes are grouped by the jar containing them, so that the threads do not contend on the same jar, and the
+     * groups are taken by the threads in the order of their first class in the profile, so that the classes needed
+     * first by the application are preloaded first. The classes are loaded but neither linked nor initialized, a class
+     * that the main thread needs before it was preloaded is simply loaded by the main thread. The threads stop once
+     * {@link RunnerClassLoader#stopClassLoadingProfilePreload()} is called, i.e. when the application is started.
+     *
+     * @return the started threads
+     */
+    static List<Thread> preload(RunnerClassLoader classLoader, List<String> classes, int threads) {
+        Map<ClassLoadingResource, List<String>> classesByJar = new LinkedHashMap<>();
+        for (String className : classes) {
+            ClassLoadingResource resource = classLoader.findClassLoadingResource(className);
+            if (resource != null) {
+                classesByJar.computeIfAbsent(resource, r -> new ArrayList<>()).add(className);
+            }
+        }
+        Queue<List<String>> groups = new ConcurrentLinkedQueue<>(classesByJar.values());
+        List<Thread> started = new ArrayList<>();
+        for (int i = 0; i < Math.min(threads, groups.size()); i++) {
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    List<String> group;
+                    while ((group = groups.poll()) != null) {
+                        for (String className : group) {
+                            if (classLoader.isClassLoadingProfilePreloadStopped()) {
+                                return;
+                            }
+                            classLoader.preloadClass(className);
+                        }
+                    }
+                }
+            }, "quarkus-class-preloader-" + i);
+            thread.setDaemon(true);
+            thread.setContextClassLoader(classLoader);
+            thread.start();
+            started.add(thread);
+        }
+        return started;
+    }
+}
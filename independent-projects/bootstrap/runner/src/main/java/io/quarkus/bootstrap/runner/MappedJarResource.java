@@ -0,0 +1,165 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A jar resource whose entries are all stored uncompressed, and whose data offsets were indexed when the application
+ * was built.
+ * <p>
+ * The jar is memory mapped, and the data of the classes and resources is copied directly from the mapped file: there is
+ * no inflation, and the readers do not need any lock. The {@link java.util.jar.JarFile} is only opened when a URL of a
+ * resource is needed.
+ */
+public class MappedJarResource extends JarResource {
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+    private static final int MAX_COMMENT_SIZE = 0xFFFF;
+    private static final int STORED = 0;
+    private static final int ENCRYPTED_FLAG = 1;
+
+    private final Path jarPath;
+    // the offset of the data of an entry in the high 32 bits, and its size in the low 32 bits
+    private final Map<String, Long> entries;
+
+    private volatile ByteBuffer mapped;
+
+    public MappedJarResource(ManifestInfo manifestInfo, Path jarPath, Map<String, Long> entries) {
+        super(manifestInfo, jarPath);
+        this.jarPath = jarPath;
+        this.entries = entries;
+    }
+
+    @Override
+    public byte[] getResourceData(String resource) {
+        final Long entry = entries.get(resource);
+        if (entry == null) {
+            return null;
+        }
+        final long value = entry;
+        final byte[] data = new byte[(int) value];
+        // absolute bulk get, the position of the shared buffer is never modified
+        mapped().get((int) (value >>> 32), data);
+        return data;
+    }
+
+    private ByteBuffer mapped() {
+        ByteBuffer mappedLocal = this.mapped;
+        if (mappedLocal == null) {
+            synchronized (this) {
+                mappedLocal = this.mapped;
+                if (mappedLocal == null) {
+                    try (FileChannel channel = FileChannel.open(jarPath, StandardOpenOption.READ)) {
+                        //the mapping stays valid once the channel is closed
+                        mappedLocal = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                    } catch (IOException e) {
+                        throw new RuntimeException("Failed to map " + jarPath, e);
+                    }
+                    this.mapped = mappedLocal;
+                }
+            }
+        }
+        return mappedLocal;
+    }
+
+    @Override
+    public void close() {
+        //the file is unmapped once the buffer is garbage collected
+        mapped = null;
+        super.close();
+    }
+
+    @Override
+    public void resetInternalCaches() {
+        //the mapping is kept, its pages are managed by the OS
+        super.close();
+    }
+
+    @Override
+    public String toString() {
+        return "MappedJarResource{" +
+                jarPath.getFileName() +
+                '}';
+    }
+
+    /**
+     * Reads the offsets of the data of the entries of the given jar, in the order of its central directory.
+     *
+     * @return the offset of the data of each entry in the high 32 bits and its size in the low 32 bits, or {@code null} if
+     *         the jar cannot be memory mapped because some of its entries are compressed or encrypted, or it is a ZIP64 file
+     */
+    static Map<String, Long> readEntries(Path jar) throws IOException {
+        try (FileChannel channel = FileChannel.open(jar, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE || size < END_OF_CENTRAL_DIRECTORY_SIZE) {
+                return null;
+            }
+            MappedByteBuffer zip = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            zip.order(ByteOrder.LITTLE_ENDIAN);
+            int end = (int) size - END_OF_CENTRAL_DIRECTORY_SIZE;
+            int limit = Math.max(0, end - MAX_COMMENT_SIZE);
+            while (end >= limit && zip.getInt(end) != END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                end--;
+            }
+            if (end < limit) {
+                return null;
+            }
+            int count = Short.toUnsignedInt(zip.getShort(end + 10));
+            long centralDirectory = Integer.toUnsignedLong(zip.getInt(end + 16));
+            if (count == 0xFFFF || centralDirectory >= end) {
+                //ZIP64
+                return null;
+            }
+            Map<String, Long> entries = new LinkedHashMap<>(count * 2);
+            int position = (int) centralDirectory;
+            for (int i = 0; i < count; i++) {
+                if (zip.getInt(position) != CENTRAL_HEADER_SIGNATURE) {
+                    return null;
+                }
+                int flags = Short.toUnsignedInt(zip.getShort(position + 8));
+                int method = Short.toUnsignedInt(zip.getShort(position + 10));
+                long compressedSize = Integer.toUnsignedLong(zip.getInt(position + 20));
+                long uncompressedSize = Integer.toUnsignedLong(zip.getInt(position + 24));
+                int nameLength = Short.toUnsignedInt(zip.getShort(position + 28));
+                int extraLength = Short.toUnsignedInt(zip.getShort(position + 30));
+                int commentLength = Short.toUnsignedInt(zip.getShort(position + 32));
+                long localHeader = Integer.toUnsignedLong(zip.getInt(position + 42));
+                byte[] nameBytes = new byte[nameLength];
+                zip.get(position + CENTRAL_HEADER_SIZE, nameBytes);
+                String name = new String(nameBytes, StandardCharsets.UTF_8);
+                position += CENTRAL_HEADER_SIZE + nameLength + extraLength + commentLength;
+                if (name.endsWith("/")) {
+                    continue;
+                }
+                if (method != STORED || (flags & ENCRYPTED_FLAG) != 0 || compressedSize != uncompressedSize
+                        || localHeader >= end) {
+                    return null;
+                }
+                int local = (int) localHeader;
+                if (zip.getInt(local) != LOCAL_HEADER_SIGNATURE) {
+                    return null;
+                }
+                long data = local + LOCAL_HEADER_SIZE + Short.toUnsignedInt(zip.getShort(local + 26))
+                        + Short.toUnsignedInt(zip.getShort(local + 28));
+                if (data + uncompressedSize > size) {
+                    return null;
+                }
+                entries.putIfAbsent(name, data << 32 | uncompressedSize);
+            }
+            return entries;
+        }
+    }
+}
@@ -55,6 +55,7 @@ private static void doRun(Object args) throws IOException, ClassNotFoundExceptio
                 app = SerializedApplication.read(in, appRoot);
             }
             final RunnerClassLoader appRunnerClassLoader = app.getRunnerClassLoader();
+            ClassLoadingProfile.start(appRunnerClassLoader, appRoot);
             try {
                 Thread.currentThread().setContextClassLoader(appRunnerClassLoader);
                 QuarkusForkJoinWorkerThread.setQuarkusAppClassloader(appRunnerClassLoader);
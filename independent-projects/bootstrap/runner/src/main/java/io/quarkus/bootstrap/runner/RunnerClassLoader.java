@@ -2,13 +2,18 @@
 
 import static io.quarkus.commons.classloading.ClassloadHelper.fromClassNameToResourceName;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URL;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.crac.Context;
 import org.crac.Resource;
@@ -28,6 +33,11 @@
  */
 public final class RunnerClassLoader extends ClassLoader {
 
+    static {
+        // the classes of the class loading profile are loaded by several threads while the application boots
+        registerAsParallelCapable();
+    }
+
     /**
      * A map of resources by dir name. Root dir/default package is represented by the empty string
      */
@@ -48,6 +58,12 @@ public final class RunnerClassLoader extends ClassLoader {
 
     private final CracResource resource;
 
+    //The classes defined since the recording of the class loading profile started, null if it is not recorded
+    private volatile Queue<String> recordedClasses;
+    private volatile Path classLoadingProfile;
+    //Set once the application is started, the class preloaders stop then
+    private volatile boolean classLoadingProfilePreloadStopped;
+
     RunnerClassLoader(ClassLoader parent, Map<String, ClassLoadingResource[]> resourceDirectoryMap,
             Set<String> parentFirstPackages, Set<String> nonExistentResources,
             List<String> fullyIndexedDirectories, Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap) {
@@ -104,8 +120,14 @@ public Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundExce
                 }
                 definePackage(packageName, resources);
                 try {
-                    return defineClass(name, data, 0, data.length, resource.getProtectionDomain());
+                    final Class<?> defined = defineClass(name, data, 0, data.length, resource.getProtectionDomain());
+                    final Queue<String> recorded = recordedClasses;
+                    if (recorded != null) {
+                        recorded.add(name);
+                    }
+                    return defined;
                 } catch (LinkageError e) {
+                    //the class can be defined concurrently by another thread, e.g. a class preloader
                     loaded = findLoadedClass(name);
                     if (loaded != null) {
                         return loaded;
@@ -117,6 +139,71 @@ public Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundExce
         return getParent().loadClass(name);
     }
 
+    /**
+     * Returns the first resource that may contain the given class, i.e. the one the class is usually loaded from.
+     */
+    ClassLoadingResource findClassLoadingResource(String className) {
+        String packageName = getPackageNameFromClassName(className);
+        if (packageName != null && parentFirstPackages.contains(packageName)) {
+            return null;
+        }
+        ClassLoadingResource[] resources = resourceDirectoryMap
+                .get(packageName == null ? "" : packageName.replace('.', '/'));
+        return resources == null || resources.length == 0 ? null : resources[0];
+    }
+
+    /**
+     * Loads the given class without linking nor initializing it, ignoring any error.
+     */
+    void preloadClass(String className) {
+        try {
+            loadClass(className, false);
+        } catch (ClassNotFoundException | LinkageError e) {
+            //the class is loaded again, and the error reported, if the application needs it
+        }
+    }
+
+    /**
+     * Stops the threads preloading the classes of the class loading profile, the classes they did not preload yet are
+     * loaded on demand. This is meant to be called once the application is started.
+     */
+    public void stopClassLoadingProfilePreload() {
+        classLoadingProfilePreloadStopped = true;
+    }
+
+    boolean isClassLoadingProfilePreloadStopped() {
+        return classLoadingProfilePreloadStopped;
+    }
+
+    /**
+     * Starts recording the classes defined by this class loader, they are written to the given profile by
+     * {@link #writeClassLoadingProfile()}.
+     */
+    void recordClassLoadingProfile(Path profile) {
+        this.classLoadingProfile = profile;
+        this.recordedClasses = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Writes the class loading profile, if it is recorded, and stops the recording.
+     * This is meant to be called once the application is started.
+     *
+     * @return {@code true} if the class loading profile was recorded
+     */
+    public boolean writeClassLoadingProfile() {
+        final Queue<String> recorded = recordedClasses;
+        if (recorded == null) {
+            return false;
+        }
+        recordedClasses = null;
+        try {
+            ClassLoadingProfile.write(classLoadingProfile, recorded);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write the class loading profile " + classLoadingProfile, e);
+        }
+        return true;
+    }
+
     private void accessingResource(final ClassLoadingResource resource) {
         final ClassLoadingResource toEvict;
         synchronized (this.currentlyBufferedResources) {
@@ -38,7 +38,7 @@ public class SerializedApplication {
     private static final List<String> FULLY_INDEXED_PATHS = List.of("", "META-INF/services");
 
     private static final int MAGIC = 0XF0315432;
-    private static final int VERSION = 2;
+    private static final int VERSION = 3;
 
     private static final ClassLoadingResource[] EMPTY_ARRAY = new ClassLoadingResource[0];
     private static final JarResource SENTINEL = new JarResource(null, Path.of("wqxehxivam"));
@@ -59,8 +59,12 @@ public String getMainClass() {
         return mainClass;
     }
 
+    /**
+     * @param memoryMapped whether the offsets of the entries of the jars that are stored uncompressed are indexed, so
+     *        that these jars are memory mapped by the runner
+     */
     public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
-            List<Path> parentFirst, List<String> nonExistentResources)
+            List<Path> parentFirst, List<String> nonExistentResources, boolean memoryMapped)
             throws IOException {
         try (DataOutputStream data = new DataOutputStream(outputStream)) {
             data.writeInt(MAGIC);
@@ -72,7 +76,7 @@ public static void write(OutputStream outputStream, String mainClass, Path appli
                 Path jar = classPath.get(i);
                 String relativePath = applicationRoot.relativize(jar).toString().replace('\\', '/');
                 data.writeUTF(relativePath);
-                Collection<String> resources = writeJar(data, jar);
+                Collection<String> resources = writeJar(data, jar, memoryMapped);
                 for (String resource : resources) {
                     directlyIndexedResourcesToCPJarIndex.computeIfAbsent(resource, s -> new ArrayList<>()).add(i);
                 }
@@ -123,7 +127,17 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
                     info = new ManifestInfo(readNullableString(in), readNullableString(in), readNullableString(in),
                             readNullableString(in), readNullableString(in), readNullableString(in));
                 }
-                JarResource resource = new JarResource(info, appRoot.resolve(path));
+                JarResource resource;
+                if (in.readBoolean()) {
+                    int numEntries = in.readInt();
+                    Map<String, Long> entries = new HashMap<>((int) (numEntries / 0.75f) + 1);
+                    for (int i = 0; i < numEntries; ++i) {
+                        entries.put(in.readUTF(), in.readLong());
+                    }
+                    resource = new MappedJarResource(info, appRoot.resolve(path), entries);
+                } else {
+                    resource = new JarResource(info, appRoot.resolve(path));
+                }
                 allClassLoadingResources[pathCount] = resource;
                 int numDirs = in.readUnsignedShort();
                 for (int i = 0; i < numDirs; ++i) {
@@ -179,7 +193,7 @@ private static String readNullableString(DataInputStream in) throws IOException
      * @return a List of all resources that exist in the paths that we desire to have fully indexed
      *         (configured via {@code FULLY_INDEXED_PATHS})
      */
-    private static List<String> writeJar(DataOutputStream out, Path jar) throws IOException {
+    private static List<String> writeJar(DataOutputStream out, Path jar, boolean memoryMapped) throws IOException {
         try (JarFile zip = new JarFile(jar.toFile())) {
             Manifest manifest = zip.getManifest();
             if (manifest == null) {
@@ -200,6 +214,20 @@ private static List<String> writeJar(DataOutputStream out, Path jar) throws IOEx
                 }
             }
 
+            //the entries of multi release jars depend on the version of the JVM running the application
+            Map<String, Long> mappedEntries = memoryMapped && !zip.isMultiRelease() ? MappedJarResource.readEntries(jar)
+                    : null;
+            if (mappedEntries == null) {
+                out.writeBoolean(false);
+            } else {
+                out.writeBoolean(true);
+                out.writeInt(mappedEntries.size());
+                for (Map.Entry<String, Long> entry : mappedEntries.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeLong(entry.getValue());
+                }
+            }
+
             Set<String> dirs = new LinkedHashSet<>();
             Map<String, List<String>> fullyIndexedPaths = new LinkedHashMap<>();
             Enumeration<? extends ZipEntry> entries = zip.entries();
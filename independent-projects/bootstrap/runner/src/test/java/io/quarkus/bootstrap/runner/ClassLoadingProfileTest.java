@@ -0,0 +1,123 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests {@link ClassLoadingProfile}
+ */
+public class ClassLoadingProfileTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests that the classes defined while the profile is recorded are written in their loading order
+     */
+    @Test
+    public void testRecord() throws Exception {
+        Path profile = tempDir.resolve("class-loading-profile.txt");
+        RunnerClassLoader classLoader = createClassLoader(First.class, Second.class);
+        try {
+            Assertions.assertFalse(classLoader.writeClassLoadingProfile());
+            classLoader.recordClassLoadingProfile(profile);
+            classLoader.loadClass(Second.class.getName());
+            classLoader.loadClass(First.class.getName());
+            // already defined, not recorded twice
+            classLoader.loadClass(Second.class.getName());
+            Assertions.assertTrue(classLoader.writeClassLoadingProfile());
+            // the recording is stopped once the profile is written
+            Assertions.assertFalse(classLoader.writeClassLoadingProfile());
+        } finally {
+            classLoader.close();
+        }
+        Assertions.assertEquals(List.of(Second.class.getName(), First.class.getName()), ClassLoadingProfile.read(profile));
+    }
+
+    /**
+     * Tests that the preloading defines the classes of the profile, and ignores the classes that are not found
+     */
+    @Test
+    public void testPreload() throws Exception {
+        Path profile = tempDir.resolve("class-loading-profile.txt");
+        RunnerClassLoader classLoader = createClassLoader(First.class, Second.class);
+        try {
+            // the preloaded classes are recorded in order to check that they were defined by the class loader
+            classLoader.recordClassLoadingProfile(profile);
+            List<Thread> threads = ClassLoadingProfile.preload(classLoader,
+                    List.of(First.class.getName(), ClassLoadingProfileTest.class.getName() + "$Missing",
+                            Second.class.getName(), "org.acme.Missing"),
+                    4);
+            // a single jar is preloaded by a single thread
+            Assertions.assertEquals(1, threads.size());
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            Class<?> first = classLoader.loadClass(First.class.getName());
+            Assertions.assertSame(classLoader, first.getClassLoader());
+            Assertions.assertTrue(classLoader.writeClassLoadingProfile());
+        } finally {
+            classLoader.close();
+        }
+        Assertions.assertEquals(List.of(First.class.getName(), Second.class.getName()), ClassLoadingProfile.read(profile));
+    }
+
+    /**
+     * Tests that the preloading stops once the application is started
+     */
+    @Test
+    public void testPreloadStopped() throws Exception {
+        Path profile = tempDir.resolve("class-loading-profile.txt");
+        RunnerClassLoader classLoader = createClassLoader(First.class, Second.class);
+        try {
+            classLoader.recordClassLoadingProfile(profile);
+            classLoader.stopClassLoadingProfilePreload();
+            List<Thread> threads = ClassLoadingProfile.preload(classLoader,
+                    List.of(First.class.getName(), Second.class.getName()), 4);
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            Assertions.assertTrue(classLoader.writeClassLoadingProfile());
+        } finally {
+            classLoader.close();
+        }
+        Assertions.assertEquals(List.of(), ClassLoadingProfile.read(profile));
+    }
+
+    private RunnerClassLoader createClassLoader(Class<?>... classes) throws IOException {
+        Path jar = tempDir.resolve("classes.jar");
+        try (OutputStream out = Files.newOutputStream(jar);
+                JarOutputStream jarOut = new JarOutputStream(out)) {
+            for (Class<?> clazz : classes) {
+                String entry = clazz.getName().replace('.', '/') + ".class";
+                jarOut.putNextEntry(new JarEntry(entry));
+                try (InputStream in = clazz.getClassLoader().getResourceAsStream(entry)) {
+                    in.transferTo(jarOut);
+                }
+                jarOut.closeEntry();
+            }
+        }
+        ClassLoadingResource[] resources = { new JarResource(null, jar) };
+        return new RunnerClassLoader(ClassLoadingProfileTest.class.getClassLoader(),
+                Map.of(ClassLoadingProfileTest.class.getPackageName().replace('.', '/'), resources),
+                Collections.emptySet(), Collections.emptySet(), Collections.emptyList(), Collections.emptyMap());
+    }
+
+    public static class First {
+    }
+
+    public static class Second {
+    }
+}
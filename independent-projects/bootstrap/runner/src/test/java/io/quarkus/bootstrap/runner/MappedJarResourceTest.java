@@ -0,0 +1,88 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests {@link MappedJarResource}
+ */
+public class MappedJarResourceTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests that the data of the entries of a stored jar is read from the mapped jar
+     */
+    @Test
+    public void testStoredJar() throws Exception {
+        Path jar = tempDir.resolve("stored.jar");
+        writeJar(jar, ZipEntry.STORED);
+        Map<String, Long> entries = MappedJarResource.readEntries(jar);
+        Assertions.assertNotNull(entries);
+        // the directories are not indexed
+        Assertions.assertEquals(2, entries.size());
+
+        MappedJarResource resource = new MappedJarResource(null, jar, entries);
+        resource.init();
+        try {
+            Assertions.assertEquals("hello", new String(resource.getResourceData("a.txt"), StandardCharsets.UTF_8));
+            Assertions.assertEquals("", new String(resource.getResourceData("dir/b.txt"), StandardCharsets.UTF_8));
+            Assertions.assertNull(resource.getResourceData("missing.txt"));
+            // the jar is mapped again once it is closed
+            resource.close();
+            Assertions.assertEquals("hello", new String(resource.getResourceData("a.txt"), StandardCharsets.UTF_8));
+            // the URLs are still served by the jar file
+            Assertions.assertNotNull(resource.getResourceURL("dir/b.txt"));
+        } finally {
+            resource.close();
+        }
+    }
+
+    /**
+     * Tests that a jar with compressed entries cannot be mapped
+     */
+    @Test
+    public void testCompressedJar() throws Exception {
+        Path jar = tempDir.resolve("compressed.jar");
+        writeJar(jar, ZipEntry.DEFLATED);
+        Assertions.assertNull(MappedJarResource.readEntries(jar));
+    }
+
+    private static void writeJar(Path jar, int method) throws IOException {
+        try (OutputStream out = Files.newOutputStream(jar);
+                ZipOutputStream zipOut = new ZipOutputStream(out)) {
+            zipOut.setComment("a comment");
+            putEntry(zipOut, "a.txt", "hello", method);
+            putEntry(zipOut, "dir/", "", ZipEntry.STORED);
+            putEntry(zipOut, "dir/b.txt", "", method);
+        }
+    }
+
+    private static void putEntry(ZipOutputStream zipOut, String name, String content, int method) throws IOException {
+        byte[] data = content.getBytes(StandardCharsets.UTF_8);
+        ZipEntry entry = new ZipEntry(name);
+        entry.setMethod(method);
+        if (method == ZipEntry.STORED) {
+            CRC32 crc = new CRC32();
+            crc.update(data);
+            entry.setSize(data.length);
+            entry.setCompressedSize(data.length);
+            entry.setCrc(crc.getValue());
+        }
+        zipOut.putNextEntry(entry);
+        zipOut.write(data);
+        zipOut.closeEntry();
+    }
+}
@@ -0,0 +1,17 @@
+package io.quarkus.qute.benchmarks;
+
+public class Item {
+
+    public final int id;
+    public final String name;
+    public final int price;
+    public final boolean available;
+
+    public Item(int id, String name, int price, boolean available) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.available = available;
+    }
+
+}
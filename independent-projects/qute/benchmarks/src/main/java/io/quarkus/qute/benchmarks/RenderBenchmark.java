@@ -0,0 +1,118 @@
+package io.quarkus.qute.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.ReflectionValueResolver;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+
+/**
+ * Compares rendering a page to a {@code String} that is then encoded, which is what an HTTP endpoint returning a
+ * {@link TemplateInstance} used to do, with rendering it directly to UTF-8 bytes with
+ * {@link TemplateInstance#consumeUtf8(io.quarkus.qute.Utf8Output)}.
+ * <p>
+ * Run with {@code -prof gc} to see the allocation rate per rendering.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RenderBenchmark {
+
+    static final String PAGE = """
+            <!DOCTYPE html>
+            <html>
+              <head>
+                <meta charset="UTF-8">
+                <title>{title}</title>
+              </head>
+              <body>
+                <h1>{title}</h1>
+                <table class="items">
+                  <thead>
+                    <tr><th>#</th><th>Name</th><th>Price</th><th>Status</th></tr>
+                  </thead>
+                  <tbody>
+                  {#for item in items}
+                    <tr class="{#if item_odd}odd{#else}even{/if}">
+                      <td>{item_count}</td>
+                      <td><a href="/items/{item.id}">{item.name}</a></td>
+                      <td>{item.price}</td>
+                      <td>{#if item.available}In stock{#else}Sold out{/if}</td>
+                    </tr>
+                  {/for}
+                  </tbody>
+                </table>
+                <footer>Rendered by Qute</footer>
+              </body>
+            </html>
+            """;
+
+    @Param({ "10", "100" })
+    public int items;
+
+    private Template template;
+    private List<Item> data;
+    private ReusableUtf8Output output;
+
+    @Setup
+    public void setup() {
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver()).build();
+        template = engine.parse(PAGE);
+        data = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            data.add(new Item(i, "Item " + i, i * 10 + 9, i % 3 != 0));
+        }
+        output = new ReusableUtf8Output(4096);
+        if (!new String(renderUtf8Bytes(), StandardCharsets.UTF_8).equals(template.data("title", "Items")
+                .data("items", data).render())) {
+            throw new IllegalStateException("The UTF-8 output differs from the rendered string");
+        }
+    }
+
+    @Benchmark
+    public byte[] renderString() {
+        // Render to a String first, then encode as an HTTP message body writer does
+        return instance().render().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public int renderUtf8() {
+        output.reset();
+        instance().consumeUtf8(output);
+        return output.size();
+    }
+
+    private byte[] renderUtf8Bytes() {
+        renderUtf8();
+        return output.toByteArray();
+    }
+
+    private TemplateInstance instance() {
+        return template.data("title", "Items").data("items", data);
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { RenderBenchmark.class.getSimpleName(), "-prof", "gc" });
+    }
+
+}
@@ -0,0 +1,60 @@
+package io.quarkus.qute.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import io.quarkus.qute.Utf8Output;
+
+/**
+ * A growable byte array that is reused across renderings, like a pooled response buffer.
+ */
+public final class ReusableUtf8Output implements Utf8Output {
+
+    private byte[] bytes;
+    private int size;
+
+    public ReusableUtf8Output(int initialCapacity) {
+        this.bytes = new byte[initialCapacity];
+    }
+
+    @Override
+    public void write(byte[] chunk) {
+        ensureCapacity(chunk.length);
+        System.arraycopy(chunk, 0, bytes, size, chunk.length);
+        size += chunk.length;
+    }
+
+    @Override
+    public void write(String chunk) {
+        int length = chunk.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            char c = chunk.charAt(i);
+            if (c >= 0x80) {
+                // Not ASCII - encode the rest of the chunk at once
+                write(chunk.substring(i).getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            bytes[size++] = (byte) c;
+        }
+    }
+
+    public void reset() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+
+    private void ensureCapacity(int length) {
+        if (size + length > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + length));
+        }
+    }
+
+}
@@ -58,6 +58,11 @@ public CompletionStage<Void> consume(Consumer<String> consumer) {
         return delegate().consume(consumer);
     }
 
+    @Override
+    public CompletionStage<Void> consumeUtf8(Utf8Output output) {
+        return delegate().consumeUtf8(output);
+    }
+
     @Override
     public long getTimeout() {
         return delegate().getTimeout();
@@ -21,4 +21,11 @@ public void process(Consumer<String> consumer) {
         }
     }
 
+    @Override
+    public void writeUtf8(Utf8Output output) {
+        for (Supplier<ResultNode> result : results) {
+            result.get().writeUtf8(output);
+        }
+    }
+
 }
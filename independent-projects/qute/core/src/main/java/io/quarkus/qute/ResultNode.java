@@ -20,4 +20,13 @@ public void process(Consumer<String> resultConsumer) {
      */
     public abstract void process(Consumer<String> resultConsumer);
 
+    /**
+     * Writes the UTF-8 encoded result.
+     *
+     * @param output
+     */
+    public void writeUtf8(Utf8Output output) {
+        process(output::write);
+    }
+
 }
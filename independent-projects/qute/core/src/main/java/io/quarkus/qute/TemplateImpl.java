@@ -155,9 +155,17 @@ private class TemplateInstanceImpl extends TemplateInstanceBase {
 
         @Override
         public String render() {
+            CompletionStage<String> cs = renderAsyncNoTimeout();
+            if (cs instanceof CompletedStage) {
+                // Synchronous rendering - no need to wait
+                CompletedStage<String> completed = (CompletedStage<String>) cs;
+                if (!completed.isFailure()) {
+                    return completed.get();
+                }
+            }
             long timeout = getTimeout();
             try {
-                return renderAsyncNoTimeout().toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
+                return cs.toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 throw new IllegalStateException(e);
@@ -174,7 +182,7 @@ public String render() {
 
         @Override
         public Multi<String> createMulti() {
-            Multi<String> multi = Multi.createFrom().emitter(emitter -> renderData(data(), emitter::emit)
+            Multi<String> multi = Multi.createFrom().emitter(emitter -> renderData(data(), r -> r.process(emitter::emit))
                     .whenComplete((r, f) -> {
                         if (f == null) {
                             emitter.complete();
@@ -214,7 +222,16 @@ public CompletionStage<String> renderAsync() {
 
         @Override
         public CompletionStage<Void> consume(Consumer<String> resultConsumer) {
-            CompletionStage<Void> cs = renderData(data(), resultConsumer);
+            CompletionStage<Void> cs = renderData(data(), r -> r.process(resultConsumer));
+            if (engine.useAsyncTimeout()) {
+                cs = cs.toCompletableFuture().orTimeout(getTimeout(), TimeUnit.MILLISECONDS);
+            }
+            return cs;
+        }
+
+        @Override
+        public CompletionStage<Void> consumeUtf8(Utf8Output output) {
+            CompletionStage<Void> cs = renderData(data(), r -> r.writeUtf8(output));
             if (engine.useAsyncTimeout()) {
                 cs = cs.toCompletableFuture().orTimeout(getTimeout(), TimeUnit.MILLISECONDS);
             }
@@ -232,42 +249,52 @@ protected Engine engine() {
 
         private CompletionStage<String> renderAsyncNoTimeout() {
             StringBuilder builder = new StringBuilder(1028);
-            return renderData(data(), builder::append).thenApply(v -> builder.toString());
+            return renderData(data(), r -> r.process(builder::append)).thenApply(v -> builder.toString());
         }
 
-        private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
-            CompletableFuture<Void> result = new CompletableFuture<>();
+        private CompletionStage<Void> renderData(Object data, Consumer<ResultNode> resultProcessor) {
             ResolutionContext rootContext = new ResolutionContextImpl(data,
                     engine.getEvaluator(), null, this::getAttribute);
             setAttribute(DataNamespaceResolver.ROOT_CONTEXT, rootContext);
             // Async resolution
-            root.resolve(rootContext).whenComplete((r, t) -> {
+            CompletionStage<ResultNode> resolved = root.resolve(rootContext);
+            if (resolved instanceof CompletedStage) {
+                // All the nodes were resolved synchronously - process the result tree right away
+                return resolved.thenAccept(r -> processResult(r, resultProcessor));
+            }
+            CompletableFuture<Void> result = new CompletableFuture<>();
+            resolved.whenComplete((r, t) -> {
                 if (t != null) {
                     result.completeExceptionally(t);
                 } else {
-                    // Sync processing of the result tree - build the output
                     try {
-                        r.process(consumer);
+                        processResult(r, resultProcessor);
                         result.complete(null);
                     } catch (Throwable e) {
                         result.completeExceptionally(e);
-                    } finally {
-                        if (renderedActions != null) {
-                            for (Runnable action : renderedActions) {
-                                try {
-                                    action.run();
-                                } catch (Throwable e) {
-                                    LOG.error("Unable to perform an action when rendering finished", e);
-                                }
-                            }
-                        }
-
                     }
                 }
             });
             return result;
         }
 
+        private void processResult(ResultNode resultNode, Consumer<ResultNode> resultProcessor) {
+            // Sync processing of the result tree - build the output
+            try {
+                resultProcessor.accept(resultNode);
+            } finally {
+                if (renderedActions != null) {
+                    for (Runnable action : renderedActions) {
+                        try {
+                            action.run();
+                        } catch (Throwable e) {
+                            LOG.error("Unable to perform an action when rendering finished", e);
+                        }
+                    }
+                }
+            }
+        }
+
         @Override
         public Template getTemplate() {
             return TemplateImpl.this;
@@ -145,6 +145,17 @@ default CompletionStage<Void> consume(Consumer<String> consumer) {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Triggers rendering. Unlike {@link #consume(Consumer)}, the static text of the template is not encoded again for each
+     * rendering.
+     *
+     * @param output To consume the UTF-8 encoded chunks of the rendered template
+     * @return a completion stage that is completed once the rendering finished
+     */
+    default CompletionStage<Void> consumeUtf8(Utf8Output output) {
+        return consume(output::write);
+    }
+
     /**
      * @return the timeout
      * @see TemplateInstance#TIMEOUT
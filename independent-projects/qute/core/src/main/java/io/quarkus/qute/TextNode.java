@@ -1,5 +1,6 @@
 package io.quarkus.qute;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
@@ -10,6 +11,8 @@ public class TextNode extends ResultNode implements TemplateNode {
 
     private final CompletedStage<ResultNode> result;
     private final String value;
+    // encoded lazily and only once, see Utf8Output
+    private volatile byte[] utf8Value;
     private final Origin origin;
 
     public TextNode(String value, Origin origin) {
@@ -47,6 +50,17 @@ public void process(Consumer<String> consumer) {
         consumer.accept(value);
     }
 
+    @Override
+    public void writeUtf8(Utf8Output output) {
+        byte[] bytes = utf8Value;
+        if (bytes == null) {
+            // Concurrent renders may encode the value more than once, which is harmless
+            bytes = value.getBytes(StandardCharsets.UTF_8);
+            utf8Value = bytes;
+        }
+        output.write(bytes);
+    }
+
     @Override
     public TextNode asText() {
         return this;
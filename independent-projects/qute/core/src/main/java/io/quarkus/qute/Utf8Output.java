@@ -0,0 +1,24 @@
+package io.quarkus.qute;
+
+/**
+ * Receives the UTF-8 encoded output of a template.
+ * <p>
+ * The static text of a template is encoded once, when the template is first rendered as UTF-8, and the encoded bytes are
+ * then passed to {@link #write(byte[])} as is by all subsequent renderings, so that only the results of the expressions
+ * are encoded on each rendering.
+ *
+ * @see TemplateInstance#consumeUtf8(Utf8Output)
+ */
+public interface Utf8Output {
+
+    /**
+     * @param bytes The UTF-8 encoded chunk, must not be modified
+     */
+    void write(byte[] bytes);
+
+    /**
+     * @param chunk The chunk to encode
+     */
+    void write(String chunk);
+
+}
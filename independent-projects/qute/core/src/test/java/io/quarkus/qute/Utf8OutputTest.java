@@ -0,0 +1,108 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+public class Utf8OutputTest {
+
+    @Test
+    public void testConsumeUtf8() throws Exception {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template template = engine.parse("Příliš {name}: {#for i in items}{i}{#if i_hasNext}, {/if}{/for}!");
+        TemplateInstance instance = template.instance().data("name", "žluťoučký").data("items", List.of(1, 2, 3));
+        ByteOutput output = new ByteOutput();
+        AtomicBoolean rendered = new AtomicBoolean();
+        instance.onRendered(() -> rendered.set(true));
+        instance.consumeUtf8(output).toCompletableFuture().get(1, TimeUnit.SECONDS);
+        assertEquals("Příliš žluťoučký: 1, 2, 3!", output.toString());
+        assertEquals(instance.render(), output.toString());
+        assertTrue(rendered.get());
+    }
+
+    @Test
+    public void testTextEncodedOnce() throws Exception {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template template = engine.parse("Hello {name}!");
+        ByteOutput first = new ByteOutput();
+        template.instance().data("name", "foo").consumeUtf8(first).toCompletableFuture().get();
+        ByteOutput second = new ByteOutput();
+        template.instance().data("name", "bar").consumeUtf8(second).toCompletableFuture().get();
+        assertEquals("Hello foo!", first.toString());
+        assertEquals("Hello bar!", second.toString());
+        // The static text is passed as the same pre-encoded arrays
+        assertEquals(2, first.byteChunks.size());
+        assertSame(first.byteChunks.get(0), second.byteChunks.get(0));
+        assertSame(first.byteChunks.get(1), second.byteChunks.get(1));
+    }
+
+    @Test
+    public void testAsyncData() throws Exception {
+        Engine engine = Engine.builder().addDefaults().build();
+        CompletableFuture<String> name = new CompletableFuture<>();
+        ByteOutput output = new ByteOutput();
+        CompletableFuture<Void> result = engine.parse("Hello {name}!").data("name", name).consumeUtf8(output)
+                .toCompletableFuture();
+        name.complete("foo");
+        result.get(1, TimeUnit.SECONDS);
+        assertEquals("Hello foo!", output.toString());
+    }
+
+    @Test
+    public void testForwardingTemplateInstance() throws Exception {
+        Engine engine = Engine.builder().addDefaults().build();
+        TemplateInstance delegate = engine.parse("Hello {name}!").data("name", "foo");
+        TemplateInstance forwarding = new ForwardingTemplateInstance() {
+            @Override
+            protected TemplateInstance delegate() {
+                return delegate;
+            }
+        };
+        ByteOutput output = new ByteOutput();
+        forwarding.consumeUtf8(output).toCompletableFuture().get();
+        assertEquals("Hello foo!", output.toString());
+        assertEquals(2, output.byteChunks.size());
+    }
+
+    @Test
+    public void testSynchronousRender() {
+        Engine engine = Engine.builder().addDefaults().build();
+        assertEquals("Hello foo and bar!",
+                engine.parse("Hello {name} and {map.key}!").data("name", "foo", "map", Map.of("key", "bar")).render());
+    }
+
+    static class ByteOutput implements Utf8Output {
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final List<byte[]> byteChunks = new ArrayList<>();
+
+        @Override
+        public void write(byte[] bytes) {
+            byteChunks.add(bytes);
+            out.writeBytes(bytes);
+        }
+
+        @Override
+        public void write(String chunk) {
+            out.writeBytes(chunk.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String toString() {
+            return out.toString(StandardCharsets.UTF_8);
+        }
+
+    }
+
+}
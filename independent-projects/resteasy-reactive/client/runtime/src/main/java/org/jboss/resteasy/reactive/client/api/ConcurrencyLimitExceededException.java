@@ -0,0 +1,14 @@
+package org.jboss.resteasy.reactive.client.api;
+
+import jakarta.ws.rs.ProcessingException;
+
+/**
+ * Thrown when a request is not sent because the client reached its limit of concurrent requests, and the request could
+ * not wait for a permit or waited for too long.
+ */
+public class ConcurrencyLimitExceededException extends ProcessingException {
+
+    public ConcurrencyLimitExceededException(String message) {
+        super(message);
+    }
+}
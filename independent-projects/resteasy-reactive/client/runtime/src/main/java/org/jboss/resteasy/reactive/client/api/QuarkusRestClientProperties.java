@@ -85,4 +85,10 @@ public class QuarkusRestClientProperties {
      */
     public static final String CAPTURE_STACKTRACE = "io.quarkus.rest.client.capture-stacktrace";
 
+    /**
+     * A {@link org.jboss.resteasy.reactive.client.impl.ConcurrencyLimiter} limiting the number of concurrent requests sent
+     * by the client. The same limiter may be shared by several clients.
+     */
+    public static final String CONCURRENCY_LIMITER = "io.quarkus.rest.client.concurrency-limiter";
+
 }
@@ -0,0 +1,89 @@
+package org.jboss.resteasy.reactive.client.handlers;
+
+import java.util.function.BiConsumer;
+
+import org.jboss.resteasy.reactive.client.api.ConcurrencyLimitExceededException;
+import org.jboss.resteasy.reactive.client.impl.ConcurrencyLimiter;
+import org.jboss.resteasy.reactive.client.impl.RestClientRequestContext;
+import org.jboss.resteasy.reactive.client.spi.ClientRestHandler;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+
+/**
+ * This is added right before the request is sent if the client has a concurrency limit. The request proceeds once it
+ * holds a permit of the {@link ConcurrencyLimiter}, which is released when the request completes.
+ */
+public class ClientConcurrencyLimitHandler implements ClientRestHandler {
+
+    private final ConcurrencyLimiter limiter;
+    private final Vertx vertx;
+
+    public ClientConcurrencyLimitHandler(ConcurrencyLimiter limiter, Vertx vertx) {
+        this.limiter = limiter;
+        this.vertx = vertx;
+    }
+
+    @Override
+    public void handle(RestClientRequestContext requestContext) throws Exception {
+        if (requestContext.isAborted()) {
+            return;
+        }
+        if (limiter.tryAcquire()) {
+            acquired(requestContext);
+            return;
+        }
+        requestContext.suspend();
+        WaitingRequest waitingRequest = new WaitingRequest(requestContext);
+        ConcurrencyLimiter.Waiter waiter = limiter.enqueue(waitingRequest);
+        if (waiter == null) {
+            requestContext.resume(new ConcurrencyLimitExceededException(
+                    "The request was rejected because the client reached its limit of "
+                            + limiter.currentLimit() + " concurrent requests"));
+            return;
+        }
+        waitingRequest.timerId = vertx.setTimer(Math.max(1, limiter.queueTimeoutMillis()), new Handler<Long>() {
+            @Override
+            public void handle(Long timerId) {
+                if (limiter.cancel(waiter)) {
+                    requestContext.resume(new ConcurrencyLimitExceededException(
+                            "The request was rejected because the client did not get below its limit of "
+                                    + limiter.currentLimit() + " concurrent requests within "
+                                    + limiter.queueTimeoutMillis() + " ms"));
+                }
+            }
+        });
+    }
+
+    private void acquired(RestClientRequestContext requestContext) {
+        long start = System.nanoTime();
+        requestContext.getResult().whenComplete(new BiConsumer<Object, Throwable>() {
+            @Override
+            public void accept(Object response, Throwable failure) {
+                // Failed requests, e.g. refused connections, would skew the estimated request time
+                limiter.release(failure == null ? (System.nanoTime() - start) / 1000 : -1);
+            }
+        });
+    }
+
+    private class WaitingRequest implements Runnable {
+
+        private final RestClientRequestContext requestContext;
+        // Set after the request is queued, a permit may be handed to the request before
+        private volatile long timerId = -1;
+
+        WaitingRequest(RestClientRequestContext requestContext) {
+            this.requestContext = requestContext;
+        }
+
+        @Override
+        public void run() {
+            long timerId = this.timerId;
+            if (timerId >= 0) {
+                vertx.cancelTimer(timerId);
+            }
+            acquired(requestContext);
+            requestContext.resume();
+        }
+    }
+}
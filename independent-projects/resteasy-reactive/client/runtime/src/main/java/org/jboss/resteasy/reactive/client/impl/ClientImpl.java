@@ -1,6 +1,7 @@
 package org.jboss.resteasy.reactive.client.impl;
 
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CAPTURE_STACKTRACE;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONCURRENCY_LIMITER;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_POOL_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_TTL;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECT_TIMEOUT;
@@ -35,6 +36,7 @@
 import org.jboss.resteasy.reactive.client.api.ClientLogger;
 import org.jboss.resteasy.reactive.client.api.LoggingScope;
 import org.jboss.resteasy.reactive.client.handlers.AdvancedRedirectHandler;
+import org.jboss.resteasy.reactive.client.handlers.ClientConcurrencyLimitHandler;
 import org.jboss.resteasy.reactive.client.handlers.RedirectHandler;
 import org.jboss.resteasy.reactive.client.spi.ClientContext;
 import org.jboss.resteasy.reactive.common.jaxrs.ConfigurationImpl;
@@ -216,6 +218,12 @@ public Vertx get() {
         handlerChain = new HandlerChain(isCaptureStacktrace(configuration), options.getMaxChunkSize(), followRedirects,
                 loggingScope,
                 clientContext.getMultipartResponsesData(), clientLogger);
+
+        Object concurrencyLimiter = configuration.getProperty(CONCURRENCY_LIMITER);
+        if (concurrencyLimiter != null) {
+            handlerChain.setConcurrencyLimitHandler(
+                    new ClientConcurrencyLimitHandler((ConcurrencyLimiter) concurrencyLimiter, this.vertx));
+        }
     }
 
     private boolean isCaptureStacktrace(ConfigurationImpl configuration) {
@@ -0,0 +1,187 @@
+package org.jboss.resteasy.reactive.client.impl;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the number of requests a client sends concurrently. The limit itself is provided by a {@link Limit}, typically
+ * one adjusted with the TCP Vegas algorithm from the request times recorded when the permits are released.
+ * <p>
+ * A request that exceeds the limit waits in a bounded queue until a permit is released, or is rejected if the queue is
+ * full.
+ */
+public class ConcurrencyLimiter {
+    private final Limit limit;
+    private final int maxQueueSize;
+    private final long queueTimeoutMillis;
+
+    private final AtomicInteger currentRequests = new AtomicInteger();
+    private final AtomicInteger queuedRequests = new AtomicInteger();
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    private final LongAdder rejectedRequests = new LongAdder();
+
+    /**
+     * @param limit the limit of concurrent requests
+     * @param maxQueueSize the maximum number of requests waiting for a permit, {@code 0} to reject the requests exceeding
+     *        the limit immediately
+     * @param queueTimeoutMillis the maximum time a request waits for a permit
+     */
+    public ConcurrencyLimiter(Limit limit, int maxQueueSize, long queueTimeoutMillis) {
+        this.limit = limit;
+        this.maxQueueSize = maxQueueSize;
+        this.queueTimeoutMillis = queueTimeoutMillis;
+    }
+
+    /**
+     * @return {@code true} if a permit was acquired, in which case {@link #release(long)} must be called once the request
+     *         completes
+     */
+    public boolean tryAcquire() {
+        for (;;) {
+            int current = currentRequests.get();
+            if (current >= limit.get()) {
+                return false;
+            }
+            if (currentRequests.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Waits for a permit. The callback may be invoked by the current thread, if a permit is released meanwhile, or by the
+     * thread releasing a permit later on. It must not block.
+     *
+     * @return the waiter to pass to {@link #cancel(Waiter)} when the wait times out, or {@code null} if the queue is full
+     *         and the request must be rejected
+     */
+    public Waiter enqueue(Runnable onAcquired) {
+        if (queuedRequests.incrementAndGet() > maxQueueSize) {
+            queuedRequests.decrementAndGet();
+            rejectedRequests.increment();
+            return null;
+        }
+        Waiter waiter = new Waiter(onAcquired);
+        waiters.add(waiter);
+        // A permit may have been released before the waiter was added
+        drain();
+        return waiter;
+    }
+
+    /**
+     * @return {@code true} if the wait was cancelled, {@code false} if a permit was already handed to the waiter
+     */
+    public boolean cancel(Waiter waiter) {
+        if (waiter.claim()) {
+            waiters.remove(waiter);
+            queuedRequests.decrementAndGet();
+            rejectedRequests.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Releases a permit acquired by {@link #tryAcquire()} or handed to a waiter.
+     *
+     * @param timeInMicros the time it took to complete the request, or a negative value if the request failed and should
+     *        not be used to estimate the limit
+     */
+    public void release(long timeInMicros) {
+        int current = currentRequests.getAndDecrement();
+        if (timeInMicros >= 0) {
+            limit.record(timeInMicros, current);
+        }
+        drain();
+    }
+
+    /**
+     * @return the maximum time a request waits for a permit
+     */
+    public long queueTimeoutMillis() {
+        return queueTimeoutMillis;
+    }
+
+    /**
+     * @return the current limit of concurrent requests
+     */
+    public long currentLimit() {
+        return limit.get();
+    }
+
+    /**
+     * @return the number of requests currently in flight
+     */
+    public int currentRequests() {
+        return currentRequests.get();
+    }
+
+    /**
+     * @return the number of requests waiting for a permit
+     */
+    public int queuedRequests() {
+        return queuedRequests.get();
+    }
+
+    /**
+     * @return the total number of requests rejected because the queue was full or the wait timed out
+     */
+    public long rejectedRequests() {
+        return rejectedRequests.sum();
+    }
+
+    private void drain() {
+        while (!waiters.isEmpty() && tryAcquire()) {
+            Waiter waiter = waiters.poll();
+            if (waiter == null) {
+                currentRequests.decrementAndGet();
+                return;
+            }
+            if (!waiter.claim()) {
+                // The wait was cancelled meanwhile
+                currentRequests.decrementAndGet();
+                continue;
+            }
+            queuedRequests.decrementAndGet();
+            waiter.onAcquired.run();
+        }
+    }
+
+    /**
+     * A request waiting for a permit. Either a permit is handed to it, or the wait is cancelled, whichever comes first.
+     */
+    public static final class Waiter {
+        private final Runnable onAcquired;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        Waiter(Runnable onAcquired) {
+            this.onAcquired = onAcquired;
+        }
+
+        private boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+
+    /**
+     * The limit of concurrent requests, which may be adjusted from the completed requests.
+     */
+    public interface Limit {
+
+        /**
+         * @return the current limit of concurrent requests
+         */
+        long get();
+
+        /**
+         * Records a completed request.
+         *
+         * @param timeInMicros the time it took to complete the request
+         * @param currentRequests the number of requests in flight when the request completed, including itself
+         */
+        void record(long timeInMicros, int currentRequests);
+    }
+}
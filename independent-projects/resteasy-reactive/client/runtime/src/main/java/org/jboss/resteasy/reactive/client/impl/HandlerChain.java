@@ -35,6 +35,7 @@ class HandlerChain {
     private final ClientRestHandler clientErrorHandler;
 
     private ClientRestHandler preClientSendHandler = null;
+    private ClientRestHandler concurrencyLimitHandler = null;
 
     public HandlerChain(boolean captureStacktrace, int maxChunkSize, boolean followRedirects, LoggingScope loggingScope,
             Map<Class<?>, MultipartResponseData> multipartData, ClientLogger clientLogger) {
@@ -52,10 +53,15 @@ HandlerChain setPreClientSendHandler(ClientRestHandler preClientSendHandler) {
         return this;
     }
 
+    HandlerChain setConcurrencyLimitHandler(ClientRestHandler concurrencyLimitHandler) {
+        this.concurrencyLimitHandler = concurrencyLimitHandler;
+        return this;
+    }
+
     ClientRestHandler[] createHandlerChain(ConfigurationImpl configuration) {
         List<ClientRequestFilter> requestFilters = configuration.getRequestFilters();
         List<ClientResponseFilter> responseFilters = configuration.getResponseFilters();
-        if (requestFilters.isEmpty() && responseFilters.isEmpty()) {
+        if (requestFilters.isEmpty() && responseFilters.isEmpty() && concurrencyLimitHandler == null) {
             return new ClientRestHandler[] { clientCaptureCurrentContextRestHandler,
                     clientSwitchToRequestContextRestHandler,
                     clientSendHandler,
@@ -63,7 +69,8 @@ ClientRestHandler[] createHandlerChain(ConfigurationImpl configuration) {
                     clientResponseCompleteRestHandler };
         }
         List<ClientRestHandler> result = new ArrayList<>(
-                (preClientSendHandler != null ? 4 : 3) + requestFilters.size() + responseFilters.size());
+                (preClientSendHandler != null ? 4 : 3) + (concurrencyLimitHandler != null ? 1 : 0) + requestFilters.size()
+                        + responseFilters.size());
         if (preClientSendHandler != null) {
             result.add(preClientSendHandler);
         }
@@ -72,6 +79,9 @@ ClientRestHandler[] createHandlerChain(ConfigurationImpl configuration) {
         }
         result.add(clientCaptureCurrentContextRestHandler);
         result.add(clientSwitchToRequestContextRestHandler);
+        if (concurrencyLimitHandler != null) {
+            result.add(concurrencyLimitHandler);
+        }
         result.add(clientSendHandler);
         result.add(clientSetResponseEntityRestHandler);
         result.add(new PreResponseFilterHandler());
@@ -0,0 +1,103 @@
+package org.jboss.resteasy.reactive.client.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class ConcurrencyLimiterTest {
+
+    @Test
+    public void requestsAboveTheLimitAreRejectedWithoutQueue() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(new FixedLimit(2), 0, 1000);
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertNull(limiter.enqueue(() -> {
+        }));
+        assertEquals(1, limiter.rejectedRequests());
+
+        limiter.release(-1);
+        assertEquals(1, limiter.currentRequests());
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    public void releasedPermitIsHandedToTheFirstWaiter() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(new FixedLimit(1), 2, 1000);
+        assertTrue(limiter.tryAcquire());
+
+        AtomicInteger acquired = new AtomicInteger();
+        assertNotNull(limiter.enqueue(acquired::incrementAndGet));
+        assertNotNull(limiter.enqueue(acquired::incrementAndGet));
+        // The queue is full
+        assertNull(limiter.enqueue(acquired::incrementAndGet));
+        assertEquals(2, limiter.queuedRequests());
+
+        limiter.release(-1);
+        assertEquals(1, acquired.get());
+        assertEquals(1, limiter.currentRequests());
+        assertEquals(1, limiter.queuedRequests());
+    }
+
+    @Test
+    public void cancelledWaiterDoesNotGetAPermit() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(new FixedLimit(1), 1, 1000);
+        assertTrue(limiter.tryAcquire());
+
+        AtomicInteger acquired = new AtomicInteger();
+        ConcurrencyLimiter.Waiter waiter = limiter.enqueue(acquired::incrementAndGet);
+        assertTrue(limiter.cancel(waiter));
+        assertEquals(0, limiter.queuedRequests());
+        assertEquals(1, limiter.rejectedRequests());
+
+        limiter.release(-1);
+        assertEquals(0, acquired.get());
+        assertEquals(0, limiter.currentRequests());
+        // A waiter that already got a permit cannot be cancelled
+        assertTrue(limiter.tryAcquire());
+        ConcurrencyLimiter.Waiter other = limiter.enqueue(acquired::incrementAndGet);
+        limiter.release(-1);
+        assertFalse(limiter.cancel(other));
+        assertEquals(1, acquired.get());
+    }
+
+    @Test
+    public void completedRequestsAreRecorded() {
+        FixedLimit limit = new FixedLimit(2);
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(limit, 0, 1000);
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        limiter.release(1_000);
+        // A failed request is not recorded
+        limiter.release(-1);
+        assertEquals(1, limit.recorded.get());
+        assertEquals(2, limit.lastCurrentRequests);
+    }
+
+    private static final class FixedLimit implements ConcurrencyLimiter.Limit {
+        private final long limit;
+        private final AtomicInteger recorded = new AtomicInteger();
+        private volatile int lastCurrentRequests;
+
+        FixedLimit(long limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public long get() {
+            return limit;
+        }
+
+        @Override
+        public void record(long timeInMicros, int currentRequests) {
+            recorded.incrementAndGet();
+            lastCurrentRequests = currentRequests;
+        }
+    }
+}
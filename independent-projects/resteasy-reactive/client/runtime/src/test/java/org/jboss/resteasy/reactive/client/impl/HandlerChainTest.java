@@ -1,8 +1,10 @@
 package org.jboss.resteasy.reactive.client.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import jakarta.ws.rs.RuntimeType;
@@ -10,6 +12,7 @@
 import jakarta.ws.rs.client.ClientResponseFilter;
 
 import org.jboss.resteasy.reactive.client.api.LoggingScope;
+import org.jboss.resteasy.reactive.client.handlers.ClientSendRequestHandler;
 import org.jboss.resteasy.reactive.client.logging.DefaultClientLogger;
 import org.jboss.resteasy.reactive.client.spi.ClientRestHandler;
 import org.jboss.resteasy.reactive.common.jaxrs.ConfigurationImpl;
@@ -43,4 +46,20 @@ public void preSendHandlerIsAlwaysFirst() throws Exception {
         assertEquals(handlers[0], preHandler);
     }
 
+    @Test
+    public void concurrencyLimitHandlerIsRightBeforeSend() throws Exception {
+
+        var chain = new HandlerChain(false, 8096, true, LoggingScope.NONE, Collections.emptyMap(), new DefaultClientLogger());
+
+        ClientRestHandler limitHandler = ctx -> {
+        };
+        chain.setConcurrencyLimitHandler(limitHandler);
+
+        var handlers = chain.createHandlerChain(new ConfigurationImpl(RuntimeType.CLIENT));
+
+        int index = Arrays.asList(handlers).indexOf(limitHandler);
+        assertTrue(index >= 0);
+        assertInstanceOf(ClientSendRequestHandler.class, handlers[index + 1]);
+    }
+
 }
@@ -0,0 +1,176 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.jboss.resteasy.reactive.common.providers.serialisers.AbstractJsonMessageBodyReader;
+import org.jboss.resteasy.reactive.server.benchmarks.chain.BenchmarkResource;
+import org.jboss.resteasy.reactive.server.benchmarks.chain.Greeting;
+import org.jboss.resteasy.reactive.server.benchmarks.chain.Interceptors;
+import org.jboss.resteasy.reactive.server.benchmarks.chain.JsonProviders;
+import org.jboss.resteasy.reactive.server.benchmarks.chain.MockHttpExchange;
+import org.jboss.resteasy.reactive.server.benchmarks.chain.MockRequestContextFactory;
+import org.jboss.resteasy.reactive.server.core.reflection.ReflectiveContextInjectedBeanFactory;
+import org.jboss.resteasy.reactive.server.handlers.RestInitialHandler;
+import org.jboss.resteasy.reactive.server.jackson.JacksonBasicMessageBodyReader;
+import org.jboss.resteasy.reactive.server.processor.ResteasyReactiveDeploymentManager;
+import org.jboss.resteasy.reactive.server.spi.DefaultRuntimeConfiguration;
+import org.jboss.resteasy.reactive.spi.BeanFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the per request overhead of the server handler chain, from {@link RestInitialHandler} to the response
+ * writer, by replaying requests through an application deployed by {@link ResteasyReactiveDeploymentManager} with an
+ * in-memory request context instead of Vert.x.
+ * <p>
+ * The resources are singletons, as they are in Quarkus, and everything runs on the benchmark thread, including the
+ * {@code @Blocking} endpoint, so the numbers do not include any I/O nor thread hop.
+ * <p>
+ * Run with {@code -prof gc} to see the allocation rate per request.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class HandlerChainBenchmark {
+
+    @Param({ "hello", "pathParams", "queryParams", "jsonGet", "jsonPost", "blocking" })
+    public String endpoint;
+
+    /**
+     * Whether to deploy a global request filter, response filter, reader interceptor and writer interceptor.
+     */
+    @Param({ "false", "true" })
+    public boolean filters;
+
+    private ResteasyReactiveDeploymentManager.RunnableApplication application;
+    private RestInitialHandler initialHandler;
+    private MockHttpExchange exchange;
+
+    @Setup
+    public void setup() throws Exception {
+        // the super classes of the providers are indexed so that the scanner sees which interfaces they implement
+        List<Class<?>> classes = new ArrayList<>(List.of(BenchmarkResource.class, Greeting.class,
+                JsonProviders.Reader.class, JacksonBasicMessageBodyReader.class, AbstractJsonMessageBodyReader.class,
+                JsonProviders.Writer.class));
+        if (filters) {
+            classes.addAll(List.of(Interceptors.RequestIdFilter.class, Interceptors.RequestIdResponseFilter.class,
+                    Interceptors.PassThroughReaderInterceptor.class, Interceptors.PassThroughWriterInterceptor.class));
+        }
+        Indexer indexer = new Indexer();
+        for (Class<?> clazz : classes) {
+            indexer.indexClass(clazz);
+        }
+        Index index = indexer.complete();
+
+        ResteasyReactiveDeploymentManager.PreparedApplication prepared = ResteasyReactiveDeploymentManager.start(index)
+                .scan()
+                .prepare(Thread.currentThread().getContextClassLoader(), singletons());
+        prepared.addScannedSerializers();
+        prepared.addBuiltinSerializers();
+        DefaultRuntimeConfiguration runtimeConfiguration = new DefaultRuntimeConfiguration(Duration.ofMinutes(1), true,
+                System.getProperty("java.io.tmpdir"), List.of(), Charset.defaultCharset(), Optional.empty(), 2048, 1000);
+        application = prepared.createApplication(runtimeConfiguration, new MockRequestContextFactory(), Runnable::run);
+        initialHandler = application.getInitialHandler();
+
+        exchange = exchange(endpoint);
+        process();
+        if (exchange.status() != 200 || !exchange.ended()) {
+            throw new IllegalStateException(exchange + " failed with status " + exchange.status() + ": "
+                    + exchange.responseBody(), exchange.failure());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        application.close();
+    }
+
+    @Benchmark
+    public int process() {
+        initialHandler.beginProcessing(exchange);
+        return exchange.responseBodySize();
+    }
+
+    private static MockHttpExchange exchange(String endpoint) {
+        switch (endpoint) {
+            case "hello":
+                return new MockHttpExchange("GET", "/bench/hello", null,
+                        "Accept", "*/*");
+            case "pathParams":
+                return new MockHttpExchange("GET", "/bench/users/john/orders/42", null,
+                        "Accept", "*/*");
+            case "queryParams":
+                return new MockHttpExchange("GET", "/bench/search?q=quarkus&limit=20", null,
+                        "Accept", "*/*", "X-Tenant", "acme");
+            case "jsonGet":
+                return new MockHttpExchange("GET", "/bench/greetings/42", null,
+                        "Accept", "application/json", "X-Request-Id", "0123456789");
+            case "jsonPost":
+                return new MockHttpExchange("POST", "/bench/greetings",
+                        "{\"id\":42,\"message\":\"hello\",\"tags\":[\"fast\",\"small\"]}".getBytes(StandardCharsets.UTF_8),
+                        "Accept", "application/json", "Content-Type", "application/json", "X-Request-Id", "0123456789");
+            case "blocking":
+                return new MockHttpExchange("GET", "/bench/blocking", null,
+                        "Accept", "*/*");
+            default:
+                throw new IllegalArgumentException("Unknown endpoint " + endpoint);
+        }
+    }
+
+    /**
+     * Creates each resource and provider once, as the default {@code @Singleton} scope of Quarkus does.
+     */
+    private static Function<String, BeanFactory<?>> singletons() {
+        return new Function<String, BeanFactory<?>>() {
+            @Override
+            public BeanFactory<?> apply(String name) {
+                Object instance = ReflectiveContextInjectedBeanFactory.STRING_FACTORY.apply(name).createInstance()
+                        .getInstance();
+                BeanFactory.BeanInstance<Object> beanInstance = new BeanFactory.BeanInstance<>() {
+                    @Override
+                    public Object getInstance() {
+                        return instance;
+                    }
+
+                    @Override
+                    public void close() {
+                    }
+                };
+                return new BeanFactory<Object>() {
+                    @Override
+                    public BeanInstance<Object> createInstance() {
+                        return beanInstance;
+                    }
+                };
+            }
+        };
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { HandlerChainBenchmark.class.getSimpleName(), "-prof", "gc" });
+    }
+
+}
@@ -0,0 +1,74 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper;
+import org.jboss.resteasy.reactive.server.mapping.URITemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link RequestMapper#map(String)} over a route table where hundreds of templates share a few stems, which
+ * is what the method level mappers of large resources look like.
+ * <p>
+ * Run with {@code -prof gc} to see the allocation rate per lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RequestMapperBenchmark {
+
+    private static final String[] ENTITIES = { "users", "orders", "invoices", "products", "carts", "payments",
+            "shipments", "reviews", "coupons", "addresses", "accounts", "tickets", "messages", "subscriptions", "plans",
+            "teams", "projects", "tasks", "comments", "attachments" };
+
+    @Param({ "/api/acme/users/42", "/api/acme/attachments/42/versions/7", "/api/acme/tasks/export.csv",
+            "/api/status", "/api/acme/unknown/42" })
+    public String path;
+
+    private RequestMapper<String> mapper;
+
+    @Setup
+    public void setup() {
+        ArrayList<RequestMapper.RequestPath<String>> templates = new ArrayList<>();
+        add(templates, "/api/status");
+        add(templates, "/api/health/{check}");
+        for (String entity : ENTITIES) {
+            add(templates, "/api/{tenant}/" + entity);
+            add(templates, "/api/{tenant}/" + entity + "/{id}");
+            add(templates, "/api/{tenant}/" + entity + "/{id}/history");
+            add(templates, "/api/{tenant}/" + entity + "/{id}/versions/{version}");
+            add(templates, "/api/{tenant}/" + entity + "/search");
+            add(templates, "/api/{tenant}/" + entity + "/{name:[a-z]+}.{format}");
+        }
+        mapper = new RequestMapper<>(templates);
+    }
+
+    private static void add(ArrayList<RequestMapper.RequestPath<String>> templates, String template) {
+        templates.add(new RequestMapper.RequestPath<>(false, new URITemplate(template, false), template));
+    }
+
+    @Benchmark
+    public RequestMapper.RequestMatch<String> map() {
+        return mapper.map(path);
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { RequestMapperBenchmark.class.getSimpleName(), "-prof", "gc" });
+    }
+
+}
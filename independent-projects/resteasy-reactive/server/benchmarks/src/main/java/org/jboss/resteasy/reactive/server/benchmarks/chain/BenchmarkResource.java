@@ -0,0 +1,69 @@
+package org.jboss.resteasy.reactive.server.benchmarks.chain;
+
+import java.util.List;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.common.annotation.NonBlocking;
+
+/**
+ * The endpoints driven by {@link org.jboss.resteasy.reactive.server.benchmarks.HandlerChainBenchmark}. They do as
+ * little as possible, so that the benchmark measures the handler chain around them.
+ */
+@Path("/bench")
+@NonBlocking
+public class BenchmarkResource {
+
+    private static final List<String> TAGS = List.of("fast", "small");
+
+    @GET
+    @Path("hello")
+    public String hello() {
+        return "hello";
+    }
+
+    @GET
+    @Path("users/{userId}/orders/{orderId}")
+    public String order(@PathParam("userId") String userId, @PathParam("orderId") long orderId) {
+        return userId;
+    }
+
+    @GET
+    @Path("search")
+    public String search(@QueryParam("q") String query, @QueryParam("limit") @DefaultValue("10") int limit,
+            @HeaderParam("X-Tenant") String tenant) {
+        return query;
+    }
+
+    @GET
+    @Path("greetings/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Greeting greeting(@PathParam("id") long id) {
+        return new Greeting(id, "hello", TAGS);
+    }
+
+    @POST
+    @Path("greetings")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    public Greeting echo(Greeting greeting) {
+        return greeting;
+    }
+
+    @GET
+    @Path("blocking")
+    @Blocking
+    public String blocking() {
+        return "hello";
+    }
+}
@@ -0,0 +1,19 @@
+package org.jboss.resteasy.reactive.server.benchmarks.chain;
+
+import java.util.List;
+
+public class Greeting {
+
+    public long id;
+    public String message;
+    public List<String> tags;
+
+    public Greeting() {
+    }
+
+    public Greeting(long id, String message, List<String> tags) {
+        this.id = id;
+        this.message = message;
+        this.tags = tags;
+    }
+}
@@ -0,0 +1,60 @@
+package org.jboss.resteasy.reactive.server.benchmarks.chain;
+
+import java.io.IOException;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.ReaderInterceptor;
+import jakarta.ws.rs.ext.ReaderInterceptorContext;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+/**
+ * Global filters and interceptors doing the kind of cheap work real applications do in them, so that the benchmark
+ * measures the cost of the filter and interceptor handlers rather than of the work itself.
+ */
+public final class Interceptors {
+
+    private Interceptors() {
+    }
+
+    @Provider
+    public static class RequestIdFilter implements ContainerRequestFilter {
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) {
+            String requestId = requestContext.getHeaderString("X-Request-Id");
+            requestContext.setProperty("request-id", requestId == null ? "none" : requestId);
+        }
+    }
+
+    @Provider
+    public static class RequestIdResponseFilter implements ContainerResponseFilter {
+
+        @Override
+        public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+            responseContext.getHeaders().putSingle("X-Request-Id", requestContext.getProperty("request-id"));
+        }
+    }
+
+    @Provider
+    public static class PassThroughReaderInterceptor implements ReaderInterceptor {
+
+        @Override
+        public Object aroundReadFrom(ReaderInterceptorContext context) throws IOException {
+            return context.proceed();
+        }
+    }
+
+    @Provider
+    public static class PassThroughWriterInterceptor implements WriterInterceptor {
+
+        @Override
+        public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+            context.proceed();
+        }
+    }
+}
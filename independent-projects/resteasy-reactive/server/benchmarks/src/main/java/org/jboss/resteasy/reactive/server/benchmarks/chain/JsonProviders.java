@@ -0,0 +1,66 @@
+package org.jboss.resteasy.reactive.server.benchmarks.chain;
+
+import static org.jboss.resteasy.reactive.server.jackson.JacksonMessageBodyWriterUtil.createDefaultWriter;
+import static org.jboss.resteasy.reactive.server.jackson.JacksonMessageBodyWriterUtil.doLegacyWrite;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.reactive.server.jackson.JacksonBasicMessageBodyReader;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * The Jackson reader and writer, as registered by the Quarkus REST Jackson extension, but with a shared
+ * {@link ObjectMapper} instead of an injected one.
+ */
+public final class JsonProviders {
+
+    static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private JsonProviders() {
+    }
+
+    @Provider
+    @Consumes(MediaType.APPLICATION_JSON)
+    public static class Reader extends JacksonBasicMessageBodyReader {
+
+        public Reader() {
+            super(MAPPER);
+        }
+    }
+
+    @Provider
+    @Produces(MediaType.APPLICATION_JSON)
+    public static class Writer extends ServerMessageBodyWriter.AllWriteableMessageBodyWriter {
+
+        private final ObjectWriter defaultWriter = createDefaultWriter(MAPPER);
+
+        @Override
+        public void writeResponse(Object o, Type genericType, ServerRequestContext context)
+                throws WebApplicationException, IOException {
+            OutputStream stream = context.getOrCreateOutputStream();
+            defaultWriter.writeValue(stream, o);
+            stream.close();
+        }
+
+        @Override
+        public void writeTo(Object o, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+                throws IOException, WebApplicationException {
+            doLegacyWrite(o, annotations, httpHeaders, entityStream, defaultWriter);
+        }
+    }
+}
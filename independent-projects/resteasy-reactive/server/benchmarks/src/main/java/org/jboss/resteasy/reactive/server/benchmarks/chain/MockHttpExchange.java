@@ -0,0 +1,128 @@
+package org.jboss.resteasy.reactive.server.benchmarks.chain;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An HTTP request that is parsed once, and the response it got the last time it was processed.
+ * <p>
+ * The response is reset by {@link MockRequestContextFactory} before each processing, so that the same exchange can be
+ * replayed by a benchmark without allocating anything besides what the handler chain allocates itself.
+ */
+public final class MockHttpExchange {
+
+    final String method;
+    final String uri;
+    final String path;
+    final String query;
+    final Map<String, List<String>> requestHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    final Map<String, List<String>> queryParams = new LinkedHashMap<>();
+    final byte[] requestBody;
+
+    final Map<String, List<String>> responseHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    final ByteArrayOutputStream responseBody = new ByteArrayOutputStream(256);
+    int status;
+    boolean committed;
+    boolean ended;
+    Throwable failure;
+
+    /**
+     * @param method the HTTP method
+     * @param uri the request URI, with an optional query string
+     * @param requestBody the request body, or {@code null}
+     * @param headers the request headers, as name value pairs
+     */
+    public MockHttpExchange(String method, String uri, byte[] requestBody, String... headers) {
+        if (headers.length % 2 != 0) {
+            throw new IllegalArgumentException("The headers must be name value pairs");
+        }
+        this.method = method;
+        this.uri = uri;
+        this.requestBody = requestBody;
+        int queryStart = uri.indexOf('?');
+        if (queryStart < 0) {
+            path = uri;
+            query = null;
+        } else {
+            path = uri.substring(0, queryStart);
+            query = uri.substring(queryStart + 1);
+            for (String param : query.split("&")) {
+                int eq = param.indexOf('=');
+                String name = eq < 0 ? param : param.substring(0, eq);
+                String value = eq < 0 ? "" : param.substring(eq + 1);
+                queryParams.computeIfAbsent(URLDecoder.decode(name, StandardCharsets.UTF_8), k -> new ArrayList<>())
+                        .add(URLDecoder.decode(value, StandardCharsets.UTF_8));
+            }
+        }
+        for (int i = 0; i < headers.length; i += 2) {
+            requestHeaders.computeIfAbsent(headers[i], k -> new ArrayList<>()).add(headers[i + 1]);
+        }
+        if (requestBody != null) {
+            requestHeaders.put("Content-Length", Collections.singletonList(Integer.toString(requestBody.length)));
+        }
+    }
+
+    void reset() {
+        responseHeaders.clear();
+        responseBody.reset();
+        status = 200;
+        committed = false;
+        ended = false;
+        failure = null;
+    }
+
+    /**
+     * @return the status of the last response
+     */
+    public int status() {
+        return status;
+    }
+
+    /**
+     * @return whether the last response was fully written
+     */
+    public boolean ended() {
+        return ended;
+    }
+
+    /**
+     * @return the exception the last request failed with, or {@code null}
+     */
+    public Throwable failure() {
+        return failure;
+    }
+
+    /**
+     * @return the first value of a header of the last response, or {@code null}
+     */
+    public String responseHeader(String name) {
+        List<String> values = responseHeaders.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    /**
+     * @return the body of the last response
+     */
+    public String responseBody() {
+        return responseBody.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return the size of the body of the last response
+     */
+    public int responseBodySize() {
+        return responseBody.size();
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + uri;
+    }
+}
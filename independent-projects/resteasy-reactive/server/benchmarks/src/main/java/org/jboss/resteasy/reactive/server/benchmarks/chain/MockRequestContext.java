@@ -0,0 +1,378 @@
+package org.jboss.resteasy.reactive.server.benchmarks.chain;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import org.jboss.resteasy.reactive.server.core.Deployment;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
+
+/**
+ * A request context that reads the request from a {@link MockHttpExchange} and writes the response into it, without
+ * any I/O. Everything runs on the calling thread: the event loop and the worker executor are both direct executors,
+ * so a request is fully processed when
+ * {@link org.jboss.resteasy.reactive.server.handlers.RestInitialHandler#beginProcessing(Object)} returns.
+ */
+public class MockRequestContext extends ResteasyReactiveRequestContext implements ServerHttpRequest, ServerHttpResponse {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    private final MockHttpExchange exchange;
+    private Consumer<ResteasyReactiveRequestContext> preCommitTask;
+    private boolean requestInputPaused;
+
+    public MockRequestContext(Deployment deployment, MockHttpExchange exchange, ThreadSetupAction requestContext,
+            ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
+        super(deployment, requestContext, handlerChain, abortHandlerChain);
+        this.exchange = exchange;
+    }
+
+    @Override
+    public ServerHttpRequest serverRequest() {
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse serverResponse() {
+        return this;
+    }
+
+    @Override
+    protected Executor getEventLoop() {
+        return DIRECT;
+    }
+
+    @Override
+    public Runnable registerTimer(long millis, Runnable task) {
+        throw new UnsupportedOperationException("Timers are not supported by the mock request context");
+    }
+
+    @Override
+    public boolean resumeExternalProcessing() {
+        // there is no other route to fall back to
+        setStatusCode(404).end();
+        return true;
+    }
+
+    @Override
+    public String getRequestHeader(CharSequence name) {
+        List<String> values = exchange.requestHeaders.get(name.toString());
+        return values == null ? null : values.get(0);
+    }
+
+    @Override
+    public Iterable<Map.Entry<String, String>> getAllRequestHeaders() {
+        return entries(exchange.requestHeaders);
+    }
+
+    @Override
+    public List<String> getAllRequestHeaders(String name) {
+        List<String> values = exchange.requestHeaders.get(name);
+        return values == null ? Collections.emptyList() : values;
+    }
+
+    @Override
+    public boolean containsRequestHeader(CharSequence accept) {
+        return exchange.requestHeaders.containsKey(accept.toString());
+    }
+
+    @Override
+    public String getRequestPath() {
+        return exchange.path;
+    }
+
+    @Override
+    public String getRequestMethod() {
+        return exchange.method;
+    }
+
+    @Override
+    public String getRequestNormalisedPath() {
+        return exchange.path;
+    }
+
+    @Override
+    public String getRequestAbsoluteUri() {
+        return "http://localhost:8080" + exchange.uri;
+    }
+
+    @Override
+    public String getRequestScheme() {
+        return "http";
+    }
+
+    @Override
+    public String getRequestHost() {
+        return "localhost:8080";
+    }
+
+    @Override
+    public void closeConnection() {
+        exchange.ended = true;
+    }
+
+    @Override
+    public String getQueryParam(String name) {
+        List<String> values = exchange.queryParams.get(name);
+        return values == null ? null : values.get(0);
+    }
+
+    @Override
+    public List<String> getAllQueryParams(String name) {
+        List<String> values = exchange.queryParams.get(name);
+        return values == null ? Collections.emptyList() : values;
+    }
+
+    @Override
+    public String query() {
+        return exchange.query;
+    }
+
+    @Override
+    public Collection<String> queryParamNames() {
+        return exchange.queryParams.keySet();
+    }
+
+    @Override
+    public boolean isRequestEnded() {
+        return exchange.requestBody == null;
+    }
+
+    @Override
+    public InputStream createInputStream(ByteBuffer existingData) {
+        if (existingData == null) {
+            return createInputStream();
+        }
+        byte[] data = new byte[existingData.remaining()];
+        existingData.get(data);
+        return new ByteArrayInputStream(data);
+    }
+
+    @Override
+    public InputStream createInputStream() {
+        return new ByteArrayInputStream(exchange.requestBody == null ? new byte[0] : exchange.requestBody);
+    }
+
+    @Override
+    public ServerHttpResponse pauseRequestInput() {
+        requestInputPaused = true;
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse resumeRequestInput() {
+        requestInputPaused = false;
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse setReadListener(ReadCallback callback) {
+        if (exchange.requestBody != null) {
+            callback.data(ByteBuffer.wrap(exchange.requestBody));
+        }
+        // the listener pauses the input when it switches to reading from a stream
+        if (!requestInputPaused) {
+            callback.done();
+        }
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T unwrap(Class<T> theType) {
+        if (theType.isInstance(this)) {
+            return (T) this;
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isOnIoThread() {
+        return true;
+    }
+
+    @Override
+    public ServerHttpResponse setStatusCode(int code) {
+        if (!exchange.committed) {
+            exchange.status = code;
+        }
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse end() {
+        commit();
+        exchange.ended = true;
+        exchange.failure = getThrowable();
+        return this;
+    }
+
+    @Override
+    public boolean headWritten() {
+        return exchange.committed;
+    }
+
+    @Override
+    public ServerHttpResponse end(byte[] data) {
+        commit();
+        exchange.responseBody.writeBytes(data);
+        exchange.ended = true;
+        exchange.failure = getThrowable();
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse end(String data) {
+        return end(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public ServerHttpResponse addResponseHeader(CharSequence name, CharSequence value) {
+        exchange.responseHeaders.computeIfAbsent(name.toString(), k -> new ArrayList<>(1)).add(value.toString());
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse setResponseHeader(CharSequence name, CharSequence value) {
+        if (value == null) {
+            // like Vert.x, setting a null value removes the header
+            exchange.responseHeaders.remove(name.toString());
+            return this;
+        }
+        exchange.responseHeaders.put(name.toString(), Collections.singletonList(value.toString()));
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse setResponseHeader(CharSequence name, Iterable<CharSequence> values) {
+        List<String> list = new ArrayList<>(1);
+        for (CharSequence value : values) {
+            list.add(value.toString());
+        }
+        exchange.responseHeaders.put(name.toString(), list);
+        return this;
+    }
+
+    @Override
+    public Iterable<Map.Entry<String, String>> getAllResponseHeaders() {
+        return entries(exchange.responseHeaders);
+    }
+
+    @Override
+    public String getResponseHeader(String name) {
+        return exchange.responseHeader(name);
+    }
+
+    @Override
+    public void removeResponseHeader(String name) {
+        exchange.responseHeaders.remove(name);
+    }
+
+    @Override
+    public boolean closed() {
+        return exchange.ended;
+    }
+
+    @Override
+    public ServerHttpResponse setChunked(boolean chunked) {
+        return this;
+    }
+
+    @Override
+    public ServerHttpResponse write(byte[] data, Consumer<Throwable> asyncResultHandler) {
+        commit();
+        exchange.responseBody.writeBytes(data);
+        asyncResultHandler.accept(null);
+        return this;
+    }
+
+    @Override
+    public CompletionStage<Void> write(byte[] data) {
+        commit();
+        exchange.responseBody.writeBytes(data);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public ServerHttpResponse sendFile(String path, long offset, long length) {
+        throw new UnsupportedOperationException("Files are not supported by the mock request context");
+    }
+
+    @Override
+    public OutputStream createResponseOutputStream() {
+        return new OutputStream() {
+            @Override
+            public void write(int b) {
+                commit();
+                exchange.responseBody.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                commit();
+                exchange.responseBody.write(b, off, len);
+            }
+
+            @Override
+            public void close() {
+                end();
+            }
+        };
+    }
+
+    @Override
+    public void setPreCommitListener(Consumer<ResteasyReactiveRequestContext> task) {
+        preCommitTask = task;
+    }
+
+    @Override
+    public ServerHttpResponse addCloseHandler(Runnable onClose) {
+        return this;
+    }
+
+    @Override
+    public boolean isWriteQueueFull() {
+        return false;
+    }
+
+    @Override
+    public ServerHttpResponse addDrainHandler(Runnable onDrain) {
+        return this;
+    }
+
+    private void commit() {
+        if (!exchange.committed) {
+            // this is when Vert.x calls the headers end handlers
+            if (preCommitTask != null) {
+                preCommitTask.accept(this);
+            }
+            exchange.committed = true;
+        }
+    }
+
+    private static Iterable<Map.Entry<String, String>> entries(Map<String, List<String>> headers) {
+        List<Map.Entry<String, String>> entries = new ArrayList<>();
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            for (String value : header.getValue()) {
+                entries.add(new AbstractMap.SimpleImmutableEntry<>(header.getKey(), value));
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,22 @@
+package org.jboss.resteasy.reactive.server.benchmarks.chain;
+
+import org.jboss.resteasy.reactive.server.core.Deployment;
+import org.jboss.resteasy.reactive.server.core.RequestContextFactory;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
+
+/**
+ * Creates a {@link MockRequestContext} for the {@link MockHttpExchange} passed to
+ * {@link org.jboss.resteasy.reactive.server.handlers.RestInitialHandler#beginProcessing(Object)}.
+ */
+public class MockRequestContextFactory implements RequestContextFactory {
+
+    @Override
+    public ResteasyReactiveRequestContext createContext(Deployment deployment, Object context,
+            ThreadSetupAction requestContext, ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
+        MockHttpExchange exchange = (MockHttpExchange) context;
+        exchange.reset();
+        return new MockRequestContext(deployment, exchange, requestContext, handlerChain, abortHandlerChain);
+    }
+}
@@ -399,7 +399,8 @@ public RunnableApplication createApplication(RuntimeConfiguration runtimeConfigu
             }
 
             DeploymentInfo info = new DeploymentInfo()
-                    .setResteasyReactiveConfig(new ResteasyReactiveConfig())
+                    .setResteasyReactiveConfig(new ResteasyReactiveConfig(scanStep.inputBufferSize, scanStep.minChunkSize,
+                            scanStep.outputBufferSize, scanStep.singleDefaultProduces, scanStep.defaultProduces))
                     .setFeatures(sa.scannedFeatures)
                     .setInterceptors(sa.resourceInterceptors)
                     .setDynamicFeatures(sa.dynamicFeatures)
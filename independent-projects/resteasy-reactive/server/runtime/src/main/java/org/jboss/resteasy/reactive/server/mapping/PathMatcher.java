@@ -58,6 +58,32 @@ PathMatch<T> defaultMatch(String path) {
         return new PathMatch<>("/", path, defaultHandler);
     }
 
+    /**
+     * Allocation free variant of {@link #match(String)}.
+     *
+     * @param path The relative path to match
+     * @return The registered entry whose key is the longest matching prefix, or {@code null} if only the default
+     *         handler applies
+     */
+    SubstringMap.SubstringMatch<T> matchEntry(String path) {
+        int length = path.length();
+        final int[] lengths = this.lengths;
+        for (int i = 0; i < lengths.length; ++i) {
+            int pathLength = lengths[i];
+            if (pathLength <= length) {
+                SubstringMap.SubstringMatch<T> next = paths.get(path, pathLength);
+                if (next != null) {
+                    return next;
+                }
+            }
+        }
+        return null;
+    }
+
+    T getDefaultHandler() {
+        return defaultHandler;
+    }
+
     static class Builder<T> {
 
         private static final String STRING_PATH_SEPARATOR = "/";
@@ -155,7 +181,9 @@ public void dump(int level) {
     }
 
     private void dumpValue(T value, int level) {
-        if (value instanceof List) {
+        if (value instanceof Dumpable) {
+            ((Dumpable) value).dump(level);
+        } else if (value instanceof List) {
             for (Object x : (List) value) {
                 if (x instanceof Dumpable)
                     ((Dumpable) x).dump(level);
@@ -8,12 +8,26 @@
 import java.util.Map;
 import java.util.regex.Matcher;
 
+/**
+ * Maps a request path to the most specific matching template.
+ * <p>
+ * Templates are grouped by their literal stem, which is resolved through a {@link PathMatcher}. The remaining
+ * components of every template sharing a stem are compiled at startup into a {@link SegmentNode} trie, so that
+ * a request only walks the literal and default parameter segments that can actually match, and custom regular
+ * expressions are only evaluated once every segment before them has matched. Candidate positions in the spec
+ * mandated sort order are tracked in the trie, which lets the lookup prune branches that cannot produce a better
+ * match and pick exactly the template the previous linear scan would have picked.
+ * <p>
+ * The lookup itself does not allocate, only the returned {@link RequestMatch} and its path parameter values are
+ * created, once the winning template is known.
+ */
 public class RequestMapper<T> {
 
     private static final String[] EMPTY_STRING_ARRAY = new String[0];
+    private static final int NO_MATCH = Integer.MAX_VALUE;
 
-    private final PathMatcher<ArrayList<RequestPath<T>>> requestPaths;
-    private final PathMatcher.Builder<ArrayList<RequestPath<T>>> pathMatcherBuilder;
+    private final PathMatcher<CompiledPaths<T>> requestPaths;
+    private final PathMatcher.Builder<CompiledPaths<T>> pathMatcherBuilder;
     private final ArrayList<RequestPath<T>> templates;
     final int maxParams;
 
@@ -46,103 +60,257 @@ public int compare(RequestPath<T> t1, RequestPath<T> t2) {
     }
 
     private void addPrefixPaths(String stem, ArrayList<RequestPath<T>> list) {
-        pathMatcherBuilder.addPrefixPath(stem, list);
+        pathMatcherBuilder.addPrefixPath(stem, new CompiledPaths<>(list));
     }
 
     public RequestMatch<T> map(String path) {
-        var result = mapFromPathMatcher(path, requestPaths.match(path));
-        if (result != null) {
-            return result;
+        SubstringMap.SubstringMatch<CompiledPaths<T>> initialMatch = requestPaths.matchEntry(path);
+        if (initialMatch != null) {
+            RequestMatch<T> result = mapFromCompiledPaths(path, initialMatch.getKey().length(), initialMatch.getValue());
+            if (result != null) {
+                return result;
+            }
         }
 
         // the following code is meant to handle cases like https://github.com/quarkusio/quarkus/issues/30667
-        return mapFromPathMatcher(path, requestPaths.defaultMatch(path));
+        return mapFromCompiledPaths(path, 1, requestPaths.getDefaultHandler());
     }
 
-    @SuppressWarnings({ "rawtypes", "unchecked" })
-    private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatch) {
-        var value = initialMatch.getValue();
-        if (initialMatch.getValue() == null) {
+    private RequestMatch<T> mapFromCompiledPaths(String path, int matchPos, CompiledPaths<T> compiledPaths) {
+        if (compiledPaths == null) {
             return null;
         }
+        int best = findBest(compiledPaths, compiledPaths.root, path, matchPos, NO_MATCH);
+        if (best == NO_MATCH) {
+            return null;
+        }
+        RequestPath<T> potentialMatch = compiledPaths.paths[best];
+        String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+        matchPos = matchComponents(potentialMatch.template, 1, path, matchPos, params);
+        String remaining;
+        if (matchPos == path.length()) {
+            remaining = "";
+        } else if (matchPos == 1) {
+            remaining = path;
+        } else {
+            remaining = path.substring(matchPos);
+        }
+        return new RequestMatch<>(potentialMatch.template, potentialMatch.value, params, remaining);
+    }
+
+    /**
+     * Walks the trie and returns the index of the first template, in sort order, that matches the path.
+     *
+     * @param best the best index found so far, any branch that can only produce worse candidates is skipped
+     */
+    private static <T> int findBest(CompiledPaths<T> compiledPaths, SegmentNode node, String path, int matchPos, int best) {
+        if (node.minIndex >= best) {
+            return best;
+        }
+        for (int index : node.terminals) {
+            if (index >= best) {
+                break;
+            }
+            if (acceptsEnd(path, matchPos, compiledPaths.paths[index].prefixTemplate)) {
+                best = index;
+                break;
+            }
+        }
         int pathLength = path.length();
-        for (int index = 0; index < ((List<RequestPath<T>>) value).size(); index++) {
-            RequestPath<T> potentialMatch = ((List<RequestPath<T>>) value).get(index);
-            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
-            int paramCount = 0;
-            boolean matched = true;
-            boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatch.getMatched().length();
-            for (int i = 1; i < potentialMatch.template.components.length; ++i) {
-                URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
-                if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
-                    Matcher matcher = segment.pattern.matcher(path);
-                    matched = matcher.find(matchPos);
-                    if (!matched || matcher.start() != matchPos) {
-                        break;
-                    }
-                    matchPos = matcher.end();
+        if (matchPos < pathLength) {
+            // the first two characters of the literals are checked before doing a full comparison, as most of them
+            // start with a slash, and this rejects the vast majority of edges without a call
+            char first = path.charAt(matchPos);
+            char second = matchPos + 1 < pathLength ? path.charAt(matchPos + 1) : 0;
+            String[] literals = node.literals;
+            for (int i = 0; i < literals.length; ++i) {
+                String literal = literals[i];
+                if (literal.charAt(0) == first && (literal.length() == 1 || literal.charAt(1) == second)
+                        && path.regionMatches(matchPos, literal, 0, literal.length())) {
+                    best = findBest(compiledPaths, node.literalChildren[i], path, matchPos + literal.length(), best);
+                }
+            }
+            if (node.paramChild != null) {
+                int end = path.indexOf('/', matchPos);
+                best = findBest(compiledPaths, node.paramChild, path, end == -1 ? pathLength : end, best);
+            }
+        }
+        // regular expressions are evaluated last, so that they are skipped entirely when a literal or default
+        // parameter branch already produced a better candidate
+        for (int index : node.regexTerminals) {
+            if (index >= best) {
+                break;
+            }
+            RequestPath<T> candidate = compiledPaths.paths[index];
+            int end = matchComponents(candidate.template, node.depth + 1, path, matchPos, null);
+            if (end >= 0 && acceptsEnd(path, end, candidate.prefixTemplate)) {
+                best = index;
+                break;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Matches the template components starting at {@code component} against the path.
+     *
+     * @param params if not {@code null} the path parameter values are stored in this array, in which case
+     *        {@code component} must be the first component after the stem
+     * @return the position in the path after the last component, or {@code -1} if the components do not match
+     */
+    private static int matchComponents(URITemplate template, int component, String path, int matchPos, String[] params) {
+        int pathLength = path.length();
+        int paramCount = 0;
+        for (int i = component; i < template.components.length; ++i) {
+            URITemplate.TemplateComponent segment = template.components[i];
+            if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
+                Matcher matcher = segment.pattern.matcher(path);
+                matcher.region(matchPos, pathLength);
+                matcher.useTransparentBounds(true);
+                if (!matcher.lookingAt()) {
+                    return -1;
+                }
+                matchPos = matcher.end();
+                if (params != null) {
                     for (String group : segment.groups) {
                         params[paramCount++] = matcher.group(group);
                     }
-                } else if (segment.type == URITemplate.Type.LITERAL) {
-                    //make sure the literal text is the same
-                    if (matchPos + segment.literalText.length() > pathLength) {
-                        matched = false;
-                        break; //too long
-                    }
-                    for (int pos = 0; pos < segment.literalText.length(); ++pos) {
-                        if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
-                            matched = false;
-                            break;
-                        }
-                    }
-                    if (!matched) {
-                        break;
-                    }
-                } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
-                    if (matchPos == pathLength) {
-                        matched = false;
-                        break;
-                    }
-                    int start = matchPos;
-                    while (matchPos < pathLength && path.charAt(matchPos) != '/') {
-                        matchPos++;
-                    }
+                }
+            } else if (segment.type == URITemplate.Type.LITERAL) {
+                //make sure the literal text is the same
+                if (!path.regionMatches(matchPos, segment.literalText, 0, segment.literalText.length())) {
+                    return -1;
+                }
+                matchPos += segment.literalText.length();
+            } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
+                if (matchPos == pathLength) {
+                    return -1;
+                }
+                int start = matchPos;
+                while (matchPos < pathLength && path.charAt(matchPos) != '/') {
+                    matchPos++;
+                }
+                if (params != null) {
                     params[paramCount++] = path.substring(start, matchPos);
                 }
             }
-            if (!matched) {
-                continue;
+        }
+        return matchPos;
+    }
+
+    /**
+     * @return {@code true} if a template whose components end at {@code matchPos} matches the whole path
+     */
+    private static boolean acceptsEnd(String path, int matchPos, boolean prefixAllowed) {
+        int pathLength = path.length();
+        if (matchPos == pathLength) {
+            return true;
+        }
+        //according to the spec every template ends with (/.*)?
+        if (matchPos == 1) { //matchPos == 1 corresponds to '/' as a root level match
+            return prefixAllowed || pathLength == 1; //if prefix is allowed, or we've matched the whole thing
+        } else if (path.charAt(matchPos) == '/') {
+            return prefixAllowed || matchPos == pathLength - 1; //if prefix is allowed, or the remainder is only a trailing /
+        }
+        return false;
+    }
+
+    /**
+     * The templates sharing a stem, in sort order, and the trie compiled from their components.
+     */
+    static final class CompiledPaths<T> implements Dumpable {
+
+        final RequestPath<T>[] paths;
+        final SegmentNode root;
+
+        @SuppressWarnings("unchecked")
+        CompiledPaths(List<RequestPath<T>> sortedPaths) {
+            this.paths = sortedPaths.toArray(new RequestPath[0]);
+            SegmentNode root = new SegmentNode(0);
+            for (int index = 0; index < paths.length; ++index) {
+                root.add(paths[index].template.components, index);
             }
-            if (paramCount < params.length) {
-                params[paramCount] = null;
+            this.root = root;
+        }
+
+        @Override
+        public void dump(int level) {
+            for (RequestPath<T> path : paths) {
+                path.dump(level);
             }
-            boolean fullMatch = matchPos == pathLength;
-            boolean doPrefixMatch = false;
-            if (!fullMatch) {
-                //according to the spec every template ends with (/.*)?
-                if (matchPos == 1) { //matchPos == 1 corresponds to '/' as a root level match
-                    doPrefixMatch = prefixAllowed || pathLength == 1; //if prefix is allowed, or we've matched the whole thing
-                } else if (path.charAt(matchPos) == '/') {
-                    doPrefixMatch = prefixAllowed || matchPos == pathLength - 1; //if prefix is allowed, or the remainder is only a trailing /
+        }
+    }
+
+    /**
+     * A node in the compiled template trie. Every edge consumes exactly one template component, so the depth of
+     * the node is also the index of the component that was matched last.
+     */
+    static final class SegmentNode {
+
+        private static final int[] NO_INDEXES = new int[0];
+        private static final String[] NO_LITERALS = new String[0];
+        private static final SegmentNode[] NO_CHILDREN = new SegmentNode[0];
+
+        final int depth;
+        /**
+         * The smallest template index reachable from this node
+         */
+        int minIndex = NO_MATCH;
+        /**
+         * Templates that have no components left at this node
+         */
+        int[] terminals = NO_INDEXES;
+        /**
+         * Templates whose next component is a custom regular expression, which is always the last component
+         */
+        int[] regexTerminals = NO_INDEXES;
+        String[] literals = NO_LITERALS;
+        SegmentNode[] literalChildren = NO_CHILDREN;
+        SegmentNode paramChild;
+
+        SegmentNode(int depth) {
+            this.depth = depth;
+        }
+
+        void add(URITemplate.TemplateComponent[] components, int index) {
+            minIndex = Math.min(minIndex, index);
+            int next = depth + 1;
+            if (next == components.length) {
+                terminals = append(terminals, index);
+                return;
+            }
+            URITemplate.TemplateComponent component = components[next];
+            if (component.type == URITemplate.Type.LITERAL) {
+                literalChild(component.literalText).add(components, index);
+            } else if (component.type == URITemplate.Type.DEFAULT_REGEX) {
+                if (paramChild == null) {
+                    paramChild = new SegmentNode(next);
                 }
+                paramChild.add(components, index);
+            } else {
+                regexTerminals = append(regexTerminals, index);
             }
-            if (fullMatch || doPrefixMatch) {
-                String remaining;
-                if (fullMatch) {
-                    remaining = "";
-                } else {
-                    if (matchPos == 1) {
-                        remaining = path;
-                    } else {
-                        remaining = path.substring(matchPos);
-                    }
+        }
+
+        private SegmentNode literalChild(String literal) {
+            for (int i = 0; i < literals.length; ++i) {
+                if (literals[i].equals(literal)) {
+                    return literalChildren[i];
                 }
-                return new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
             }
+            SegmentNode child = new SegmentNode(depth + 1);
+            literals = Arrays.copyOf(literals, literals.length + 1);
+            literals[literals.length - 1] = literal;
+            literalChildren = Arrays.copyOf(literalChildren, literalChildren.length + 1);
+            literalChildren[literalChildren.length - 1] = child;
+            return child;
+        }
+
+        private static int[] append(int[] indexes, int index) {
+            int[] result = Arrays.copyOf(indexes, indexes.length + 1);
+            result[indexes.length] = index;
+            return result;
         }
-        return null;
     }
 
     public static class RequestPath<T> implements Dumpable {
@@ -202,7 +370,7 @@ public void dump() {
         this.requestPaths.dump(0);
     }
 
-    public PathMatcher<ArrayList<RequestPath<T>>> getRequestPaths() {
+    public PathMatcher<CompiledPaths<T>> getRequestPaths() {
         return requestPaths;
     }
 
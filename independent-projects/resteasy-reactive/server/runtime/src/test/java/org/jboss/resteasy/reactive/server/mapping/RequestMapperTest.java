@@ -0,0 +1,90 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class RequestMapperTest {
+
+    @Test
+    public void testSharedStem() {
+        RequestMapper<String> mapper = mapper(false, "/api/{tenant}/users", "/api/{tenant}/users/{id}",
+                "/api/{tenant}/orders/{id}", "/api/{tenant}/orders/{id}/items/{item}", "/api/status", "/api");
+
+        assertMatch(mapper, "/api/acme/users", "/api/{tenant}/users", "", "acme");
+        assertMatch(mapper, "/api/acme/users/12", "/api/{tenant}/users/{id}", "", "acme", "12");
+        assertMatch(mapper, "/api/acme/users/12/", "/api/{tenant}/users/{id}", "/", "acme", "12");
+        assertMatch(mapper, "/api/acme/orders/7/items/3", "/api/{tenant}/orders/{id}/items/{item}", "", "acme", "7",
+                "3");
+        assertMatch(mapper, "/api/status", "/api/status", "");
+        assertMatch(mapper, "/api", "/api", "");
+        assertNull(mapper.map("/api/acme/orders/7/unknown"));
+        assertNull(mapper.map("/api/acme/invoices/7"));
+        assertNull(mapper.map("/other"));
+    }
+
+    @Test
+    public void testLiteralPreferredOverParameter() {
+        RequestMapper<String> mapper = mapper(false, "/items/{id}", "/items/latest", "/items/{id}/details");
+
+        assertMatch(mapper, "/items/latest", "/items/latest", "");
+        assertMatch(mapper, "/items/42", "/items/{id}", "", "42");
+        assertMatch(mapper, "/items/7/details", "/items/{id}/details", "", "7");
+        // the longest stem wins, so the parameter templates are not considered for this one
+        assertNull(mapper.map("/items/latest/details"));
+    }
+
+    @Test
+    public void testCustomRegex() {
+        RequestMapper<String> mapper = mapper(false, "/files/{name:[a-z]+}.{ext}", "/files/{id:\\d+}/meta",
+                "/files/{path:.+}");
+
+        assertMatch(mapper, "/files/123/meta", "/files/{id:\\d+}/meta", "", "123");
+        assertMatch(mapper, "/files/abc/meta", "/files/{path:.+}", "", "abc/meta");
+        assertMatch(mapper, "/files/report.pdf", "/files/{name:[a-z]+}.{ext}", "", "report", "pdf");
+        assertMatch(mapper, "/files/a/b/c", "/files/{path:.+}", "", "a/b/c");
+    }
+
+    @Test
+    public void testPrefixTemplates() {
+        RequestMapper<String> mapper = mapper(true, "/", "/res", "/res/{id}");
+
+        assertMatch(mapper, "/res/1/sub", "/res/{id}", "/sub", "1");
+        assertMatch(mapper, "/res", "/res", "");
+        assertMatch(mapper, "/unknown/path", "/", "/unknown/path");
+    }
+
+    @Test
+    public void testRootParameter() {
+        RequestMapper<String> mapper = mapper(false, "/{id}", "/{id}/name");
+
+        assertMatch(mapper, "/1", "/{id}", "", "1");
+        assertMatch(mapper, "/1/name", "/{id}/name", "", "1");
+        assertNull(mapper.map("/1/other"));
+    }
+
+    private static void assertMatch(RequestMapper<String> mapper, String path, String template, String remaining,
+            String... params) {
+        RequestMapper.RequestMatch<String> match = mapper.map(path);
+        assertEquals(template, match.value, path);
+        assertEquals(remaining, match.remaining, path);
+        String[] actual = Arrays.copyOf(match.pathParamValues, params.length);
+        assertArrayEquals(params, actual, path);
+        if (params.length < match.pathParamValues.length) {
+            assertNull(match.pathParamValues[params.length], path);
+        }
+    }
+
+    private static RequestMapper<String> mapper(boolean prefix, String... templates) {
+        ArrayList<RequestMapper.RequestPath<String>> list = new ArrayList<>();
+        for (String template : templates) {
+            list.add(new RequestMapper.RequestPath<>(prefix, new URITemplate(template, prefix), template));
+        }
+        return new RequestMapper<>(list);
+    }
+}